@@ -825,6 +825,15 @@ public class AiAttackController {
      * @return a {@link forge.game.combat.Combat} object.
      */
     public final int declareAttackers(final Combat combat) {
+        final CombatOutcomeCache outcomes = CombatOutcomeCache.open();
+        try {
+            return declareAttackersWithCache(combat);
+        } finally {
+            CombatOutcomeCache.close(outcomes);
+        }
+    }
+
+    private int declareAttackersWithCache(final Combat combat) {
         // something prevents attacking, try another
         if (this.attackers.isEmpty() && ai.getOpponents().size() > 1) {
             final PlayerCollection opps = ai.getOpponents();
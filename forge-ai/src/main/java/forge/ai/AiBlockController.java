@@ -1001,12 +1001,17 @@ public class AiBlockController {
         assignBlockersForCombat(combat, null);
     }
     public void assignBlockersForCombat(final Combat combat, final CardCollection exludedBlockers) {
-        List<Card> possibleBlockers = ai.getCreaturesInPlay();
-        if (exludedBlockers != null && !exludedBlockers.isEmpty()) {
-            possibleBlockers.removeAll(exludedBlockers);
+        final CombatOutcomeCache outcomes = CombatOutcomeCache.open();
+        try {
+            List<Card> possibleBlockers = ai.getCreaturesInPlay();
+            if (exludedBlockers != null && !exludedBlockers.isEmpty()) {
+                possibleBlockers.removeAll(exludedBlockers);
+            }
+            attackers = sortPotentialAttackers(combat);
+            assignBlockers(combat, possibleBlockers);
+        } finally {
+            CombatOutcomeCache.close(outcomes);
         }
-        attackers = sortPotentialAttackers(combat);
-        assignBlockers(combat, possibleBlockers);
     }
     /**
      * assignBlockersForCombat() with additional and possibly "virtual" blockers.
@@ -1014,14 +1019,19 @@ public class AiBlockController {
      * @param blockers blockers to add in addition to creatures already in play
      */
     public void assignAdditionalBlockers(final Combat combat, CardCollectionView blockers) {
-        List<Card> possibleBlockers = ai.getCreaturesInPlay();
-        for (Card c : blockers) {
-            if (!possibleBlockers.contains(c)) {
-                possibleBlockers.add(c);
+        final CombatOutcomeCache outcomes = CombatOutcomeCache.open();
+        try {
+            List<Card> possibleBlockers = ai.getCreaturesInPlay();
+            for (Card c : blockers) {
+                if (!possibleBlockers.contains(c)) {
+                    possibleBlockers.add(c);
+                }
             }
+            attackers = sortPotentialAttackers(combat);
+            assignBlockers(combat, possibleBlockers);
+        } finally {
+            CombatOutcomeCache.close(outcomes);
         }
-        attackers = sortPotentialAttackers(combat);
-        assignBlockers(combat, possibleBlockers);
     }
 
     /**
@@ -1031,9 +1041,14 @@ public class AiBlockController {
      * @param givenAttackers specific attackers to consider
      */
     public void assignBlockersGivenAttackers(final Combat combat, List<Card> givenAttackers) {
-        List<Card> possibleBlockers = ai.getCreaturesInPlay();
-        attackers = givenAttackers;
-        assignBlockers(combat, possibleBlockers);
+        final CombatOutcomeCache outcomes = CombatOutcomeCache.open();
+        try {
+            List<Card> possibleBlockers = ai.getCreaturesInPlay();
+            attackers = givenAttackers;
+            assignBlockers(combat, possibleBlockers);
+        } finally {
+            CombatOutcomeCache.close(outcomes);
+        }
     }
 
     /**
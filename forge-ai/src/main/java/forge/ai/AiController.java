@@ -1350,6 +1350,15 @@ public class AiController {
             return singleSpellAbilityList(simPicker.chooseSpellAbilityToPlay(null));
         }
 
+        final ManaPlan manaPlan = ManaPlan.open();
+        try {
+            return chooseSpellAbilityToPlayWithPlan();
+        } finally {
+            ManaPlan.close(manaPlan);
+        }
+    }
+
+    private List<SpellAbility> chooseSpellAbilityToPlayWithPlan() {
         CardCollection playBeforeLand = CardLists.filter(
                 player.getCardsIn(ZoneType.Hand), CardPredicates.hasSVar("PlayBeforeLandDrop")
         );
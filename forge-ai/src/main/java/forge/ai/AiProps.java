@@ -145,7 +145,10 @@ public enum AiProps { /** */
     SIDEBOARDING_CHANCE_ON_WIN("0"),
     SIDEBOARDING_IN_LIMITED_FORMATS("false"),
     SIDEBOARDING_SHARED_TYPE_ONLY("false"),
-    SIDEBOARDING_PLANESWALKER_EQ_CREATURE("false");
+    SIDEBOARDING_PLANESWALKER_EQ_CREATURE("false"),
+    SIMULATION_PARALLEL_ROOT("false"), /** */
+    SIMULATION_THREADS("0"), /** */
+    SIMULATION_TIME_BUDGET_MS("0");
     // Experimental features, must be promoted or removed after extensive testing and, ideally, defaulting
     // <-- There are no experimental options here -->
 
@@ -0,0 +1,167 @@
+package forge.ai;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import forge.game.GameEntity;
+import forge.game.card.Card;
+import forge.game.card.CardCollectionView;
+import forge.game.combat.Combat;
+import forge.game.player.Player;
+
+/**
+ * Remembers the outcome of attacker/blocker pairs while the AI declares attackers or blockers.
+ *
+ * Planning a declaration asks {@link ComputerUtilCombat} about the same pairs again and again, and
+ * each answer looks at the triggers and static abilities of the whole board. The board doesn't change
+ * while the AI plans, so the answers can be kept until the declaration is done. Only the combat being
+ * planned changes, so the defender and the blockers of the pair are part of the key.
+ *
+ * The cache belongs to the thread that opened it, so simulations running in parallel don't share it.
+ */
+final class CombatOutcomeCache {
+    enum Outcome {
+        DESTROY_ATTACKER,
+        DESTROY_BLOCKER,
+        DESTROY_ATTACKER_BEFORE_FIRST_STRIKE,
+        DESTROY_BLOCKER_BEFORE_FIRST_STRIKE,
+        POWER_BONUS_OF_BLOCKER,
+        TOUGHNESS_BONUS_OF_ATTACKER
+    }
+
+    private static final ThreadLocal<CombatOutcomeCache> active = new ThreadLocal<>();
+
+    private final Map<Key, Object> outcomes = new HashMap<>();
+    private int hits;
+    private int misses;
+
+    private CombatOutcomeCache() {
+    }
+
+    /**
+     * Start caching on this thread.
+     * @return the new cache, or null if one is already open, e.g. when planning attacks predicts the blocks
+     */
+    static CombatOutcomeCache open() {
+        if (active.get() != null) {
+            return null;
+        }
+        final CombatOutcomeCache cache = new CombatOutcomeCache();
+        active.set(cache);
+        return cache;
+    }
+
+    /**
+     * Stop caching if the given cache was opened by the caller.
+     */
+    static void close(final CombatOutcomeCache cache) {
+        if (cache != null && active.get() == cache) {
+            active.remove();
+        }
+    }
+
+    static boolean get(final Outcome outcome, final Player ai, final Card attacker, final Card blocker, final Combat combat,
+            final boolean withoutAbilities, final boolean withoutStaticAbilities, final Supplier<Boolean> compute) {
+        return (Boolean) lookup(outcome, ai, attacker, blocker, combat, withoutAbilities, withoutStaticAbilities, compute);
+    }
+
+    static int getInt(final Outcome outcome, final Card attacker, final Card blocker, final Combat combat,
+            final boolean withoutAbilities, final boolean withoutStaticAbilities, final Supplier<Integer> compute) {
+        return (Integer) lookup(outcome, null, attacker, blocker, combat, withoutAbilities, withoutStaticAbilities, compute);
+    }
+
+    private static Object lookup(final Outcome outcome, final Player ai, final Card attacker, final Card blocker, final Combat combat,
+            final boolean withoutAbilities, final boolean withoutStaticAbilities, final Supplier<?> compute) {
+        final CombatOutcomeCache cache = active.get();
+        if (cache == null || attacker == null || blocker == null) {
+            return compute.get();
+        }
+        final Key key = new Key(outcome, ai, attacker, blocker, combat, withoutAbilities, withoutStaticAbilities);
+        Object result = cache.outcomes.get(key);
+        if (result == null) {
+            cache.misses++;
+            result = compute.get();
+            cache.outcomes.put(key, result);
+        } else {
+            cache.hits++;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "CombatOutcomeCache (" + hits + " hits, " + misses + " misses)";
+    }
+
+    private static final class Key {
+        private final Outcome outcome;
+        private final Player ai;
+        private final Card attacker;
+        private final Card blocker;
+        private final Combat combat;
+        private final int flags;
+        // what can change while the declaration is planned
+        private final int attackerDamage;
+        private final int blockerDamage;
+        private final int attackerCount;
+        private final GameEntity defender;
+        private final int[] blockerIds;
+        private final int[] blockedByIds;
+        private final int hash;
+
+        private Key(final Outcome outcome, final Player ai, final Card attacker, final Card blocker, final Combat combat,
+                final boolean withoutAbilities, final boolean withoutStaticAbilities) {
+            this.outcome = outcome;
+            this.ai = ai;
+            this.attacker = attacker;
+            this.blocker = blocker;
+            this.combat = combat;
+            this.flags = (withoutAbilities ? 1 : 0) | (withoutStaticAbilities ? 2 : 0);
+            this.attackerDamage = attacker.getDamage();
+            this.blockerDamage = blocker.getDamage();
+            if (combat != null) {
+                this.attackerCount = combat.getAttackers().size();
+                this.defender = combat.getDefenderByAttacker(attacker);
+                this.blockerIds = combat.isAttacking(attacker) ? idsOf(combat.getBlockers(attacker)) : null;
+                this.blockedByIds = idsOf(combat.getAttackersBlockedBy(blocker));
+            } else {
+                this.attackerCount = 0;
+                this.defender = null;
+                this.blockerIds = null;
+                this.blockedByIds = null;
+            }
+            this.hash = Objects.hash(outcome, ai, System.identityHashCode(attacker), System.identityHashCode(blocker),
+                    System.identityHashCode(combat), flags, attackerDamage, blockerDamage, attackerCount,
+                    System.identityHashCode(defender), Arrays.hashCode(blockerIds), Arrays.hashCode(blockedByIds));
+        }
+
+        private static int[] idsOf(final CardCollectionView cards) {
+            final int[] ids = new int[cards.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = cards.get(i).getId();
+            }
+            return ids;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key k = (Key) o;
+            // the cards are compared by identity, LKI copies and simulated cards share the ids of the real ones
+            return outcome == k.outcome && ai == k.ai && attacker == k.attacker && blocker == k.blocker && combat == k.combat
+                    && flags == k.flags && attackerDamage == k.attackerDamage && blockerDamage == k.blockerDamage
+                    && attackerCount == k.attackerCount && defender == k.defender
+                    && Arrays.equals(blockerIds, k.blockerIds) && Arrays.equals(blockedByIds, k.blockedByIds);
+        }
+    }
+}
@@ -61,18 +61,8 @@ public class ComputerUtilAbility {
     }
 
     public static CardCollection getAvailableCards(final Game game, final Player player) {
-        CardCollection all = new CardCollection(player.getCardsIn(ZoneType.Hand));
-
-        all.addAll(player.getCardsIn(ZoneType.Graveyard));
-        for (Player p : game.getPlayers()) {
-            if (!p.getCardsIn(ZoneType.Library).isEmpty()) {
-                all.add(p.getCardsIn(ZoneType.Library).get(0));
-            }
-        }
-        all.addAll(game.getCardsIn(ZoneType.Command));
-        all.addAll(game.getCardsIn(ZoneType.Exile));
-        all.addAll(game.getCardsIn(ZoneType.Battlefield));
-        return all;
+        // shared with Player.hasPossibleActions, so passing without asking the AI never skips a card it would look at
+        return player.getAvailableCards();
     }
 
     public static List<SpellAbility> getSpellAbilities(final CardCollectionView l, final Player player) {
@@ -20,6 +20,7 @@ package forge.ai;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import forge.ai.CombatOutcomeCache.Outcome;
 import forge.game.Game;
 import forge.game.GameEntity;
 import forge.game.ability.AbilityKey;
@@ -876,6 +877,10 @@ public class ComputerUtilCombat {
      * @return a int.
      */
     public static int predictPowerBonusOfBlocker(final Card attacker, final Card blocker, boolean withoutAbilities) {
+        return CombatOutcomeCache.getInt(Outcome.POWER_BONUS_OF_BLOCKER, attacker, blocker, null, withoutAbilities, false,
+                () -> predictPowerBonusOfBlockerUncached(attacker, blocker, withoutAbilities));
+    }
+    private static int predictPowerBonusOfBlockerUncached(final Card attacker, final Card blocker, boolean withoutAbilities) {
         int power = 0;
 
         // Serene Master switches power with attacker
@@ -1363,6 +1368,11 @@ public class ComputerUtilCombat {
     }
     public static int predictToughnessBonusOfAttacker(final Card attacker, final Card blocker, final Combat combat
             , boolean withoutAbilities, boolean withoutCombatStaticAbilities) {
+        return CombatOutcomeCache.getInt(Outcome.TOUGHNESS_BONUS_OF_ATTACKER, attacker, blocker, combat, withoutAbilities, withoutCombatStaticAbilities,
+                () -> predictToughnessBonusOfAttackerUncached(attacker, blocker, combat, withoutAbilities, withoutCombatStaticAbilities));
+    }
+    private static int predictToughnessBonusOfAttackerUncached(final Card attacker, final Card blocker, final Combat combat
+            , boolean withoutAbilities, boolean withoutCombatStaticAbilities) {
         int toughness = 0;
 
         if (blocker != null && attacker.getName().equals("Shape Stealer")) {
@@ -1562,6 +1572,11 @@ public class ComputerUtilCombat {
     // check whether the attacker will be destroyed by triggered abilities before First Strike damage
     public static boolean canDestroyAttackerBeforeFirstStrike(final Card attacker, final Card blocker, final Combat combat,
             final boolean withoutAbilities) {
+        return CombatOutcomeCache.get(Outcome.DESTROY_ATTACKER_BEFORE_FIRST_STRIKE, null, attacker, blocker, combat, withoutAbilities, false,
+                () -> canDestroyAttackerBeforeFirstStrikeUncached(attacker, blocker, combat, withoutAbilities));
+    }
+    private static boolean canDestroyAttackerBeforeFirstStrikeUncached(final Card attacker, final Card blocker, final Combat combat,
+            final boolean withoutAbilities) {
         if (blocker.isEquippedBy("Godsend")) {
            return true;
         }
@@ -1660,6 +1675,11 @@ public class ComputerUtilCombat {
     }
     public static boolean canDestroyAttacker(Player ai, Card attacker, Card blocker, final Combat combat,
             final boolean withoutAbilities, final boolean withoutAttackerStaticAbilities) {
+        return CombatOutcomeCache.get(Outcome.DESTROY_ATTACKER, ai, attacker, blocker, combat, withoutAbilities, withoutAttackerStaticAbilities,
+                () -> canDestroyAttackerUncached(ai, attacker, blocker, combat, withoutAbilities, withoutAttackerStaticAbilities));
+    }
+    private static boolean canDestroyAttackerUncached(Player ai, Card attacker, Card blocker, final Combat combat,
+            final boolean withoutAbilities, final boolean withoutAttackerStaticAbilities) {
         // Can activate transform ability
         if (!withoutAbilities) {
             attacker = canTransform(attacker);
@@ -1801,6 +1821,10 @@ public class ComputerUtilCombat {
     }
 
     public static boolean canDestroyBlockerBeforeFirstStrike(final Card blocker, final Card attacker, final boolean withoutAbilities) {
+        return CombatOutcomeCache.get(Outcome.DESTROY_BLOCKER_BEFORE_FIRST_STRIKE, null, attacker, blocker, null, withoutAbilities, false,
+                () -> canDestroyBlockerBeforeFirstStrikeUncached(blocker, attacker, withoutAbilities));
+    }
+    private static boolean canDestroyBlockerBeforeFirstStrikeUncached(final Card blocker, final Card attacker, final boolean withoutAbilities) {
     	if (attacker.isEquippedBy("Godsend")) {
             return true;
         }
@@ -1890,6 +1914,11 @@ public class ComputerUtilCombat {
     }
     public static boolean canDestroyBlocker(Player ai, Card blocker, Card attacker, final Combat combat,
             final boolean withoutAbilities, final boolean withoutAttackerStaticAbilities) {
+        return CombatOutcomeCache.get(Outcome.DESTROY_BLOCKER, ai, attacker, blocker, combat, withoutAbilities, withoutAttackerStaticAbilities,
+                () -> canDestroyBlockerUncached(ai, blocker, attacker, combat, withoutAbilities, withoutAttackerStaticAbilities));
+    }
+    private static boolean canDestroyBlockerUncached(Player ai, Card blocker, Card attacker, final Combat combat,
+            final boolean withoutAbilities, final boolean withoutAttackerStaticAbilities) {
         // Can activate transform ability
         if (!withoutAbilities) {
             attacker = canTransform(attacker);
@@ -1382,6 +1382,9 @@ public class ComputerUtilMana {
 
     //This method is currently used by AI to estimate available mana
     public static CardCollection getAvailableManaSources(final Player ai, final boolean checkPlayable) {
+        return ManaPlan.getAvailableManaSources(ai, checkPlayable, () -> sortAvailableManaSources(ai, checkPlayable));
+    }
+    private static CardCollection sortAvailableManaSources(final Player ai, final boolean checkPlayable) {
         final CardCollectionView list = CardCollection.combine(ai.getCardsIn(ZoneType.Battlefield), ai.getCardsIn(ZoneType.Hand));
         final List<Card> manaSources = CardLists.filter(list, c -> {
             for (final SpellAbility am : getAIPlayableMana(c)) {
@@ -1533,6 +1536,9 @@ public class ComputerUtilMana {
 
     //This method is currently used by AI to estimate mana available
     private static ListMultimap<Integer, SpellAbility> groupSourcesByManaColor(final Player ai, boolean checkPlayable) {
+        return ManaPlan.getSourcesByManaColor(ai, checkPlayable, () -> groupSourcesByManaColorNow(ai, checkPlayable));
+    }
+    private static ListMultimap<Integer, SpellAbility> groupSourcesByManaColorNow(final Player ai, boolean checkPlayable) {
         final ListMultimap<Integer, SpellAbility> manaMap = ArrayListMultimap.create();
         final Game game = ai.getGame();
 
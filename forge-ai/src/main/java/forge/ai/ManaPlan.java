@@ -0,0 +1,186 @@
+package forge.ai;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Multimaps;
+
+import forge.card.mana.ManaAtom;
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.card.CardCollection;
+import forge.game.combat.Combat;
+import forge.game.phase.PhaseType;
+import forge.game.player.Player;
+import forge.game.spellability.SpellAbility;
+import forge.game.zone.ZoneType;
+
+/**
+ * The mana sources of the players and the colors each of them can pay, worked out once while the AI decides
+ * what to do with priority.
+ *
+ * Deciding whether a spell can be afforded sorts the mana sources of the player, checks the costs and
+ * drawbacks of their mana abilities and looks for replacement effects on the mana they produce. Only the
+ * cost differs between the candidate spells, so the plan keeps the sources and their colors and each
+ * payment only has to match them to its shards.
+ *
+ * Each entry remembers exactly what the sources depend on, the mana sources themselves, the changes the
+ * views have seen and the turn structure, and is worked out again if any of it changed, e.g. because a
+ * payment was really made or a card was turned to its other face to evaluate it.
+ *
+ * The plan belongs to the thread that opened it, so simulations running in parallel don't share it.
+ */
+final class ManaPlan {
+    private static final ThreadLocal<ManaPlan> active = new ThreadLocal<>();
+    private static final List<ZoneType> ZONES = Arrays.asList(ZoneType.Battlefield, ZoneType.Hand);
+
+    private final Map<Player, Sources> playable = new HashMap<>();
+    private final Map<Player, Sources> potential = new HashMap<>();
+    private int hits;
+    private int misses;
+
+    private ManaPlan() {
+    }
+
+    /**
+     * Start planning on this thread.
+     * @return the new plan, or null if one is already open
+     */
+    static ManaPlan open() {
+        if (active.get() != null) {
+            return null;
+        }
+        final ManaPlan plan = new ManaPlan();
+        active.set(plan);
+        return plan;
+    }
+
+    /**
+     * Stop planning if the given plan was opened by the caller.
+     */
+    static void close(final ManaPlan plan) {
+        if (plan != null && active.get() == plan) {
+            active.remove();
+        }
+    }
+
+    /**
+     * @return a copy of the sorted mana sources, so that the caller may change it
+     */
+    static CardCollection getAvailableManaSources(final Player ai, final boolean checkPlayable, final Supplier<CardCollection> compute) {
+        final ManaPlan plan = active.get();
+        if (plan == null) {
+            return compute.get();
+        }
+        final Sources sources = plan.sources(ai, checkPlayable);
+        if (sources.manaSources == null) {
+            plan.misses++;
+            sources.manaSources = compute.get();
+        } else {
+            plan.hits++;
+        }
+        return new CardCollection(sources.manaSources);
+    }
+
+    /**
+     * @return the mana abilities by the color they can pay for, which must not be changed
+     */
+    static ListMultimap<Integer, SpellAbility> getSourcesByManaColor(final Player ai, final boolean checkPlayable,
+            final Supplier<ListMultimap<Integer, SpellAbility>> compute) {
+        final ManaPlan plan = active.get();
+        if (plan == null) {
+            return compute.get();
+        }
+        final Sources sources = plan.sources(ai, checkPlayable);
+        if (sources.byColor == null) {
+            plan.misses++;
+            sources.byColor = Multimaps.unmodifiableListMultimap(compute.get());
+        } else {
+            plan.hits++;
+            // grouping sets the activator of every ability, keep doing so in case someone else asked in between
+            for (final SpellAbility m : sources.byColor.get(ManaAtom.GENERIC)) {
+                m.setActivatingPlayer(ai, true);
+            }
+        }
+        return sources.byColor;
+    }
+
+    private Sources sources(final Player ai, final boolean checkPlayable) {
+        final Map<Player, Sources> byPlayer = checkPlayable ? playable : potential;
+        final State state = new State(ai);
+        Sources sources = byPlayer.get(ai);
+        if (sources == null || !sources.state.equals(state)) {
+            sources = new Sources(state);
+            byPlayer.put(ai, sources);
+        }
+        return sources;
+    }
+
+    @Override
+    public String toString() {
+        return "ManaPlan (" + hits + " hits, " + misses + " misses)";
+    }
+
+    private static final class Sources {
+        private final State state;
+        private CardCollection manaSources;
+        private ListMultimap<Integer, SpellAbility> byColor;
+
+        private Sources(final State state) {
+            this.state = state;
+        }
+    }
+
+    /**
+     * What the mana sources of the player and the abilities they can use depend on. Anything the views show,
+     * e.g. tapping, counters, life or a card turned to its other face, changes the count of the tracker, the
+     * rest is kept as it is.
+     */
+    private static final class State {
+        private final long timestamp;
+        private final int changeCount;
+        private final PhaseType phase;
+        private final Player playerTurn;
+        private final int stackSize;
+        private final int attackers;
+        // id and traits version of each card on the battlefield and in hand
+        private final List<Integer> cards = new ArrayList<>();
+
+        private State(final Player ai) {
+            final Game game = ai.getGame();
+            timestamp = game.getTimestamp();
+            changeCount = game.getTracker().getChangeCount();
+            phase = game.getPhaseHandler().getPhase();
+            playerTurn = game.getPhaseHandler().getPlayerTurn();
+            stackSize = game.getStack().size();
+            final Combat combat = game.getCombat();
+            attackers = combat == null ? -1 : combat.getAttackers().size();
+            for (final Card c : ai.getCardsIn(ZONES)) {
+                cards.add(c.getId());
+                cards.add(c.getCurrentState().getTraitsVersion());
+            }
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof State)) {
+                return false;
+            }
+            final State other = (State) o;
+            return timestamp == other.timestamp && changeCount == other.changeCount && phase == other.phase
+                    && playerTurn == other.playerTurn && stackSize == other.stackSize
+                    && attackers == other.attackers && cards.equals(other.cards);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(timestamp, changeCount, phase, stackSize, attackers, cards);
+        }
+    }
+}
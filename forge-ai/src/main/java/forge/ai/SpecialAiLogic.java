@@ -359,9 +359,9 @@ public class SpecialAiLogic {
         if (!conditionMet && falseSub.hasParam("UnlessCost")) {
             // FIXME: We're emulating the UnlessCost on the SA to run the proper checks.
             // This is hacky, but it works. Perhaps a cleaner way exists?
-            sa.getMapParams().put("UnlessCost", falseSub.getParam("UnlessCost"));
+            sa.putParam("UnlessCost", falseSub.getParam("UnlessCost"));
             willPlay = SpellApiToAi.Converter.get(ApiType.Counter).canPlayAIWithSubs(ai, sa);
-            sa.getMapParams().remove("UnlessCost");
+            sa.removeParam("UnlessCost");
         } else {
             willPlay = SpellApiToAi.Converter.get(ApiType.Counter).canPlayAIWithSubs(ai, sa);
         }
@@ -215,6 +215,10 @@ public class GameCopier {
 
     private void copyGameState(Game newGame, Player aiPlayer) {
         newGame.EXPERIMENTAL_RESTORE_SNAPSHOT = origGame.EXPERIMENTAL_RESTORE_SNAPSHOT;
+        newGame.EXPERIMENTAL_INCREMENTAL_STATICS = origGame.EXPERIMENTAL_INCREMENTAL_STATICS;
+        newGame.CHECK_INCREMENTAL_STATICS = origGame.CHECK_INCREMENTAL_STATICS;
+        newGame.EXPERIMENTAL_REUSE_LKI = origGame.EXPERIMENTAL_REUSE_LKI;
+        newGame.EXPERIMENTAL_AUTO_YIELD = origGame.EXPERIMENTAL_AUTO_YIELD;
         newGame.setAge(origGame.getAge());
 
         // TODO countersAddedThisTurn
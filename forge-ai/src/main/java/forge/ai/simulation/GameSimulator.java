@@ -39,9 +39,9 @@ public class GameSimulator {
         eval = new GameStateEvaluator();
 
         origLines = new ArrayList<>();
-        debugLines = origLines;
+        debugLines.set(origLines);
 
-        debugPrint = false;
+        debugPrinting.set(false);
         origScore = eval.getScoreForGameState(origGame, origAiPlayer);
 
         if (advanceToPhase == null) {
@@ -53,26 +53,26 @@ public class GameSimulator {
         // want to compare to the eval score after simulating.
         if (COPY_STACK && !origGame.getStackZone().isEmpty()) {
             origLines = new ArrayList<>();
-            debugLines = origLines;
+            debugLines.set(origLines);
             Game copyOrigGame = copier.makeCopy();
             Player copyOrigAiPlayer = copyOrigGame.getPlayers().get(1);
             resolveStack(copyOrigGame, copyOrigGame.getPlayers().get(0));
             origScore = eval.getScoreForGameState(copyOrigGame, copyOrigAiPlayer);
         }
 
-        debugPrint = false;
-        debugLines = null;
+        debugPrinting.set(false);
+        debugLines.remove();
     }
 
     private void ensureGameCopyScoreMatches(Game origGame, Player origAiPlayer) {
         eval.setDebugging(true);
         List<String> simLines = new ArrayList<>();
-        debugLines = simLines;
+        debugLines.set(simLines);
         Score simScore = eval.getScoreForGameState(simGame, aiPlayer);
         if (!simScore.equals(origScore)) {
             // Re-eval orig with debug printing.
             origLines = new ArrayList<>();
-            debugLines = origLines;
+            debugLines.set(origLines);
             eval.getScoreForGameState(origGame, origAiPlayer);
             // Print debug info.
             printDiff(origLines, simLines);
@@ -115,14 +115,16 @@ public class GameSimulator {
         }
     }
 
-    public static boolean debugPrint;
-    public static List<String> debugLines;
+    // per thread, since simulations may run in parallel
+    private static final ThreadLocal<Boolean> debugPrinting = ThreadLocal.withInitial(() -> false);
+    private static final ThreadLocal<List<String>> debugLines = new ThreadLocal<>();
     public static void debugPrint(String str) {
-        if (debugPrint) {
+        if (debugPrinting.get()) {
             System.out.println(str);
         }
-        if (debugLines != null) {
-            debugLines.add(str);
+        List<String> lines = debugLines.get();
+        if (lines != null) {
+            lines.add(str);
         }
     }
 
@@ -131,6 +133,13 @@ public class GameSimulator {
         if (sa.getHostCard().getGame().equals(this.simGame)) {
             return sa;
         }
+        return findSaInCopy(copier, sa);
+    }
+
+    /**
+     * @return the ability of the copied game that matches the given one of the original game, or null
+     */
+    static SpellAbility findSaInCopy(final GameCopier copier, final SpellAbility sa) {
         Card origHostCard = sa.getHostCard();
         Card hostCard = (Card) copier.find(origHostCard);
         String desc = sa.getDescription();
@@ -191,7 +200,7 @@ public class GameSimulator {
                 saOrSubSa = saOrSubSa.getSubAbility();
             } while (saOrSubSa != null);
 
-            if (debugPrint && !sa.getAllTargetChoices().isEmpty()) {
+            if (debugPrinting.get() && !sa.getAllTargetChoices().isEmpty()) {
                 debugPrint("Targets: ");
                 for (TargetChoices target : sa.getAllTargetChoices()) {
                     System.out.print(target);
@@ -222,16 +231,16 @@ public class GameSimulator {
         // we should simulate how combat will resolve and evaluate that
         // state instead!
         List<String> simLines = null;
-        if (debugPrint) {
+        if (debugPrinting.get()) {
             debugPrint("SimGame:");
             simLines = new ArrayList<>();
-            debugLines = simLines;
-            debugPrint = false;
+            debugLines.set(simLines);
+            debugPrinting.set(false);
         }
         Score score = eval.getScoreForGameState(simGame, aiPlayer);
         if (simLines != null) {
-            debugLines = null;
-            debugPrint = true;
+            debugLines.remove();
+            debugPrinting.set(true);
             printDiff(origLines, simLines);
         }
         controller.possiblyCacheResult(score, origSa);
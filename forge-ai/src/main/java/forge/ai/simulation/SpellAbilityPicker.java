@@ -5,12 +5,17 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import forge.ai.AiPlayDecision;
+import forge.ai.AiProps;
 import forge.ai.ComputerUtil;
 import forge.ai.ComputerUtilAbility;
 import forge.ai.ComputerUtilCard;
 import forge.ai.ComputerUtilCost;
+import forge.ai.PlayerControllerAi;
 import forge.ai.ability.ChangeZoneAi;
 import forge.ai.ability.LearnAi;
 import forge.ai.simulation.GameStateEvaluator.Score;
@@ -29,6 +34,7 @@ import forge.game.spellability.SpellAbility;
 import forge.game.spellability.SpellAbilityCondition;
 import forge.game.zone.ZoneType;
 import forge.util.TextUtil;
+import forge.util.ThreadUtil;
 
 public class SpellAbilityPicker {
     private Game game;
@@ -38,7 +44,7 @@ public class SpellAbilityPicker {
     private SpellAbilityChoicesIterator interceptor;
 
     private Plan plan;
-    private int numSimulations;
+    private final AtomicInteger numSimulations = new AtomicInteger();
 
     public SpellAbilityPicker(Game game, Player player) {
         this.game = game;
@@ -102,7 +108,7 @@ public class SpellAbilityPicker {
         if (controller != null) {
             // This is a recursion during a higher-level simulation. Just return the head of the best
             // sequence directly, no need to create a Plan object.
-            return chooseSpellAbilityToPlayImpl(controller, candidateSAs, origGameScore, null);
+            return chooseSpellAbilityToPlayImpl(controller, candidateSAs, origGameScore, null, 0);
         }
 
         printPhaseInfo();
@@ -115,14 +121,129 @@ public class SpellAbilityPicker {
     }
 
     private Plan formulatePlanWithPhase(Score origGameScore, List<SpellAbility> candidateSAs, PhaseType phase) {
+        int timeBudget = getIntProperty(AiProps.SIMULATION_TIME_BUDGET_MS);
+        long deadline = timeBudget > 0 ? System.currentTimeMillis() + timeBudget : 0;
+        if (candidateSAs.size() > 1 && getBooleanProperty(AiProps.SIMULATION_PARALLEL_ROOT)) {
+            return formulatePlanInParallel(origGameScore, candidateSAs, phase, deadline);
+        }
         SimulationController controller = new SimulationController(origGameScore);
-        SpellAbility sa = chooseSpellAbilityToPlayImpl(controller, candidateSAs, origGameScore, phase);
+        SpellAbility sa = chooseSpellAbilityToPlayImpl(controller, candidateSAs, origGameScore, phase, deadline);
         if (sa != null) {
             return controller.getBestPlan();
         }
         return null;
     }
 
+    private static class RootEvaluation {
+        final Score score;
+        final SimulationController controller;
+
+        RootEvaluation(Score score, SimulationController controller) {
+            this.score = score;
+            this.controller = controller;
+        }
+    }
+
+    /**
+     * Evaluates the candidates concurrently on the game thread pool, each with its own controller.
+     * Candidates can't see each other's results this way, so unlike the sequential search they don't
+     * share the controller's effect cache, but the best candidate is picked the same way.
+     *
+     * Reading a game fills lazy caches of its cards, so no game is ever read by two threads. Only this
+     * thread reads the original game: it makes a private copy for each candidate and hands it to a worker,
+     * which makes its simulation copies from that one. Candidates that can't be found in a copy, like
+     * land plays, are evaluated here on the original game.
+     */
+    private Plan formulatePlanInParallel(Score origGameScore, List<SpellAbility> candidateSAs, PhaseType phase, long deadline) {
+        long startTime = System.currentTimeMillis();
+        print("Evaluating in parallel... (orig score = " + origGameScore +  ")");
+
+        // draw the seeds up front and in order, so the outcome doesn't depend on scheduling
+        final long[] randomSeeds = new long[candidateSAs.size()];
+        for (int i = 0; i < randomSeeds.length; i++) {
+            randomSeeds[i] = MyRandom.getRandom().nextLong();
+        }
+        final int threads = getIntProperty(AiProps.SIMULATION_THREADS);
+        final int parallelism = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        // the game pool names its threads so that game actions run on them right away
+        final ExecutorCompletionService<Integer> completion = new ExecutorCompletionService<>(ThreadUtil::invokeInGameThread);
+        final RootEvaluation[] results = new RootEvaluation[candidateSAs.size()];
+        int running = 0;
+        try {
+            for (int i = 0; i < candidateSAs.size(); i++) {
+                if (deadline > 0 && System.currentTimeMillis() > deadline) {
+                    print("Out of time, skipping the remaining " + (candidateSAs.size() - i) + " candidates");
+                    break;
+                }
+                final int saIndex = i;
+                final SpellAbility sa = candidateSAs.get(i);
+                GameCopier copier = null;
+                Game copy = null;
+                SpellAbility copySa = null;
+                if (!sa.isLandAbility()) {
+                    copier = new GameCopier(game);
+                    copy = copier.makeCopy();
+                    copySa = GameSimulator.findSaInCopy(copier, sa);
+                }
+                if (copySa == null || !copySa.toString().equals(sa.toString())) {
+                    SimulationController controller = new SimulationController(origGameScore);
+                    results[i] = new RootEvaluation(evaluateSa(controller, phase, candidateSAs, i, randomSeeds[i]), controller);
+                    continue;
+                }
+                // the plan refers to the candidate by its index and text, the other entries are never looked at
+                final List<SpellAbility> copySAs = new ArrayList<>(candidateSAs);
+                copySAs.set(i, copySa);
+                final SpellAbilityPicker copyPicker = new SpellAbilityPicker(copy, (Player) copier.find(player));
+
+                if (running == parallelism) {
+                    completion.take().get();
+                    running--;
+                }
+                completion.submit(() -> {
+                    SimulationController controller = new SimulationController(origGameScore);
+                    Score value = copyPicker.evaluateSa(controller, phase, copySAs, saIndex, randomSeeds[saIndex]);
+                    results[saIndex] = new RootEvaluation(value, controller);
+                    numSimulations.addAndGet(copyPicker.getNumSimulations());
+                    return saIndex;
+                });
+                running++;
+            }
+            // waiting on every future also makes the results written by the workers visible here
+            for (; running > 0; running--) {
+                completion.take().get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+
+        Score[] values = new Score[results.length];
+        for (int i = 0; i < results.length; i++) {
+            values[i] = results[i] == null ? null : results[i].score;
+        }
+        int best = chooseBestSa(candidateSAs, values, origGameScore, startTime);
+        return best < 0 ? null : results[best].controller.getBestPlan();
+    }
+
+    private int getIntProperty(AiProps prop) {
+        if (player.getController().isAI()) {
+            return ((PlayerControllerAi) player.getController()).getAi().getIntProperty(prop);
+        }
+        return Integer.parseInt(prop.getDefault());
+    }
+
+    private boolean getBooleanProperty(AiProps prop) {
+        if (player.getController().isAI()) {
+            return ((PlayerControllerAi) player.getController()).getAi().getBooleanProperty(prop);
+        }
+        return Boolean.parseBoolean(prop.getDefault());
+    }
+
     private void printPlan(Plan plan, String intro) {
         if (plan == null) {
             print(intro + ": no plan!");
@@ -185,17 +306,34 @@ public class SpellAbilityPicker {
         plan = bestPlan;
     }
 
-    private SpellAbility chooseSpellAbilityToPlayImpl(SimulationController controller, List<SpellAbility> candidateSAs, Score origGameScore, PhaseType phase) {
+    private SpellAbility chooseSpellAbilityToPlayImpl(SimulationController controller, List<SpellAbility> candidateSAs, Score origGameScore, PhaseType phase, long deadline) {
         long startTime = System.currentTimeMillis();
 
-        SpellAbility bestSa = null;
-        Score bestSaValue = origGameScore;
         print("Evaluating... (orig score = " + origGameScore +  ")");
+        Score[] values = new Score[candidateSAs.size()];
         for (int i = 0; i < candidateSAs.size(); i++) {
-            Score value = evaluateSa(controller, phase, candidateSAs, i);
-            if (value.value > bestSaValue.value) {
+            if (deadline > 0 && System.currentTimeMillis() > deadline) {
+                print("Out of time, skipping the remaining " + (candidateSAs.size() - i) + " candidates");
+                break;
+            }
+            values[i] = evaluateSa(controller, phase, candidateSAs, i);
+        }
+        int best = chooseBestSa(candidateSAs, values, origGameScore, startTime);
+        return best < 0 ? null : candidateSAs.get(best);
+    }
+
+    /**
+     * @return the index of the best candidate, or -1 if none is worth playing. Candidates
+     * without a score weren't evaluated.
+     */
+    private int chooseBestSa(List<SpellAbility> candidateSAs, Score[] values, Score origGameScore, long startTime) {
+        int bestIndex = -1;
+        Score bestSaValue = origGameScore;
+        for (int i = 0; i < values.length; i++) {
+            Score value = values[i];
+            if (value != null && value.value > bestSaValue.value) {
                 bestSaValue = value;
-                bestSa = candidateSAs.get(i);
+                bestIndex = i;
             }
         }
 
@@ -204,14 +342,14 @@ public class SpellAbilityPicker {
         // Do it here on the best SA, rather than for all evaluations, so that if the best SA
         // is indeed a creature spell, we don't pick something else to play now and then have
         // no mana to play the truly best SA post-combat.
-        if (bestSa != null && bestSaValue.summonSickValue <= origGameScore.summonSickValue) {
-            bestSa = null;
+        if (bestIndex >= 0 && bestSaValue.summonSickValue <= origGameScore.summonSickValue) {
+            bestIndex = -1;
         }
 
         long execTime = System.currentTimeMillis() - startTime;
-        print("BEST: " + abilityToString(bestSa) + " SCORE: " + bestSaValue.summonSickValue + " TIME: " + execTime);
+        print("BEST: " + abilityToString(bestIndex < 0 ? null : candidateSAs.get(bestIndex)) + " SCORE: " + bestSaValue.summonSickValue + " TIME: " + execTime);
         this.bestScore = bestSaValue;
-        return bestSa;
+        return bestIndex;
     }
 
     public boolean hasActivePlan() {
@@ -362,33 +500,35 @@ public class SpellAbilityPicker {
     }
 
     public Score evaluateSa(final SimulationController controller, PhaseType phase, List<SpellAbility> saList, int saIndex) {
+        return evaluateSa(controller, phase, saList, saIndex, MyRandom.getRandom().nextLong());
+    }
+
+    private Score evaluateSa(final SimulationController controller, PhaseType phase, List<SpellAbility> saList, int saIndex, long randomSeedToUse) {
         controller.evaluateSpellAbility(saList, saIndex);
         SpellAbility sa = saList.get(saIndex);
 
         // Use a deterministic random seed when evaluating different choices of a spell ability.
         // This is needed as otherwise random effects may result in a different number of choices
         // each iteration, which will break the logic in SpellAbilityChoicesIterator.
-        Random origRandom = MyRandom.getRandom();
-        long randomSeedToUse = origRandom.nextLong();
+        // The seeded random is only installed for this thread, so simulations may run in parallel.
+        Random origRandom = MyRandom.setThreadRandom(null);
 
         Score bestScore = new Score(Integer.MIN_VALUE);
         final SpellAbilityChoicesIterator choicesIterator = new SpellAbilityChoicesIterator(controller);
         Score lastScore;
         do {
-            // TODO: MyRandom should be an instance on the game object, so that we could do
-            // simulations in parallel without messing up global state.
-            MyRandom.setRandom(new Random(randomSeedToUse));
+            MyRandom.setThreadRandom(new Random(randomSeedToUse));
             GameSimulator simulator = new GameSimulator(controller, game, player, phase);
             simulator.setInterceptor(choicesIterator);
             // I feel like something here is making a wrong assumption about what the target is
             lastScore = simulator.simulateSpellAbility(sa);
-            numSimulations++;
+            numSimulations.incrementAndGet();
             if (lastScore.value > bestScore.value) {
                 bestScore = lastScore;
             }
         } while (choicesIterator.advance(lastScore));
         controller.doneEvaluating(bestScore);
-        MyRandom.setRandom(origRandom);
+        MyRandom.setThreadRandom(origRandom);
         return bestScore;
     }
 
@@ -466,6 +606,6 @@ public class SpellAbilityPicker {
     }
 
     public int getNumSimulations() {
-        return numSimulations;
+        return numSimulations.get();
     }
 }
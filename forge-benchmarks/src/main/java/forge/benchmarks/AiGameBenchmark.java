@@ -0,0 +1,98 @@
+package forge.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import forge.deck.Deck;
+import forge.game.Game;
+import forge.game.GameEndReason;
+import forge.game.GameRules;
+import forge.game.GameType;
+import forge.game.Match;
+import forge.game.player.RegisteredPlayer;
+import forge.player.GamePlayerUtil;
+import forge.util.MyRandom;
+import forge.util.ThreadUtil;
+
+/**
+ * A whole game between two AI players with fixed decks, from the opening hands to the end.
+ *
+ * Each measured game uses the next seed of a fixed sequence, so the same build always plays the
+ * same games and two builds can be compared directly. Games running longer than two minutes are
+ * ended as a draw, like in the simulation batch.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class AiGameBenchmark {
+    private static final int GAME_TIMEOUT_MS = 120 * 1000;
+
+    private final GameRules rules = new GameRules(GameType.Constructed);
+    private List<Deck> decks;
+    private Random seeds;
+
+    @Setup
+    public void setup() {
+        BenchmarkEnvironment.initialize();
+        BenchmarkEnvironment.useAsGameThread();
+        decks = new ArrayList<>();
+        decks.add(BenchmarkEnvironment.createDeck("Red",
+                "Mountain", 24, "Raging Goblin", 4, "Goblin Raider", 4, "Goblin Piker", 4, "Gray Ogre", 4,
+                "Hill Giant", 4, "Shivan Dragon", 2, "Lightning Bolt", 4, "Shock", 4, "Volcanic Hammer", 2,
+                "Lava Axe", 2, "Bonesplitter", 2));
+        decks.add(BenchmarkEnvironment.createDeck("Green White",
+                "Forest", 12, "Plains", 12, "Llanowar Elves", 4, "Elvish Archdruid", 2, "Grizzly Bears", 4,
+                "Savannah Lions", 4, "Pillarfield Ox", 2, "Trained Armodon", 3, "Serra Angel", 3, "Craw Wurm", 2,
+                "Giant Growth", 4, "Pacifism", 4, "Glorious Anthem", 2, "Honor of the Pure", 2));
+        seeds = new Random(42);
+    }
+
+    private List<RegisteredPlayer> createPlayers() {
+        final List<RegisteredPlayer> players = new ArrayList<>();
+        for (int i = 0; i < decks.size(); i++) {
+            final RegisteredPlayer rp = new RegisteredPlayer(decks.get(i));
+            rp.setPlayer(GamePlayerUtil.createAiPlayer("Ai(" + (i + 1) + ")-" + decks.get(i).getName(), i));
+            players.add(rp);
+        }
+        return players;
+    }
+
+    @Benchmark
+    public int playGame() {
+        MyRandom.setThreadRandom(new Random(seeds.nextLong()));
+        try {
+            final Match mc = new Match(rules, createPlayers(), "Benchmark");
+            final Game game = mc.createGame();
+            final ScheduledFuture<?> watchdog = ThreadUtil.delay(GAME_TIMEOUT_MS, () -> {
+                if (!game.isGameOver()) {
+                    game.setGameOver(GameEndReason.Draw);
+                }
+            });
+            try {
+                mc.startGame(game);
+            } finally {
+                watchdog.cancel(false);
+            }
+            return game.getPhaseHandler().getTurn();
+        } finally {
+            MyRandom.setThreadRandom(null);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package forge.benchmarks;
+
+import java.io.File;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import forge.GuiDesktop;
+import forge.ai.GameState;
+import forge.ai.LobbyPlayerAi;
+import forge.deck.Deck;
+import forge.game.Game;
+import forge.game.GameRules;
+import forge.game.GameStage;
+import forge.game.GameType;
+import forge.game.Match;
+import forge.game.player.RegisteredPlayer;
+import forge.gui.GuiBase;
+import forge.item.IPaperCard;
+import forge.localinstance.properties.ForgePreferences.FPref;
+import forge.model.FModel;
+import forge.util.ThreadUtil;
+
+/**
+ * Loads the card database once per benchmark fork, the same way the simulation tests do,
+ * and sets up games from the board states next to this class.
+ *
+ * The card scripts are read from the forge-gui/res of the checkout the benchmarks were built in, so
+ * {@code java -jar forge-benchmarks/target/benchmarks.jar} works from the repository root as well as from
+ * this module's directory.
+ */
+public final class BenchmarkEnvironment {
+    private static boolean initialized = false;
+
+    private BenchmarkEnvironment() {
+    }
+
+    public static synchronized void initialize() {
+        if (initialized) {
+            return;
+        }
+        final String assetsDir = findAssetsDir();
+        GuiBase.setInterface(new GuiDesktop() {
+            @Override
+            public String getAssetsDir() {
+                return assetsDir;
+            }
+        });
+        FModel.initialize(null, preferences -> {
+            preferences.setPref(FPref.LOAD_CARD_SCRIPTS_LAZILY, false);
+            preferences.setPref(FPref.UI_LANGUAGE, "en-US");
+            return null;
+        });
+        initialized = true;
+    }
+
+    /**
+     * @return the forge-gui directory next to the module the benchmark classes were loaded from, both
+     * forge-benchmarks/target/benchmarks.jar and forge-benchmarks/target/classes are two levels below it
+     */
+    private static String findAssetsDir() {
+        final CodeSource source = BenchmarkEnvironment.class.getProtectionDomain().getCodeSource();
+        if (source != null) {
+            try {
+                final File module = new File(source.getLocation().toURI()).getParentFile().getParentFile();
+                final File assets = new File(module.getParentFile(), "forge-gui");
+                if (new File(assets, "res").isDirectory()) {
+                    return assets.getPath() + File.separator;
+                }
+            } catch (final URISyntaxException e) {
+                // fall back to the development layout below
+            }
+        }
+        return "../forge-gui/";
+    }
+
+    /**
+     * Let the engine run game code on the benchmark thread, as the simulation batch does. Its name has to
+     * start with "Game", or the engine hands the work over to the game thread pool and doesn't wait for it.
+     */
+    public static void useAsGameThread() {
+        final Thread thread = Thread.currentThread();
+        if (!ThreadUtil.isGameThread()) {
+            thread.setName("Game-" + thread.getName());
+        }
+    }
+
+    /**
+     * @return a new two player game with empty decks, ready for a board state
+     */
+    public static Game createGame() {
+        initialize();
+        useAsGameThread();
+        final List<RegisteredPlayer> players = new ArrayList<>();
+        final Deck deck = new Deck();
+        players.add(new RegisteredPlayer(deck).setPlayer(new LobbyPlayerAi("p1", null)));
+        players.add(new RegisteredPlayer(deck).setPlayer(new LobbyPlayerAi("p2", null)));
+        final GameRules rules = new GameRules(GameType.Constructed);
+        final Match match = new Match(rules, players, "Benchmark");
+        final Game game = new Game(players, rules, match);
+        game.setAge(GameStage.Play);
+        return game;
+    }
+
+    /**
+     * @param stateName the name of a board state file in this package, without the extension
+     * @return a new game with the board state applied
+     */
+    public static Game createGame(final String stateName) {
+        final Game game = createGame();
+        loadState(stateName).applyNow(game);
+        return game;
+    }
+
+    public static BoardState loadState(final String stateName) {
+        initialize();
+        final BoardState state = new BoardState();
+        try (InputStream in = BenchmarkEnvironment.class.getResourceAsStream(stateName + ".txt")) {
+            if (in == null) {
+                throw new IllegalArgumentException("No board state named " + stateName);
+            }
+            state.parse(in);
+        } catch (final Exception e) {
+            throw new RuntimeException("Could not parse board state " + stateName, e);
+        }
+        return state;
+    }
+
+    /**
+     * A board state that is applied on the calling thread, so that the game is ready when setup returns.
+     */
+    public static final class BoardState extends GameState {
+        @Override
+        public IPaperCard getPaperCard(final String cardName, final String setCode, final int artID) {
+            return FModel.getMagicDb().getCommonCards().getCard(cardName, setCode, artID);
+        }
+
+        public void applyNow(final Game game) {
+            applyGameOnThread(game);
+        }
+    }
+
+    /**
+     * @param cards card names with their amounts, like {@code "Mountain", 24}
+     */
+    public static Deck createDeck(final String name, final Object... cards) {
+        initialize();
+        final Deck deck = new Deck(name);
+        for (int i = 0; i < cards.length; i += 2) {
+            deck.getMain().add((String) cards[i], (Integer) cards[i + 1]);
+        }
+        return deck;
+    }
+}
@@ -0,0 +1,62 @@
+package forge.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import forge.ai.simulation.GameCopier;
+import forge.game.Game;
+
+/**
+ * The engine work that runs after every action on a fixed board: state based actions, the static
+ * abilities layer pass, and the copy the simulating AI makes of the game for each option it tries.
+ *
+ * Nothing changes on the board between calls, so these measure the steady state cost of a check
+ * that finds nothing to do, which is by far the most common case in a game.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BoardStateBenchmark {
+    @Param({"midgame", "manabase"})
+    public String state;
+
+    @Param({"false", "true"})
+    public boolean restoreSnapshot;
+
+    private Game game;
+
+    @Setup
+    public void setup() {
+        game = BenchmarkEnvironment.createGame(state);
+        game.EXPERIMENTAL_RESTORE_SNAPSHOT = restoreSnapshot;
+    }
+
+    @Benchmark
+    public boolean checkStateEffects() {
+        return game.getAction().checkStateEffects(true);
+    }
+
+    @Benchmark
+    public void checkStaticAbilities() {
+        game.getAction().checkStaticAbilities();
+    }
+
+    @Benchmark
+    public Game makeCopy() {
+        return new GameCopier(game).makeCopy();
+    }
+}
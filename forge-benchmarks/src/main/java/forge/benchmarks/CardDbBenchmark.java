@@ -0,0 +1,84 @@
+package forge.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import forge.card.CardDb;
+import forge.card.CardRules;
+import forge.item.PaperCard;
+import forge.model.FModel;
+
+/**
+ * Card database lookups as deck loading, the deck editor and card creation in a game do them:
+ * by name, by name and set, all printings of a name and the rules of a name.
+ *
+ * Each call looks up the next name from a fixed shuffle of all card names, so that no single
+ * entry stays hot in the caches.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardDbBenchmark {
+    private CardDb cardDb;
+    private String[] names;
+    private String[] sets;
+    private int next;
+
+    @Setup
+    public void setup() {
+        BenchmarkEnvironment.initialize();
+        cardDb = FModel.getMagicDb().getCommonCards();
+        final List<PaperCard> cards = new ArrayList<>(cardDb.getUniqueCards());
+        Collections.shuffle(cards, new Random(42));
+        names = new String[cards.size()];
+        sets = new String[cards.size()];
+        for (int i = 0; i < cards.size(); i++) {
+            names[i] = cards.get(i).getName();
+            sets[i] = cards.get(i).getEdition();
+        }
+    }
+
+    private int nextIndex() {
+        final int i = next;
+        next = i + 1 == names.length ? 0 : i + 1;
+        return i;
+    }
+
+    @Benchmark
+    public PaperCard getCardByName() {
+        return cardDb.getCard(names[nextIndex()]);
+    }
+
+    @Benchmark
+    public PaperCard getCardByNameAndSet() {
+        final int i = nextIndex();
+        return cardDb.getCard(names[i], sets[i]);
+    }
+
+    @Benchmark
+    public int getAllPrintings() {
+        return cardDb.getAllCards(names[nextIndex()]).size();
+    }
+
+    @Benchmark
+    public CardRules getRules() {
+        return cardDb.getRules(names[nextIndex()]);
+    }
+}
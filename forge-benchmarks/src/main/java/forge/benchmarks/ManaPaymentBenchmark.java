@@ -0,0 +1,86 @@
+package forge.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import forge.ai.ComputerUtilMana;
+import forge.ai.simulation.GameCopier;
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.player.Player;
+import forge.game.spellability.SpellAbility;
+import forge.game.zone.ZoneType;
+
+/**
+ * The AI paying for a spell from the hand of the "manabase" board state, which has every color,
+ * dual lands, painlands and mana creatures to choose from.
+ *
+ * {@link #canPay} is the check the AI makes for every spell it considers. {@link #pay} really taps
+ * the sources, so it pays on a fresh copy of the board each time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ManaPaymentBenchmark {
+    @Param({"Sphinx of the Steel Wind", "Shivan Dragon", "Serra Angel", "Lightning Bolt"})
+    public String spell;
+
+    private Game game;
+    private Player ai;
+    private SpellAbility sa;
+
+    private Game copy;
+    private Player copyAi;
+    private SpellAbility copySa;
+
+    @Setup
+    public void setup() {
+        game = BenchmarkEnvironment.createGame("manabase");
+        game.EXPERIMENTAL_RESTORE_SNAPSHOT = false;
+        ai = game.getPlayers().get(1);
+        sa = findSpell(ai, spell);
+    }
+
+    @Setup(Level.Invocation)
+    public void copyBoard() {
+        copy = new GameCopier(game).makeCopy();
+        copyAi = copy.getPlayers().get(1);
+        copySa = findSpell(copyAi, spell);
+    }
+
+    private static SpellAbility findSpell(final Player player, final String name) {
+        for (final Card c : player.getCardsIn(ZoneType.Hand)) {
+            if (c.getName().equals(name)) {
+                final SpellAbility result = c.getFirstSpellAbility();
+                result.setActivatingPlayer(player);
+                return result;
+            }
+        }
+        throw new IllegalStateException(name + " is not in the hand of " + player);
+    }
+
+    @Benchmark
+    public boolean canPay() {
+        return ComputerUtilMana.canPayManaCost(sa, ai, 0, false);
+    }
+
+    @Benchmark
+    public boolean pay() {
+        return ComputerUtilMana.payManaCost(copyAi, copySa, false);
+    }
+}
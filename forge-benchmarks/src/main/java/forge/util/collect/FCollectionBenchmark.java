@@ -0,0 +1,182 @@
+package forge.util.collect;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares {@link FCollection} against the original set + linked list
+ * implementation ({@link LegacyFCollection}) on the operations a game does
+ * most: copying a zone, filtering it, membership checks, iterating and moving
+ * a card out of the middle of a zone.
+ *
+ * The sizes match typical game collections: a hand, a battlefield, a library
+ * and all the cards of a four player game.
+ *
+ * Build with {@code mvn -P benchmarks package} and run with
+ * {@code java -jar forge-benchmarks/target/benchmarks.jar FCollectionBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FCollectionBenchmark {
+    /**
+     * Stand-in for a game entity: equality and hash code are the id, as for cards and players.
+     */
+    static final class Entity {
+        final int id;
+        Entity(final int id) {
+            this.id = id;
+        }
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof Entity && ((Entity) o).id == id;
+        }
+        @Override
+        public int hashCode() {
+            return id;
+        }
+    }
+
+    @Param({"7", "25", "60", "400"})
+    public int size;
+
+    private List<Entity> source;
+    private Entity[] probes;
+    private FCollection<Entity> current;
+    private LegacyFCollection<Entity> legacy;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        source = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            source.add(new Entity(1000 + i * 3));
+        }
+        // half hits, half misses, like targeting checks against a zone
+        probes = new Entity[64];
+        for (int i = 0; i < probes.length; i++) {
+            probes[i] = i % 2 == 0 ? source.get(random.nextInt(size)) : new Entity(random.nextInt(size * 3) + 1001);
+        }
+        current = new FCollection<>(source);
+        legacy = new LegacyFCollection<>(source);
+    }
+
+    @Benchmark
+    public Object copyCurrent() {
+        return new FCollection<>(current);
+    }
+
+    @Benchmark
+    public Object copyLegacy() {
+        return new LegacyFCollection<>(legacy);
+    }
+
+    @Benchmark
+    public Object buildCurrent() {
+        final FCollection<Entity> c = new FCollection<>();
+        for (final Entity e : source) {
+            c.add(e);
+        }
+        return c;
+    }
+
+    @Benchmark
+    public Object buildLegacy() {
+        final LegacyFCollection<Entity> c = new LegacyFCollection<>();
+        for (final Entity e : source) {
+            c.add(e);
+        }
+        return c;
+    }
+
+    @Benchmark
+    public Object filterCurrent() {
+        final FCollection<Entity> c = new FCollection<>(current);
+        c.removeIf(e -> (e.id & 1) == 0);
+        return c;
+    }
+
+    @Benchmark
+    public Object filterLegacy() {
+        final LegacyFCollection<Entity> c = new LegacyFCollection<>(legacy);
+        c.removeIf(e -> (e.id & 1) == 0);
+        return c;
+    }
+
+    @Benchmark
+    public void containsCurrent(final Blackhole bh) {
+        for (final Entity e : probes) {
+            bh.consume(current.contains(e));
+        }
+    }
+
+    @Benchmark
+    public void containsLegacy(final Blackhole bh) {
+        for (final Entity e : probes) {
+            bh.consume(legacy.contains(e));
+        }
+    }
+
+    @Benchmark
+    public void iterateCurrent(final Blackhole bh) {
+        for (final Entity e : current) {
+            bh.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void iterateLegacy(final Blackhole bh) {
+        for (final Entity e : legacy) {
+            bh.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void indexedGetCurrent(final Blackhole bh) {
+        for (int i = 0; i < current.size(); i++) {
+            bh.consume(current.get(i));
+        }
+    }
+
+    @Benchmark
+    public void indexedGetLegacy(final Blackhole bh) {
+        for (int i = 0; i < legacy.size(); i++) {
+            bh.consume(legacy.get(i));
+        }
+    }
+
+    @Benchmark
+    public Object zoneChangeCurrent() {
+        // a card leaves from the middle and comes back on top, as when it is put back into a library
+        final Entity e = source.get(size / 2);
+        current.remove(e);
+        current.add(0, e);
+        return current;
+    }
+
+    @Benchmark
+    public Object zoneChangeLegacy() {
+        final Entity e = source.get(size / 2);
+        legacy.remove(e);
+        legacy.add(0, e);
+        return legacy;
+    }
+}
@@ -0,0 +1,226 @@
+package forge;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import forge.util.BuildInfo;
+
+/**
+ * Binary cache of the card scripts read by {@link CardStorageReader} and the edition files read
+ * by {@link forge.card.CardEdition.Reader}.
+ *
+ * The cache keeps one entry per script in one file, which is mapped on the next start instead
+ * of opening ~30k small text files (or inflating them from the zip). For cards an entry holds
+ * the fields parsed from the script (see {@link forge.card.CardRules.Reader#readCachedCard}),
+ * so the script doesn't have to be parsed again. For editions it holds the lines of the file.
+ *
+ * The cache is only used if its fingerprint matches the sources: the zip entries (name, size
+ * and CRC) and the loose script files (path, size and a hash of the content), the Forge
+ * version and the cache format.
+ */
+public final class CardScriptCache {
+    private static final int MAGIC = 0x46435343; // "FCSC"
+    private static final int FORMAT_VERSION = 2;
+    private static final int HEADER_SIZE = 16;
+
+    /** The cached data of one script. */
+    public static final class Script {
+        public final String name;
+        private final ByteBuffer data;
+
+        public Script(final String name, final byte[] data) {
+            this(name, ByteBuffer.wrap(data));
+        }
+
+        private Script(final String name, final ByteBuffer data) {
+            this.name = name;
+            this.data = data;
+        }
+
+        public static Script ofLines(final String name, final List<String> lines) {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                writeStrings(out, lines);
+            } catch (final IOException e) {
+                throw new IllegalStateException(e); // can't happen writing to memory
+            }
+            return new Script(name, bytes.toByteArray());
+        }
+
+        /** @return a new buffer on the data, positioned at its start */
+        public ByteBuffer getData() {
+            return data.duplicate();
+        }
+
+        /** @return the lines of a script made by {@link #ofLines} */
+        public List<String> readLines() {
+            return readStrings(getData());
+        }
+    }
+
+    private CardScriptCache() {
+    }
+
+    public static long fingerprint(final List<File> files, final File rootDir, final ZipFile zip) {
+        final Hasher hasher = Hashing.murmur3_128().newHasher();
+        hasher.putInt(FORMAT_VERSION);
+        hasher.putString(BuildInfo.getVersionString(), StandardCharsets.UTF_8);
+        final int rootLength = rootDir.getAbsolutePath().length();
+        for (final File f : files) {
+            hasher.putString(f.getAbsolutePath().substring(rootLength), StandardCharsets.UTF_8);
+            hasher.putLong(f.length());
+            // the content rather than the modification time, which a checkout or copy doesn't keep
+            try {
+                hasher.putBytes(Files.readAllBytes(f.toPath()));
+            } catch (final IOException e) {
+                hasher.putInt(-1);
+            }
+        }
+        if (zip != null) {
+            final Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                final ZipEntry entry = entries.nextElement();
+                hasher.putString(entry.getName(), StandardCharsets.UTF_8);
+                hasher.putLong(entry.getSize());
+                hasher.putLong(entry.getCrc());
+            }
+        }
+        return hasher.hash().asLong();
+    }
+
+    /**
+     * @return the cached scripts, or null if there is no cache or it doesn't match the fingerprint.
+     * The data of the scripts is read from a mapping of the cache file.
+     */
+    public static List<Script> read(final File cacheFile, final long fingerprint) {
+        if (!cacheFile.isFile()) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(cacheFile.toPath(), StandardOpenOption.READ)) {
+            // check the header before mapping: a stale cache is replaced by write() afterwards,
+            // and on Windows that fails for as long as the file is mapped
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // read the whole header
+            }
+            header.flip();
+            if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC || header.getInt() != FORMAT_VERSION
+                    || header.getLong() != fingerprint) {
+                return null;
+            }
+            final MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buf.position(HEADER_SIZE);
+            final int count = buf.getInt();
+            final List<Script> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                final String name = readString(buf);
+                final int length = buf.getInt();
+                final ByteBuffer data = buf.slice();
+                data.limit(length);
+                buf.position(buf.position() + length);
+                result.add(new Script(name, data));
+            }
+            return result;
+        } catch (final IOException | RuntimeException e) {
+            // a truncated or otherwise broken cache is just rebuilt
+            System.err.printf("Ignoring card script cache %s: %s%n", cacheFile.getAbsolutePath(), e);
+            return null;
+        }
+    }
+
+    public static void write(final File cacheFile, final long fingerprint, final Collection<Script> scripts) {
+        final File dir = cacheFile.getAbsoluteFile().getParentFile();
+        if (dir != null && !dir.isDirectory() && !dir.mkdirs()) {
+            return;
+        }
+        final File tmp = new File(dir, cacheFile.getName() + ".tmp");
+        try {
+            try (OutputStream os = Files.newOutputStream(tmp.toPath());
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os, 1 << 16))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(fingerprint);
+                out.writeInt(scripts.size());
+                for (final Script s : scripts) {
+                    writeString(out, s.name);
+                    final ByteBuffer data = s.getData();
+                    final byte[] bytes = new byte[data.remaining()];
+                    data.get(bytes);
+                    out.writeInt(bytes.length);
+                    out.write(bytes);
+                }
+            }
+            // replace in one step so a concurrently starting instance never reads a half written file
+            Files.move(tmp.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            System.err.printf("Could not write card script cache %s: %s%n", cacheFile.getAbsolutePath(), e);
+            tmp.delete();
+        }
+    }
+
+    /** Reads a string written by {@link #writeString}, which may be null. */
+    public static String readString(final ByteBuffer buf) {
+        final int length = buf.getInt();
+        if (length < 0) {
+            return null;
+        }
+        final byte[] bytes = new byte[length];
+        buf.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public static void writeString(final DataOutput out, final String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /** Reads strings written by {@link #writeStrings}, null if null was written. */
+    public static List<String> readStrings(final ByteBuffer buf) {
+        final int count = buf.getInt();
+        if (count < 0) {
+            return null;
+        }
+        final List<String> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(readString(buf));
+        }
+        return result;
+    }
+
+    public static void writeStrings(final DataOutput out, final Collection<String> values) throws IOException {
+        if (values == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(values.size());
+        for (final String value : values) {
+            writeString(out, value);
+        }
+    }
+}
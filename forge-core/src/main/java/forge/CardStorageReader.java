@@ -73,6 +73,10 @@ public class CardStorageReader {
 
     private final boolean loadCardsLazily;
 
+    private File cacheFile;
+    // scripts read while building the cache, null when not writing one
+    private Queue<CardScriptCache.Script> scriptsToCache;
+
     public CardStorageReader(final String cardDataDir, final CardStorageReader.ProgressObserver progressObserver, boolean loadCardsLazily) {
         this.progressObserver = progressObserver != null ? progressObserver : CardStorageReader.ProgressObserver.emptyObserver;
         this.cardsfolder = new File(cardDataDir);
@@ -103,6 +107,29 @@ public class CardStorageReader {
         this.charset = Charset.forName(CardStorageReader.DEFAULT_CHARSET_NAME);
     } // CardReader()
 
+    /**
+     * Keep the scripts read by {@link #loadCards()} in a binary cache file and read them from
+     * there on the next start, as long as the card files didn't change.
+     */
+    public void setCacheFile(final File cacheFile) {
+        this.cacheFile = cacheFile;
+    }
+
+    public File getCacheFile() {
+        return cacheFile;
+    }
+
+    private List<CardRules> loadCardsInRangeFromCache(final List<CardScriptCache.Script> scripts, final int from, final int to) {
+        final CardRules.Reader rulesReader = new CardRules.Reader();
+
+        final List<CardRules> result = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            final CardScriptCache.Script script = scripts.get(i);
+            result.add(rulesReader.readCachedCard(script.getData(), script.name));
+        }
+        return result;
+    }
+
     private List<CardRules> loadCardsInRange(final List<File> files, final int from, final int to) {
         final CardRules.Reader rulesReader = new CardRules.Reader();
 
@@ -240,6 +267,27 @@ public class CardStorageReader {
         }
  
         final List<File> allFiles = collectCardFiles(new ArrayList<>(), this.cardsfolder);
+
+        long fingerprint = 0;
+        if (cacheFile != null) {
+            fingerprint = CardScriptCache.fingerprint(allFiles, this.cardsfolder, this.zip);
+            final List<CardScriptCache.Script> cached = CardScriptCache.read(cacheFile, fingerprint);
+            if (cached != null) {
+                final int parts = Math.max(1, Math.min(NUMBER_OF_PARTS, cached.size() / 100));
+                final CountDownLatch cdlCache = new CountDownLatch(parts);
+                final List<Callable<List<CardRules>>> taskCache = makeTaskListForCache(cached, cdlCache);
+                progressObserver.setOperationName(localizer.getMessage("splash.loading.cards-folders"), true);
+                progressObserver.report(0, taskCache.size());
+                final StopWatch sw = new StopWatch();
+                sw.start();
+                executeLoadTask(result, taskCache, cdlCache);
+                sw.stop();
+                System.out.printf("Read cards: %s cached scripts in %d ms (%d parts) %s%n", cached.size(), sw.getTime(), taskCache.size(), useThreadPool ? "using thread pool" : "in same thread");
+                return result;
+            }
+            scriptsToCache = new ConcurrentLinkedQueue<>();
+        }
+
         if (!allFiles.isEmpty()) {
             int fileParts = zip == null ? NUMBER_OF_PARTS : 1 + NUMBER_OF_PARTS / 3;
             if (allFiles.size() < fileParts * 100) {
@@ -271,6 +319,11 @@ public class CardStorageReader {
             System.out.printf("Read cards: %s archived files in %d ms (%d parts) %s%n", this.zip.size(), timeOnParse, taskZip.size(), useThreadPool ? "using thread pool" : "in same thread");
         }
 
+        if (scriptsToCache != null) {
+            CardScriptCache.write(cacheFile, fingerprint, scriptsToCache);
+            scriptsToCache = null;
+        }
+
         return result;
     }
 
@@ -292,9 +345,8 @@ public class CardStorageReader {
     private void executeLoadTask(final Collection<CardRules> result, final List<Callable<List<CardRules>>> tasks, final CountDownLatch cdl) {
         try {
             if (useThreadPool) {
-                final ExecutorService executor = ThreadUtil.getComputingPool(0.5f);
+                final ExecutorService executor = ThreadUtil.getComputingPool();
                 final List<Future<List<CardRules>>> parts = executor.invokeAll(tasks);
-                executor.shutdown();
                 cdl.await();
                 for (final Future<List<CardRules>> pp : parts) {
                     result.addAll(pp.get());
@@ -329,6 +381,24 @@ public class CardStorageReader {
         return tasks;
     }
 
+    private List<Callable<List<CardRules>>> makeTaskListForCache(final List<CardScriptCache.Script> scripts, final CountDownLatch cdl) {
+        final int totalScripts = scripts.size();
+        final int maxParts = (int) cdl.getCount();
+        final int scriptsPerPart = totalScripts / maxParts;
+        final List<Callable<List<CardRules>>> tasks = new ArrayList<>();
+        for (int iPart = 0; iPart < maxParts; iPart++) {
+            final int from = iPart * scriptsPerPart;
+            final int till = iPart == maxParts - 1 ? totalScripts : from + scriptsPerPart;
+            tasks.add(() -> {
+                final List<CardRules> res = loadCardsInRangeFromCache(scripts, from, till);
+                cdl.countDown();
+                progressObserver.report(maxParts - (int)cdl.getCount(), maxParts);
+                return res;
+            });
+        }
+        return tasks;
+    }
+
     private List<Callable<List<CardRules>>> makeTaskListForFiles(final List<File> allFiles, final CountDownLatch cdl) {
         final int totalFiles = allFiles.size();
         final int maxParts = (int) cdl.getCount();
@@ -376,6 +446,19 @@ public class CardStorageReader {
         return FileUtil.readAllLines(new InputStreamReader(inputStream, this.charset), true);
     }
 
+    private CardRules readCard(final CardRules.Reader reader, final List<String> lines, final String name) throws IOException {
+        if (scriptsToCache == null) {
+            return reader.readCard(lines, name);
+        }
+        final ByteArrayOutputStream parsed = new ByteArrayOutputStream();
+        final CardRules rules;
+        try (DataOutputStream out = new DataOutputStream(parsed)) {
+            rules = reader.readCard(lines, name, out);
+        }
+        scriptsToCache.add(new CardScriptCache.Script(name, parsed.toByteArray()));
+        return rules;
+    }
+
     /**
      * Load a card from a txt file.
      *
@@ -385,7 +468,8 @@ public class CardStorageReader {
         try (InputStream fileInputStream = java.nio.file.Files.newInputStream(file.toPath())) {
             reader.reset();
             final List<String> lines = readScript(fileInputStream);
-            return reader.readCard(lines, Files.getNameWithoutExtension(file.getName()));
+            final String name = Files.getNameWithoutExtension(file.getName());
+            return readCard(reader, lines, name);
         } catch (final FileNotFoundException ex) {
             throw new RuntimeException("CardReader : run error -- file not found: " + file.getPath(), ex);
         } catch (final Exception ex) {
@@ -404,7 +488,9 @@ public class CardStorageReader {
     protected final CardRules loadCard(final CardRules.Reader rulesReader, final ZipEntry entry) {
         try (InputStream zipInputStream = this.zip.getInputStream(entry)) {
             rulesReader.reset();
-            return rulesReader.readCard(readScript(zipInputStream), Files.getNameWithoutExtension(entry.getName()));
+            final List<String> lines = readScript(zipInputStream);
+            final String name = Files.getNameWithoutExtension(entry.getName());
+            return readCard(rulesReader, lines, name);
         } catch (final IOException exn) {
             throw new RuntimeException(exn);
         }
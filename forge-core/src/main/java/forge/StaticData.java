@@ -74,7 +74,12 @@ public class StaticData {
     public StaticData(CardStorageReader cardReader, CardStorageReader tokenReader, CardStorageReader customCardReader, CardStorageReader customTokenReader, String editionFolder, String customEditionsFolder, String blockDataFolder, String setLookupFolder, String cardArtPreference, boolean enableUnknownCards, boolean loadNonLegalCards, boolean allowCustomCardsInDecksConformance, boolean enableSmartCardArtSelection) {
         this.cardReader = cardReader;
         this.tokenReader = tokenReader;
-        this.editions = new CardEdition.Collection(new CardEdition.Reader(new File(editionFolder)));
+        final CardEdition.Reader editionReader = new CardEdition.Reader(new File(editionFolder));
+        if (cardReader != null && cardReader.getCacheFile() != null) {
+            // cache the edition files next to the card scripts
+            editionReader.setCacheFile(new File(cardReader.getCacheFile().getAbsoluteFile().getParentFile(), "editionscripts.bin"));
+        }
+        this.editions = new CardEdition.Collection(editionReader);
         this.blockDataFolder = blockDataFolder;
         this.customCardReader = customCardReader;
         this.allowCustomCardsInDecksConformance = allowCustomCardsInDecksConformance;
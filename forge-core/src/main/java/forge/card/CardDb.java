@@ -61,6 +61,8 @@ public final class CardDb implements ICardDatabase, IDeckGenPool {
 
     private Map<String, Boolean> nonLegendaryCreatureNames = Maps.newHashMap();
 
+    private volatile CardSearchIndex searchIndex;
+
     public enum CardArtPreference {
         LATEST_ART_ALL_EDITIONS(false, true),
         LATEST_ART_CORE_EXPANSIONS_REPRINT_ONLY(true, true),
@@ -511,6 +513,23 @@ public final class CardDb implements ICardDatabase, IDeckGenPool {
         }
     }
 
+    /**
+     * @return the index used to filter the cards of this database, built the first time it is needed
+     */
+    public CardSearchIndex getSearchIndex() {
+        CardSearchIndex result = searchIndex;
+        if (result == null) {
+            synchronized (this) {
+                result = searchIndex;
+                if (result == null) {
+                    result = new CardSearchIndex(new ArrayList<>(rulesByName.values()));
+                    searchIndex = result;
+                }
+            }
+        }
+        return result;
+    }
+
     public CardArtPreference getCardArtPreference(){ return this.defaultCardArtPreference; }
     public void setCardArtPreference(boolean latestArt, boolean coreExpansionOnly){
         if (coreExpansionOnly){
@@ -1193,6 +1212,9 @@ public final class CardDb implements ICardDatabase, IDeckGenPool {
             // works similarly to Map<K,V>, returning prev. value
             String cardName = rules.getName();
 
+            // the indexed text of the card changes
+            searchIndex = null;
+
             CardRules result = rulesByName.get(cardName);
             if (result != null && result.getName().equals(cardName)) { // change properties only
                 result.reinitializeFromRules(rules);
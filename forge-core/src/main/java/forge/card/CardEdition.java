@@ -19,6 +19,7 @@ package forge.card;
 
 import com.google.common.base.Predicate;
 import com.google.common.collect.*;
+import forge.CardScriptCache;
 import forge.StaticData;
 import forge.card.CardDb.CardArtPreference;
 import forge.deck.CardPool;
@@ -549,6 +550,61 @@ public final class CardEdition implements Comparable<CardEdition> {
             this.isCustomEditions = isCustomEditions;
         }
 
+        private File cacheFile;
+        // lines of the edition files by file name, while reading with a cache
+        private Map<String, List<String>> cachedLines;
+        private List<CardScriptCache.Script> linesToCache;
+
+        /**
+         * Keep the lines of the edition files in a binary cache file and read them from there on
+         * the next start, as long as the files didn't change.
+         */
+        public void setCacheFile(File cacheFile) {
+            this.cacheFile = cacheFile;
+        }
+
+        @Override
+        public Map<String, CardEdition> readAll() {
+            if (cacheFile == null) {
+                return super.readAll();
+            }
+            final File[] files = directory.listFiles(getFileFilter());
+            final long fingerprint = CardScriptCache.fingerprint(files == null ? Collections.emptyList() : Arrays.asList(files), directory, null);
+            final List<CardScriptCache.Script> cached = CardScriptCache.read(cacheFile, fingerprint);
+            if (cached != null) {
+                cachedLines = new HashMap<>();
+                for (CardScriptCache.Script script : cached) {
+                    cachedLines.put(script.name, script.readLines());
+                }
+            } else {
+                linesToCache = new ArrayList<>();
+            }
+            try {
+                final Map<String, CardEdition> result = super.readAll();
+                if (linesToCache != null) {
+                    CardScriptCache.write(cacheFile, fingerprint, linesToCache);
+                }
+                return result;
+            } finally {
+                cachedLines = null;
+                linesToCache = null;
+            }
+        }
+
+        private List<String> readLines(File file) {
+            if (cachedLines != null) {
+                final List<String> lines = cachedLines.get(file.getName());
+                if (lines != null) {
+                    return lines;
+                }
+            }
+            final List<String> lines = FileUtil.readFile(file);
+            if (linesToCache != null) {
+                linesToCache.add(CardScriptCache.Script.ofLines(file.getName(), lines));
+            }
+            return lines;
+        }
+
         protected Map<String, CardEdition> createMap() {
             // Create our own map to make it case-insensitive for set codes.
             return new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
@@ -556,7 +612,7 @@ public final class CardEdition implements Comparable<CardEdition> {
 
         @Override
         protected CardEdition read(File file) {
-            final Map<String, List<String>> contents = FileSection.parseSections(FileUtil.readFile(file));
+            final Map<String, List<String>> contents = FileSection.parseSections(readLines(file));
 
             final Pattern pattern = Pattern.compile(
             /*
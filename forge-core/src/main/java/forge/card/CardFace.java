@@ -1,11 +1,17 @@
 package forge.card;
 
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 
+import com.google.common.collect.Lists;
+
+import forge.CardScriptCache;
 import forge.card.mana.ManaCost;
 
 //
@@ -234,6 +240,129 @@ final class CardFace implements ICardFace, Cloneable {
     }
 
 
+    /**
+     * Write the fields as set by the parser, before {@link #assignMissingFields()}.
+     * @see #read(ByteBuffer)
+     */
+    static void write(final DataOutput out, final CardFace face) throws IOException {
+        out.writeBoolean(face != null);
+        if (face == null) {
+            return;
+        }
+        CardScriptCache.writeString(out, face.name);
+        CardScriptCache.writeString(out, face.altName);
+        CardScriptCache.writeStrings(out, face.type == null ? null : Lists.newArrayList(face.type));
+        if (face.manaCost == null) {
+            out.writeByte(0);
+        } else if (face.manaCost == ManaCost.NO_COST) {
+            out.writeByte(1);
+        } else {
+            out.writeByte(2);
+            CardScriptCache.writeString(out, ManaCost.serialize(face.manaCost));
+        }
+        out.writeShort(face.color == null ? -1 : face.color.getColor());
+        CardScriptCache.writeString(out, face.oracleText);
+        CardScriptCache.writeString(out, face.power);
+        CardScriptCache.writeString(out, face.toughness);
+        out.writeInt(face.iPower);
+        out.writeInt(face.iToughness);
+        CardScriptCache.writeString(out, face.initialLoyalty);
+        CardScriptCache.writeString(out, face.defense);
+        if (face.attractionLights == null) {
+            out.writeInt(-1);
+        } else {
+            out.writeInt(face.attractionLights.size());
+            for (final int light : face.attractionLights) {
+                out.writeInt(light);
+            }
+        }
+        CardScriptCache.writeString(out, face.nonAbilityText);
+        CardScriptCache.writeStrings(out, face.keywords);
+        CardScriptCache.writeStrings(out, face.abilities);
+        CardScriptCache.writeStrings(out, face.staticAbilities);
+        CardScriptCache.writeStrings(out, face.triggers);
+        CardScriptCache.writeStrings(out, face.draftActions);
+        CardScriptCache.writeStrings(out, face.replacements);
+        if (face.variables == null) {
+            out.writeInt(-1);
+        } else {
+            out.writeInt(face.variables.size());
+            for (final Entry<String, String> e : face.variables.entrySet()) {
+                CardScriptCache.writeString(out, e.getKey());
+                CardScriptCache.writeString(out, e.getValue());
+            }
+        }
+        if (face.functionalVariants == null) {
+            out.writeInt(-1);
+        } else {
+            out.writeInt(face.functionalVariants.size());
+            for (final Entry<String, CardFace> e : face.functionalVariants.entrySet()) {
+                CardScriptCache.writeString(out, e.getKey());
+                write(out, e.getValue());
+            }
+        }
+    }
+
+    /**
+     * Read a face written by {@link #write}, the same as the parser had left it.
+     */
+    static CardFace read(final ByteBuffer in) {
+        if (in.get() == 0) {
+            return null;
+        }
+        final CardFace face = new CardFace(CardScriptCache.readString(in));
+        face.altName = CardScriptCache.readString(in);
+        final List<String> types = CardScriptCache.readStrings(in);
+        if (types != null) {
+            // add one by one like CardType.parse, without tidying up the subtypes
+            face.type = new CardType(false);
+            for (final String t : types) {
+                face.type.add(t);
+            }
+        }
+        switch (in.get()) {
+            case 1: face.manaCost = ManaCost.NO_COST; break;
+            case 2: face.manaCost = ManaCost.deserialize(CardScriptCache.readString(in)); break;
+            default: break;
+        }
+        final short color = in.getShort();
+        face.color = color < 0 ? null : ColorSet.fromMask(color);
+        face.oracleText = CardScriptCache.readString(in);
+        face.power = CardScriptCache.readString(in);
+        face.toughness = CardScriptCache.readString(in);
+        face.iPower = in.getInt();
+        face.iToughness = in.getInt();
+        face.initialLoyalty = CardScriptCache.readString(in);
+        face.defense = CardScriptCache.readString(in);
+        final int lights = in.getInt();
+        if (lights >= 0) {
+            face.attractionLights = new HashSet<>();
+            for (int i = 0; i < lights; i++) {
+                face.attractionLights.add(in.getInt());
+            }
+        }
+        face.nonAbilityText = CardScriptCache.readString(in);
+        face.keywords = CardScriptCache.readStrings(in);
+        face.abilities = CardScriptCache.readStrings(in);
+        face.staticAbilities = CardScriptCache.readStrings(in);
+        face.triggers = CardScriptCache.readStrings(in);
+        face.draftActions = CardScriptCache.readStrings(in);
+        face.replacements = CardScriptCache.readStrings(in);
+        final int variables = in.getInt();
+        for (int i = 0; i < variables; i++) {
+            face.addSVar(CardScriptCache.readString(in), CardScriptCache.readString(in));
+        }
+        final int variants = in.getInt();
+        if (variants >= 0) {
+            face.functionalVariants = new HashMap<>();
+            for (int i = 0; i < variants; i++) {
+                final String variant = CardScriptCache.readString(in);
+                face.functionalVariants.put(variant, read(in));
+            }
+        }
+        return face;
+    }
+
     @Override
     public String toString() {
         return getName();
@@ -17,6 +17,9 @@
  */
 package forge.card;
 
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.*;
 
 import com.google.common.collect.Lists;
@@ -25,6 +28,7 @@ import org.apache.commons.lang3.StringUtils;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Maps;
 
+import forge.CardScriptCache;
 import forge.card.mana.IParserManaCost;
 import forge.card.mana.ManaCost;
 import forge.card.mana.ManaCostShard;
@@ -458,9 +462,9 @@ public final class CardRules implements ICardCharacteristics {
         private boolean removedFromAIDecks = false;
         private boolean removedFromRandomDecks = false;
         private boolean removedFromNonCommanderDecks = false;
-        private DeckHints hints = null;
-        private DeckHints needs = null;
-        private DeckHints has = null;
+        private String hints = null;
+        private String needs = null;
+        private String has = null;
 
         /**
          * Reset all fields to parse next card (to avoid allocating new CardRulesReader N times)
@@ -498,7 +502,8 @@ public final class CardRules implements ICardCharacteristics {
          * @return the card
          */
         public final CardRules getCard() {
-            CardAiHints cah = new CardAiHints(removedFromAIDecks, removedFromRandomDecks, removedFromNonCommanderDecks, hints, needs, has);
+            CardAiHints cah = new CardAiHints(removedFromAIDecks, removedFromRandomDecks, removedFromNonCommanderDecks,
+                    hints == null ? null : new DeckHints(hints), needs == null ? null : new DeckHints(needs), has == null ? null : new DeckHints(has));
             faces[0].assignMissingFields();
             if (null != faces[1]) faces[1].assignMissingFields();
             if (null != faces[2]) faces[2].assignMissingFields();
@@ -522,6 +527,47 @@ public final class CardRules implements ICardCharacteristics {
         }
 
         public final CardRules readCard(final Iterable<String> script, String filename) {
+            this.parseScript(script, filename);
+            return this.getCard();
+        }
+
+        /**
+         * Like {@link #readCard(Iterable, String)}, and also writes the parsed fields to out,
+         * to be read by {@link #readCachedCard} instead of parsing the script again.
+         */
+        public final CardRules readCard(final Iterable<String> script, String filename, DataOutput out) throws IOException {
+            this.parseScript(script, filename);
+            this.writeParsed(out);
+            return this.getCard();
+        }
+
+        /**
+         * Builds the card from fields written by {@link #readCard(Iterable, String, DataOutput)}.
+         */
+        public final CardRules readCachedCard(final ByteBuffer in, String filename) {
+            this.reset();
+            this.altMode = CardSplitType.values()[in.get()];
+            this.meldWith = CardScriptCache.readString(in);
+            this.partnerWith = CardScriptCache.readString(in);
+            this.addsWildCardColor = in.get() != 0;
+            this.handLife = CardScriptCache.readString(in);
+            final List<String> variants = CardScriptCache.readStrings(in);
+            this.supportedFunctionalVariants = variants == null ? null : new HashSet<>(variants);
+            this.tokens = CardScriptCache.readStrings(in);
+            this.removedFromAIDecks = in.get() != 0;
+            this.removedFromRandomDecks = in.get() != 0;
+            this.removedFromNonCommanderDecks = in.get() != 0;
+            this.hints = CardScriptCache.readString(in);
+            this.needs = CardScriptCache.readString(in);
+            this.has = CardScriptCache.readString(in);
+            for (int i = 0; i < faces.length; i++) {
+                this.faces[i] = CardFace.read(in);
+            }
+            this.normalizedName = filename;
+            return this.getCard();
+        }
+
+        private void parseScript(final Iterable<String> script, String filename) {
             this.reset();
             for (String line : script) {
                 if (line.isEmpty() || line.charAt(0) == '#') {
@@ -530,7 +576,25 @@ public final class CardRules implements ICardCharacteristics {
                 this.parseLine(line, this.faces[curFace]);
             }
             this.normalizedName = filename;
-            return this.getCard();
+        }
+
+        private void writeParsed(final DataOutput out) throws IOException {
+            out.writeByte(this.altMode.ordinal());
+            CardScriptCache.writeString(out, this.meldWith);
+            CardScriptCache.writeString(out, this.partnerWith);
+            out.writeBoolean(this.addsWildCardColor);
+            CardScriptCache.writeString(out, this.handLife);
+            CardScriptCache.writeStrings(out, this.supportedFunctionalVariants);
+            CardScriptCache.writeStrings(out, this.tokens);
+            out.writeBoolean(this.removedFromAIDecks);
+            out.writeBoolean(this.removedFromRandomDecks);
+            out.writeBoolean(this.removedFromNonCommanderDecks);
+            CardScriptCache.writeString(out, this.hints);
+            CardScriptCache.writeString(out, this.needs);
+            CardScriptCache.writeString(out, this.has);
+            for (final CardFace face : this.faces) {
+                CardFace.write(out, face);
+            }
         }
 
         public final CardRules readCard(final Iterable<String> script) {
@@ -595,11 +659,11 @@ public final class CardRules implements ICardCharacteristics {
 
                 case 'D':
                     if ("DeckHints".equals(key)) {
-                        hints = new DeckHints(value);
+                        hints = value;
                     } else if ("DeckNeeds".equals(key)) {
-                        needs = new DeckHints(value);
+                        needs = value;
                     } else if ("DeckHas".equals(key)) {
-                        has = new DeckHints(value);
+                        has = value;
                     } else if ("Defense".equals(key)) {
                         face.setDefense(value);
                     } else if ("Draft".equals(key)) {
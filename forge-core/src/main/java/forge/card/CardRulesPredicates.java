@@ -317,7 +317,7 @@ public final class CardRulesPredicates {
         return (rules) -> rules.canBePartnerCommanders(commander);
     }
 
-    private static class LeafString extends PredicateString<CardRules> {
+    static class LeafString extends PredicateString<CardRules> {
         public enum CardField {
             ORACLE_TEXT, NAME, SUBTYPE, JOINED_TYPE, COST
         }
@@ -325,12 +325,49 @@ public final class CardRulesPredicates {
         private final String operand;
         private final LeafString.CardField field;
 
-        protected boolean checkName(String name) {
-            return op(name, this.operand)
-            || op(CardTranslation.getTranslatedName(name), this.operand)
-            || op(StringUtils.stripAccents(name), this.operand);
+        /**
+         * Pass each string a text field is searched in to the test, until it returns true.
+         * {@link CardSearchIndex} indexes the same strings, so both always agree.
+         */
+        static boolean anyText(final CardRules card, final CardField field, final java.util.function.Predicate<String> test) {
+            switch (field) {
+            case NAME:
+                for (ICardFace face : card.getAllFaces()) {
+                    if (face != null && anyName(face.getName(), test)) {
+                        return true;
+                    }
+                }
+                return false;
+            case ORACLE_TEXT:
+                for (ICardFace face : card.getAllFaces()) {
+                    if (anyOracle(face, test)) {
+                        return true;
+                    }
+                }
+                return false;
+            case JOINED_TYPE:
+                if (test.test(CardTranslation.getTranslatedType(card.getName(), card.getType().toString())) || test.test(card.getType().toString())) {
+                    return true;
+                }
+                for (ICardFace face : card.getAllFaces()) {
+                    if (anyType(face, test)) {
+                        return true;
+                    }
+                }
+                return false;
+            case COST:
+                return test.test(card.getManaCost().toString());
+            default:
+                return false;
+            }
+        }
+
+        private static boolean anyName(String name, final java.util.function.Predicate<String> test) {
+            return test.test(name)
+            || test.test(CardTranslation.getTranslatedName(name))
+            || test.test(StringUtils.stripAccents(name));
         }
-        protected boolean checkOracle(ICardFace face) {
+        private static boolean anyOracle(ICardFace face, final java.util.function.Predicate<String> test) {
             if (face == null) {
                 return false;
             }
@@ -338,73 +375,42 @@ public final class CardRulesPredicates {
                 for (Map.Entry<String, ? extends ICardFace> v : face.getFunctionalVariants().entrySet()) {
                     //Not a very pretty implementation, but an ICardFace doesn't have a specific variant, so they all need to be checked.
                     String origOracle = v.getValue().getOracleText();
-                    if(op(origOracle, operand))
+                    if(test.test(origOracle))
                         return true;
                     String name = v.getValue().getName() + " $" + v.getKey();
-                    if(op(CardTranslation.getTranslatedOracle(name), operand))
+                    if(test.test(CardTranslation.getTranslatedOracle(name)))
                         return true;
                 }
             }
-            if (op(face.getOracleText(), operand) || op(CardTranslation.getTranslatedOracle(face.getName()), operand)) {
+            if (test.test(face.getOracleText()) || test.test(CardTranslation.getTranslatedOracle(face.getName()))) {
                 return true;
             }
             return false;
         }
-        protected boolean checkType(ICardFace face) {
+        private static boolean anyType(ICardFace face, final java.util.function.Predicate<String> test) {
             if (face == null) {
                 return false;
             }
             if (face.hasFunctionalVariants()) {
                 for (Map.Entry<String, ? extends ICardFace> v : face.getFunctionalVariants().entrySet()) {
                     String origType = v.getValue().getType().toString();
-                    if(op(origType, operand))
+                    if(test.test(origType))
                         return true;
                     String name = v.getValue().getName() + " $" + v.getKey();
-                    if(op(CardTranslation.getTranslatedType(name, origType), operand))
+                    if(test.test(CardTranslation.getTranslatedType(name, origType)))
                         return true;
                 }
             }
-            return (op(CardTranslation.getTranslatedType(face.getName(), face.getType().toString()), operand) || op(face.getType().toString(), operand));
+            return (test.test(CardTranslation.getTranslatedType(face.getName(), face.getType().toString())) || test.test(face.getType().toString()));
         }
 
         @Override
         public boolean apply(final CardRules card) {
-            boolean shouldContain;
-            switch (this.field) {
-            case NAME:
-                for (ICardFace face : card.getAllFaces()) {
-                    if (face != null && checkName(face.getName())) {
-                        return true;
-                    }
-                }
-                return false;
-            case SUBTYPE:
-                shouldContain = (this.getOperator() == StringOp.CONTAINS) || (this.getOperator() == StringOp.EQUALS);
+            if (this.field == CardField.SUBTYPE) {
+                boolean shouldContain = (this.getOperator() == StringOp.CONTAINS) || (this.getOperator() == StringOp.EQUALS);
                 return shouldContain == card.getType().hasSubtype(this.operand);
-            case ORACLE_TEXT:
-                for (ICardFace face : card.getAllFaces()) {
-                    if (checkOracle(face)) {
-                        return true;
-                    }
-                }
-                return false;
-            case JOINED_TYPE:
-                if ((op(CardTranslation.getTranslatedType(card.getName(), card.getType().toString()), operand) || op(card.getType().toString(), operand))) {
-                    return true;
-                }
-                for (ICardFace face : card.getAllFaces()) {
-                    if (checkType(face)) {
-                        return true;
-                    }
-                }
-
-                return false;
-            case COST:
-                final String cost = card.getManaCost().toString();
-                return op(cost, operand);
-            default:
-                return false;
             }
+            return anyText(card, this.field, s -> op(s, operand));
         }
 
         public LeafString(final LeafString.CardField field, final StringOp operator, final String operand) {
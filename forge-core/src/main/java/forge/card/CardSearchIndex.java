@@ -0,0 +1,196 @@
+package forge.card;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.google.common.base.Predicate;
+import com.google.common.base.Predicates;
+
+import forge.card.CardRulesPredicates.LeafString.CardField;
+import forge.util.PredicateString.StringOp;
+
+/**
+ * Index over the card rules of a {@link CardDb}, so that filtering a large card pool in the item manager
+ * doesn't run every predicate against every card on each key stroke.
+ *
+ * Each rules gets a number, and the index keeps the words of the searchable text fields with the set of
+ * rules they occur in. A text search only checks the rules that have all of its words in one of the
+ * fields, and checks them with the same predicates as before, so the result is exactly the same.
+ *
+ * Other filters that only depend on the rules can be turned into cached columns, which remember the
+ * result for each rules the first time it is asked for.
+ */
+public final class CardSearchIndex {
+    private static final CardField[] TEXT_FIELDS = { CardField.NAME, CardField.JOINED_TYPE, CardField.ORACLE_TEXT, CardField.COST };
+    private static final int MAX_COLUMNS = 64;
+
+    private final Map<CardRules, Integer> ids = new IdentityHashMap<>();
+    private final Map<CardField, Map<String, BitSet>> words = new EnumMap<>(CardField.class);
+    private final Map<Object, Column<?>> columns = new LinkedHashMap<Object, Column<?>>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Object, Column<?>> eldest) {
+            return size() > MAX_COLUMNS;
+        }
+    };
+
+    CardSearchIndex(final Collection<CardRules> allRules) {
+        for (final CardField field : TEXT_FIELDS) {
+            words.put(field, new HashMap<>());
+        }
+        for (final CardRules rules : allRules) {
+            if (ids.containsKey(rules)) {
+                continue;
+            }
+            final int id = ids.size();
+            ids.put(rules, id);
+            for (final CardField field : TEXT_FIELDS) {
+                final Map<String, BitSet> fieldWords = words.get(field);
+                CardRulesPredicates.LeafString.anyText(rules, field, s -> {
+                    addWords(fieldWords, s, id);
+                    return false;
+                });
+            }
+        }
+    }
+
+    private static void addWords(final Map<String, BitSet> fieldWords, final String text, final int id) {
+        if (text == null) {
+            return;
+        }
+        final int length = text.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            final boolean separator = i == length || Character.isWhitespace(text.charAt(i));
+            if (separator) {
+                if (start >= 0) {
+                    fieldWords.computeIfAbsent(normalize(text, start, i), k -> new BitSet()).set(id);
+                    start = -1;
+                }
+            } else if (start < 0) {
+                start = i;
+            }
+        }
+    }
+
+    // fold the case the same way StringUtils.containsIgnoreCase compares characters
+    private static String normalize(final String text, final int start, final int end) {
+        final char[] chars = new char[end - start];
+        for (int i = start; i < end; i++) {
+            chars[i - start] = Character.toLowerCase(Character.toUpperCase(text.charAt(i)));
+        }
+        return new String(chars);
+    }
+
+    private static List<String> splitWords(final String text) {
+        final Map<String, BitSet> found = new LinkedHashMap<>();
+        addWords(found, text, 0);
+        return new ArrayList<>(found.keySet());
+    }
+
+    /**
+     * @return the same as an OR of {@link CardRulesPredicates#name}, {@link CardRulesPredicates#joinedType},
+     * {@link CardRulesPredicates#rules} and {@link CardRulesPredicates#cost} containing the text ignoring case,
+     * for the fields that are searched
+     */
+    public Predicate<CardRules> containsText(final String text, final boolean inName, final boolean inType, final boolean inText, final boolean inCost) {
+        final List<Predicate<CardRules>> exact = new ArrayList<>();
+        final List<CardField> fields = new ArrayList<>();
+        if (inName) { exact.add(CardRulesPredicates.name(StringOp.CONTAINS_IC, text));       fields.add(CardField.NAME); }
+        if (inType) { exact.add(CardRulesPredicates.joinedType(StringOp.CONTAINS_IC, text)); fields.add(CardField.JOINED_TYPE); }
+        if (inText) { exact.add(CardRulesPredicates.rules(StringOp.CONTAINS_IC, text));      fields.add(CardField.ORACLE_TEXT); }
+        if (inCost) { exact.add(CardRulesPredicates.cost(StringOp.CONTAINS_IC, text));       fields.add(CardField.COST); }
+        final Predicate<CardRules> check = Predicates.or(exact);
+
+        final List<String> parts = splitWords(text);
+        if (parts.isEmpty()) {
+            return check;
+        }
+        final BitSet candidates = new BitSet();
+        for (final CardField field : fields) {
+            candidates.or(candidates(words.get(field), parts));
+        }
+        return rules -> {
+            final Integer id = ids.get(rules);
+            if (id == null) {
+                // not known when the index was built, like cards loaded later on
+                return check.apply(rules);
+            }
+            return candidates.get(id) && check.apply(rules);
+        };
+    }
+
+    // the rules that have each part of the text within a word of the field
+    private static BitSet candidates(final Map<String, BitSet> fieldWords, final List<String> parts) {
+        BitSet result = null;
+        for (final String part : parts) {
+            final BitSet withPart = new BitSet();
+            for (final Map.Entry<String, BitSet> word : fieldWords.entrySet()) {
+                if (word.getKey().contains(part)) {
+                    withPart.or(word.getValue());
+                }
+            }
+            if (result == null) {
+                result = withPart;
+            } else {
+                result.and(withPart);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * A predicate that remembers the result of the given one for the rules of each item.
+     * The predicate must give the same result for all items with the same rules, and is shared
+     * by everyone asking with an equal key.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Predicate<T> cached(final Object key, final Function<? super T, CardRules> rulesOf, final Predicate<T> predicate) {
+        synchronized (columns) {
+            return (Predicate<T>) columns.computeIfAbsent(key, k -> new Column<>(rulesOf, predicate));
+        }
+    }
+
+    private final class Column<T> implements Predicate<T> {
+        private final Function<? super T, CardRules> rulesOf;
+        private final Predicate<T> predicate;
+        private final BitSet known = new BitSet();
+        private final BitSet values = new BitSet();
+
+        private Column(final Function<? super T, CardRules> rulesOf, final Predicate<T> predicate) {
+            this.rulesOf = rulesOf;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean apply(final T item) {
+            final Integer id = ids.get(rulesOf.apply(item));
+            if (id == null) {
+                return predicate.apply(item);
+            }
+            synchronized (this) {
+                if (known.get(id)) {
+                    return values.get(id);
+                }
+            }
+            final boolean value = predicate.apply(item);
+            synchronized (this) {
+                known.set(id);
+                values.set(id, value);
+            }
+            return value;
+        }
+    }
+}
@@ -116,6 +116,12 @@ public class DeckGroupSerializer extends StorageReaderFolder<DeckGroup> implemen
         return new File(directory, decks.getBestFileName());
     }
 
+    // each group is read from its own folder
+    @Override
+    protected boolean isReadInParallel() {
+        return true;
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -102,6 +102,12 @@ public class DeckStorage extends StorageReaderFolder<Deck> implements IItemSeria
         }
     }
 
+    // decks are only parsed here, their cards are looked up when the deck is first used
+    @Override
+    protected boolean isReadInParallel() {
+        return true;
+    }
+
     @Override
     protected FilenameFilter getFileFilter() {
         return DCK_FILE_FILTER;
@@ -1,40 +1,109 @@
 package forge.util;
 
+import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import com.google.common.collect.Maps;
+
+/**
+ * The thread pools shared by the whole application. Callers should submit their work to one of these
+ * instead of creating executors of their own, so threads are reused and can be monitored with
+ * {@link #getPoolStatistics()}.
+ * <ul>
+ * <li>game - runs games, threads are named "Game-N" (see {@link #isGameThread()})</li>
+ * <li>compute - CPU bound work like parsing cards, sized to the number of cores</li>
+ * <li>service - I/O like downloading images</li>
+ * <li>timeout - work that gets cancelled if it takes too long</li>
+ * <li>delayed - scheduled work</li>
+ * </ul>
+ */
 public class ThreadUtil {
     static {
         System.out.printf("(ThreadUtil first call): Running on a machine with %d cpu core(s)%n", Runtime.getRuntime().availableProcessors() );
     }
 
+    /** Set this system property to run games on virtual threads, when the JDK supports them. */
+    public static final String VIRTUAL_GAME_THREADS_PROPERTY = "forge.virtualGameThreads";
+
     private static class WorkerThreadFactory implements ThreadFactory {
-        private int countr = 0;
-        private String prefix = "";
+        private final AtomicInteger countr = new AtomicInteger();
+        private final String prefix;
+        private final boolean daemon;
 
         public WorkerThreadFactory(String prefix) {
+            this(prefix, false);
+        }
+
+        public WorkerThreadFactory(String prefix, boolean daemon) {
             this.prefix = prefix;
+            this.daemon = daemon;
         }
 
         public Thread newThread(Runnable r) {
-            return new Thread(r, prefix + "-" + countr++);
+            Thread t = new Thread(r, prefix + "-" + countr.getAndIncrement());
+            t.setDaemon(daemon);
+            return t;
         }
     }
 
-    private final static ExecutorService gameThreadPool = Executors.newCachedThreadPool(new WorkerThreadFactory("Game"));
+    private final static ExecutorService gameThreadPool = createGameThreadPool();
     private static ExecutorService getGameThreadPool() { return gameThreadPool; }
     private final static ScheduledExecutorService scheduledPool = Executors.newScheduledThreadPool(2, new WorkerThreadFactory("Delayed"));
     private static ScheduledExecutorService getScheduledPool() { return scheduledPool; }
 
-    // This pool is designed to parallel CPU or IO intensive tasks like parse cards or download images, assuming a load factor of 0.5
-    public final static ExecutorService getComputingPool(float loadFactor) {
-        return Executors.newFixedThreadPool((int)(Runtime.getRuntime().availableProcessors() / (1-loadFactor)));
+    // This pool is designed to parallel CPU intensive tasks like parsing cards, assuming a load factor of 0.5
+    private final static int COMPUTING_POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+    private final static ExecutorService computingPool = new ThreadPoolExecutor(COMPUTING_POOL_SIZE, COMPUTING_POOL_SIZE,
+            30L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), new WorkerThreadFactory("Compute", true));
+    static {
+        // don't keep idle threads around once the cards are loaded
+        ((ThreadPoolExecutor) computingPool).allowCoreThreadTimeOut(true);
+    }
+
+    // threads of tasks which ignore being interrupted stay busy, so this pool can't have an upper bound
+    private final static ExecutorService timeoutPool = new ThreadPoolExecutor(0, Integer.MAX_VALUE,
+            60L, TimeUnit.SECONDS, new SynchronousQueue<>(), new WorkerThreadFactory("Timeout", true));
+
+    /**
+     * Games run on virtual threads if asked for with {@link #VIRTUAL_GAME_THREADS_PROPERTY} and the JDK has them (21+).
+     * Looked up by reflection as Forge still builds for older releases.
+     */
+    private static ExecutorService createGameThreadPool() {
+        if (Boolean.getBoolean(VIRTUAL_GAME_THREADS_PROPERTY)) {
+            try {
+                Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+                Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+                builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, "Game-", 0L);
+                ThreadFactory factory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+                Method perTask = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+                return (ExecutorService) perTask.invoke(null, factory);
+            } catch (ReflectiveOperationException e) {
+                System.err.println("Virtual threads are not available on this JDK, using platform threads for games");
+            }
+        }
+        return Executors.newCachedThreadPool(new WorkerThreadFactory("Game"));
+    }
+
+    /**
+     * The shared pool for CPU intensive work. Don't shut it down.
+     */
+    public static ExecutorService getComputingPool() {
+        return computingPool;
     }
 
     public static boolean isMultiCoreSystem() {
@@ -53,6 +122,13 @@ public class ThreadUtil {
         return Thread.currentThread().getName().startsWith("Game");
     }
 
+    /**
+     * @return whether this is a thread of the computing pool, which must not wait for other work on the same pool
+     */
+    public static boolean isComputingThread() {
+        return Thread.currentThread().getName().startsWith("Compute");
+    }
+
     private static ExecutorService service = Executors.newWorkStealingPool();
     public static ExecutorService getServicePool() {
         return service;
@@ -75,11 +151,10 @@ public class ThreadUtil {
         return result;
     }
     public static <T> T executeWithTimeout(Callable<T> task, int milliseconds) {
-        ExecutorService executor = Executors.newCachedThreadPool();
-        Future<T> future = executor.submit(task);
+        Future<T> future = timeoutPool.submit(task);
         T result;
         try {
-            result = future.get(milliseconds, TimeUnit.MILLISECONDS); 
+            result = future.get(milliseconds, TimeUnit.MILLISECONDS);
         }
         catch (Exception e) { //handle timeout and other exceptions
             e.printStackTrace();
@@ -90,4 +165,57 @@ public class ThreadUtil {
         }
         return result;
     }
-}
\ No newline at end of file
+
+    /**
+     * Run the task on the timeout pool and wait for it. If it takes longer than the timeout it gets interrupted
+     * and a {@link TimeoutException} is thrown, exceptions thrown by the task are passed on.
+     */
+    public static <T> T runWithTimeout(Callable<T> task, long timeout, TimeUnit timeUnit) throws Exception {
+        final Future<T> future = timeoutPool.submit(task);
+        try {
+            return future.get(timeout, timeUnit);
+        }
+        catch (TimeoutException e) {
+            future.cancel(true);
+            throw e;
+        }
+        catch (ExecutionException e) {
+            //unwrap the root cause
+            Throwable t = e.getCause();
+            if (t instanceof Error) {
+                throw (Error) t;
+            } else if (t instanceof Exception) {
+                throw (Exception) t;
+            } else {
+                throw new IllegalStateException(t);
+            }
+        }
+    }
+
+    /**
+     * @return for each pool, how many threads it has and how busy they are
+     */
+    public static Map<String, String> getPoolStatistics() {
+        Map<String, String> stats = Maps.newLinkedHashMap();
+        stats.put("game", describe(gameThreadPool));
+        stats.put("compute", describe(computingPool));
+        stats.put("service", describe(service));
+        stats.put("timeout", describe(timeoutPool));
+        stats.put("delayed", describe(scheduledPool));
+        return stats;
+    }
+
+    private static String describe(ExecutorService pool) {
+        if (pool instanceof ThreadPoolExecutor) {
+            ThreadPoolExecutor tpe = (ThreadPoolExecutor) pool;
+            return String.format("%d active, %d threads (largest %d), %d queued, %d completed",
+                    tpe.getActiveCount(), tpe.getPoolSize(), tpe.getLargestPoolSize(), tpe.getQueue().size(), tpe.getCompletedTaskCount());
+        }
+        if (pool instanceof ForkJoinPool) {
+            ForkJoinPool fjp = (ForkJoinPool) pool;
+            return String.format("%d active, %d threads, %d queued, %d steals",
+                    fjp.getActiveThreadCount(), fjp.getPoolSize(), fjp.getQueuedSubmissionCount() + fjp.getQueuedTaskCount(), fjp.getStealCount());
+        }
+        return "virtual threads";
+    }
+}
@@ -1,15 +1,20 @@
 package forge.util.collect;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.AbstractSet;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -19,36 +24,71 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Ordering;
-import com.google.common.collect.Sets;
 
 /**
  * Collection with unique elements ({@link Set}) that maintains the order in
  * which the elements are added to it ({@link List}).
  *
+ * The elements are kept in insertion order in a plain array. Small
+ * collections, which are by far the most common, answer membership queries
+ * by scanning that array; once a collection grows past
+ * {@link #INDEX_THRESHOLD} elements an open-addressing hash index (using the
+ * elements' {@link Object#equals(Object)} and {@link Object#hashCode()}) is
+ * built on the side so lookups stay constant time.
+ *
  * This object is serializable if all elements it contains are.
  *
  * @param <T> the type of the elements this collection contains.
  * @see FCollectionView
  */
-public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>, Cloneable, Serializable {
-    private static final long serialVersionUID = -1664555336364294106L;
+public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>, RandomAccess, Cloneable, Serializable {
+    private static final long serialVersionUID = 4318072640351766262L;
 
     private static final FCollection<?> EMPTY = new EmptyFCollection<>();
 
+    /**
+     * Collections with at most this many elements are not indexed, a linear
+     * scan being cheaper than hashing at that size.
+     */
+    private static final int INDEX_THRESHOLD = 8;
+
+    /**
+     * Stand-in for {@code null} in the index, where {@code null} marks a free slot.
+     */
+    private static final Object NULL_KEY = new Object();
+
     @SuppressWarnings("unchecked")
     public static <T> FCollection<T> getEmpty() {
         return (FCollection<T>) EMPTY;
     }
 
     /**
-     * The {@link Set} representation of this collection.
+     * The elements of this collection, in order, in the first {@link #size} slots.
+     */
+    private Object[] elements = ArrayUtils.EMPTY_OBJECT_ARRAY;
+    private int size;
+
+    /**
+     * Open-addressing (linear probing) hash table of the elements, or
+     * {@code null} while the collection is small. Rebuilt on demand after
+     * deserialization.
      */
-    private final Set<T> set = Sets.newHashSet();
+    private transient Object[] index;
 
     /**
-     * The {@link List} representation of this collection.
+     * Whether {@link #set} put an element into the array that was already in
+     * it, which happens halfway through a swap. The index holds that element
+     * once, it is only taken out of the index when the second copy is replaced too.
      */
-    private final LinkedList<T> list = Lists.newLinkedList();
+    private transient boolean hasDuplicate;
+    private transient Object duplicate;
+
+    /**
+     * Number of structural modifications, to make iterators fail fast.
+     */
+    private transient int modCount;
+
+    private transient Set<T> setView;
 
     /**
      * Create an empty {@link FCollection}.
@@ -139,7 +179,12 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
      */
     @Override
     public int hashCode() {
-        return list.hashCode();
+        int hashCode = 1;
+        for (int i = 0; i < size; i++) {
+            final Object e = elements[i];
+            hashCode = 31 * hashCode + (e == null ? 0 : e.hashCode());
+        }
+        return hashCode;
     }
 
     /**
@@ -149,7 +194,15 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
      */
     @Override
     public String toString() {
-        return list.toString();
+        final StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            final Object e = elements[i];
+            sb.append(e == this ? "(this Collection)" : String.valueOf(e));
+        }
+        return sb.append(']').toString();
     }
 
     /**
@@ -158,7 +211,9 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
      */
     @Override
     public final FCollection<T> clone() {
-        return new FCollection<>(list);
+        final FCollection<T> copy = new FCollection<>();
+        copy.copyFrom(this);
+        return copy;
     }
 
     /**
@@ -169,7 +224,10 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
      */
     @Override
     public T getFirst() {
-        return list.getFirst();
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return elementAt(0);
     }
 
     /**
@@ -180,7 +238,10 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
      */
     @Override
     public T getLast() {
-        return list.getLast();
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return elementAt(size - 1);
     }
 
     /**
@@ -188,7 +249,7 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
      */
     @Override
     public int size() {
-        return set.size();
+        return size;
     }
 
     /**
@@ -196,11 +257,18 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
      */
     @Override
     public boolean isEmpty() {
-        return set.isEmpty();
+        return size == 0;
     }
-    
+
+    /**
+     * Get a {@link Set} view of this collection. Removing elements through
+     * the view removes them from this collection.
+     */
     public Set<T> asSet() {
-        return set;
+        if (setView == null) {
+            setView = new SetView();
+        }
+        return setView;
     }
 
     /**
@@ -211,7 +279,10 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
      */
     @Override
     public boolean contains(final Object o) {
-        return set.contains(o);
+        if (index != null) {
+            return findSlot(o) >= 0;
+        }
+        return scan(o) >= 0;
     }
 
     /**
@@ -219,7 +290,7 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
      */
     @Override
     public Iterator<T> iterator() {
-        return list.iterator();
+        return new Itr(0);
     }
 
     /**
@@ -227,16 +298,23 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
      */
     @Override
     public Object[] toArray() {
-        return list.toArray();
+        return Arrays.copyOf(elements, size);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    @SuppressWarnings("hiding")
+    @SuppressWarnings({ "hiding", "unchecked" })
     public <T> T[] toArray(final T[] a) {
-        return list.toArray(a);
+        if (a.length < size) {
+            return (T[]) Arrays.copyOf(elements, size, a.getClass());
+        }
+        System.arraycopy(elements, 0, a, 0, size);
+        if (a.length > size) {
+            a[size] = null;
+        }
+        return a;
     }
 
     /**
@@ -248,11 +326,15 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
      */
     @Override
     public boolean add(final T e) {
-        if (set.add(e)) {
-            list.add(e);
-            return true;
+        if (index != null) {
+            if (!indexAdd(e)) {
+                return false;
+            }
+        } else if (scan(e) >= 0) {
+            return false;
         }
-        return false;
+        insertAt(size, e);
+        return true;
     }
 
     /**
@@ -264,20 +346,47 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
      */
     @Override
     public boolean remove(final Object o) {
-        if (set.remove(o)) {
-            list.remove(o);
-            return true;
+        if (index != null && !indexRemove(o)) {
+            return false;
         }
-        return false;
+        final int i = scan(o);
+        if (i < 0) {
+            return false;
+        }
+        removeAt(i);
+        return true;
     }
 
     @Override
     public boolean removeIf(Predicate<? super T> filter) {
-        if (list.removeIf(filter)) {
-            set.removeIf(filter);
-            return true;
+        // evaluate the filter first, so an exception leaves the collection untouched
+        boolean[] removed = null;
+        for (int i = 0; i < size; i++) {
+            if (filter.test(elementAt(i))) {
+                if (removed == null) {
+                    removed = new boolean[size];
+                }
+                removed[i] = true;
+            }
+        }
+        if (removed == null) {
+            return false;
+        }
+        int w = 0;
+        for (int r = 0; r < size; r++) {
+            final Object e = elements[r];
+            if (removed[r]) {
+                if (index != null) {
+                    indexRemove(e);
+                }
+            } else {
+                elements[w++] = e;
+            }
         }
-        return false;
+        Arrays.fill(elements, w, size, null);
+        size = w;
+        modCount++;
+        return true;
     }
 
     /**
@@ -285,7 +394,12 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
      */
     @Override
     public boolean containsAll(final Collection<?> c) {
-        return set.containsAll(c);
+        for (final Object o : c) {
+            if (!contains(o)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -306,6 +420,16 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
      * @see #addAll(Collection)
      */
     public boolean addAll(final Iterable<? extends T> i) {
+        if (size == 0 && i instanceof FCollection) {
+            // elements of another FCollection are already unique, so just copy them
+            @SuppressWarnings("unchecked")
+            final FCollection<? extends T> other = (FCollection<? extends T>) i;
+            copyFrom(other);
+            return size > 0;
+        }
+        if (i instanceof Collection) {
+            ensureCapacity(size + ((Collection<?>) i).size());
+        }
         boolean changed = false;
         for (final T e : i) {
             changed |= add(e);
@@ -322,6 +446,7 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
      * @return whether this collection changed as a result of this method call.
      */
     public boolean addAll(final T[] c) {
+        ensureCapacity(size + c.length);
         boolean changed = false;
         for (final T e : c) {
             changed |= add(e);
@@ -381,11 +506,7 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
      */
     @Override
     public boolean retainAll(final Collection<?> c) {
-        if (set.retainAll(c)) {
-            list.retainAll(c);
-            return true;
-        }
-        return false;
+        return removeIf(e -> !c.contains(e));
     }
 
     /**
@@ -393,9 +514,13 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
      */
     @Override
     public void clear() {
-        if (set.isEmpty()) { return; }
-        set.clear();
-        list.clear();
+        if (size == 0) { return; }
+        Arrays.fill(elements, 0, size, null);
+        size = 0;
+        index = null;
+        hasDuplicate = false;
+        duplicate = null;
+        modCount++;
     }
 
     /**
@@ -403,17 +528,42 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
      */
     @Override
     public T get(final int index) {
-        return list.get(index);
+        checkIndex(index, size);
+        return elementAt(index);
     }
 
     /**
-     * Set the element at an index to a value. WARNING: this method doesn't
-     * update the set and should only be used in a situation where the set of
-     * elements in this collection is invariant.
+     * Set the element at an index to a value. The element may already be in
+     * this collection for as long as it takes to swap two elements, the way
+     * {@link Collections#swap} and {@link Collections#shuffle} do; the
+     * elements have to be unique again once the swap is done.
      */
     @Override
-    public T set(final int index, final T element) { //assume this isn't called except when changing list order, so don't worry about updating set
-        return list.set(index, element);
+    public T set(final int index, final T element) {
+        checkIndex(index, size);
+        final T old = elementAt(index);
+        elements[index] = element;
+        if (this.index != null && !Objects.equals(old, element)) {
+            if (hasDuplicate && Objects.equals(old, duplicate)) {
+                // the other copy is still in the array
+                hasDuplicate = false;
+                duplicate = null;
+            } else {
+                indexRemove(old);
+            }
+            if (!indexAdd(element)) {
+                if (hasDuplicate) {
+                    // more than one swap at a time, fall back to scanning until the next rebuild
+                    this.index = null;
+                    hasDuplicate = false;
+                    duplicate = null;
+                } else {
+                    hasDuplicate = true;
+                    duplicate = element;
+                }
+            }
+        }
+        return old;
     }
 
     /**
@@ -434,12 +584,13 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
      * @return whether this collection changed as a result of this method call.
      */
     private boolean insert(int index, final T element) {
-        if (set.add(element)) {
-            list.add(index, element);
+        checkIndex(index, size + 1);
+        if (this.index != null ? indexAdd(element) : scan(element) < 0) {
+            insertAt(index, element);
             return true;
         }
         //re-position in list if needed
-        final int oldIndex = list.indexOf(element);
+        final int oldIndex = scan(element);
         if (index == oldIndex) {
             return false;
         }
@@ -447,8 +598,8 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
         if (index > oldIndex) {
             index--; //account for being removed
         }
-        list.remove(oldIndex);
-        list.add(index, element);
+        removeAt(oldIndex);
+        insertAt(index, element);
         return true;
     }
 
@@ -457,9 +608,11 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
      */
     @Override
     public T remove(final int index) {
-        final T removedItem = list.remove(index);
-        if (removedItem != null) {
-            set.remove(removedItem);
+        checkIndex(index, size);
+        final T removedItem = elementAt(index);
+        removeAt(index);
+        if (this.index != null) {
+            indexRemove(removedItem);
         }
         return removedItem;
     }
@@ -469,7 +622,10 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
      */
     @Override
     public int indexOf(final Object o) {
-        return list.indexOf(o);
+        if (index != null && findSlot(o) < 0) {
+            return -1;
+        }
+        return scan(o);
     }
 
     /**
@@ -477,7 +633,15 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
      */
     @Override
     public int lastIndexOf(final Object o) {
-        return list.lastIndexOf(o);
+        if (index != null && findSlot(o) < 0) {
+            return -1;
+        }
+        for (int i = size - 1; i >= 0; i--) {
+            if (o == null ? elements[i] == null : o.equals(elements[i])) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     /**
@@ -485,7 +649,7 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
      */
     @Override
     public ListIterator<T> listIterator() {
-        return list.listIterator();
+        return new Itr(0);
     }
 
     /**
@@ -493,7 +657,8 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
      */
     @Override
     public ListIterator<T> listIterator(final int index) {
-        return list.listIterator(index);
+        checkIndex(index, size + 1);
+        return new Itr(index);
     }
 
     /**
@@ -506,7 +671,14 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
      */
     @Override
     public List<T> subList(final int fromIndex, final int toIndex) {
-        return ImmutableList.copyOf(list.subList(fromIndex, toIndex));
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", size: " + size);
+        }
+        final ImmutableList.Builder<T> builder = ImmutableList.builderWithExpectedSize(toIndex - fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            builder.add(elementAt(i));
+        }
+        return builder.build();
     }
 
     /**
@@ -524,17 +696,20 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
     /**
      * {@inheritDoc}
      */
+    @SuppressWarnings("unchecked")
     public void sort(final Comparator<? super T> comparator) {
-        list.sort(comparator);
+        Arrays.sort((T[]) elements, 0, size, comparator);
+        modCount++;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
+    @SuppressWarnings("unchecked")
     public Iterable<T> threadSafeIterable() {
-        //create a new linked list for iterating to make it thread safe and avoid concurrent modification exceptions
-        return Iterables.unmodifiableIterable(new LinkedList<>(list));
+        //iterate over a copy to make it thread safe and avoid concurrent modification exceptions
+        return Iterables.unmodifiableIterable((List<T>) Arrays.asList(toArray()));
     }
 
     @Override
@@ -542,13 +717,320 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
         if (obj == null) {
             return null;
         }
-        for(T x : this) {
-            if (x.equals(obj)) {
-                return x;
+        for (int i = 0; i < size; i++) {
+            if (obj.equals(elements[i])) {
+                return elementAt(i);
             }
         }
         return obj;
     }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(final int i) {
+        return (T) elements[i];
+    }
+
+    private static void checkIndex(final int index, final int length) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + (length - 1));
+        }
+    }
+
+    /**
+     * Linear search for an element, using the same equality as {@link List#indexOf(Object)}.
+     */
+    private int scan(final Object o) {
+        final Object[] es = elements;
+        if (o == null) {
+            for (int i = 0; i < size; i++) {
+                if (es[i] == null) {
+                    return i;
+                }
+            }
+        } else {
+            for (int i = 0; i < size; i++) {
+                if (o.equals(es[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private void ensureCapacity(final int minCapacity) {
+        if (minCapacity > elements.length) {
+            final int newCapacity = Math.max(minCapacity, Math.max(elements.length + (elements.length >> 1), 4));
+            elements = Arrays.copyOf(elements, newCapacity);
+        }
+    }
+
+    /**
+     * Put an element, which must already be accounted for in the index, into the array.
+     */
+    private void insertAt(final int i, final T e) {
+        ensureCapacity(size + 1);
+        if (i < size) {
+            System.arraycopy(elements, i, elements, i + 1, size - i);
+        }
+        elements[i] = e;
+        size++;
+        modCount++;
+        if (index == null && size > INDEX_THRESHOLD) {
+            rebuildIndex();
+        }
+    }
+
+    /**
+     * Take an element out of the array, leaving the index alone.
+     */
+    private void removeAt(final int i) {
+        final int moved = size - i - 1;
+        if (moved > 0) {
+            System.arraycopy(elements, i + 1, elements, i, moved);
+        }
+        elements[--size] = null;
+        modCount++;
+    }
+
+    private void copyFrom(final FCollection<? extends T> other) {
+        elements = Arrays.copyOf(other.elements, other.size);
+        size = other.size;
+        index = other.index == null ? null : other.index.clone();
+        hasDuplicate = other.hasDuplicate;
+        duplicate = other.duplicate;
+        modCount++;
+    }
+
+    private static int hash(final Object key) {
+        final int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static Object maskNull(final Object o) {
+        return o == null ? NULL_KEY : o;
+    }
+
+    private void rebuildIndex() {
+        int capacity = 16;
+        while (capacity <= size * 2) {
+            capacity <<= 1;
+        }
+        index = new Object[capacity];
+        hasDuplicate = false;
+        duplicate = null;
+        for (int i = 0; i < size; i++) {
+            indexAdd(elements[i]);
+        }
+    }
+
+    /**
+     * @return the slot holding an element equal to {@code o}, or -1.
+     */
+    private int findSlot(final Object o) {
+        final Object key = maskNull(o);
+        final Object[] table = index;
+        final int mask = table.length - 1;
+        for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+            final Object k = table[i];
+            if (k == null) {
+                return -1;
+            }
+            if (k == key || key.equals(k)) {
+                return i;
+            }
+        }
+    }
+
+    /**
+     * @return whether the element was added, that is, wasn't in the index yet.
+     */
+    private boolean indexAdd(final Object o) {
+        final Object key = maskNull(o);
+        Object[] table = index;
+        int mask = table.length - 1;
+        int i = hash(key) & mask;
+        for (Object k; (k = table[i]) != null; i = (i + 1) & mask) {
+            if (k == key || key.equals(k)) {
+                return false;
+            }
+        }
+        table[i] = key;
+        // the element itself is counted once it lands in the array, so grow at half load ahead of it
+        if ((size + 1) * 2 > table.length) {
+            final Object[] old = table;
+            table = new Object[old.length << 1];
+            mask = table.length - 1;
+            for (final Object k : old) {
+                if (k != null) {
+                    int j = hash(k) & mask;
+                    while (table[j] != null) {
+                        j = (j + 1) & mask;
+                    }
+                    table[j] = k;
+                }
+            }
+            index = table;
+        }
+        return true;
+    }
+
+    /**
+     * @return whether the element was found in the index and removed from it.
+     */
+    private boolean indexRemove(final Object o) {
+        int i = findSlot(o);
+        if (i < 0) {
+            return false;
+        }
+        // backward-shift deletion keeps probe sequences intact without tombstones
+        final Object[] table = index;
+        final int mask = table.length - 1;
+        table[i] = null;
+        for (int j = (i + 1) & mask; table[j] != null; j = (j + 1) & mask) {
+            final int home = hash(table[j]) & mask;
+            final boolean stays = i <= j ? (i < home && home <= j) : (i < home || home <= j);
+            if (!stays) {
+                table[i] = table[j];
+                table[j] = null;
+                i = j;
+            }
+        }
+        return true;
+    }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (size > INDEX_THRESHOLD) {
+            rebuildIndex();
+        }
+    }
+
+    private final class Itr implements ListIterator<T> {
+        private int cursor;
+        private int lastRet = -1;
+        private int expectedModCount = modCount;
+
+        private Itr(final int index) {
+            cursor = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            final int i = cursor;
+            if (i >= size) {
+                throw new NoSuchElementException();
+            }
+            final Object[] es = elements;
+            if (i >= es.length) {
+                throw new ConcurrentModificationException();
+            }
+            cursor = i + 1;
+            lastRet = i;
+            @SuppressWarnings("unchecked")
+            final T e = (T) es[i];
+            return e;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        @Override
+        public T previous() {
+            checkForComodification();
+            final int i = cursor - 1;
+            if (i < 0) {
+                throw new NoSuchElementException();
+            }
+            final Object[] es = elements;
+            if (i >= es.length) {
+                throw new ConcurrentModificationException();
+            }
+            cursor = i;
+            lastRet = i;
+            @SuppressWarnings("unchecked")
+            final T e = (T) es[i];
+            return e;
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastRet < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            FCollection.this.remove(lastRet);
+            cursor = lastRet;
+            lastRet = -1;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(final T e) {
+            if (lastRet < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            FCollection.this.set(lastRet, e);
+        }
+
+        @Override
+        public void add(final T e) {
+            checkForComodification();
+            insert(cursor, e);
+            // the element may only have moved, so find out where it ended up
+            cursor = scan(e) + 1;
+            lastRet = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private final class SetView extends AbstractSet<T> {
+        @Override
+        public Iterator<T> iterator() {
+            return FCollection.this.iterator();
+        }
+        @Override
+        public int size() {
+            return size;
+        }
+        @Override
+        public boolean contains(final Object o) {
+            return FCollection.this.contains(o);
+        }
+        @Override
+        public boolean remove(final Object o) {
+            return FCollection.this.remove(o);
+        }
+        @Override
+        public void clear() {
+            FCollection.this.clear();
+        }
+    }
+
     /**
      * An unmodifiable, empty {@link FCollection}. Overrides all methods with
      * default implementations suitable for an empty collection, to improve
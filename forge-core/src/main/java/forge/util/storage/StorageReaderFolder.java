@@ -25,10 +25,14 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import com.google.common.base.Function;
 
 import forge.util.TextUtil;
+import forge.util.ThreadUtil;
 
 /**
  * This class treats every file in the given folder as a source for a named
@@ -81,6 +85,9 @@ public abstract class StorageReaderFolder<T> extends StorageReaderBase<T> {
 
     public final List<String> objectsThatFailedToLoad = new ArrayList<>();
 
+    // below this many files starting the threads takes longer than reading them one after another
+    private static final int MIN_FILES_TO_READ_IN_PARALLEL = 64;
+
     /* (non-Javadoc)
      * @see forge.util.IItemReader#readAll()
      */
@@ -89,9 +96,11 @@ public abstract class StorageReaderFolder<T> extends StorageReaderBase<T> {
         final Map<String, T> result = createMap();
 
         final File[] files = this.directory.listFiles(this.getFileFilter());
-        for (final File file : files) {
+        final Object[] read = readFiles(files);
+        for (int i = 0; i < files.length; i++) {
+            final File file = files[i];
             try {
-                final T newDeck = this.read(file);
+                final T newDeck = itemOrThrow(read[i]);
                 if (null == newDeck) {
                     final String msg = "An object stored in " + file.getPath() + " failed to load.\nPlease submit this as a bug with the mentioned file/directory attached.";
                     throw new RuntimeException(msg);
@@ -113,6 +122,68 @@ public abstract class StorageReaderFolder<T> extends StorageReaderBase<T> {
         return result;
     }
 
+    /**
+     * Read the files with the computing pool if the reader allows it and there are enough of them.
+     * @return for each file the object read from it, or the exception reading it threw
+     */
+    private Object[] readFiles(final File[] files) {
+        final Object[] result = new Object[files.length];
+        if (!isReadInParallel() || files.length < MIN_FILES_TO_READ_IN_PARALLEL
+                || !ThreadUtil.isMultiCoreSystem() || ThreadUtil.isComputingThread()) {
+            for (int i = 0; i < files.length; i++) {
+                result[i] = readOrCatch(files[i]);
+            }
+            return result;
+        }
+
+        final int parts = Math.min(files.length, Runtime.getRuntime().availableProcessors() * 2);
+        final List<Callable<Void>> tasks = new ArrayList<>(parts);
+        for (int iPart = 0; iPart < parts; iPart++) {
+            final int from = (int) ((long) files.length * iPart / parts);
+            final int till = (int) ((long) files.length * (iPart + 1) / parts);
+            tasks.add(() -> {
+                for (int i = from; i < till; i++) {
+                    result[i] = readOrCatch(files[i]);
+                }
+                return null;
+            });
+        }
+        try {
+            for (final Future<Void> f : ThreadUtil.getComputingPool().invokeAll(tasks)) {
+                f.get();
+            }
+        } catch (final InterruptedException | ExecutionException e) {
+            throw new RuntimeException("StorageReaderFolder.readAll() error, " + e.getMessage(), e);
+        }
+        return result;
+    }
+
+    private Object readOrCatch(final File file) {
+        try {
+            return this.read(file);
+        } catch (final RuntimeException ex) {
+            return ex;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T itemOrThrow(final Object read) {
+        if (read instanceof RuntimeException) {
+            throw (RuntimeException) read;
+        }
+        return (T) read;
+    }
+
+    /**
+     * Whether {@link #read(File)} may be called for several files at once. Readers that only parse the file
+     * they are given can return true, so that large folders are read by several threads.
+     *
+     * @return false by default
+     */
+    protected boolean isReadInParallel() {
+        return false;
+    }
+
     /**
      * Read the object from file.
      *
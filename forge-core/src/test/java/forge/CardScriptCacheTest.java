@@ -0,0 +1,206 @@
+package forge;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.google.common.collect.Lists;
+
+import forge.card.CardRules;
+import forge.card.DeckHints;
+import forge.card.ICardFace;
+
+public class CardScriptCacheTest {
+
+    private static final String[][] SCRIPTS = {
+        { "Name:Lightning Bolt", "ManaCost:R", "Types:Instant",
+          "A:SP$ DealDamage | ValidTgts$ Any | NumDmg$ 3 | SpellDescription$ CARDNAME deals 3 damage to any target.",
+          "Oracle:Lightning Bolt deals 3 damage to any target." },
+        { "Name:Fire", "ManaCost:1 R", "Types:Instant", "AlternateMode:Split",
+          "Oracle:Fire deals 2 damage divided as you choose among one or two targets.",
+          "ALTERNATE",
+          "Name:Ice", "ManaCost:1 U", "Types:Instant",
+          "Oracle:Tap target permanent.\\nDraw a card." },
+        { "Name:Young Pyromancer", "ManaCost:1 R", "Types:Creature Human Shaman", "PT:2/1",
+          "T:Mode$ SpellCast | ValidCard$ Instant,Sorcery | ValidActivatingPlayer$ You | Execute$ TrigToken | TriggerZones$ Battlefield | TriggerDescription$ Whenever you cast an instant or sorcery spell, create a 1/1 red Elemental creature token.",
+          "SVar:TrigToken:DB$ Token | TokenScript$ r_1_1_elemental",
+          "SVar:BuffedBy:Instant,Sorcery",
+          "DeckHints:Type$Instant|Sorcery", "DeckHas:Ability$Token",
+          "Oracle:Whenever you cast an instant or sorcery spell, create a 1/1 red Elemental creature token." },
+        { "Name:Tarmogoyf", "ManaCost:1 G", "Types:Creature Lhurgoyf", "PT:*/1+*",
+          "S:Mode$ Continuous | EffectZone$ All | CharacteristicDefining$ True | SetPower$ X | SetToughness$ Y",
+          "AI:RemoveDeck:Random", "Oracle:Tarmogoyf's power is equal to the number of card types among cards in all graveyards and its toughness is equal to that number plus 1." },
+        { "Name:Forest", "ManaCost:no cost", "Types:Basic Land Forest", "Oracle:({T}: Add {G}.)" },
+        { "Name:Dryad Arbor", "ManaCost:no cost", "Colors:green", "Types:Land Creature Forest Dryad", "PT:1/1",
+          "Oracle:(Dryad Arbor isn't a spell, it's affected by summoning sickness, and it has \"{T}: Add {G}.\")" },
+        { "Name:Balloon Stand", "ManaCost:no cost", "Types:Artifact Attraction", "K:Visit:TrigCharm",
+          "SVar:TrigCharm:DB$ Charm | Choices$ DBToken",
+          "SVar:DBToken:DB$ Token | TokenAmount$ 1 | TokenScript$ r_1_1_balloon_flying | TokenOwner$ You",
+          "Oracle:Visit — Create a 1/1 red Balloon creature token with flying.",
+          "Variant:A:Lights:2 6", "Variant:B:Lights:3 6", "Variant:B:K:Flying" },
+        { "Name:Akroma, Angel of Wrath Avatar", "ManaCost:no cost", "Types:Vanguard", "HandLifeModifier:+1/+7",
+          "Oracle:Creatures you control have flying." },
+        { "Name:Gisa's Bidding", "ManaCost:X B B", "Types:Sorcery", "Text:Draw X cards.",
+          "K:Partner:Geralf's Masterpiece", "MeldPair:Geralf's Masterpiece",
+          "R:Event$ Draw | ActiveZones$ Battlefield | ValidPlayer$ You | ReplaceWith$ Draw | Description$ If you would draw a card, draw two instead.",
+          "Oracle:Create X 2/2 black Zombie creature tokens." },
+    };
+
+    private static String nameOf(final String[] script) {
+        return script[0].substring("Name:".length()).toLowerCase().replaceAll("[^a-z0-9]", "_");
+    }
+
+    private static void assertSameFace(final ICardFace expected, final ICardFace actual) {
+        if (expected == null) {
+            Assert.assertNull(actual);
+            return;
+        }
+        Assert.assertNotNull(actual, expected.getName());
+        final String name = expected.getName();
+        Assert.assertEquals(actual.getName(), name);
+        Assert.assertEquals(actual.getAltName(), expected.getAltName(), name);
+        Assert.assertEquals(String.valueOf(actual.getType()), String.valueOf(expected.getType()), name);
+        Assert.assertEquals(Lists.newArrayList(actual.getType()), Lists.newArrayList(expected.getType()), name);
+        Assert.assertEquals(actual.getManaCost().toString(), expected.getManaCost().toString(), name);
+        Assert.assertEquals(actual.getManaCost().getCMC(), expected.getManaCost().getCMC(), name);
+        Assert.assertEquals(actual.getManaCost().isNoCost(), expected.getManaCost().isNoCost(), name);
+        Assert.assertEquals(actual.getColor(), expected.getColor(), name);
+        Assert.assertEquals(actual.getOracleText(), expected.getOracleText(), name);
+        Assert.assertEquals(actual.getPower(), expected.getPower(), name);
+        Assert.assertEquals(actual.getToughness(), expected.getToughness(), name);
+        Assert.assertEquals(actual.getIntPower(), expected.getIntPower(), name);
+        Assert.assertEquals(actual.getIntToughness(), expected.getIntToughness(), name);
+        Assert.assertEquals(actual.getInitialLoyalty(), expected.getInitialLoyalty(), name);
+        Assert.assertEquals(actual.getDefense(), expected.getDefense(), name);
+        Assert.assertEquals(actual.getAttractionLights(), expected.getAttractionLights(), name);
+        Assert.assertEquals(actual.getNonAbilityText(), expected.getNonAbilityText(), name);
+        Assert.assertEquals(list(actual.getKeywords()), list(expected.getKeywords()), name);
+        Assert.assertEquals(list(actual.getAbilities()), list(expected.getAbilities()), name);
+        Assert.assertEquals(list(actual.getStaticAbilities()), list(expected.getStaticAbilities()), name);
+        Assert.assertEquals(list(actual.getTriggers()), list(expected.getTriggers()), name);
+        Assert.assertEquals(list(actual.getDraftActions()), list(expected.getDraftActions()), name);
+        Assert.assertEquals(list(actual.getReplacements()), list(expected.getReplacements()), name);
+        Assert.assertEquals(list(actual.getVariables()), list(expected.getVariables()), name);
+        Assert.assertEquals(actual.hasFunctionalVariants(), expected.hasFunctionalVariants(), name);
+        if (expected.hasFunctionalVariants()) {
+            Assert.assertEquals(actual.getFunctionalVariants().keySet(), expected.getFunctionalVariants().keySet(), name);
+            for (final Map.Entry<String, ? extends ICardFace> e : expected.getFunctionalVariants().entrySet()) {
+                assertSameFace(e.getValue(), actual.getFunctionalVariant(e.getKey()));
+            }
+        }
+    }
+
+    private static <T> List<T> list(final Iterable<T> values) {
+        return values == null ? null : Lists.newArrayList(values);
+    }
+
+    private static String hints(final DeckHints hints) {
+        if (hints == null) {
+            return null;
+        }
+        return hints.isValid() + " " + hints.contains(DeckHints.Type.TYPE, "Instant") + " " + hints.contains(DeckHints.Type.ABILITY, "Token");
+    }
+
+    private static void assertSameRules(final CardRules expected, final CardRules actual) {
+        final String name = expected.getName();
+        Assert.assertEquals(actual.getName(), name);
+        Assert.assertEquals(actual.getNormalizedName(), expected.getNormalizedName(), name);
+        Assert.assertEquals(actual.getSplitType(), expected.getSplitType(), name);
+        assertSameFace(expected.getMainPart(), actual.getMainPart());
+        assertSameFace(expected.getOtherPart(), actual.getOtherPart());
+        Assert.assertEquals(actual.getSpecializeParts().keySet(), expected.getSpecializeParts().keySet(), name);
+        Assert.assertEquals(actual.getColorIdentity(), expected.getColorIdentity(), name);
+        Assert.assertEquals(actual.getMeldWith(), expected.getMeldWith(), name);
+        Assert.assertEquals(actual.getPartnerWith(), expected.getPartnerWith(), name);
+        Assert.assertEquals(actual.getAddsWildCardColor(), expected.getAddsWildCardColor(), name);
+        Assert.assertEquals(actual.getTokens(), expected.getTokens(), name);
+        Assert.assertEquals(actual.getHand(), expected.getHand(), name);
+        Assert.assertEquals(actual.getLife(), expected.getLife(), name);
+        Assert.assertEquals(actual.getSupportedFunctionalVariants(), expected.getSupportedFunctionalVariants(), name);
+        Assert.assertEquals(actual.getAiHints().getRemAIDecks(), expected.getAiHints().getRemAIDecks(), name);
+        Assert.assertEquals(actual.getAiHints().getRemRandomDecks(), expected.getAiHints().getRemRandomDecks(), name);
+        Assert.assertEquals(actual.getAiHints().getRemNonCommanderDecks(), expected.getAiHints().getRemNonCommanderDecks(), name);
+        Assert.assertEquals(hints(actual.getAiHints().getDeckHints()), hints(expected.getAiHints().getDeckHints()), name);
+        Assert.assertEquals(hints(actual.getAiHints().getDeckNeeds()), hints(expected.getAiHints().getDeckNeeds()), name);
+        Assert.assertEquals(hints(actual.getAiHints().getDeckHas()), hints(expected.getAiHints().getDeckHas()), name);
+    }
+
+    @Test
+    public void testCachedRulesEqualParsedRules() throws IOException {
+        final List<CardRules> parsed = new ArrayList<>();
+        final List<CardScriptCache.Script> scripts = new ArrayList<>();
+        for (final String[] script : SCRIPTS) {
+            final List<String> lines = Arrays.asList(script);
+            parsed.add(new CardRules.Reader().readCard(lines, nameOf(script)));
+
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                // the rules built while writing have to be the same too
+                assertSameRules(parsed.get(parsed.size() - 1), new CardRules.Reader().readCard(lines, nameOf(script), out));
+            }
+            scripts.add(new CardScriptCache.Script(nameOf(script), bytes.toByteArray()));
+        }
+
+        final File cacheFile = File.createTempFile("cardscripts", ".bin");
+        try {
+            CardScriptCache.write(cacheFile, 42, scripts);
+            Assert.assertNull(CardScriptCache.read(cacheFile, 43));
+            final List<CardScriptCache.Script> cached = CardScriptCache.read(cacheFile, 42);
+            Assert.assertNotNull(cached);
+            Assert.assertEquals(cached.size(), SCRIPTS.length);
+
+            final CardRules.Reader reader = new CardRules.Reader();
+            for (int i = 0; i < SCRIPTS.length; i++) {
+                Assert.assertEquals(cached.get(i).name, nameOf(SCRIPTS[i]));
+                assertSameRules(parsed.get(i), reader.readCachedCard(cached.get(i).getData(), cached.get(i).name));
+            }
+        } finally {
+            cacheFile.delete();
+        }
+    }
+
+    @Test
+    public void testLines() throws IOException {
+        final List<String> lines = Arrays.asList("[metadata]", "Code=TST", "", "Name=Täst Edition");
+        final File cacheFile = File.createTempFile("editions", ".bin");
+        try {
+            CardScriptCache.write(cacheFile, 7, Collections.singletonList(CardScriptCache.Script.ofLines("test.txt", lines)));
+            final List<CardScriptCache.Script> cached = CardScriptCache.read(cacheFile, 7);
+            Assert.assertNotNull(cached);
+            Assert.assertEquals(cached.get(0).readLines(), lines);
+        } finally {
+            cacheFile.delete();
+        }
+    }
+
+    @Test
+    public void testFingerprintFollowsContent() throws IOException {
+        final File dir = Files.createTempDirectory("cardsfolder").toFile();
+        final File script = new File(dir, "card.txt");
+        try {
+            Files.write(script.toPath(), "Name:Card A".getBytes(StandardCharsets.UTF_8));
+            final long modified = script.lastModified();
+            final long before = CardScriptCache.fingerprint(Collections.singletonList(script), dir, null);
+            Assert.assertEquals(CardScriptCache.fingerprint(Collections.singletonList(script), dir, null), before);
+
+            // same size and modification time, different content
+            Files.write(script.toPath(), "Name:Card B".getBytes(StandardCharsets.UTF_8));
+            script.setLastModified(modified);
+            Assert.assertNotEquals(CardScriptCache.fingerprint(Collections.singletonList(script), dir, null), before);
+        } finally {
+            script.delete();
+            dir.delete();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package forge.card;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.google.common.base.Predicate;
+import com.google.common.base.Predicates;
+
+import forge.util.PredicateString.StringOp;
+
+public class CardSearchIndexTest {
+
+    private static final String[][] SCRIPTS = {
+        { "Name:Lightning Bolt", "ManaCost:R", "Types:Instant",
+          "Oracle:Lightning Bolt deals 3 damage to any target." },
+        { "Name:Fire", "ManaCost:1 R", "Types:Instant", "AlternateMode:Split",
+          "Oracle:Fire deals 2 damage divided as you choose among one or two targets.",
+          "ALTERNATE",
+          "Name:Ice", "ManaCost:1 U", "Types:Instant",
+          "Oracle:Tap target permanent.\\nDraw a card." },
+        { "Name:Delver of Secrets", "ManaCost:U", "Types:Creature Human Wizard", "PT:1/1", "AlternateMode:DoubleFaced",
+          "Oracle:At the beginning of your upkeep, look at the top card of your library. You may reveal that card. If an instant or sorcery card is revealed this way, transform Delver of Secrets.",
+          "ALTERNATE",
+          "Name:Insectile Aberration", "ManaCost:no cost", "Colors:blue", "Types:Creature Human Insect", "PT:3/2",
+          "K:Flying", "Oracle:Flying" },
+        { "Name:Llanowar Elves", "ManaCost:G", "Types:Creature Elf Druid", "PT:1/1",
+          "Oracle:{T}: Add {G}." },
+        { "Name:Æther Vial", "ManaCost:1", "Types:Artifact",
+          "Oracle:At the beginning of your upkeep, you may put a charge counter on Æther Vial.\\n{T}: You may put a creature card with mana value equal to the number of charge counters on Æther Vial from your hand onto the battlefield." },
+        { "Name:Serra Angel", "ManaCost:3 W W", "Types:Creature Angel", "PT:4/4", "K:Flying", "K:Vigilance",
+          "Oracle:Flying, vigilance" },
+        { "Name:Forest", "ManaCost:no cost", "Types:Basic Land Forest", "Oracle:({T}: Add {G}.)" },
+        { "Name:Counterspell", "ManaCost:U U", "Types:Instant", "Oracle:Counter target spell." },
+    };
+
+    private static final String[] QUERIES = {
+        "bolt", "BOLT", "lightning bolt", "ning bo", "damage", "deals 3", "target", "Target spell",
+        "upkeep", "Insect", "Human", "creature elf", "elf druid", "angel", "{T}", "{G}", "Add {G}.",
+        "1 R", "U U", "W", "R", "no cost", "aether", "æther", "Æther Vial", "vial", "  vial  ",
+        "Fire", "Ice", "Fire // Ice", "draw a card", "Flying, vigilance", "flying", "e", "", " ",
+        "not in any card", "x y", "Basic Land",
+    };
+
+    private final List<CardRules> allRules = new ArrayList<>();
+    private CardSearchIndex index;
+
+    @BeforeClass
+    public void setUp() {
+        for (final String[] script : SCRIPTS) {
+            allRules.add(CardRules.fromScript(Arrays.asList(script)));
+        }
+        index = new CardSearchIndex(allRules);
+    }
+
+    private static Predicate<CardRules> linear(final String text, final boolean inName, final boolean inType, final boolean inText, final boolean inCost) {
+        final List<Predicate<CardRules>> terms = new ArrayList<>();
+        if (inName) { terms.add(CardRulesPredicates.name(StringOp.CONTAINS_IC, text)); }
+        if (inType) { terms.add(CardRulesPredicates.joinedType(StringOp.CONTAINS_IC, text)); }
+        if (inText) { terms.add(CardRulesPredicates.rules(StringOp.CONTAINS_IC, text)); }
+        if (inCost) { terms.add(CardRulesPredicates.cost(StringOp.CONTAINS_IC, text)); }
+        return Predicates.or(terms);
+    }
+
+    private List<String> matching(final Predicate<CardRules> predicate) {
+        final List<String> result = new ArrayList<>();
+        for (final CardRules rules : allRules) {
+            if (predicate.apply(rules)) {
+                result.add(rules.getName());
+            }
+        }
+        return result;
+    }
+
+    @Test
+    public void testContainsTextMatchesLinearFilter() {
+        for (final String query : QUERIES) {
+            // every combination of searched fields
+            for (int fields = 1; fields < 16; fields++) {
+                final boolean inName = (fields & 1) != 0, inType = (fields & 2) != 0, inText = (fields & 4) != 0, inCost = (fields & 8) != 0;
+                final List<String> expected = matching(linear(query, inName, inType, inText, inCost));
+                final List<String> actual = matching(index.containsText(query, inName, inType, inText, inCost));
+                Assert.assertEquals(actual, expected, "\"" + query + "\" with fields " + fields);
+            }
+        }
+    }
+
+    @Test
+    public void testRulesNotInIndex() {
+        final CardRules later = CardRules.fromScript(Arrays.asList(
+                "Name:Shock", "ManaCost:R", "Types:Instant", "Oracle:Shock deals 2 damage to any target."));
+        Assert.assertTrue(index.containsText("shock", true, false, false, false).apply(later));
+        Assert.assertTrue(index.containsText("damage", false, false, true, false).apply(later));
+        Assert.assertFalse(index.containsText("bolt", true, true, true, true).apply(later));
+    }
+
+    @Test
+    public void testCachedColumn() {
+        final int[] calls = new int[1];
+        final Predicate<CardRules> instant = rules -> {
+            calls[0]++;
+            return rules.getType().isInstant();
+        };
+        final Predicate<CardRules> column = index.cached("instant", rules -> rules, instant);
+        final List<String> expected = matching(rules -> rules.getType().isInstant());
+        Assert.assertEquals(matching(column), expected);
+        Assert.assertEquals(matching(column), expected);
+        // every rules is only asked once
+        Assert.assertEquals(calls[0], allRules.size());
+        Assert.assertSame(index.cached("instant", rules -> rules, instant), column);
+    }
+}
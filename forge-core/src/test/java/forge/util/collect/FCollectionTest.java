@@ -0,0 +1,228 @@
+package forge.util.collect;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+import java.util.Set;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class FCollectionTest {
+
+    /** Equal by id, with few hash codes, so that the index has to probe and shift. */
+    private static final class Key implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private final int id;
+
+        private Key(final int id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof Key && ((Key) o).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return id % 3;
+        }
+
+        @Override
+        public String toString() {
+            return "Key" + id;
+        }
+    }
+
+    private static FCollection<Key> keys(final int count) {
+        final FCollection<Key> result = new FCollection<>();
+        for (int i = 0; i < count; i++) {
+            result.add(new Key(i));
+        }
+        return result;
+    }
+
+    private static void assertConsistent(final FCollection<Key> collection, final List<Key> expected) {
+        Assert.assertEquals(new ArrayList<>(collection), expected);
+        Assert.assertEquals(collection.size(), expected.size());
+        for (final Key k : expected) {
+            Assert.assertTrue(collection.contains(k), k + " missing");
+            Assert.assertEquals(collection.indexOf(k), expected.indexOf(k));
+        }
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        for (final int count : new int[] { 5, 40 }) {
+            final FCollection<Key> collection = keys(count);
+            final List<Key> expected = new ArrayList<>(collection);
+            final Iterator<Key> it = collection.iterator();
+            while (it.hasNext()) {
+                if (it.next().id % 2 == 0) {
+                    it.remove();
+                }
+            }
+            expected.removeIf(k -> k.id % 2 == 0);
+            assertConsistent(collection, expected);
+            Assert.assertFalse(collection.contains(new Key(0)));
+
+            // removed elements can be added again
+            Assert.assertTrue(collection.add(new Key(0)));
+            expected.add(new Key(0));
+            assertConsistent(collection, expected);
+        }
+    }
+
+    @Test
+    public void testSetViewRemove() {
+        for (final int count : new int[] { 5, 40 }) {
+            final FCollection<Key> collection = keys(count);
+            final Set<Key> set = collection.asSet();
+            Assert.assertTrue(set.remove(new Key(2)));
+            Assert.assertFalse(set.remove(new Key(2)));
+            Assert.assertFalse(collection.contains(new Key(2)));
+            Assert.assertFalse(set.contains(new Key(2)));
+            Assert.assertEquals(set.size(), count - 1);
+
+            final List<Key> expected = new ArrayList<>(keys(count));
+            expected.remove(new Key(2));
+            assertConsistent(collection, expected);
+        }
+    }
+
+    @Test(expectedExceptions = ConcurrentModificationException.class)
+    public void testSetViewRemoveWhileIterating() {
+        final FCollection<Key> collection = keys(20);
+        final Iterator<Key> it = collection.iterator();
+        final Key k = it.next();
+        // the set view is the collection itself, so the iterator has to notice
+        collection.asSet().remove(k);
+        it.remove();
+    }
+
+    @Test
+    public void testIndexRebuild() throws Exception {
+        final FCollection<Key> collection = new FCollection<>();
+        final List<Key> expected = new ArrayList<>();
+        // grow past the size where the index gets built, and shrink back below it
+        for (int i = 0; i < 100; i++) {
+            collection.add(new Key(i));
+            expected.add(new Key(i));
+            assertConsistent(collection, expected);
+        }
+        for (int i = 0; i < 100; i += 3) {
+            Assert.assertTrue(collection.remove(new Key(i)));
+            expected.remove(new Key(i));
+        }
+        assertConsistent(collection, expected);
+        collection.removeIf(k -> k.id > 10);
+        expected.removeIf(k -> k.id > 10);
+        assertConsistent(collection, expected);
+
+        // the index isn't serialized, it has to be built again when reading
+        final FCollection<Key> big = keys(50);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(big);
+        }
+        final FCollection<Key> read;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            @SuppressWarnings("unchecked")
+            final FCollection<Key> r = (FCollection<Key>) in.readObject();
+            read = r;
+        }
+        assertConsistent(read, new ArrayList<>(big));
+        Assert.assertFalse(read.add(new Key(7)));
+        Assert.assertTrue(read.remove(new Key(7)));
+        Assert.assertFalse(read.contains(new Key(7)));
+    }
+
+    @Test
+    public void testDuplicateInsert() {
+        for (final int count : new int[] { 5, 40 }) {
+            final FCollection<Key> collection = keys(count);
+            final List<Key> expected = new ArrayList<>(collection);
+            Assert.assertFalse(collection.add(new Key(1)));
+            Assert.assertFalse(collection.addAll(Arrays.asList(new Key(0), new Key(count - 1))));
+            assertConsistent(collection, expected);
+
+            // inserting an element at a new position moves it there
+            collection.add(0, new Key(3));
+            expected.remove(new Key(3));
+            expected.add(0, new Key(3));
+            assertConsistent(collection, expected);
+
+            Assert.assertTrue(collection.addAll(Arrays.asList(new Key(1), new Key(count), new Key(count))));
+            expected.add(new Key(count));
+            assertConsistent(collection, expected);
+        }
+    }
+
+    @Test
+    public void testSetNewElement() {
+        for (final int count : new int[] { 5, 40 }) {
+            final FCollection<Key> collection = keys(count);
+            final List<Key> expected = new ArrayList<>(collection);
+            Assert.assertEquals(collection.set(2, new Key(100)), new Key(2));
+            expected.set(2, new Key(100));
+            assertConsistent(collection, expected);
+            Assert.assertFalse(collection.contains(new Key(2)));
+            Assert.assertEquals(collection.indexOf(new Key(2)), -1);
+
+            // the replaced element can be added again, the new one can't
+            Assert.assertTrue(collection.add(new Key(2)));
+            expected.add(new Key(2));
+            Assert.assertFalse(collection.add(new Key(100)));
+            assertConsistent(collection, expected);
+
+            final ListIterator<Key> it = collection.listIterator();
+            it.next();
+            it.set(new Key(101));
+            expected.set(0, new Key(101));
+            assertConsistent(collection, expected);
+            Assert.assertFalse(collection.contains(new Key(0)));
+
+            Assert.assertTrue(collection.remove(new Key(100)));
+            expected.remove(new Key(100));
+            Assert.assertFalse(collection.contains(new Key(100)));
+            assertConsistent(collection, expected);
+        }
+    }
+
+    @Test
+    public void testSwap() {
+        for (final int count : new int[] { 5, 40 }) {
+            final FCollection<Key> collection = keys(count);
+            final List<Key> expected = new ArrayList<>(collection);
+            // set puts an element in twice halfway through each swap
+            Collections.swap(collection, 0, count - 1);
+            Collections.swap(expected, 0, count - 1);
+            assertConsistent(collection, expected);
+            Collections.reverse(collection);
+            Collections.reverse(expected);
+            assertConsistent(collection, expected);
+            Collections.shuffle(collection, new Random(5));
+            Collections.shuffle(expected, new Random(5));
+            assertConsistent(collection, expected);
+
+            Assert.assertFalse(collection.add(new Key(1)));
+            Assert.assertTrue(collection.remove(new Key(1)));
+            expected.remove(new Key(1));
+            Assert.assertFalse(collection.contains(new Key(1)));
+            Assert.assertTrue(collection.add(new Key(1)));
+            expected.add(new Key(1));
+            assertConsistent(collection, expected);
+        }
+    }
+}
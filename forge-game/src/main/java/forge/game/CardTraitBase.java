@@ -1,9 +1,10 @@
 package forge.game;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
-import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import com.google.common.collect.ImmutableList;
@@ -53,6 +54,17 @@ public abstract class CardTraitBase extends GameObject implements IHasCardView,
 
     protected Map<String, String> sVars = Maps.newTreeMap();
 
+    // Copies share the param and SVar maps with the trait they were made from, whichever side
+    // writes first takes a private copy (see copyHelper). Copies are made in bulk for LKI and
+    // simulated games, and most of them never change a param.
+    private boolean paramsShared = false;
+    private boolean sVarsShared = false;
+
+    // read-only views handed out by getMapParams and getOriginalMapParams, one per map instance,
+    // use putParam and removeParam to change a param
+    private Map<String, String> paramsView, paramsViewSource;
+    private Map<String, String> originalParamsView, originalParamsViewSource;
+
     protected Map<String, String> intrinsicChangedTextColors = Maps.newHashMap();
     protected Map<String, String> intrinsicChangedTextTypes = Maps.newHashMap();
     protected Map<String, String> changedTextColors = Maps.newHashMap();
@@ -77,7 +89,11 @@ public abstract class CardTraitBase extends GameObject implements IHasCardView,
      * @return a {@link java.util.HashMap} object.
      */
     public final Map<String, String> getMapParams() {
-        return this.mapParams;
+        if (paramsView == null || paramsViewSource != mapParams) {
+            paramsViewSource = mapParams;
+            paramsView = Collections.unmodifiableMap(mapParams);
+        }
+        return paramsView;
     }
 
     public String getParamOrDefault(String key, String defaultValue) {
@@ -97,9 +113,11 @@ public abstract class CardTraitBase extends GameObject implements IHasCardView,
         return mapParams.containsKey(key);
     }
     public String putParam(String key, String value) {
+        ensureOwnParams();
         return mapParams.put(key, value);
     }
     public void removeParam(String key) {
+        ensureOwnParams();
         mapParams.remove(key);
     }
     /**
@@ -110,8 +128,33 @@ public abstract class CardTraitBase extends GameObject implements IHasCardView,
      * @return a {@link java.util.HashMap} object.
      */
     public final Map<String, String> getOriginalMapParams() {
-        return this.originalMapParams;
+        if (originalParamsView == null || originalParamsViewSource != originalMapParams) {
+            originalParamsViewSource = originalMapParams;
+            originalParamsView = Collections.unmodifiableMap(originalMapParams);
+        }
+        return originalParamsView;
     }
+
+    /**
+     * Makes the current params the original ones, so that they are kept by later copies.
+     */
+    public void storeParamsAsOriginal() {
+        ensureOwnParams();
+        originalMapParams.putAll(mapParams);
+    }
+
+    /**
+     * Must be called before modifying {@link #mapParams} or {@link #originalMapParams} directly,
+     * in case they are still shared with a copy of this trait.
+     */
+    protected final void ensureOwnParams() {
+        if (paramsShared) {
+            originalMapParams = Maps.newHashMap(originalMapParams);
+            mapParams = Maps.newHashMap(mapParams);
+            paramsShared = false;
+        }
+    }
+
     /**
      * Checks if is intrinsic.
      *
@@ -201,6 +244,10 @@ public abstract class CardTraitBase extends GameObject implements IHasCardView,
      * @return a boolean.
      */
     public boolean matchesValid(final Object o, final String[] valids, final Card srcCard) {
+        return matchesValid(o, Arrays.asList(valids), srcCard);
+    }
+
+    public boolean matchesValid(final Object o, final List<String> valids, final Card srcCard) {
         if (srcCard == null) {
             return false;
         }
@@ -216,6 +263,10 @@ public abstract class CardTraitBase extends GameObject implements IHasCardView,
     }
 
     public boolean matchesValid(final Object o, final String[] valids, final Card srcCard, final Player srcPlayer) {
+        return matchesValid(o, Arrays.asList(valids), srcCard, srcPlayer);
+    }
+
+    public boolean matchesValid(final Object o, final List<String> valids, final Card srcCard, final Player srcPlayer) {
         if (o instanceof GameObject) {
             final GameObject c = (GameObject) o;
             return c.isValid(valids, srcPlayer, srcCard, this);
@@ -226,7 +277,7 @@ public abstract class CardTraitBase extends GameObject implements IHasCardView,
                 }
             }
         } else if (o instanceof String) {
-            if (ArrayUtils.contains(valids, o)) {
+            if (valids.contains(o)) {
                 return true;
             }
         } else if (o instanceof PlanarDice) {
@@ -254,7 +305,7 @@ public abstract class CardTraitBase extends GameObject implements IHasCardView,
 
     public boolean matchesValidParam(String param, final Object o, final Card srcCard) {
         boolean result = hasParam("Invert" + param);
-        if (hasParam(param) && !matchesValid(o, getParam(param).split(","), srcCard)) {
+        if (hasParam(param) && !matchesValid(o, ValidRestriction.splitList(getParam(param)), srcCard)) {
             return result;
         }
         return !result;
@@ -604,6 +655,7 @@ public abstract class CardTraitBase extends GameObject implements IHasCardView,
 
     @Override
     public final void setSVar(final String name, final String value) {
+        ensureOwnSVars();
         sVars.put(name, value);
     }
 
@@ -616,6 +668,7 @@ public abstract class CardTraitBase extends GameObject implements IHasCardView,
 
     @Override
     public Map<String, String> getDirectSVars() {
+        ensureOwnSVars();
         return sVars;
     }
 
@@ -623,13 +676,24 @@ public abstract class CardTraitBase extends GameObject implements IHasCardView,
     public void setSVars(Map<String, String> newSVars) {
         sVars = Maps.newTreeMap();
         sVars.putAll(newSVars);
+        sVarsShared = false;
     }
 
     @Override
     public void removeSVar(String var) {
+        ensureOwnSVars();
         sVars.remove(var);
     }
 
+    private void ensureOwnSVars() {
+        if (sVarsShared) {
+            Map<String, String> own = Maps.newTreeMap();
+            own.putAll(sVars);
+            sVars = own;
+            sVarsShared = false;
+        }
+    }
+
     public CardState getCardState() {
         return cardState;
     }
@@ -689,6 +753,7 @@ public abstract class CardTraitBase extends GameObject implements IHasCardView,
     }
 
     public void changeTextIntrinsic(Map<String,String> colorMap, Map<String,String> typeMap) {
+        ensureOwnParams();
         intrinsicChangedTextColors = colorMap;
         intrinsicChangedTextTypes = typeMap;
         for (final String key : this.mapParams.keySet()) {
@@ -718,6 +783,7 @@ public abstract class CardTraitBase extends GameObject implements IHasCardView,
         this.changedTextColors = getHostCard().getChangedTextColorWords();
         this.changedTextTypes = getHostCard().getChangedTextTypeWords();
 
+        ensureOwnParams();
         for (final String key : this.mapParams.keySet()) {
             final String value = this.originalMapParams.get(key), newValue;
             if (noChangeKeys.contains(key)) {
@@ -742,9 +808,14 @@ public abstract class CardTraitBase extends GameObject implements IHasCardView,
         copyHelper(copy, host, false);
     }
     protected void copyHelper(CardTraitBase copy, Card host, boolean keepTextChanges) {
-        copy.originalMapParams = Maps.newHashMap(originalMapParams);
-        copy.mapParams = Maps.newHashMap(keepTextChanges ? mapParams : originalMapParams);
-        copy.setSVars(sVars);
+        // share instead of copying, the first write on either side will take a copy
+        copy.originalMapParams = originalMapParams;
+        copy.mapParams = keepTextChanges ? mapParams : originalMapParams;
+        copy.paramsShared = true;
+        paramsShared = true;
+        copy.sVars = sVars;
+        copy.sVarsShared = true;
+        sVarsShared = true;
         copy.setCardState(cardState);
         // dont use setHostCard to not trigger the not copied parts yet
         copy.hostCard = host;
@@ -54,14 +54,15 @@ import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Represents the state of a <i>single game</i>, a new instance is created for each game.
  */
 public class Game {
 
-    private static int maxId = 0;
-    private static int nextId() { return ++maxId; }
+    private static final AtomicInteger maxId = new AtomicInteger();
+    private static int nextId() { return maxId.incrementAndGet(); }
 
     /** The ID. */
     private int id;
@@ -93,10 +94,23 @@ public class Game {
     public boolean EXPERIMENTAL_RESTORE_SNAPSHOT = false;
     // While this is false here, its really set by the Match/Preferences
 
+    // Skip applying continuous effects again when nothing they depend on changed since the last pass
+    public boolean EXPERIMENTAL_INCREMENTAL_STATICS = false;
+    // Debug switch for the above: always do the full rebuild and report where the skipped pass would have been wrong
+    public boolean CHECK_INCREMENTAL_STATICS = false;
+
+    // Keep the last state copies of cards that didn't change since the previous copy instead of copying the whole board again
+    public boolean EXPERIMENTAL_REUSE_LKI = false;
+
+    // Let AI players pass priority without asking them when they have nothing they could play
+    public boolean EXPERIMENTAL_AUTO_YIELD = false;
+
     // If this merges with LKI In the future, it will need to change forms
     private GameSnapshot previousGameState = null;
     private CardCollection lastStateBattlefield = new CardCollection();
     private CardCollection lastStateGraveyard = new CardCollection();
+    // the copies made by the last copyLastState, by card id, see EXPERIMENTAL_REUSE_LKI
+    private Map<Integer, LastStateEntry> lastStateCopies = Maps.newHashMap();
 
     private CardZoneTable untilHostLeavesPlayTriggerList = new CardZoneTable();
 
@@ -203,12 +217,82 @@ public class Game {
         lastStateBattlefield.clear();
         lastStateGraveyard.clear();
         Map<Integer, Card> cachedMap = Maps.newHashMap();
+        // the copies hold the combat LKI, so don't try to keep them while there is a combat
+        if (EXPERIMENTAL_REUSE_LKI && getCombat() == null) {
+            copyLastStateReusing(cachedMap);
+            return;
+        }
+        lastStateCopies.clear();
         for (final Player p : getPlayers()) {
             lastStateBattlefield.addAll(p.getZone(ZoneType.Battlefield).getLKICopy(cachedMap));
             lastStateGraveyard.addAll(p.getZone(ZoneType.Graveyard).getLKICopy(cachedMap));
         }
     }
 
+    /**
+     * Only copy the cards that changed since the previous call, the others keep their copy.
+     * A copy is only kept when neither the card nor the copy itself changed.
+     */
+    private void copyLastStateReusing(Map<Integer, Card> cachedMap) {
+        final int turn = phaseHandler.getTurn();
+        final List<Card> battlefield = Lists.newArrayList();
+        final List<Card> graveyard = Lists.newArrayList();
+        for (final Player p : getPlayers()) {
+            Iterables.addAll(battlefield, p.getZone(ZoneType.Battlefield).getCards());
+            Iterables.addAll(graveyard, p.getZone(ZoneType.Graveyard).getCards());
+        }
+        final Iterable<Card> cards = Iterables.concat(battlefield, graveyard);
+
+        // first keep the unchanged copies, so the new copies link to them
+        final Map<Integer, LastStateEntry> copies = Maps.newHashMapWithExpectedSize(battlefield.size() + graveyard.size());
+        for (final Card c : cards) {
+            final LastStateEntry entry = lastStateCopies.get(c.getId());
+            if (entry != null && entry.isValidFor(c, turn)) {
+                copies.put(c.getId(), entry);
+                cachedMap.put(c.getId(), entry.copy);
+            }
+        }
+        copyLastStateReusing(battlefield, lastStateBattlefield, copies, cachedMap, turn);
+        copyLastStateReusing(graveyard, lastStateGraveyard, copies, cachedMap, turn);
+        lastStateCopies = copies;
+    }
+
+    private static void copyLastStateReusing(List<Card> cards, CardCollection lastState, Map<Integer, LastStateEntry> copies,
+            Map<Integer, Card> cachedMap, int turn) {
+        for (final Card c : cards) {
+            LastStateEntry entry = copies.get(c.getId());
+            if (entry == null) {
+                entry = new LastStateEntry(c, CardCopyService.getLKICopy(c, cachedMap), turn);
+                copies.put(c.getId(), entry);
+            }
+            lastState.add(entry.copy);
+        }
+    }
+
+    private static final class LastStateEntry {
+        private final Card original;
+        private final Card copy;
+        private final Zone zone;
+        private final int turn;
+        private final Card.LKIState originalState;
+        private final Card.LKIState copyState;
+
+        private LastStateEntry(final Card original, final Card copy, final int turn) {
+            this.original = original;
+            this.copy = copy;
+            this.zone = original.getLastKnownZone();
+            this.turn = turn;
+            this.originalState = original.getLKIState();
+            this.copyState = copy.getLKIState();
+        }
+
+        private boolean isValidFor(final Card c, final int currentTurn) {
+            // a copy of the last state might have been changed by whoever read it
+            return original == c && turn == currentTurn && zone == c.getLastKnownZone()
+                    && originalState.equals(c.getLKIState()) && copyState.equals(copy.getLKIState());
+        }
+    }
+
     public CardCollectionView copyLastState(ZoneType type) {
         CardCollection result = new CardCollection();
         Map<Integer, Card> cachedMap = Maps.newHashMap();
@@ -1126,6 +1210,7 @@ public class Game {
     public void clearCaches() {
         lastStateBattlefield.clear();
         lastStateGraveyard.clear();
+        lastStateCopies.clear();
         //playerCache.clear();
     }
 
@@ -70,6 +70,11 @@ public class GameAction {
 
     private boolean holdCheckingStaticAbilities = false;
 
+    // inputs of the last pass of continuous effects, see EXPERIMENTAL_INCREMENTAL_STATICS
+    private boolean staticInputsValid = false;
+    private int staticInputChangeCount;
+    private StaticInputs staticInputs = null;
+
     public GameAction(Game game0) {
         game = game0;
     }
@@ -1090,6 +1095,100 @@ public class GameAction {
         }
         game.getTracker().freeze(); //prevent views flickering during while updating for state-based effects
 
+        // a pre Check with LKI objects always needs the full rebuild
+        final boolean incremental = game.EXPERIMENTAL_INCREMENTAL_STATICS && preList.isEmpty();
+        // cards with pending static commands, their conditions can only change together with the inputs
+        final CardCollection staticList = new CardCollection();
+        final boolean unchanged = incremental && staticAbilityInputsUnchanged();
+        if (unchanged) {
+            if (game.CHECK_INCREMENTAL_STATICS) {
+                crossCheckContinuousAbilities(affectedCards, staticList);
+            }
+        } else {
+            applyContinuousAbilities(affectedCards, preList, staticList);
+        }
+        final int inputChangeCount = game.getTracker().getChangeCount();
+        final StaticInputs inputs;
+        if (!incremental) {
+            inputs = null;
+        } else if (unchanged && !game.CHECK_INCREMENTAL_STATICS) {
+            inputs = staticInputs;
+        } else {
+            inputs = new StaticInputs(game);
+        }
+
+        for (final Card c : staticList) {
+            List<Object[]> toRemove = Lists.newArrayList();
+            for (Object[] staticCheck : c.getStaticCommandList()) {
+                final String leftVar = (String) staticCheck[0];
+                final String rightVar = (String) staticCheck[1];
+                final Card affected = (Card) staticCheck[2];
+                // calculate the affected card
+                final int sVar = AbilityUtils.calculateAmount(affected, leftVar, null);
+                final String svarOperator = rightVar.substring(0, 2);
+                final String svarOperand = rightVar.substring(2);
+                final int operandValue = AbilityUtils.calculateAmount(c, svarOperand, null);
+                if (Expressions.compare(sVar, svarOperator, operandValue)) {
+                    ((GameCommand) staticCheck[3]).run();
+                    toRemove.add(staticCheck);
+                    affectedCards.add(c);
+                }
+            }
+            c.getStaticCommandList().removeAll(toRemove);
+        }
+
+        // preList means that this is run by a pre Check with LKI objects
+        // in that case Always trigger should not Run
+        if (preList.isEmpty()) {
+            for (Player p : game.getPlayers()) {
+                for (Card c : p.getCardsIn(ZoneType.Battlefield).threadSafeIterable()) {
+                    if (!c.getController().equals(p)) {
+                        controllerChangeZoneCorrection(c);
+                        affectedCards.add(c);
+                    }
+                    if (c.isCreature() && c.isPaired()) {
+                        Card partner = c.getPairedWith();
+                        if (!partner.isCreature() || c.getController() != partner.getController() || !c.isInPlay()) {
+                            c.setPairedWith(null);
+                            partner.setPairedWith(null);
+                            affectedCards.add(c);
+                        }
+                    }
+                }
+            }
+
+            final Map<AbilityKey, Object> runParams = AbilityKey.newMap();
+            game.getTriggerHandler().runTrigger(TriggerType.Always, runParams, false);
+
+            game.getTriggerHandler().runTrigger(TriggerType.Immediate, runParams, false);
+        }
+
+        // if static commands or triggers changed anything after the effects were applied, the next pass has to rebuild
+        final boolean settled = incremental && inputChangeCount == game.getTracker().getChangeCount()
+                && (staticList.isEmpty() && unchanged || inputs.isUnchanged(game));
+
+        // Update P/T and type in the view only once after all the cards have been processed, to avoid flickering
+        for (Card c : affectedCards) {
+            c.updateNameforView();
+            c.updatePowerToughnessForView();
+            c.updateTypesForView();
+            c.updateAbilityTextForView(); // only update keywords and text for view to avoid flickering
+        }
+
+        // TODO filter out old copies from zone change
+
+        if (runEvents && !affectedCards.isEmpty()) {
+            game.fireEvent(new GameEventCardStatsChanged(affectedCards));
+        }
+        game.getTracker().unfreeze();
+
+        // view updates caused by this pass itself don't count as new input
+        staticInputsValid = settled;
+        staticInputChangeCount = game.getTracker().getChangeCount();
+        staticInputs = inputs;
+    }
+
+    private void applyContinuousAbilities(final Set<Card> affectedCards, final CardCollectionView preList, final CardCollection staticList) {
         // remove old effects
         game.getStaticEffects().clearStaticEffects(affectedCards);
 
@@ -1099,7 +1198,6 @@ public class GameAction {
 
         // search for cards with static abilities
         final FCollection<StaticAbility> staticAbilities = new FCollection<>();
-        final CardCollection staticList = new CardCollection();
 
         game.forEachCardInGame(new Visitor<Card>() {
             @Override
@@ -1158,67 +1256,91 @@ public class GameAction {
                 Iterables.addAll(affectedCards, affected);
             }
         }
+    }
 
-        for (final Card c : staticList) {
-            List<Object[]> toRemove = Lists.newArrayList();
-            for (Object[] staticCheck : c.getStaticCommandList()) {
-                final String leftVar = (String) staticCheck[0];
-                final String rightVar = (String) staticCheck[1];
-                final Card affected = (Card) staticCheck[2];
-                // calculate the affected card
-                final int sVar = AbilityUtils.calculateAmount(affected, leftVar, null);
-                final String svarOperator = rightVar.substring(0, 2);
-                final String svarOperand = rightVar.substring(2);
-                final int operandValue = AbilityUtils.calculateAmount(c, svarOperand, null);
-                if (Expressions.compare(sVar, svarOperator, operandValue)) {
-                    ((GameCommand) staticCheck[3]).run();
-                    toRemove.add(staticCheck);
-                    affectedCards.add(c);
+    /**
+     * Continuous effects only need to be applied again when some of their inputs changed since the last full pass:
+     * either any tracked property of the game (zones, counters, controllers, life, phase...)
+     * or the layer tables of a card, which effects from resolved spells write to without touching the view.
+     */
+    private boolean staticAbilityInputsUnchanged() {
+        return staticInputsValid
+                && staticInputChangeCount == game.getTracker().getChangeCount()
+                && staticInputs.isUnchanged(game);
+    }
+
+    /**
+     * The players and cards of the game with the layer state version of each card, in the order they are visited.
+     * The versions only ever count up, so equal versions mean nothing was changed in between.
+     */
+    private static final class StaticInputs {
+        private final List<Player> players;
+        private final List<Card> cards = Lists.newArrayList();
+        private int[] versions = new int[64];
+
+        private StaticInputs(final Game game) {
+            players = Lists.newArrayList(game.getPlayers());
+            game.forEachCardInGame(new Visitor<Card>() {
+                @Override
+                public boolean visit(final Card c) {
+                    if (cards.size() == versions.length) {
+                        versions = Arrays.copyOf(versions, versions.length * 2);
+                    }
+                    versions[cards.size()] = c.getLayerStateVersion();
+                    cards.add(c);
+                    return true;
                 }
-            }
-            c.getStaticCommandList().removeAll(toRemove);
+            }, true);
         }
 
-        // preList means that this is run by a pre Check with LKI objects
-        // in that case Always trigger should not Run
-        if (preList.isEmpty()) {
-            for (Player p : game.getPlayers()) {
-                for (Card c : p.getCardsIn(ZoneType.Battlefield).threadSafeIterable()) {
-                    if (!c.getController().equals(p)) {
-                        controllerChangeZoneCorrection(c);
-                        affectedCards.add(c);
-                    }
-                    if (c.isCreature() && c.isPaired()) {
-                        Card partner = c.getPairedWith();
-                        if (!partner.isCreature() || c.getController() != partner.getController() || !c.isInPlay()) {
-                            c.setPairedWith(null);
-                            partner.setPairedWith(null);
-                            affectedCards.add(c);
-                        }
+        private boolean isUnchanged(final Game game) {
+            if (!Iterables.elementsEqual(players, game.getPlayers())) {
+                return false;
+            }
+            final int[] index = { 0 };
+            final boolean[] same = { true };
+            game.forEachCardInGame(new Visitor<Card>() {
+                @Override
+                public boolean visit(final Card c) {
+                    final int i = index[0]++;
+                    if (i >= cards.size() || cards.get(i) != c || versions[i] != c.getLayerStateVersion()) {
+                        same[0] = false;
                     }
+                    return same[0];
                 }
-            }
-
-            final Map<AbilityKey, Object> runParams = AbilityKey.newMap();
-            game.getTriggerHandler().runTrigger(TriggerType.Always, runParams, false);
-
-            game.getTriggerHandler().runTrigger(TriggerType.Immediate, runParams, false);
+            }, true);
+            return same[0] && index[0] == cards.size();
         }
+    }
 
-        // Update P/T and type in the view only once after all the cards have been processed, to avoid flickering
-        for (Card c : affectedCards) {
-            c.updateNameforView();
-            c.updatePowerToughnessForView();
-            c.updateTypesForView();
-            c.updateAbilityTextForView(); // only update keywords and text for view to avoid flickering
+    // Debug mode for the incremental statics: do the full rebuild anyway and report if it would have changed anything
+    private void crossCheckContinuousAbilities(final Set<Card> affectedCards, final CardCollection staticList) {
+        final Map<Card, String> before = describeContinuousResults();
+        applyContinuousAbilities(affectedCards, CardCollection.EMPTY, staticList);
+        final Map<Card, String> after = describeContinuousResults();
+        if (!before.equals(after)) {
+            for (final Map.Entry<Card, String> e : after.entrySet()) {
+                final String old = before.get(e.getKey());
+                if (!e.getValue().equals(old)) {
+                    game.getGameLog().add(GameLogEntryType.INFORMATION, "Incremental static abilities out of date for " + e.getKey() + ": was " + old + ", full rebuild gives " + e.getValue());
+                }
+            }
         }
+    }
 
-        // TODO filter out old copies from zone change
-
-        if (runEvents && !affectedCards.isEmpty()) {
-            game.fireEvent(new GameEventCardStatsChanged(affectedCards));
-        }
-        game.getTracker().unfreeze();
+    private Map<Card, String> describeContinuousResults() {
+        final Map<Card, String> result = Maps.newHashMap();
+        game.forEachCardInGame(new Visitor<Card>() {
+            @Override
+            public boolean visit(final Card c) {
+                result.put(c, TextUtil.concatWithSpace(c.getName(), c.getNetPower() + "/" + c.getNetToughness(),
+                        c.getType().toString(), c.getColor().toString(), String.valueOf(c.getController()),
+                        String.valueOf(c.getKeywords()), String.valueOf(c.getSpellAbilities().size()),
+                        String.valueOf(c.getStaticAbilities().size())));
+                return true;
+            }
+        }, true);
+        return result;
     }
 
     public final boolean checkStateEffects(final boolean runEvents) {
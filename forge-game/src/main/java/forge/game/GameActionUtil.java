@@ -320,14 +320,14 @@ public final class GameActionUtil {
             }
 
             if (o.getAbility().hasParam("ValidAfterStack")) {
-                newSA.getMapParams().put("ValidAfterStack", o.getAbility().getParam("ValidAfterStack"));
+                newSA.putParam("ValidAfterStack", o.getAbility().getParam("ValidAfterStack"));
             }
             if (o.getAbility().hasParam("RaiseCost")) {
                 String raise = o.getAbility().getParam("RaiseCost");
                 if (o.getAbility().hasSVar(raise)) {
                     raise = Integer.toString(AbilityUtils.calculateAmount(host, raise, o.getAbility()));
                 }
-                newSA.getMapParams().put("RaiseCost", raise);
+                newSA.putParam("RaiseCost", raise);
             }
 
             final SpellAbilityRestriction sar = newSA.getRestrictions();
@@ -1,5 +1,7 @@
 package forge.game;
 
+import java.util.List;
+
 import forge.game.card.Card;
 import forge.game.player.Player;
 import forge.game.spellability.SpellAbility;
@@ -31,6 +33,18 @@ public abstract class GameObject {
         return false;
     }
 
+    /**
+     * Checks if is valid, same as with an array of restrictions.
+     */
+    public boolean isValid(final List<String> restrictions, final Player sourceController, final Card source, CardTraitBase spellAbility) {
+        for (final String restriction : restrictions) {
+            if (this.isValid(restriction, sourceController, source, spellAbility)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Checks if is valid.
      * 
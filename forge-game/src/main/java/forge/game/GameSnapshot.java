@@ -358,7 +358,8 @@ public class GameSnapshot {
     }
 
     private Card createCardCopy(Game newGame, Player newOwner, Card c) {
-        Card newCard = new CardCopyService(c, newGame).copyCard(false, newOwner);
+        // reparsing the card script is the bulk of the cost of a snapshot, copy the states instead
+        Card newCard = new CardCopyService(c, newGame).copyCard(false, newOwner, true);
         newCard.dangerouslySetGame(newGame);
         return newCard;
     }
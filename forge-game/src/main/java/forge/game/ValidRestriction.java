@@ -0,0 +1,100 @@
+package forge.game;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * A parsed restriction like "Creature.YouCtrl+withFlying" or "!Permanent.token", as used by
+ * {@link GameObject#isValid(String, forge.game.player.Player, forge.game.card.Card, CardTraitBase)}.
+ *
+ * The same few thousand restrictions from the card scripts are checked over and over, so each
+ * distinct string is only parsed once and the result is shared by all cards and games.
+ */
+public final class ValidRestriction {
+    // restrictions built at runtime (e.g. with card ids) shouldn't pile up forever
+    private static final int MAX_CACHED = 20000;
+    private static final Map<String, ValidRestriction> restrictions = new ConcurrentHashMap<>();
+    private static final Map<String, List<String>> lists = new ConcurrentHashMap<>();
+
+    private final String rawType;
+    private final String type;
+    private final boolean negated;
+    private final List<String> properties;
+
+    private ValidRestriction(final String restriction) {
+        final int dot = restriction.indexOf('.');
+        rawType = dot < 0 ? restriction : restriction.substring(0, dot);
+        negated = rawType.startsWith("!");
+        type = negated ? rawType.substring(1) : rawType;
+        properties = dot < 0 ? ImmutableList.of() : ImmutableList.copyOf(restriction.substring(dot + 1).split("\\+"));
+    }
+
+    public static ValidRestriction of(final String restriction) {
+        ValidRestriction result = restrictions.get(restriction);
+        if (result == null) {
+            result = new ValidRestriction(restriction);
+            if (restrictions.size() >= MAX_CACHED) {
+                restrictions.clear();
+            }
+            restrictions.put(restriction, result);
+        }
+        return result;
+    }
+
+    /**
+     * Split a comma separated list of restrictions like the Valid params of triggers and static abilities.
+     * The returned list is shared and can't be changed.
+     */
+    public static List<String> splitList(final String valids) {
+        List<String> result = lists.get(valids);
+        if (result == null) {
+            result = ImmutableList.copyOf(valids.split(","));
+            if (lists.size() >= MAX_CACHED) {
+                lists.clear();
+            }
+            lists.put(valids, result);
+        }
+        return result;
+    }
+
+    /**
+     * Forget everything parsed so far, the next lookups parse again.
+     */
+    static void clearCache() {
+        restrictions.clear();
+        lists.clear();
+    }
+
+    /**
+     * @return the part before the first dot, including the negation sign
+     */
+    public String getRawType() {
+        return rawType;
+    }
+
+    /**
+     * @return the part before the first dot, without the negation sign
+     */
+    public String getType() {
+        return type;
+    }
+
+    public boolean isNegated() {
+        return negated;
+    }
+
+    /**
+     * @return the properties after the first dot, split on "+". Shared and can't be changed.
+     */
+    public List<String> getProperties() {
+        return properties;
+    }
+
+    @Override
+    public String toString() {
+        return rawType + (properties.isEmpty() ? "" : "." + String.join("+", properties));
+    }
+}
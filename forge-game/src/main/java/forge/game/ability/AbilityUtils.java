@@ -1588,8 +1588,8 @@ public class AbilityUtils {
      */
     public static int xCount(Card c, final String s, final CardTraitBase ctb) {
         final String s2 = applyAbilityTextChangeEffects(s, ctb);
-        final String[] l = s2.split("/");
-        final String expr = CardFactoryUtil.extractOperators(s2);
+        final CountExpression parsed = CountExpression.of(s2);
+        final String expr = parsed.operators;
 
         Player player = null;
         if (ctb != null) {
@@ -1602,23 +1602,19 @@ public class AbilityUtils {
         }
 
         // accept straight numbers
-        if (l[0].startsWith("Number$")) {
-            final String number = l[0].substring(7);
+        if (parsed.first.startsWith("Number$")) {
+            final String number = parsed.first.substring(7);
             return doXMath(Integer.parseInt(number), expr, c, ctb);
         }
 
-        if (l[0].startsWith("Count$")) {
-            l[0] = l[0].substring(6);
-        }
-
-        if (l[0].startsWith("SVar$")) {
-            String n = l[0].substring(5);
+        if (parsed.head.startsWith("SVar$")) {
+            String n = parsed.head.substring(5);
             String v = ctb == null ? c.getSVar(n) : ctb.getSVar(n);
             return doXMath(xCount(c, v, ctb), expr, c, ctb);
         }
 
-        final String[] sq;
-        sq = l[0].split("\\.");
+        // parsed once per distinct string, don't change it
+        final String[] sq = parsed.parts;
 
         final Game game = c.getGame();
 
@@ -1799,7 +1795,7 @@ public class AbilityUtils {
                 }
 
                 if (sq[0].startsWith("LastStateBattlefield")) {
-                    final String[] k = l[0].split(" ");
+                    final String[] k = parsed.head.split(" ");
                     CardCollectionView list;
                     // this is only for spells that were cast
                     if (sq[0].contains("WithFallback")) {
@@ -1823,7 +1819,7 @@ public class AbilityUtils {
                 }
 
                 if (sq[0].startsWith("LastStateGraveyard")) {
-                    final String[] k = l[0].split(" ");
+                    final String[] k = parsed.head.split(" ");
                     CardCollectionView list;
                     // this is only for spells that were cast
                     if (sq[0].contains("WithFallback")) {
@@ -1868,14 +1864,14 @@ public class AbilityUtils {
             } else {
                 // fallback if ctb isn't a spellability
                 if (sq[0].startsWith("LastStateBattlefield")) {
-                    final String[] k = l[0].split(" ");
+                    final String[] k = parsed.head.split(" ");
                     CardCollectionView list = game.getLastStateBattlefield();
                     list = CardLists.getValidCards(list, k[1], player, c, ctb);
                     return doXMath(list.size(), expr, c, ctb);
                 }
 
                 if (sq[0].startsWith("LastStateGraveyard")) {
-                    final String[] k = l[0].split(" ");
+                    final String[] k = parsed.head.split(" ");
                     CardCollectionView list = game.getLastStateGraveyard();
                     list = CardLists.getValidCards(list, k[1], player, c, ctb);
                     return doXMath(list.size(), expr, c, ctb);
@@ -1946,7 +1942,7 @@ public class AbilityUtils {
             return doXMath(sum, expr, c, ctb);
         }
 
-        String[] paidparts = l[0].split("\\$", 2);
+        String[] paidparts = parsed.head.split("\\$", 2);
         Iterable<Card> someCards = null;
 
         // count valid cards in any specified zone/s
@@ -2117,7 +2113,7 @@ public class AbilityUtils {
         }
 
         if (sq[0].contains("TotalValue")) {
-            return doXMath(c.getKeywordMagnitude(Keyword.smartValueOf(l[0].split(" ")[1])), expr, c, ctb);
+            return doXMath(c.getKeywordMagnitude(Keyword.smartValueOf(parsed.head.split(" ")[1])), expr, c, ctb);
         }
         if (sq[0].contains("TimesKicked")) {
             return doXMath(isUnlinkedFromCastSA(ctb, c) ? 0 : c.getKickerMagnitude(), expr, c, ctb);
@@ -2215,7 +2211,7 @@ public class AbilityUtils {
 
         // Count$AttachedTo <restriction>
         if (sq[0].startsWith("AttachedTo")) {
-            final String[] k = l[0].split(" ");
+            final String[] k = parsed.head.split(" ");
             int sum = CardLists.getValidCardCount(c.getAttachedCards(), k[1], player, c, ctb);
             return doXMath(sum, expr, c, ctb);
         }
@@ -2337,7 +2333,7 @@ public class AbilityUtils {
             return doXMath(player.getCommanderCast(c), expr, c, ctb);
         }
 
-        if (l[0].startsWith("TotalCommanderCastFromCommandZone")) {
+        if (parsed.head.startsWith("TotalCommanderCastFromCommandZone")) {
             return doXMath(player.getTotalCommanderCast(), expr, c, ctb);
         }
 
@@ -2385,7 +2381,7 @@ public class AbilityUtils {
         }
 
         if (sq[0].contains("TotalDamageThisTurn")) {
-            String[] props = l[0].split(" ");
+            String[] props = parsed.head.split(" ");
             int sum = 0;
             for (Pair<Integer, Boolean> p : c.getDamageReceivedThisTurn()) {
                 if (game.getDamageLKI(p).getLeft().isValid(props[1], player, c, ctb)) {
@@ -2396,7 +2392,7 @@ public class AbilityUtils {
         }
 
         if (sq[0].contains("DamageThisTurn")) {
-            String[] props = l[0].split(" ");
+            String[] props = parsed.head.split(" ");
             Boolean isCombat = null;
             if (sq[0].contains("CombatDamage")) {
                 isCombat = !sq[0].contains("Non");
@@ -2456,7 +2452,7 @@ public class AbilityUtils {
         if (sq[0].startsWith("TypesSharedWith")) {
             Set<CardType.CoreType> thisTypes = Sets.newHashSet(c.getType().getCoreTypes());
             Set<CardType.CoreType> matches = new HashSet<>();
-            for (Card c1 : AbilityUtils.getDefinedCards(ctb.getHostCard(), l[0].split(" ", 2)[1], ctb)) {
+            for (Card c1 : AbilityUtils.getDefinedCards(ctb.getHostCard(), parsed.head.split(" ", 2)[1], ctb)) {
                 for (CardType.CoreType type : Sets.newHashSet(c1.getType().getCoreTypes())) {
                     if (thisTypes.contains(type)) {
                         matches.add(type);
@@ -2494,28 +2490,28 @@ public class AbilityUtils {
 
         // Count$CardAttackedThisTurn <Valid>
         if (sq[0].startsWith("CreaturesAttackedThisTurn")) {
-            final String[] workingCopy = l[0].split(" ", 2);
+            final String[] workingCopy = parsed.head.split(" ", 2);
             final String validFilter = workingCopy[1];
             return doXMath(CardLists.getValidCardCount(player.getCreaturesAttackedThisTurn(), validFilter, player, c, ctb), expr, c, ctb);
         }
 
         // Count$LeftBattlefieldThisTurn <Valid>
         if (sq[0].startsWith("LeftBattlefieldThisTurn")) {
-            final String[] workingCopy = l[0].split(" ", 2);
+            final String[] workingCopy = parsed.head.split(" ", 2);
             final String validFilter = workingCopy[1];
             return doXMath(CardLists.getValidCardCount(game.getLeftBattlefieldThisTurn(), validFilter, player, c, ctb), expr, c, ctb);
         }
 
         // Count$LeftBattlefieldThisTurn <Valid>
         if (sq[0].startsWith("LeftGraveyardThisTurn")) {
-            final String[] workingCopy = l[0].split(" ", 2);
+            final String[] workingCopy = parsed.head.split(" ", 2);
             final String validFilter = workingCopy[1];
             return doXMath(CardLists.getValidCardCount(game.getLeftGraveyardThisTurn(), validFilter, player, c, ctb), expr, c, ctb);
         }
 
         // Count$UnlockedDoors <Valid>
         if (sq[0].startsWith("UnlockedDoors")) {
-            final String[] workingCopy = l[0].split(" ", 2);
+            final String[] workingCopy = parsed.head.split(" ", 2);
             final String validFilter = workingCopy[1];
 
             int unlocked = 0;
@@ -2529,7 +2525,7 @@ public class AbilityUtils {
         // Count$DistinctUnlockedDoors <Valid>
         // Counts the distinct names of unlocked doors. Used for the "Promising Stairs"
         if (sq[0].startsWith("DistinctUnlockedDoors")) {
-            final String[] workingCopy = l[0].split(" ", 2);
+            final String[] workingCopy = parsed.head.split(" ", 2);
             final String validFilter = workingCopy[1];
 
             Set<String> viewedNames = new HashSet<>();
@@ -2545,7 +2541,7 @@ public class AbilityUtils {
 
         // Manapool
         if (sq[0].startsWith("ManaPool")) {
-            final String color = l[0].split(":")[1];
+            final String color = parsed.head.split(":")[1];
             int v = 0;
             if (color.equals("All")) {
                 v = player.getManaPool().totalMana();
@@ -2682,7 +2678,7 @@ public class AbilityUtils {
         }
 
         if (sq[0].startsWith("CreatureType")) {
-            String[] sqparts = l[0].split(" ", 2);
+            String[] sqparts = parsed.head.split(" ", 2);
             final String[] rest = sqparts[1].split(",");
 
             final CardCollectionView cardsInZones = sqparts[0].length() > 12
@@ -2726,8 +2722,8 @@ public class AbilityUtils {
             return doXMath(colorOcurrencices, expr, c, ctb);
         }
 
-        if (l[0].contains("ExactManaCost")) {
-            String[] sqparts = l[0].split(" ", 2);
+        if (parsed.head.contains("ExactManaCost")) {
+            String[] sqparts = parsed.head.split(" ", 2);
             final String[] rest = sqparts[1].split(",");
 
             final CardCollectionView cardsInZones = sqparts[0].length() > 13
@@ -2841,20 +2837,20 @@ public class AbilityUtils {
         }
 
         if (sq[0].startsWith("CountersAddedThisTurn")) {
-            final String[] parts = l[0].split(" ");
+            final String[] parts = parsed.head.split(" ");
             CounterType cType = CounterType.getType(parts[1]);
 
             return doXMath(game.getCounterAddedThisTurn(cType, parts[2], parts[3], c, player, ctb), expr, c, ctb);
         }
         if (sq[0].startsWith("CountersRemovedThisTurn")) {
-            final String[] parts = l[0].split(" ");
+            final String[] parts = parsed.head.split(" ");
             CounterType cType = CounterType.getType(parts[1]);
 
             return doXMath(game.getCounterRemovedThisTurn(cType, parts[2], c, player, ctb), expr, c, ctb);
         }
 
         if (sq[0].startsWith("MostCardName")) {
-            String[] lparts = l[0].split(" ", 2);
+            String[] lparts = parsed.head.split(" ", 2);
             final String[] rest = lparts[1].split(",");
 
             final CardCollectionView cardsInZones = lparts[0].length() > 12
@@ -2880,7 +2876,7 @@ public class AbilityUtils {
 
         if (sq[0].startsWith("DifferentCardNames_")) {
             final List<String> crdname = Lists.newArrayList();
-            final String restriction = l[0].substring(19);
+            final String restriction = parsed.head.substring(19);
             CardCollection list = CardLists.getValidCards(game.getCardsInGame(), restriction, player, c, ctb);
             // TODO rewrite with sharesName to respect Spy Kit
             for (final Card card : list) {
@@ -2894,45 +2890,45 @@ public class AbilityUtils {
         }
 
         if (sq[0].startsWith("MostProminentCreatureType")) {
-            String restriction = l[0].split(" ")[1];
+            String restriction = parsed.head.split(" ")[1];
             CardCollection list = CardLists.getValidCards(game.getCardsIn(ZoneType.Battlefield), restriction, player, c, ctb);
             return doXMath(CardFactoryUtil.getMostProminentCreatureTypeSize(list), expr, c, ctb);
         }
 
         if (sq[0].startsWith("SecondMostProminentColor")) {
-            String restriction = l[0].split(" ")[1];
+            String restriction = parsed.head.split(" ")[1];
             CardCollection list = CardLists.getValidCards(game.getCardsIn(ZoneType.Battlefield), restriction, player, c, ctb);
             int[] colorSize = CardFactoryUtil.SortColorsFromList(list);
             return doXMath(colorSize[colorSize.length - 2], expr, c, ctb);
         }
 
         if (sq[0].startsWith("ColorsCtrl")) {
-            final String restriction = l[0].substring(11);
+            final String restriction = parsed.head.substring(11);
             final CardCollection list = CardLists.getValidCards(player.getCardsIn(ZoneType.Battlefield), restriction, player, c, ctb);
             return doXMath(CardUtil.getColorsFromCards(list).countColors(), expr, c, ctb);
         }
 
         if (sq[0].startsWith("ColorsDefined")) {
-            final String restriction = l[0].substring(14);
+            final String restriction = parsed.head.substring(14);
             final CardCollection list = getDefinedCards(c, restriction, ctb);
             return doXMath(CardUtil.getColorsFromCards(list).countColors(), expr, c, ctb);
         }
 
         // TODO move below to handlePaid
         if (sq[0].startsWith("SumPower")) {
-            final String[] restrictions = l[0].split("_");
+            final String[] restrictions = parsed.head.split("_");
             CardCollection filteredCards = CardLists.getValidCards(game.getCardsIn(ZoneType.Battlefield), restrictions[1], player, c, ctb);
             return doXMath(Aggregates.sum(filteredCards, Card::getNetPower), expr, c, ctb);
         }
         if (sq[0].startsWith("DifferentPower_")) {
-            final String restriction = l[0].substring(15);
+            final String restriction = parsed.head.substring(15);
             CardCollection list = CardLists.getValidCards(game.getCardsIn(ZoneType.Battlefield), restriction, player, c, ctb);
             final Iterable<Card> powers = Aggregates.uniqueByLast(list, Card::getNetPower);
             return doXMath(Iterables.size(powers), expr, c, ctb);
         }
         if (sq[0].startsWith("DifferentCounterKinds_")) {
             final Set<CounterType> kinds = Sets.newHashSet();
-            final String rest = l[0].substring(22);
+            final String rest = parsed.head.substring(22);
             CardCollection list = CardLists.getValidCards(game.getCardsIn(ZoneType.Battlefield), rest, player, c, ctb);
             for (final Card card : list) {
                 kinds.addAll(card.getCounters().keySet());
@@ -3917,10 +3913,9 @@ public class AbilityUtils {
         // "Named <CARDNAME> in all graveyards" - Count$NamedAllYards.<CARDNAME>
 
         if (sq[0].contains("Named")) {
-            if (sq[1].equals("CARDNAME")) {
-                sq[1] = c.getName();
-            }
-            someCards = CardLists.filter(someCards, CardPredicates.nameEquals(sq[1]));
+            // sq is shared by every use of the expression, don't write CARDNAME back into it
+            final String name = sq[1].equals("CARDNAME") ? c.getName() : sq[1];
+            someCards = CardLists.filter(someCards, CardPredicates.nameEquals(name));
         }
 
         // Refined qualities
@@ -0,0 +1,45 @@
+package forge.game.ability;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import forge.game.card.CardFactoryUtil;
+
+/**
+ * A parsed amount like "Count$Valid Creature.YouCtrl/Plus.2" as evaluated by {@link AbilityUtils#xCount}.
+ * Each distinct string is only split once, the result is shared and must not be changed.
+ */
+final class CountExpression {
+    // amounts built at runtime shouldn't pile up forever
+    private static final int MAX_CACHED = 20000;
+    private static final Map<String, CountExpression> cache = new ConcurrentHashMap<>();
+
+    /** The part before the first "/". */
+    final String first;
+    /** The same without the "Count$" prefix. */
+    final String head;
+    /** The head split on ".". */
+    final String[] parts;
+    /** The math after the first "/", or null. */
+    final String operators;
+
+    private CountExpression(final String expression) {
+        final int slash = expression.indexOf('/');
+        first = slash < 0 ? expression : expression.substring(0, slash);
+        head = first.startsWith("Count$") ? first.substring(6) : first;
+        parts = head.split("\\.");
+        operators = CardFactoryUtil.extractOperators(expression);
+    }
+
+    static CountExpression of(final String expression) {
+        CountExpression result = cache.get(expression);
+        if (result == null) {
+            result = new CountExpression(expression);
+            if (cache.size() >= MAX_CACHED) {
+                cache.clear();
+            }
+            cache.put(expression, result);
+        }
+        return result;
+    }
+}
@@ -16,12 +16,44 @@ import forge.game.staticability.StaticAbility;
 
 public class ActivationTable extends ForwardingTable<SpellAbility, Optional<StaticAbility>, List<Player>> {
     Table<SpellAbility, Optional<StaticAbility>, List<Player>> dataTable = HashBasedTable.create();
+    private int version = 0;
 
     @Override
     protected Table<SpellAbility, Optional<StaticAbility>, List<Player>> delegate() {
         return dataTable;
     }
 
+    /**
+     * @return how many times this table was changed, only good to compare with an earlier value
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    @Override
+    public List<Player> put(SpellAbility rowKey, Optional<StaticAbility> columnKey, List<Player> value) {
+        version++;
+        return super.put(rowKey, columnKey, value);
+    }
+
+    @Override
+    public void putAll(Table<? extends SpellAbility, ? extends Optional<StaticAbility>, ? extends List<Player>> table) {
+        version++;
+        super.putAll(table);
+    }
+
+    @Override
+    public List<Player> remove(Object rowKey, Object columnKey) {
+        version++;
+        return super.remove(rowKey, columnKey);
+    }
+
+    @Override
+    public void clear() {
+        version++;
+        super.clear();
+    }
+
     protected SpellAbility getOriginal(SpellAbility sa) {
         SpellAbility original = null;
         SpellAbility root = sa.getRootAbility();
@@ -47,7 +79,7 @@ public class ActivationTable extends ForwardingTable<SpellAbility, Optional<Stat
                 activators = Lists.newArrayList();
             }
             activators.add(sa.getActivatingPlayer());
-            delegate().put(original, st, activators);
+            put(original, st, activators);
         }
     }
 
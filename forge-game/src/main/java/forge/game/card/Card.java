@@ -64,6 +64,7 @@ import org.apache.commons.lang3.tuple.Triple;
 
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <p>
@@ -91,7 +92,21 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     private CardDamageHistory damageHistory = new CardDamageHistory();
     // Hidden keywords won't be displayed on the card
     // x=timestamp y=StaticAbility id
-    private final Table<Long, Long, List<String>> hiddenExtrinsicKeywords = TreeBasedTable.create();
+    private final Table<Long, Long, List<String>> hiddenExtrinsicKeywords = LayerTable.create(this);
+
+    // cache for getReplacementEffects(ReplacementType)
+    private Map<ReplacementType, List<ReplacementEffect>> replacementEffectsByMode = null;
+    private CardState replacementEffectsState = null;
+    private int replacementEffectsTraitsVersion;
+    private int replacementEffectsLayerVersion;
+    private int replacementEffectsCounters;
+
+    // bumped by the layer tables and the other layer changes of this card, see getDerived()
+    private int layerVersion;
+    // bumped by the layer changes and everything else static abilities read from this card that isn't in its view
+    private int layerStateVersion;
+    // volatile, the AI may read it on another thread than the game
+    private volatile DerivedCharacteristics derived = null;
 
     // cards attached or otherwise linked to this card
     private CardCollection hauntedBy, devouredCards, exploitedCards, delvedCards, imprintedCards,
@@ -120,21 +135,21 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
 
     protected CardChangedType changedTypeByText; // Layer 3 by Text Change
     // x=timestamp y=StaticAbility id
-    private final Table<Long, Long, CardChangedType> changedCardTypesByText = TreeBasedTable.create(); // Layer 3
-    private final Table<Long, Long, CardChangedType> changedCardTypesCharacterDefining = TreeBasedTable.create(); // Layer 4 CDA
-    private final Table<Long, Long, CardChangedType> changedCardTypes = TreeBasedTable.create(); // Layer 4
+    private final Table<Long, Long, CardChangedType> changedCardTypesByText = LayerTable.create(this); // Layer 3
+    private final Table<Long, Long, CardChangedType> changedCardTypesCharacterDefining = LayerTable.create(this); // Layer 4 CDA
+    private final Table<Long, Long, CardChangedType> changedCardTypes = LayerTable.create(this); // Layer 4
 
-    private final Table<Long, Long, CardChangedName> changedCardNames = TreeBasedTable.create(); // Layer 3
-    private final Table<Long, Long, KeywordsChange> changedCardKeywordsByText = TreeBasedTable.create(); // Layer 3 by Text Change
+    private final Table<Long, Long, CardChangedName> changedCardNames = LayerTable.create(this); // Layer 3
+    private final Table<Long, Long, KeywordsChange> changedCardKeywordsByText = LayerTable.create(this); // Layer 3 by Text Change
     protected KeywordsChange changedCardKeywordsByWord = new KeywordsChange(ImmutableList.<KeywordInterface>of(), ImmutableList.<KeywordInterface>of(), false); // Layer 3 by Word Change
-    private final Table<Long, Long, KeywordsChange> changedCardKeywords = TreeBasedTable.create(); // Layer 6
+    private final Table<Long, Long, KeywordsChange> changedCardKeywords = LayerTable.create(this); // Layer 6
 
     // stores the keywords created by static abilities
     private final Map<Triple<String, Long, Long>, KeywordInterface> storedKeywords = Maps.newHashMap();
 
     // x=timestamp y=StaticAbility id
-    private final Table<Long, Long, CardTraitChanges> changedCardTraitsByText = TreeBasedTable.create(); // Layer 3 by Text Change
-    private final Table<Long, Long, CardTraitChanges> changedCardTraits = TreeBasedTable.create(); // Layer 6
+    private final Table<Long, Long, CardTraitChanges> changedCardTraitsByText = LayerTable.create(this); // Layer 3 by Text Change
+    private final Table<Long, Long, CardTraitChanges> changedCardTraits = LayerTable.create(this); // Layer 6
 
     // stores the card traits created by static abilities
     private final Table<StaticAbility, String, SpellAbility> storedSpellAbility = TreeBasedTable.create();
@@ -151,15 +166,15 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     private final Map<Triple<String, Long, Long>, KeywordInterface> storedKeywordByText = Maps.newHashMap();
 
     // x=timestamp y=StaticAbility id
-    private final Table<Long, Long, CardColor> changedCardColorsByText = TreeBasedTable.create(); // Layer 3 by Text Change
-    private final Table<Long, Long, CardColor> changedCardColorsCharacterDefining = TreeBasedTable.create(); // Layer 5 CDA
-    private final Table<Long, Long, CardColor> changedCardColors = TreeBasedTable.create(); // Layer 5
+    private final Table<Long, Long, CardColor> changedCardColorsByText = LayerTable.create(this); // Layer 3 by Text Change
+    private final Table<Long, Long, CardColor> changedCardColorsCharacterDefining = LayerTable.create(this); // Layer 5 CDA
+    private final Table<Long, Long, CardColor> changedCardColors = LayerTable.create(this); // Layer 5
 
-    protected final Table<Long, Long, ManaCost> changedCardManaCost = TreeBasedTable.create(); // Layer 3
+    protected final Table<Long, Long, ManaCost> changedCardManaCost = LayerTable.create(this); // Layer 3
 
     private final NavigableMap<Long, CardCloneStates> clonedStates = Maps.newTreeMap(); // Layer 1
 
-    private final Table<Long, Long, Map<String, String>> changedSVars = TreeBasedTable.create();
+    private final Table<Long, Long, Map<String, String>> changedSVars = LayerTable.create(this);
 
     private final Map<Long, PlayerCollection> mayLook = Maps.newHashMap();
     private final PlayerCollection mayLookFaceDownExile = new PlayerCollection();
@@ -262,10 +277,10 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
 
     // stack of set power/toughness
     // x=timestamp y=StaticAbility id
-    private Table<Long, Long, Pair<Integer,Integer>> newPTText = TreeBasedTable.create(); // Text Change Layer 3
-    private Table<Long, Long, Pair<Integer,Integer>> newPTCharacterDefining = TreeBasedTable.create(); // Layer 7a
-    private Table<Long, Long, Pair<Integer,Integer>> newPT = TreeBasedTable.create(); // Layer 7b
-    private Table<Long, Long, Pair<Integer,Integer>> boostPT = TreeBasedTable.create(); // Layer 7c
+    private Table<Long, Long, Pair<Integer,Integer>> newPTText = LayerTable.create(this); // Text Change Layer 3
+    private Table<Long, Long, Pair<Integer,Integer>> newPTCharacterDefining = LayerTable.create(this); // Layer 7a
+    private Table<Long, Long, Pair<Integer,Integer>> newPT = LayerTable.create(this); // Layer 7b
+    private Table<Long, Long, Pair<Integer,Integer>> boostPT = LayerTable.create(this); // Layer 7c
 
     private final Map<Card, Integer> assignedDamageMap = Maps.newTreeMap();
     private Map<Integer, Integer> damage = Maps.newHashMap();
@@ -528,6 +543,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
 
         currentStateName = state;
         currentState = getState(state);
+        layerStateVersion++;
 
         if (updateView) {
             view.updateState(this);
@@ -580,6 +596,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         }
         if (state == currentStateName) {
             currentStateName = CardStateName.Original;
+            layerStateVersion++;
         }
         if (updateView) {
             view.updateState(this);
@@ -1152,6 +1169,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
     public final <T> void addRemembered(final T o) {
         if (rememberedObjects.add(o)) {
+            layerStateVersion++;
             view.updateRemembered(this);
         }
     }
@@ -1163,11 +1181,13 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
             }
         }
         if (changed) {
+            layerStateVersion++;
             view.updateRemembered(this);
         }
     }
     public final <T> void removeRemembered(final T o) {
         if (rememberedObjects.remove(o)) {
+            layerStateVersion++;
             view.updateRemembered(this);
         }
     }
@@ -1180,12 +1200,14 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
             }
         }
         if (changed) {
+            layerStateVersion++;
             view.updateRemembered(this);
         }
     }
     public final void clearRemembered() {
         if (rememberedObjects.isEmpty()) { return; }
         rememberedObjects.clear();
+        layerStateVersion++;
         view.updateRemembered(this);
     }
     public final void updateRemembered() {
@@ -4128,6 +4150,16 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return getType(currentState);
     }
     public final CardTypeView getType(CardState state) {
+        if (state == currentState) {
+            final DerivedCharacteristics d = getDerived();
+            if (d.type == null) {
+                d.type = getTypeWithChanges(state);
+            }
+            return d.type;
+        }
+        return getTypeWithChanges(state);
+    }
+    private CardTypeView getTypeWithChanges(CardState state) {
         final Iterable<CardChangedType> changedCardTypes = getChangedCardTypes();
         if (Iterables.isEmpty(changedCardTypes)) {
             return state.getType();
@@ -4168,9 +4200,11 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     public boolean clearChangedCardTypes() {
         boolean changed = false;
 
-        if (changedTypeByText != null)
+        if (changedTypeByText != null) {
             changed = true;
-        changedTypeByText = null;
+            changedTypeByText = null;
+            layerChanged();
+        }
 
         if (!changedCardTypesByText.isEmpty())
             changed = true;
@@ -4328,6 +4362,16 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return getColor(currentState);
     }
     public final ColorSet getColor(CardState state) {
+        if (state == currentState) {
+            final DerivedCharacteristics d = getDerived();
+            if (d.color == null) {
+                d.color = getColorWithChanges(state);
+            }
+            return d.color;
+        }
+        return getColorWithChanges(state);
+    }
+    private ColorSet getColorWithChanges(CardState state) {
         byte colors = state.getColor();
         for (final CardColor cc : getChangedCardColors()) {
             if (cc.isAdditional()) {
@@ -4549,13 +4593,17 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public final int getCurrentPower() {
-        int total = getBasePower();
-        for (Pair<Integer, Integer> p : getPTIterable()) {
-            if (p.getLeft() != null) {
-                total = p.getLeft();
+        final DerivedCharacteristics d = getDerived();
+        if (d.currentPower == null) {
+            int total = getBasePower();
+            for (Pair<Integer, Integer> p : getPTIterable()) {
+                if (p.getLeft() != null) {
+                    total = p.getLeft();
+                }
             }
+            d.currentPower = total;
         }
-        return total;
+        return d.currentPower;
     }
 
     public final StatBreakdown getUnswitchedPowerBreakdown() {
@@ -4575,27 +4623,39 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
                 - 2 * getCounters(CounterEnumType.M2M2) - getCounters(CounterEnumType.M1M0) + 2 * getCounters(CounterEnumType.P2P0);
     }
 
+    private boolean isPTSwitched() {
+        final DerivedCharacteristics d = getDerived();
+        if (d.ptSwitched == null) {
+            d.ptSwitched = getAmountOfKeyword("CARDNAME's power and toughness are switched") % 2 != 0;
+        }
+        return d.ptSwitched;
+    }
+
     public final StatBreakdown getNetPowerBreakdown() {
-        if (getAmountOfKeyword("CARDNAME's power and toughness are switched") % 2 != 0) {
+        if (isPTSwitched()) {
             return getUnswitchedToughnessBreakdown();
         }
         return getUnswitchedPowerBreakdown();
     }
     public final int getNetPower() {
-        if (getAmountOfKeyword("CARDNAME's power and toughness are switched") % 2 != 0) {
+        if (isPTSwitched()) {
             return getUnswitchedToughness();
         }
         return getUnswitchedPower();
     }
 
     public final int getCurrentToughness() {
-        int total = getBaseToughness();
-        for (Pair<Integer, Integer> p : getPTIterable()) {
-            if (p.getRight() != null) {
-                total = p.getRight();
+        final DerivedCharacteristics d = getDerived();
+        if (d.currentToughness == null) {
+            int total = getBaseToughness();
+            for (Pair<Integer, Integer> p : getPTIterable()) {
+                if (p.getRight() != null) {
+                    total = p.getRight();
+                }
             }
+            d.currentToughness = total;
         }
-        return total;
+        return d.currentToughness;
     }
 
     public static class StatBreakdown {
@@ -4640,7 +4700,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public final StatBreakdown getNetToughnessBreakdown() {
-        if (getAmountOfKeyword("CARDNAME's power and toughness are switched") % 2 != 0) {
+        if (isPTSwitched()) {
             return getUnswitchedPowerBreakdown();
         }
         return getUnswitchedToughnessBreakdown();
@@ -4755,23 +4815,37 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
 
     // for cards like Giant Growth, etc.
     public final int getTempPowerBoost() {
-        int result = 0;
-        for (Pair<Integer, Integer> pair : boostPT.values()) {
-            if (pair.getLeft() != null) {
-                result += pair.getLeft();
+        if (boostPT.isEmpty()) {
+            return 0;
+        }
+        final DerivedCharacteristics d = getDerived();
+        if (d.tempPowerBoost == null) {
+            int result = 0;
+            for (Pair<Integer, Integer> pair : boostPT.values()) {
+                if (pair.getLeft() != null) {
+                    result += pair.getLeft();
+                }
             }
+            d.tempPowerBoost = result;
         }
-        return result;
+        return d.tempPowerBoost;
     }
 
     public final int getTempToughnessBoost() {
-        int result = 0;
-        for (Pair<Integer, Integer> pair : boostPT.values()) {
-            if (pair.getRight() != null) {
-                result += pair.getRight();
+        if (boostPT.isEmpty()) {
+            return 0;
+        }
+        final DerivedCharacteristics d = getDerived();
+        if (d.tempToughnessBoost == null) {
+            int result = 0;
+            for (Pair<Integer, Integer> pair : boostPT.values()) {
+                if (pair.getRight() != null) {
+                    result += pair.getRight();
+                }
             }
+            d.tempToughnessBoost = result;
         }
-        return result;
+        return d.tempToughnessBoost;
     }
 
     public void addPTBoost(final Integer power, final Integer toughness, final long timestamp, final long staticId) {
@@ -5112,7 +5186,18 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         if (keyword.startsWith("HIDDEN")) {
             keyword = keyword.substring(7);
         }
-
+        if (state == currentState) {
+            final DerivedCharacteristics d = getDerived();
+            Boolean result = d.keywords.get(keyword);
+            if (result == null) {
+                result = hasKeywordUncached(keyword, state);
+                d.keywords.put(keyword, result);
+            }
+            return result;
+        }
+        return hasKeywordUncached(keyword, state);
+    }
+    private boolean hasKeywordUncached(String keyword, CardState state) {
         // shortcut for hidden keywords
         for (List<String> kw : this.hiddenExtrinsicKeywords.values()) {
             if (kw.contains(keyword)) {
@@ -5379,6 +5464,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         }
 
         this.changedTypeByText = new CardChangedType(new CardType(toAdd, true), new CardType(toRemove, true), false, EnumSet.noneOf(RemoveType.class));
+        layerChanged();
 
         currentState.updateChangedText();
 
@@ -5414,6 +5500,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         }
 
         changedCardKeywordsByWord = new KeywordsChange(addKeywords, removeKeywords, false);
+        layerChanged();
 
         text = AbilityUtils.applyDescriptionTextChangeEffects(originalText, this);
 
@@ -5502,6 +5589,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
             }
         }
         if (updated) {
+            layerChanged();
             view.updateNonAbilityText(this);
             updateKeywords();
         }
@@ -5889,39 +5977,36 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     @Override
     public final boolean isValid(final String restriction, final Player sourceController, final Card source, CardTraitBase spellAbility) {
         // Inclusive restrictions are Card types
-        final String[] incR = restriction.split("\\.", 2);
+        final ValidRestriction incR = ValidRestriction.of(restriction);
+        final String type = incR.getType();
 
-        boolean testFailed = false;
-        if (incR[0].startsWith("!")) {
-            testFailed = true; // a bit counter logical))
-            incR[0] = incR[0].substring(1); // consume negation sign
-        }
+        boolean testFailed = incR.isNegated(); // a bit counter logical))
 
-        if (incR[0].equals("Spell")) {
+        if (type.equals("Spell")) {
             if (!isSpell()) {
                 return testFailed;
             }
-        } else if (incR[0].equals("Permanent")) {
+        } else if (type.equals("Permanent")) {
             if (!isPermanent()) {
                 return testFailed;
             }
-        } else if (incR[0].equals("Effect")) {
+        } else if (type.equals("Effect")) {
             if (!isImmutable()) {
                 return testFailed;
             }
-        } else if (incR[0].equals("Emblem")) {
+        } else if (type.equals("Emblem")) {
             if (!isEmblem()) {
                 return testFailed;
             }
-        } else if (incR[0].equals("Boon")) {
+        } else if (type.equals("Boon")) {
             if (!isBoon()) {
                 return testFailed;
             }
-        } else if (incR[0].equals("card") || incR[0].equals("Card")) {
+        } else if (type.equals("card") || type.equals("Card")) {
             if (isImmutable()) {
                 return testFailed;
             }
-        } else if (incR[0].equals("Any")) {
+        } else if (type.equals("Any")) {
             if (!(isCreature() || isPlaneswalker() || isBattle())) {
                 return false;
             }
@@ -5931,17 +6016,14 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
             ApiType apiType = ((SpellAbility) spellAbility).getApi();
             if (!(ApiType.DealDamage.equals(apiType) || ApiType.PreventDamage.equals(apiType)))
                 return false;*/
-        } else if (!getType().hasStringType(incR[0])) {
+        } else if (!getType().hasStringType(type)) {
             return testFailed; // Check for wrong type
         }
 
-        if (incR.length > 1) {
-            final String excR = incR[1];
-            final String[] exRs = excR.split("\\+"); // Exclusive Restrictions are ...
-            for (String exR : exRs) {
-                if (!hasProperty(exR, sourceController, source, spellAbility)) {
-                    return testFailed;
-                }
+        // Exclusive Restrictions are ...
+        for (String exR : incR.getProperties()) {
+            if (!hasProperty(exR, sourceController, source, spellAbility)) {
+                return testFailed;
             }
         }
         return !testFailed;
@@ -6827,6 +6909,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         gameTimestamp = t;
         // 613.7d An object receives a timestamp at the time it enters a zone.
         layerTimestamp = t;
+        layerStateVersion++;
     }
 
     public final long getLayerTimestamp() {
@@ -6834,6 +6917,113 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
     public final void setLayerTimestamp(final long t) {
         layerTimestamp = t;
+        layerStateVersion++;
+    }
+
+    /**
+     * Called by the layer tables of this card, and for the other layer changes that aren't kept in a table.
+     */
+    final void layerChanged() {
+        layerVersion++;
+        layerStateVersion++;
+    }
+
+    final int getLayerVersion() {
+        return layerVersion;
+    }
+
+    /**
+     * Counts the changes of the layer tables and of everything else static abilities read from this card that is not
+     * mirrored in its view: the timestamps, the current state and the remembered objects.
+     * Used to tell whether the continuous effects need to be applied again.
+     */
+    public final int getLayerStateVersion() {
+        return layerStateVersion;
+    }
+
+    /**
+     * The characteristics derived from the current state and the layer changes, like the type with all changes applied.
+     * They are worked out on first use and kept until the state, its traits or any layer change of this card changes,
+     * because AI evaluation and the card property checks ask for them over and over while nothing changed.
+     */
+    private DerivedCharacteristics getDerived() {
+        final CardState state = currentState;
+        DerivedCharacteristics d = derived;
+        if (d == null || d.state != state || d.traitsVersion != state.getTraitsVersion() || d.layerVersion != layerVersion) {
+            d = new DerivedCharacteristics(state, state.getTraitsVersion(), layerVersion);
+            derived = d;
+        }
+        return d;
+    }
+
+    /**
+     * The exact versions of what an LKI copy takes from this card and the cards it links to.
+     * Everything shown in the view is covered by the change counts of the views.
+     * Used to tell whether an earlier LKI copy of this card can be reused.
+     */
+    public final LKIState getLKIState() {
+        final List<Card> linked = Lists.newArrayList(getAttachedCards());
+        linked.add(entityAttachedTo instanceof Card ? (Card) entityAttachedTo : null);
+        linked.add(getEffectSource());
+        linked.add(meldedWith);
+        linked.add(getExiledWith());
+
+        final int[] versions = new int[5 + 2 * states.size() + 2 * linked.size()];
+        final Object[] refs = new Object[1 + states.size() + linked.size()];
+        int v = 0, r = 0;
+        versions[v++] = layerStateVersion;
+        versions[v++] = view.getChangeCount();
+        versions[v++] = numberTurnActivations.getVersion();
+        versions[v++] = numberGameActivations.getVersion();
+        versions[v++] = numberAbilityResolved.getVersion();
+        refs[r++] = castSA;
+        for (final CardState state : states.values()) {
+            refs[r++] = state;
+            versions[v++] = state.getView().getChangeCount();
+            versions[v++] = state.getTraitsVersion();
+        }
+        // the copy holds LKI of linked cards too, but don't follow their links again
+        for (final Card c : linked) {
+            refs[r++] = c;
+            versions[v++] = c == null ? 0 : c.layerStateVersion;
+            versions[v++] = c == null ? 0 : c.view.getChangeCount();
+        }
+        return new LKIState(versions, refs, counters.isEmpty() ? ImmutableMap.of() : ImmutableMap.copyOf(counters));
+    }
+
+    /** See {@link #getLKIState()}, equal only if nothing changed in between. */
+    public static final class LKIState {
+        private final int[] versions;
+        private final Object[] refs;
+        private final Map<CounterType, Integer> counters;
+
+        private LKIState(final int[] versions, final Object[] refs, final Map<CounterType, Integer> counters) {
+            this.versions = versions;
+            this.refs = refs;
+            this.counters = counters;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof LKIState)) {
+                return false;
+            }
+            final LKIState other = (LKIState) o;
+            if (!Arrays.equals(versions, other.versions) || refs.length != other.refs.length || !counters.equals(other.counters)) {
+                return false;
+            }
+            for (int i = 0; i < refs.length; i++) {
+                if (refs[i] != other.refs[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(versions);
+        }
     }
 
     public boolean equalsWithGameTimestamp(Card c) {
@@ -7107,6 +7297,45 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return currentState.getReplacementEffects();
     }
 
+    /**
+     * Replacement effects of the current state for one event type.
+     * The grouping is cached and only rebuilt when the state, its traits, the layer tables or the counters that
+     * grant effects in {@link #updateReplacementEffects} changed, so that looking for replacement effects doesn't
+     * need to assemble the full list for every card on every event.
+     */
+    public List<ReplacementEffect> getReplacementEffects(final ReplacementType mode) {
+        final int counterEffects = getReplacementCounters();
+        if (replacementEffectsByMode == null || replacementEffectsState != currentState
+                || replacementEffectsTraitsVersion != currentState.getTraitsVersion()
+                || replacementEffectsLayerVersion != layerVersion || replacementEffectsCounters != counterEffects) {
+            final Map<ReplacementType, List<ReplacementEffect>> byMode = new EnumMap<>(ReplacementType.class);
+            for (final ReplacementEffect re : getReplacementEffects()) {
+                byMode.computeIfAbsent(re.getMode(), k -> new ArrayList<>(2)).add(re);
+            }
+            replacementEffectsByMode = byMode;
+            replacementEffectsState = currentState;
+            replacementEffectsTraitsVersion = currentState.getTraitsVersion();
+            replacementEffectsLayerVersion = layerVersion;
+            replacementEffectsCounters = counterEffects;
+        }
+        return replacementEffectsByMode.getOrDefault(mode, Collections.emptyList());
+    }
+
+    // one bit for each counter type that adds replacement effects in updateReplacementEffects
+    private int getReplacementCounters() {
+        int result = 0;
+        if (getCounters(CounterEnumType.SHIELD) > 0) {
+            result |= 1;
+        }
+        if (getCounters(CounterEnumType.STUN) > 0) {
+            result |= 2;
+        }
+        if (getCounters(CounterEnumType.FINALITY) > 0) {
+            result |= 4;
+        }
+        return result;
+    }
+
     public ReplacementEffect addReplacementEffect(final ReplacementEffect replacementEffect) {
         currentState.addReplacementEffect(replacementEffect);
         return replacementEffect;
@@ -7687,6 +7916,30 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return view;
     }
 
+    /**
+     * Filled in as the values are asked for. The keys are final and the values volatile references to immutable
+     * objects, so the holder can be shared between threads and a race only works a value out twice.
+     */
+    private static final class DerivedCharacteristics {
+        private final CardState state;
+        private final int traitsVersion;
+        private final int layerVersion;
+
+        private volatile CardTypeView type;
+        private volatile ColorSet color;
+        private volatile Integer currentPower, currentToughness;
+        private volatile Integer tempPowerBoost, tempToughnessBoost;
+        private volatile Boolean ptSwitched;
+        // several threads may look up keywords of the same card, e.g. the AI while the game thread checks static abilities
+        private final Map<String, Boolean> keywords = new ConcurrentHashMap<>();
+
+        private DerivedCharacteristics(final CardState state, final int traitsVersion, final int layerVersion) {
+            this.state = state;
+            this.traitsVersion = traitsVersion;
+            this.layerVersion = layerVersion;
+        }
+    }
+
     // Counts number of instances of a given keyword.
     private static final class CountKeywordVisitor extends Visitor<KeywordInterface> {
         private String keyword;
@@ -5,7 +5,6 @@ import java.util.Map;
 import com.google.common.collect.ForwardingMap;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Table;
-import com.google.common.collect.TreeBasedTable;
 
 public final class CardChangedWords extends ForwardingMap<String, String> {
 
@@ -24,7 +23,7 @@ public final class CardChangedWords extends ForwardingMap<String, String> {
         }
     }
 
-    private final Table<Long, Long, WordHolder> map = TreeBasedTable.create();
+    private final Table<Long, Long, WordHolder> map = LayerTable.create();
 
     private boolean isDirty = false;
     private Map<String, String> resultCache = Maps.newHashMap();
@@ -39,8 +39,16 @@ public class CardCopyService {
 
     // Straight copying for things like moving a card to a different zone or using GameCopier
     public final Card copyCard(boolean assignNewId, Player owner) {
+        return copyCard(assignNewId, owner, copyFrom.isRealToken() || copyFrom.getCopiedPermanent() != null || copyFrom.getPaperCard() == null);
+    }
+
+    /**
+     * @param fromState copy the current card states instead of building the card again from its rules,
+     * the copied traits share their params with the original until either side changes them
+     */
+    public final Card copyCard(boolean assignNewId, Player owner, boolean fromState) {
         Card out;
-        if (copyFrom.isRealToken() || copyFrom.getCopiedPermanent() != null || copyFrom.getPaperCard() == null) {
+        if (fromState) {
             out = copyStats(copyFrom, owner, assignNewId);
             out.setEffectSource(copyFrom.getEffectSource());
             out.setBoon(copyFrom.isBoon());
@@ -2752,7 +2752,7 @@ public class CardFactoryUtil {
             final SpellAbility newSA = card.getFirstSpellAbility().copyWithManaCostReplaced(host.getController(), blitzCost);
 
             if (k.length > 2) {
-                newSA.getMapParams().put("ValidAfterStack", k[2]);
+                newSA.putParam("ValidAfterStack", k[2]);
             }
 
             final StringBuilder desc = new StringBuilder();
@@ -3382,7 +3382,7 @@ public class CardFactoryUtil {
             sb.append("(").append(inst.getReminderText()).append(")");
             newSA.setDescription(sb.toString());
             // need to store them for additional copies
-            newSA.getOriginalMapParams().putAll(newSA.getMapParams());
+            newSA.storeParamsAsOriginal();
 
             newSA.setIntrinsic(intrinsic);
             newSA.setAlternativeCost(AlternativeCost.Overload);
@@ -3457,7 +3457,7 @@ public class CardFactoryUtil {
             newSA.putParam("Prototype", "True");
 
             // need to store them for additional copies
-            newSA.getOriginalMapParams().putAll(newSA.getMapParams());
+            newSA.storeParamsAsOriginal();
 
             // only makes description for prompt
             newSA.setDescription(k[0] + " " + ManaCostParser.parse(k[1]) + " [" + k[2] + "/" + k[3] + "]");
@@ -27,6 +27,7 @@ import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 
 import forge.game.CardTraitBase;
+import forge.game.ValidRestriction;
 import forge.game.keyword.Keyword;
 import forge.game.player.Player;
 import forge.game.spellability.SpellAbility;
@@ -177,15 +178,15 @@ public class CardLists {
     }
 
     public static CardCollection getValidCards(Iterable<Card> cardList, String restriction, Player sourceController, Card source, CardTraitBase sa) {
-        return CardLists.filter(cardList, CardPredicates.restriction(restriction.split(","), sourceController, source, sa));
+        return CardLists.filter(cardList, CardPredicates.restriction(ValidRestriction.splitList(restriction), sourceController, source, sa));
     }
 
     public static List<Card> getValidCardsAsList(Iterable<Card> cardList, String restriction, Player sourceController, Card source, CardTraitBase sa) {
-        return CardLists.filterAsList(cardList, CardPredicates.restriction(restriction.split(","), sourceController, source, sa));
+        return CardLists.filterAsList(cardList, CardPredicates.restriction(ValidRestriction.splitList(restriction), sourceController, source, sa));
     }
 
     public static int getValidCardCount(Iterable<Card> cardList, String restriction, Player sourceController, Card source, CardTraitBase sa) {
-        return CardLists.count(cardList, CardPredicates.restriction(restriction.split(","), sourceController, source, sa));
+        return CardLists.count(cardList, CardPredicates.restriction(ValidRestriction.splitList(restriction), sourceController, source, sa));
     }
 
     public static CardCollection getTargetableCards(Iterable<Card> cardList, SpellAbility source) {
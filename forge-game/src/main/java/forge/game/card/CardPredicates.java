@@ -18,6 +18,7 @@
 package forge.game.card;
 
 import java.util.Comparator;
+import java.util.List;
 
 import com.google.common.base.Predicate;
 import com.google.common.collect.Iterables;
@@ -138,6 +139,10 @@ public final class CardPredicates {
         return c -> c != null && c.isValid(restrictions, sourceController, source, spellAbility);
     }
 
+    public static Predicate<Card> restriction(final List<String> restrictions, final Player sourceController, final Card source, final CardTraitBase spellAbility) {
+        return c -> c != null && c.isValid(restrictions, sourceController, source, spellAbility);
+    }
+
     public static Predicate<Card> restriction(final String restrictions, final Player sourceController, final Card source, final CardTraitBase spellAbility) {
         return c -> c != null && c.isValid(restrictions, sourceController, source, spellAbility);
     }
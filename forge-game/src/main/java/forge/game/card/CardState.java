@@ -75,6 +75,8 @@ public class CardState extends GameObject implements IHasSVars, ITranslatable {
     private final FCollection<SpellAbility> manaAbilities = new FCollection<>();
     private FCollection<Trigger> triggers = new FCollection<>();
     private FCollection<ReplacementEffect> replacementEffects = new FCollection<>();
+    // bumped whenever type, color, base power and toughness, keywords or replacement effects of this state change, so derived results can be cached
+    private int traitsVersion = 0;
     private FCollection<StaticAbility> staticAbilities = new FCollection<>();
     private String imageKey = "";
     private Map<String, String> sVars = Maps.newTreeMap();
@@ -139,11 +141,13 @@ public class CardState extends GameObject implements IHasSVars, ITranslatable {
         return type;
     }
     public final void addType(String type0) {
+        traitsVersion++;
         if (type.add(type0)) {
             view.updateType(this);
         }
     }
     public final void addType(Iterable<String> type0) {
+        traitsVersion++;
         if (type.addAll(type0)) {
             view.updateType(this);
         }
@@ -154,18 +158,21 @@ public class CardState extends GameObject implements IHasSVars, ITranslatable {
             return;
         }
         if (type0.isEmpty() && type.isEmpty()) { return; }
+        traitsVersion++;
         type.clear();
         type.addAll(type0);
         view.updateType(this);
     }
 
     public final void removeType(final CardType.Supertype st) {
+        traitsVersion++;
         if (type.remove(st)) {
             view.updateType(this);
         }
     }
 
     public final void removeCardTypes(boolean sanisfy) {
+        traitsVersion++;
         type.removeCardTypes();
         if (sanisfy) {
             type.sanisfySubtypes();
@@ -173,6 +180,7 @@ public class CardState extends GameObject implements IHasSVars, ITranslatable {
     }
 
     public final void setCreatureTypes(Collection<String> ctypes) {
+        traitsVersion++;
         if (type.setCreatureTypes(ctypes)) {
             view.updateType(this);
         }
@@ -190,10 +198,12 @@ public class CardState extends GameObject implements IHasSVars, ITranslatable {
         return color;
     }
     public final void addColor(final byte color) {
+        traitsVersion++;
         this.color |= color;
         view.updateColors(card);
     }
     public final void setColor(final byte color) {
+        traitsVersion++;
         this.color = color;
         view.updateColors(card);
     }
@@ -222,6 +232,7 @@ public class CardState extends GameObject implements IHasSVars, ITranslatable {
     }
     public final void setBasePower(final int basePower0) {
         if (basePower == basePower0) { return; }
+        traitsVersion++;
         basePower = basePower0;
         view.updatePower(this);
     }
@@ -231,6 +242,7 @@ public class CardState extends GameObject implements IHasSVars, ITranslatable {
     }
     public final void setBaseToughness(final int baseToughness0) {
         if (baseToughness == baseToughness0) { return; }
+        traitsVersion++;
         baseToughness = baseToughness0;
         view.updateToughness(this);
     }
@@ -283,6 +295,7 @@ public class CardState extends GameObject implements IHasSVars, ITranslatable {
     }
 
     public final void setCachedKeywords(final KeywordCollection col) {
+        traitsVersion++;
         cachedKeywords = col;
     }
 
@@ -540,13 +553,20 @@ public class CardState extends GameObject implements IHasSVars, ITranslatable {
         card.updateReplacementEffects(result, this);
         return result;
     }
+    public final int getTraitsVersion() {
+        return traitsVersion;
+    }
+
     public boolean addReplacementEffect(final ReplacementEffect replacementEffect) {
+        traitsVersion++;
         return replacementEffects.add(replacementEffect);
     }
     public boolean removeReplacementEffect(final ReplacementEffect replacementEffect) {
+        traitsVersion++;
         return replacementEffects.remove(replacementEffect);
     }
     public void clearReplacementEffects() {
+        traitsVersion++;
         replacementEffects.clear();
     }
 
@@ -622,6 +642,7 @@ public class CardState extends GameObject implements IHasSVars, ITranslatable {
         copyFrom(source, lki, null);
     }
     public final void copyFrom(final CardState source, final boolean lki, final CardTraitBase ctb) {
+        traitsVersion++;
         // Makes a "deeper" copy of a CardState object
         setName(source.getName());
         setType(source.type);
@@ -700,6 +721,7 @@ public class CardState extends GameObject implements IHasSVars, ITranslatable {
     }
 
     public final void addAbilitiesFrom(final CardState source, final boolean lki) {
+        traitsVersion++;
         for (SpellAbility sa : source.manaAbilities) {
             if (sa.isIntrinsic()) {
                 manaAbilities.add(sa.copy(card, lki));
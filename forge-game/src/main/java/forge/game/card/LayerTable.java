@@ -0,0 +1,574 @@
+package forge.game.card;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Table;
+import com.google.common.collect.Tables;
+
+/**
+ * Table of layer changes keyed by timestamp and static ability id, the way {@link Card} keeps the
+ * effects applied to it.
+ *
+ * Most cards never get any change, and the ones that do rarely have more than a few, so instead of a
+ * {@link com.google.common.collect.TreeBasedTable} this keeps the cells in sorted parallel arrays. An empty
+ * table shares empty arrays and allocates nothing else. Cells iterate in the same order as in a tree
+ * based table, by timestamp and then by static id, which is the order the layers are applied in.
+ *
+ * New changes almost always get the newest timestamp, so adding one is usually an append.
+ *
+ * The row, column and key set views reflect the table when they are read and support removal,
+ * but not adding through them.
+ *
+ * A table created for a card tells it about every change, so the card knows when the characteristics
+ * it derived from its layers are out of date.
+ */
+public final class LayerTable<V> implements Table<Long, Long, V> {
+    private static final long[] NO_KEYS = new long[0];
+    private static final Object[] NO_VALUES = new Object[0];
+
+    private long[] rowKeys = NO_KEYS;
+    private long[] columnKeys = NO_KEYS;
+    private Object[] values = NO_VALUES;
+    private int size;
+    private int modCount;
+    private final Card owner;
+
+    private LayerTable(final Card owner) {
+        this.owner = owner;
+    }
+
+    public static <V> LayerTable<V> create() {
+        return new LayerTable<>(null);
+    }
+
+    /**
+     * @return a table that calls {@link Card#layerChanged()} of the card whenever it changes
+     */
+    public static <V> LayerTable<V> create(final Card owner) {
+        return new LayerTable<>(Preconditions.checkNotNull(owner));
+    }
+
+    private void changed() {
+        if (owner != null) {
+            owner.layerChanged();
+        }
+    }
+
+    private static int compare(final long row1, final long column1, final long row2, final long column2) {
+        final int result = Long.compare(row1, row2);
+        return result != 0 ? result : Long.compare(column1, column2);
+    }
+
+    /**
+     * @return the index of the cell, or (-(insertion point) - 1) if there is none
+     */
+    private int indexOf(final long row, final long column) {
+        int high = size - 1;
+        // check the newest cell first, it's where new changes go
+        if (high < 0 || compare(rowKeys[high], columnKeys[high], row, column) < 0) {
+            return -size - 1;
+        }
+        int low = 0;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int cmp = compare(rowKeys[mid], columnKeys[mid], row, column);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -low - 1;
+    }
+
+    private int indexOf(final Object row, final Object column) {
+        if (!(row instanceof Long) || !(column instanceof Long)) {
+            return -1;
+        }
+        return indexOf((long) (Long) row, (long) (Long) column);
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(final int index) {
+        return (V) values[index];
+    }
+
+    private void insertAt(final int index, final long row, final long column, final V value) {
+        if (size == rowKeys.length) {
+            final int capacity = size < 4 ? 4 : size + (size >> 1);
+            rowKeys = Arrays.copyOf(rowKeys, capacity);
+            columnKeys = Arrays.copyOf(columnKeys, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        final int moved = size - index;
+        if (moved > 0) {
+            System.arraycopy(rowKeys, index, rowKeys, index + 1, moved);
+            System.arraycopy(columnKeys, index, columnKeys, index + 1, moved);
+            System.arraycopy(values, index, values, index + 1, moved);
+        }
+        rowKeys[index] = row;
+        columnKeys[index] = column;
+        values[index] = value;
+        size++;
+        modCount++;
+        changed();
+    }
+
+    private void removeAt(final int index) {
+        final int moved = size - index - 1;
+        if (moved > 0) {
+            System.arraycopy(rowKeys, index + 1, rowKeys, index, moved);
+            System.arraycopy(columnKeys, index + 1, columnKeys, index, moved);
+            System.arraycopy(values, index + 1, values, index, moved);
+        }
+        values[--size] = null;
+        modCount++;
+        changed();
+    }
+
+    @Override
+    public boolean contains(final Object rowKey, final Object columnKey) {
+        return indexOf(rowKey, columnKey) >= 0;
+    }
+
+    @Override
+    public boolean containsRow(final Object rowKey) {
+        return indexOfKey(true, rowKey) >= 0;
+    }
+
+    @Override
+    public boolean containsColumn(final Object columnKey) {
+        return indexOfKey(false, columnKey) >= 0;
+    }
+
+    private int indexOfKey(final boolean row, final Object key) {
+        if (!(key instanceof Long)) {
+            return -1;
+        }
+        final long k = (Long) key;
+        final long[] keys = row ? rowKeys : columnKeys;
+        for (int i = 0; i < size; i++) {
+            if (keys[i] == k) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(values[i], value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public V get(final Object rowKey, final Object columnKey) {
+        final int index = indexOf(rowKey, columnKey);
+        return index < 0 ? null : valueAt(index);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(values, 0, size, null);
+            size = 0;
+            modCount++;
+            changed();
+        }
+    }
+
+    @Override
+    public V put(final Long rowKey, final Long columnKey, final V value) {
+        Preconditions.checkNotNull(rowKey);
+        Preconditions.checkNotNull(columnKey);
+        Preconditions.checkNotNull(value);
+        final int index = indexOf((long) rowKey, (long) columnKey);
+        if (index >= 0) {
+            final V old = valueAt(index);
+            values[index] = value;
+            changed();
+            return old;
+        }
+        insertAt(-index - 1, rowKey, columnKey, value);
+        return null;
+    }
+
+    @Override
+    public void putAll(final Table<? extends Long, ? extends Long, ? extends V> table) {
+        for (final Cell<? extends Long, ? extends Long, ? extends V> cell : table.cellSet()) {
+            put(cell.getRowKey(), cell.getColumnKey(), cell.getValue());
+        }
+    }
+
+    @Override
+    public V remove(final Object rowKey, final Object columnKey) {
+        final int index = indexOf(rowKey, columnKey);
+        if (index < 0) {
+            return null;
+        }
+        final V old = valueAt(index);
+        removeAt(index);
+        return old;
+    }
+
+    @Override
+    public Map<Long, V> row(final Long rowKey) {
+        return new Line(true, rowKey);
+    }
+
+    @Override
+    public Map<Long, V> column(final Long columnKey) {
+        return new Line(false, columnKey);
+    }
+
+    @Override
+    public Set<Cell<Long, Long, V>> cellSet() {
+        return new AbstractSet<Cell<Long, Long, V>>() {
+            @Override
+            public Iterator<Cell<Long, Long, V>> iterator() {
+                return new IndexIterator<Cell<Long, Long, V>>() {
+                    @Override
+                    Cell<Long, Long, V> get(final int index) {
+                        return Tables.immutableCell(rowKeys[index], columnKeys[index], valueAt(index));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public boolean contains(final Object o) {
+                if (!(o instanceof Cell)) {
+                    return false;
+                }
+                final Cell<?, ?, ?> cell = (Cell<?, ?, ?>) o;
+                final int index = indexOf(cell.getRowKey(), cell.getColumnKey());
+                return index >= 0 && Objects.equals(values[index], cell.getValue());
+            }
+
+            @Override
+            public boolean remove(final Object o) {
+                if (!contains(o)) {
+                    return false;
+                }
+                final Cell<?, ?, ?> cell = (Cell<?, ?, ?>) o;
+                removeAt(indexOf(cell.getRowKey(), cell.getColumnKey()));
+                return true;
+            }
+        };
+    }
+
+    @Override
+    public Set<Long> rowKeySet() {
+        return new KeySet(true);
+    }
+
+    @Override
+    public Set<Long> columnKeySet() {
+        return new KeySet(false);
+    }
+
+    @Override
+    public Collection<V> values() {
+        return new AbstractCollection<V>() {
+            @Override
+            public Iterator<V> iterator() {
+                return new IndexIterator<V>() {
+                    @Override
+                    V get(final int index) {
+                        return valueAt(index);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public Map<Long, Map<Long, V>> rowMap() {
+        return new LineMap(true);
+    }
+
+    @Override
+    public Map<Long, Map<Long, V>> columnMap() {
+        return new LineMap(false);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        return obj instanceof Table && cellSet().equals(((Table<?, ?, ?>) obj).cellSet());
+    }
+
+    @Override
+    public int hashCode() {
+        return cellSet().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return rowMap().toString();
+    }
+
+    /** Iterates the indexes of the cells that match, and removes the last one from the table. */
+    private abstract class IndexIterator<T> implements Iterator<T> {
+        private int next = 0;
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        boolean matches(final int index) {
+            return true;
+        }
+
+        abstract T get(int index);
+
+        @Override
+        public boolean hasNext() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            while (next < size && !matches(next)) {
+                next++;
+            }
+            return next < size;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            return get(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(last);
+            expectedModCount = modCount;
+            next = last;
+            last = -1;
+        }
+    }
+
+    /** The cells of one row or one column, as a map by the other key. */
+    private final class Line extends AbstractMap<Long, V> {
+        private final boolean isRow;
+        private final long key;
+
+        private Line(final boolean isRow, final long key) {
+            this.isRow = isRow;
+            this.key = key;
+        }
+
+        private boolean matches(final int index) {
+            return (isRow ? rowKeys[index] : columnKeys[index]) == key;
+        }
+
+        @Override
+        public V get(final Object other) {
+            return isRow ? LayerTable.this.get(key, other) : LayerTable.this.get(other, key);
+        }
+
+        @Override
+        public boolean containsKey(final Object other) {
+            return isRow ? contains(key, other) : contains(other, key);
+        }
+
+        @Override
+        public V remove(final Object other) {
+            return isRow ? LayerTable.this.remove(key, other) : LayerTable.this.remove(other, key);
+        }
+
+        @Override
+        public Set<Entry<Long, V>> entrySet() {
+            return new AbstractSet<Entry<Long, V>>() {
+                @Override
+                public Iterator<Entry<Long, V>> iterator() {
+                    return new IndexIterator<Entry<Long, V>>() {
+                        @Override
+                        boolean matches(final int index) {
+                            return Line.this.matches(index);
+                        }
+
+                        @Override
+                        Entry<Long, V> get(final int index) {
+                            return new SimpleImmutableEntry<>(isRow ? columnKeys[index] : rowKeys[index], valueAt(index));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    int result = 0;
+                    for (int i = 0; i < size; i++) {
+                        if (matches(i)) {
+                            result++;
+                        }
+                    }
+                    return result;
+                }
+            };
+        }
+    }
+
+    /** The distinct row or column keys in ascending order, removing a key removes all its cells. */
+    private final class KeySet extends AbstractSet<Long> {
+        private final boolean isRow;
+
+        private KeySet(final boolean isRow) {
+            this.isRow = isRow;
+        }
+
+        private TreeSet<Long> keys() {
+            final long[] keys = isRow ? rowKeys : columnKeys;
+            final TreeSet<Long> result = new TreeSet<>();
+            for (int i = 0; i < size; i++) {
+                result.add(keys[i]);
+            }
+            return result;
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            return indexOfKey(isRow, o) >= 0;
+        }
+
+        @Override
+        public boolean remove(final Object o) {
+            boolean removed = false;
+            for (int index; (index = indexOfKey(isRow, o)) >= 0;) {
+                removeAt(index);
+                removed = true;
+            }
+            return removed;
+        }
+
+        @Override
+        public Iterator<Long> iterator() {
+            final Iterator<Long> it = keys().iterator();
+            return new Iterator<Long>() {
+                private Long last;
+
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public Long next() {
+                    last = it.next();
+                    return last;
+                }
+
+                @Override
+                public void remove() {
+                    if (last == null) {
+                        throw new IllegalStateException();
+                    }
+                    KeySet.this.remove(last);
+                    last = null;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return keys().size();
+        }
+    }
+
+    /** The rows or the columns, each as a {@link Line}. */
+    private final class LineMap extends AbstractMap<Long, Map<Long, V>> {
+        private final boolean isRow;
+
+        private LineMap(final boolean isRow) {
+            this.isRow = isRow;
+        }
+
+        @Override
+        public Map<Long, V> get(final Object key) {
+            return indexOfKey(isRow, key) >= 0 ? new Line(isRow, (Long) key) : null;
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return indexOfKey(isRow, key) >= 0;
+        }
+
+        @Override
+        public Set<Entry<Long, Map<Long, V>>> entrySet() {
+            return new AbstractSet<Entry<Long, Map<Long, V>>>() {
+                @Override
+                public Iterator<Entry<Long, Map<Long, V>>> iterator() {
+                    final Iterator<Long> keys = new KeySet(isRow).iterator();
+                    return new Iterator<Entry<Long, Map<Long, V>>>() {
+                        @Override
+                        public boolean hasNext() {
+                            return keys.hasNext();
+                        }
+
+                        @Override
+                        public Entry<Long, Map<Long, V>> next() {
+                            final Long key = keys.next();
+                            return new SimpleImmutableEntry<>(key, new Line(isRow, key));
+                        }
+
+                        @Override
+                        public void remove() {
+                            keys.remove();
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return new KeySet(isRow).size();
+                }
+            };
+        }
+    }
+}
@@ -1026,9 +1026,14 @@ public class PhaseHandler implements java.io.Serializable {
                         // state-based effects check could lead to game over
                         return;
                     }
-                    game.stashGameState();
+                    if (game.EXPERIMENTAL_AUTO_YIELD && pPlayerPriority.getController().isAI() && !pPlayerPriority.hasPossibleActions()) {
+                        // nothing the AI could play, pass without asking it
+                        chosenSa = null;
+                    } else {
+                        game.stashGameState();
 
-                    chosenSa = pPlayerPriority.getController().chooseSpellAbilityToPlay();
+                        chosenSa = pPlayerPriority.getController().chooseSpellAbilityToPlay();
+                    }
 
                     // this needs to come after chosenSa so it sees you conceding on own turn
                     if (playerTurn.hasLost() && pPlayerPriority.equals(playerTurn) && pFirstPriority.equals(playerTurn)) {
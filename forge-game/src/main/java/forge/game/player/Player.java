@@ -186,6 +186,12 @@ public class Player extends GameEntity implements Comparable<Player> {
     private int numManaConversion = 0;
     // The SA currently being paid for
     private Deque<SpellAbility> paidForStack = new ArrayDeque<>();
+    // when hasPossibleActions last found nothing to do, see there
+    private int noActionsChangeCount = -1;
+    private int noActionsTurn;
+    private PhaseType noActionsPhase;
+    private Player noActionsPriorityPlayer;
+    private int noActionsStackSize;
 
     private Card monarchEffect;
     private Card initiativeEffect;
@@ -2183,34 +2189,32 @@ public class Player extends GameEntity implements Comparable<Player> {
 
     @Override
     public final boolean isValid(final String restriction, final Player sourceController, final Card source, CardTraitBase spellAbility) {
-        final String[] incR = restriction.split("\\.", 2);
+        final ValidRestriction incR = ValidRestriction.of(restriction);
+        final String type = incR.getRawType();
 
-        if (incR[0].equals("Opponent")) {
+        if (type.equals("Opponent")) {
             if (equals(sourceController) || !isOpponentOf(sourceController)) {
                 return false;
             }
-        } else if (incR[0].equals("You")) {
+        } else if (type.equals("You")) {
             if (!equals(sourceController)) {
                 return false;
             }
-        } else if (incR[0].equals("Any")) {
+        } else if (type.equals("Any")) {
             //todo further check for Effect API and other replacement Effect
             /*if (spellAbility == null)
                 return false;
             ApiType apiType = ((SpellAbility) spellAbility).getApi();
             if (!(ApiType.DealDamage.equals(apiType) || ApiType.PreventDamage.equals(apiType)))
                 return false;*/
-        } else if (!incR[0].equals("Player")) {
+        } else if (!type.equals("Player")) {
             return false;
         }
 
-        if (incR.length > 1) {
-            final String excR = incR[1];
-            final String[] exR = excR.split("\\+"); // Exclusive Restrictions are ...
-            for (String s : exR) {
-                if (!hasProperty(s, sourceController, source, spellAbility)) {
-                    return false;
-                }
+        // Exclusive Restrictions are ...
+        for (String s : incR.getProperties()) {
+            if (!hasProperty(s, sourceController, source, spellAbility)) {
+                return false;
             }
         }
         return true;
@@ -2536,6 +2540,61 @@ public class Player extends GameEntity implements Comparable<Player> {
         return now.isPlayerTurn(this) && now.getPhase().isMain() && game.getStack().isEmpty();
     }
 
+    /**
+     * Whether this player could play anything at all with priority now: a land, a spell or an ability other than a mana ability.
+     * Costs aren't checked, so this is often true when nothing is affordable, but it is never false when something is playable.
+     * Finding nothing is remembered until something in the game changes, so passing players are cheap to check again.
+     */
+    public final boolean hasPossibleActions() {
+        final PhaseHandler ph = game.getPhaseHandler();
+        if (noActionsChangeCount == game.getTracker().getChangeCount() && noActionsTurn == ph.getTurn()
+                && noActionsPhase == ph.getPhase() && noActionsPriorityPlayer == ph.getPriorityPlayer()
+                && noActionsStackSize == game.getStack().size()) {
+            return false;
+        }
+
+        for (final Card c : getAvailableCards()) {
+            for (final SpellAbility sa : c.getAllPossibleAbilities(this, true)) {
+                if (isPossibleAction(sa)) {
+                    noActionsChangeCount = -1;
+                    return true;
+                }
+            }
+        }
+        // checking may update views too, so take the count afterwards
+        noActionsChangeCount = game.getTracker().getChangeCount();
+        noActionsTurn = ph.getTurn();
+        noActionsPhase = ph.getPhase();
+        noActionsPriorityPlayer = ph.getPriorityPlayer();
+        noActionsStackSize = game.getStack().size();
+        return false;
+    }
+
+    /**
+     * The cards this player might play something from: their hand and graveyard, the top card of each library,
+     * and the command zone, exile and battlefield of all players.
+     */
+    public final CardCollection getAvailableCards() {
+        final CardCollection all = new CardCollection(getCardsIn(ZoneType.Hand));
+        all.addAll(getCardsIn(ZoneType.Graveyard));
+        for (final Player p : game.getPlayers()) {
+            if (!p.getCardsIn(ZoneType.Library).isEmpty()) {
+                all.add(p.getCardsIn(ZoneType.Library).get(0));
+            }
+        }
+        all.addAll(game.getCardsIn(ZoneType.Command));
+        all.addAll(game.getCardsIn(ZoneType.Exile));
+        all.addAll(game.getCardsIn(ZoneType.Battlefield));
+        return all;
+    }
+
+    /**
+     * Whether an ability from {@link #getAvailableCards()} counts as something to do with priority: anything but a mana ability.
+     */
+    public static boolean isPossibleAction(final SpellAbility sa) {
+        return !sa.isManaAbility();
+    }
+
     public final PlayerController getController() {
         if (!controlledBy.isEmpty()) {
             return controlledBy.lastEntry().getValue().getValue();
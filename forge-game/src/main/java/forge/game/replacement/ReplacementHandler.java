@@ -137,7 +137,7 @@ public class ReplacementHandler {
                     }
                 }
 
-                for (final ReplacementEffect replacementEffect : c.getReplacementEffects()) {
+                for (final ReplacementEffect replacementEffect : c.getReplacementEffects(event)) {
                     if (!replacementEffect.hasRun() && !hasRun.contains(replacementEffect)
                             && (layer == null || replacementEffect.getLayer() == layer)
                             && replacementEffect.modeCheck(event, runParams)
@@ -18,6 +18,7 @@
 package forge.game.spellability;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import forge.game.cost.CostSacrifice;
 import forge.util.*;
@@ -41,6 +42,7 @@ import forge.game.GameEntityCounterTable;
 import forge.game.GameObject;
 import forge.game.IHasSVars;
 import forge.game.IIdentifiable;
+import forge.game.ValidRestriction;
 import forge.game.ability.AbilityKey;
 import forge.game.ability.AbilityUtils;
 import forge.game.ability.ApiType;
@@ -81,8 +83,8 @@ import forge.game.zone.ZoneType;
  * @version $Id$
  */
 public abstract class SpellAbility extends CardTraitBase implements ISpellAbility, IIdentifiable, Comparable<SpellAbility> {
-    private static int maxId = 0;
-    private static int nextId() { return ++maxId; }
+    private static final AtomicInteger maxId = new AtomicInteger();
+    private static int nextId() { return maxId.incrementAndGet(); }
 
     public static class EmptySa extends SpellAbility {
         public EmptySa(Card sourceCard) { super(sourceCard, Cost.Zero); setActivatingPlayer(sourceCard.getController());}
@@ -1230,7 +1232,7 @@ public abstract class SpellAbility extends CardTraitBase implements ISpellAbilit
         newSA.setPayCosts(newSA.getPayCosts().copyWithNoMana());
         // currently needed by AI
         if (!newSA.hasParam("WithoutManaCost")) {
-            newSA.mapParams.put("WithoutManaCost", "True");
+            newSA.putParam("WithoutManaCost", "True");
         }
         newSA.setDescription(newSA.getDescription() + " (without paying its mana cost)");
 
@@ -1710,6 +1712,7 @@ public abstract class SpellAbility extends CardTraitBase implements ISpellAbilit
 
     public void addAnnounceVar(String variable) {
         String announce = getParam("Announce");
+        ensureOwnParams();
         if (StringUtils.isBlank(announce)) {
             mapParams.put("Announce", variable);
             originalMapParams.put("Announce", variable);
@@ -2135,69 +2138,63 @@ public abstract class SpellAbility extends CardTraitBase implements ISpellAbilit
     @Override
     public final boolean isValid(final String restriction, final Player sourceController, final Card source, CardTraitBase spellAbility) {
         // Inclusive restrictions are Card types
-        final String[] incR = restriction.split("\\.", 2);
+        final ValidRestriction incR = ValidRestriction.of(restriction);
+        final String type = incR.getType();
         SpellAbility root = getRootAbility();
 
-        boolean testFailed = false;
-        if (incR[0].startsWith("!")) {
-            testFailed = true; // a bit counterintuitive
-            incR[0] = incR[0].substring(1); // consume negation sign
-        }
+        boolean testFailed = incR.isNegated(); // a bit counterintuitive
 
-        if (incR[0].equals("Spell")) {
+        if (type.equals("Spell")) {
             if (!root.isSpell()) {
                 return testFailed;
             }
         }
-        else if (incR[0].equals("Ability")) {
+        else if (type.equals("Ability")) {
             if (!root.isAbility()) {
                 return testFailed;
             }
         }
-        else if (incR[0].equals("Instant")) {
+        else if (type.equals("Instant")) {
             if (!root.getCardState().getType().isInstant()) {
                 return testFailed;
             }
         }
-        else if (incR[0].equals("Sorcery")) {
+        else if (type.equals("Sorcery")) {
             if (!root.getCardState().getType().isSorcery()) {
                 return testFailed;
             }
         }
-        else if (incR[0].equals("Triggered")) {
+        else if (type.equals("Triggered")) {
             if (!root.isTrigger()) {
                 return testFailed;
             }
         }
-        else if (incR[0].equals("Activated")) {
+        else if (type.equals("Activated")) {
             if (!root.isActivatedAbility()) {
                 return testFailed;
             }
         }
-        else if (incR[0].equals("Static")) {
+        else if (type.equals("Static")) {
             if (!(root instanceof AbilityStatic)) {
                 return testFailed;
             }
         }
-        else if (incR[0].contains("LandAbility")) {
+        else if (type.contains("LandAbility")) {
             if (!(root.isLandAbility())) {
                 return testFailed;
             }
         }
-        else if (incR[0].equals("SpellAbility")) {
+        else if (type.equals("SpellAbility")) {
             // Match anything
         }
         else { //not a spell/ability type
             return testFailed;
         }
 
-        if (incR.length > 1) {
-            final String excR = incR[1];
-            final String[] exR = excR.split("\\+"); // Exclusive Restrictions are ...
-            for (String s : exR) {
-                if (!hasProperty(s, sourceController, source, spellAbility)) {
-                    return testFailed;
-                }
+        // Exclusive Restrictions are ...
+        for (String s : incR.getProperties()) {
+            if (!hasProperty(s, sourceController, source, spellAbility)) {
+                return testFailed;
             }
         }
         return !testFailed;
@@ -48,7 +48,13 @@ import io.sentry.Sentry;
 public class TriggerHandler {
     private final Set<TriggerType> suppressedModes = Collections.synchronizedSet(EnumSet.noneOf(TriggerType.class));
     private boolean allSuppressed = false;
-    private final List<Trigger> activeTriggers = Collections.synchronizedList(new ArrayList<>());
+    // active triggers indexed by mode, so each event only looks at the triggers that can react to it,
+    // and by host card id, so zone changes only touch the triggers of the moved card.
+    // The three are only read and written together while holding the lock of this handler,
+    // the lists by mode are synchronized on their own as well because the run methods iterate over copies of them
+    private final Map<TriggerType, List<Trigger>> activeTriggersByMode = new EnumMap<>(TriggerType.class);
+    private final Map<Integer, List<Trigger>> activeTriggersByHost = new HashMap<>();
+    private final Set<Integer> activeTriggerIds = new HashSet<>();
 
     private final List<Trigger> delayedTriggers = Collections.synchronizedList(new ArrayList<>());
     private final List<Trigger> thisTurnDelayedTriggers = Collections.synchronizedList(new ArrayList<>());
@@ -58,6 +64,51 @@ public class TriggerHandler {
 
     public TriggerHandler(final Game gameState) {
         game = gameState;
+        for (final TriggerType mode : TriggerType.values()) {
+            activeTriggersByMode.put(mode, Collections.synchronizedList(new ArrayList<>()));
+        }
+    }
+
+    private List<Trigger> getActiveTriggers(final TriggerType mode) {
+        return activeTriggersByMode.get(mode);
+    }
+
+    private synchronized void addActiveTrigger(final Trigger t) {
+        activeTriggerIds.add(t.getId());
+        activeTriggersByMode.get(t.getMode()).add(t);
+        activeTriggersByHost.computeIfAbsent(t.getHostCard().getId(), k -> new ArrayList<>()).add(t);
+    }
+
+    private synchronized void removeActiveTriggers(final int hostId, final List<Trigger> toBeRemoved) {
+        final List<Trigger> byHost = activeTriggersByHost.get(hostId);
+        for (final Trigger t : toBeRemoved) {
+            activeTriggerIds.remove(t.getId());
+            activeTriggersByMode.get(t.getMode()).remove(t);
+            byHost.remove(t);
+        }
+        if (byHost.isEmpty()) {
+            activeTriggersByHost.remove(hostId);
+        }
+    }
+
+    private synchronized void clearActiveTriggers() {
+        activeTriggerIds.clear();
+        activeTriggersByHost.clear();
+        for (final List<Trigger> list : activeTriggersByMode.values()) {
+            list.clear();
+        }
+    }
+
+    private synchronized boolean isActiveId(final int id) {
+        return activeTriggerIds.contains(id);
+    }
+
+    /**
+     * @return whether the trigger is registered as active for its host card
+     */
+    public synchronized boolean isActiveTrigger(final Trigger t) {
+        final List<Trigger> byHost = activeTriggersByHost.get(t.getHostCard().getId());
+        return byHost != null && byHost.contains(t);
     }
 
     public final boolean hasDelayedTriggers() {
@@ -191,14 +242,14 @@ public class TriggerHandler {
         }
     }
 
-    private void buildActiveTrigger() {
-        activeTriggers.clear();
+    private synchronized void buildActiveTrigger() {
+        clearActiveTriggers();
         game.forEachCardInGame(new Visitor<Card>() {
             @Override
             public boolean visit(Card c) {
                 for (final Trigger t : c.getTriggers()) {
                     if (isTriggerActive(t)) {
-                        activeTriggers.add(t);
+                        addActiveTrigger(t);
                     }
                 }
                 return true;
@@ -216,10 +267,14 @@ public class TriggerHandler {
         buildActiveTrigger();
     }
 
-    public final void clearActiveTriggers(final Card c, Zone zoneFrom) {
+    public final synchronized void clearActiveTriggers(final Card c, Zone zoneFrom) {
         final List<Trigger> toBeRemoved = Lists.newArrayList();
+        final List<Trigger> hostTriggers = activeTriggersByHost.get(c.getId());
+        if (hostTriggers == null) {
+            return;
+        }
 
-        for (Trigger t : activeTriggers) {
+        for (Trigger t : hostTriggers) {
             // Clear if no ZoneFrom, or not coming from the TriggerZone
             if (c.getId() == t.getHostCard().getId()) {
                 if (!c.getTriggers().contains(t) || !t.zonesCheck(zoneFrom))
@@ -227,7 +282,7 @@ public class TriggerHandler {
             }
         }
 
-        activeTriggers.removeAll(toBeRemoved);
+        removeActiveTriggers(c.getId(), toBeRemoved);
     }
 
     public final void registerActiveTrigger(final Card c, final boolean onlyExtrinsic) {
@@ -251,9 +306,9 @@ public class TriggerHandler {
         }
     }
 
-    public final boolean registerOneTrigger(final Trigger t) {
+    public final synchronized boolean registerOneTrigger(final Trigger t) {
         if (isTriggerActive(t)) {
-            activeTriggers.add(t);
+            addActiveTrigger(t);
             return true;
         }
         return false;
@@ -274,7 +329,7 @@ public class TriggerHandler {
     }
 
     private void runStateTrigger(final Map<AbilityKey, Object> runParams) {
-        for (final Trigger t: Lists.newArrayList(activeTriggers)) {
+        for (final Trigger t: Lists.newArrayList(getActiveTriggers(TriggerType.Always))) {
             if (canRunTrigger(t, TriggerType.Always, runParams)) {
                 runSingleTrigger(t, runParams);
             }
@@ -312,7 +367,7 @@ public class TriggerHandler {
         boolean checkStatics = false;
 
         // Static triggers
-        for (final Trigger t : Lists.newArrayList(activeTriggers)) {
+        for (final Trigger t : Lists.newArrayList(getActiveTriggers(mode))) {
             if (t.isStatic() && canRunTrigger(t, mode, runParams)) {
                 int x = 1 + StaticAbilityPanharmonicon.handlePanharmonicon(game, t, runParams);
 
@@ -355,7 +410,7 @@ public class TriggerHandler {
         final TriggerType mode = wt.getMode();
         final Map<AbilityKey, Object> runParams = wt.getParams();
         final boolean wasCollected = wt.getTriggers() != null;
-        final Iterable<Trigger> triggers = wasCollected ? wt.getTriggers() : activeTriggers;
+        final Iterable<Trigger> triggers = wasCollected ? wt.getTriggers() : getActiveTriggers(mode);
 
         boolean checkStatics = false;
 
@@ -404,11 +459,9 @@ public class TriggerHandler {
             return false; // Host card isn't where it needs to be.
         }
 
-        for (Trigger t : this.activeTriggers) {
-            // If an ID that matches this ID is already active, don't add it
-            if (regtrig.getId() == t.getId()) {
-                return false;
-            }
+        // If an ID that matches this ID is already active, don't add it
+        if (isActiveId(regtrig.getId())) {
+            return false;
         }
 
         return true;
@@ -622,7 +675,7 @@ public class TriggerHandler {
 
     public List<Trigger> getActiveTrigger(final TriggerType mode, final Map<AbilityKey, Object> runParams) {
         List<Trigger> trigger = Lists.newArrayList();
-        for (final Trigger t : activeTriggers) {
+        for (final Trigger t : getActiveTriggers(mode)) {
             if (canRunTrigger(t, mode, runParams)) {
                 trigger.add(t);
             }
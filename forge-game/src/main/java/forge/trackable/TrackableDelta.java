@@ -0,0 +1,252 @@
+package forge.trackable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.Lists;
+
+import forge.game.GameView;
+import forge.game.card.CardView;
+import forge.game.card.CardView.CardStateView;
+import forge.game.combat.CombatView;
+import forge.game.player.PlayerView;
+import forge.game.spellability.StackItemView;
+
+/**
+ * The properties of a game view that changed since the previous delta, so a remote copy
+ * of the view can be kept in sync without sending the whole object graph every time.
+ *
+ * Cards, players and the game view itself are only written as references by id, the
+ * receiving side resolves them against its own tracker. Card states, stack items and
+ * combat are written in full whenever one of their properties changed.
+ *
+ * The payload is serialized when the delta is created, so it is a consistent snapshot
+ * even if the game moves on before the message is encoded.
+ */
+public final class TrackableDelta implements Serializable {
+    private static final long serialVersionUID = -3216490386720549813L;
+
+    private static final TrackableProperty[] STATE_PROPS = {
+        TrackableProperty.CurrentState, TrackableProperty.AlternateState,
+        TrackableProperty.LeftSplitState, TrackableProperty.RightSplitState
+    };
+
+    private static final ThreadLocal<Boolean> writing = new ThreadLocal<>();
+    private static final ThreadLocal<GameView> reading = new ThreadLocal<>();
+
+    private final int sequence;
+    private final int objectCount;
+    private final byte[] payload;
+
+    private TrackableDelta(final int sequence, final int objectCount, final byte[] payload) {
+        this.sequence = sequence;
+        this.objectCount = objectCount;
+        this.payload = payload;
+    }
+
+    /**
+     * @return the number of this delta since the whole view was last sent, starting at 1.
+     * A delta only applies to a view that got every delta before it.
+     */
+    public int getSequence() {
+        return sequence;
+    }
+
+    public int getObjectCount() {
+        return objectCount;
+    }
+
+    public int getPayloadSize() {
+        return payload.length;
+    }
+
+    /**
+     * Apply the changed properties to the given game view and the objects it references,
+     * creating cards and players the view doesn't know yet.
+     *
+     * @throws IOException if the payload can't be read, the view has to be sent again in full then
+     */
+    @SuppressWarnings("unchecked")
+    public void apply(final GameView gameView) throws IOException {
+        reading.set(gameView);
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(payload))) {
+            final List<TrackableObject> targets = (List<TrackableObject>) in.readObject();
+            final List<Map<TrackableProperty, Object>> values = (List<Map<TrackableProperty, Object>>) in.readObject();
+            for (int i = 0; i < targets.size(); i++) {
+                final TrackableObject target = targets.get(i);
+                for (final Map.Entry<TrackableProperty, Object> e : values.get(i).entrySet()) {
+                    target.set(e.getKey(), e.getValue());
+                }
+            }
+        } catch (final ClassNotFoundException | ClassCastException | IndexOutOfBoundsException e) {
+            throw new IOException("Could not read the game view changes", e);
+        } finally {
+            reading.remove();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TrackableDelta #" + sequence + " (" + objectCount + " objects, " + payload.length + " bytes)";
+    }
+
+    static Object writeReplace(final TrackableObject o) {
+        if (writing.get() == null) {
+            return o;
+        }
+        if (o instanceof CardView) {
+            return new Ref(Ref.CARD, o.getId());
+        }
+        if (o instanceof PlayerView) {
+            return new Ref(Ref.PLAYER, o.getId());
+        }
+        if (o instanceof GameView) {
+            return new Ref(Ref.GAME, o.getId());
+        }
+        return o;
+    }
+
+    static void readResolve(final TrackableObject o) {
+        final GameView gameView = reading.get();
+        if (gameView != null && o.getTracker() == null) {
+            o.setTracker(gameView.getTracker());
+        }
+    }
+
+    /**
+     * Stands in for a card, player or game view while a delta is written.
+     */
+    private static final class Ref implements Serializable {
+        private static final long serialVersionUID = 4103359725823419347L;
+
+        static final byte GAME = 0;
+        static final byte PLAYER = 1;
+        static final byte CARD = 2;
+
+        private final byte kind;
+        private final int id;
+
+        private Ref(final byte kind, final int id) {
+            this.kind = kind;
+            this.id = id;
+        }
+
+        private Object readResolve() {
+            final GameView gameView = reading.get();
+            if (gameView == null) {
+                return null;
+            }
+            final Tracker tracker = gameView.getTracker();
+            switch (kind) {
+            case PLAYER:
+                PlayerView player = tracker.getObj(TrackableTypes.PlayerViewType, id);
+                if (player == null) {
+                    player = new PlayerView(id, tracker);
+                    tracker.putObj(TrackableTypes.PlayerViewType, id, player);
+                }
+                return player;
+            case CARD:
+                CardView card = tracker.getObj(TrackableTypes.CardViewType, id);
+                if (card == null) {
+                    card = new CardView(id, tracker);
+                    tracker.putObj(TrackableTypes.CardViewType, id, card);
+                }
+                return card;
+            default:
+                return gameView;
+            }
+        }
+    }
+
+    /**
+     * Collects which properties changed on a tracker, one recorder per remote view.
+     */
+    public static final class Recorder {
+        private final Map<TrackableObject, Set<TrackableProperty>> changed = new LinkedHashMap<>();
+        private int sequence = 0;
+
+        synchronized void record(final TrackableObject o, final TrackableProperty key) {
+            changed.computeIfAbsent(o, k -> EnumSet.noneOf(TrackableProperty.class)).add(key);
+        }
+
+        /**
+         * Forget everything recorded so far, e.g. because the whole view is sent instead.
+         * The next delta is the first one again.
+         */
+        public synchronized void clear() {
+            changed.clear();
+            sequence = 0;
+        }
+
+        public synchronized boolean isEmpty() {
+            return changed.isEmpty();
+        }
+
+        /**
+         * Build a delta of everything recorded since the last call and start over.
+         * @return null if nothing visible changed
+         */
+        public synchronized TrackableDelta drain(final GameView gameView) {
+            // changes to card states, stack items and combat are sent with the property holding them
+            final Map<TrackableObject, Set<TrackableProperty>> roots = new LinkedHashMap<>();
+            for (final Map.Entry<TrackableObject, Set<TrackableProperty>> e : changed.entrySet()) {
+                final TrackableObject o = e.getKey();
+                if (o instanceof CardView || o instanceof PlayerView || o instanceof GameView) {
+                    roots.computeIfAbsent(o, k -> EnumSet.noneOf(TrackableProperty.class)).addAll(e.getValue());
+                } else if (o instanceof CardStateView) {
+                    final CardView card = ((CardStateView) o).getCard();
+                    for (final TrackableProperty prop : STATE_PROPS) {
+                        if (card.get(prop) == o) {
+                            roots.computeIfAbsent(card, k -> EnumSet.noneOf(TrackableProperty.class)).add(prop);
+                        }
+                    }
+                } else if (o instanceof StackItemView) {
+                    roots.computeIfAbsent(gameView, k -> EnumSet.noneOf(TrackableProperty.class)).add(TrackableProperty.Stack);
+                } else if (o instanceof CombatView) {
+                    roots.computeIfAbsent(gameView, k -> EnumSet.noneOf(TrackableProperty.class)).add(TrackableProperty.CombatView);
+                }
+                // anything else isn't reachable from the game view
+            }
+            changed.clear();
+            if (roots.isEmpty()) {
+                return null;
+            }
+
+            final List<TrackableObject> targets = Lists.newArrayListWithCapacity(roots.size());
+            final List<Map<TrackableProperty, Object>> values = Lists.newArrayListWithCapacity(roots.size());
+            for (final Map.Entry<TrackableObject, Set<TrackableProperty>> e : roots.entrySet()) {
+                final TrackableObject o = e.getKey();
+                final Map<TrackableProperty, Object> props = new EnumMap<>(TrackableProperty.class);
+                for (final TrackableProperty prop : e.getValue()) {
+                    props.put(prop, o.get(prop));
+                }
+                targets.add(o);
+                values.add(props);
+            }
+
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            writing.set(Boolean.TRUE);
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(targets);
+                out.writeObject(values);
+            } catch (final IOException e) {
+                // some property value isn't serializable, the caller should fall back to sending the whole view
+                throw new UncheckedIOException(e);
+            } finally {
+                writing.remove();
+            }
+            return new TrackableDelta(++sequence, targets.size(), bytes.toByteArray());
+        }
+    }
+}
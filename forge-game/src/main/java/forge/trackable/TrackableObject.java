@@ -18,6 +18,7 @@ public abstract class TrackableObject implements IIdentifiable, Serializable {
     private final Map<TrackableProperty, Object> props;
     private final Set<TrackableProperty> changedProps;
     private boolean copyingProps;
+    private transient int changeCount;
 
     protected TrackableObject(final int id0, final Tracker tracker) {
         id = id0;
@@ -79,16 +80,31 @@ public abstract class TrackableObject implements IIdentifiable, Serializable {
         }
         if (value == null || value.equals(key.getDefaultValue())) {
             if (props.remove(key) != null) {
-                changedProps.add(key);
+                markChanged(key);
                 key.updateObjLookup(tracker, value);
             }
         }
         else if (!value.equals(props.put(key, value))) {
-            changedProps.add(key);
+            markChanged(key);
             key.updateObjLookup(tracker, value);
         }
     }
 
+    private void markChanged(final TrackableProperty key) {
+        changeCount++;
+        changedProps.add(key);
+        if (tracker != null) {
+            tracker.markChanged(this, key);
+        }
+    }
+
+    /**
+     * @return how many times a property of this object was changed, only good to compare with an earlier value
+     */
+    public final int getChangeCount() {
+        return changeCount;
+    }
+
     public final void updateObjLookup() {
         for (final Entry<TrackableProperty, Object> prop : props.entrySet()) {
             prop.getKey().updateObjLookup(tracker, prop.getValue());
@@ -109,10 +125,20 @@ public abstract class TrackableObject implements IIdentifiable, Serializable {
 
     //use when updating collection type properties with using set
     protected final void flagAsChanged(final TrackableProperty key) {
-        changedProps.add(key);
+        markChanged(key);
         key.updateObjLookup(tracker, props.get(key));
     }
 
+    // while a TrackableDelta is written, cards, players and the game are only sent as references
+    protected Object writeReplace() {
+        return TrackableDelta.writeReplace(this);
+    }
+
+    protected Object readResolve() {
+        TrackableDelta.readResolve(this);
+        return this;
+    }
+
     public final void serialize(final TrackableSerializer ts) {
         ts.write(changedProps.size());
         for (TrackableProperty key : changedProps) {
@@ -10,7 +10,9 @@ import forge.trackable.TrackableTypes.TrackableType;
 
 public class Tracker {
     private int freezeCounter = 0;
+    private int changeCount = 0;
     private final List<DelayedPropChange> delayedPropChanges = Lists.newArrayList();
+    private final List<TrackableDelta.Recorder> recorders = Lists.newCopyOnWriteArrayList();
 
     private final Table<TrackableType<?>, Integer, Object> objLookups = HashBasedTable.create();
 
@@ -18,6 +20,26 @@ public class Tracker {
         return freezeCounter > 0;
     }
 
+    // bumped on every actual property change, so callers can tell whether anything happened since they last looked
+    public final int getChangeCount() {
+        return changeCount;
+    }
+
+    final void markChanged(final TrackableObject object, final TrackableProperty prop) {
+        changeCount++;
+        for (final TrackableDelta.Recorder recorder : recorders) {
+            recorder.record(object, prop);
+        }
+    }
+
+    public void addRecorder(final TrackableDelta.Recorder recorder) {
+        recorders.add(recorder);
+    }
+
+    public void removeRecorder(final TrackableDelta.Recorder recorder) {
+        recorders.remove(recorder);
+    }
+
     public void freeze() {
         freezeCounter++;
     }
@@ -58,6 +80,8 @@ public class Tracker {
     }
 
     public void addDelayedPropChange(final TrackableObject object, final TrackableProperty prop, final Object value) {
+        // can't tell yet if the value really differs, so count it as a change
+        changeCount++;
         delayedPropChanges.add(new DelayedPropChange(object, prop, value));
     }
 
@@ -0,0 +1,62 @@
+package forge.game;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+public class ValidRestrictionTest {
+
+    @Test
+    public void testParse() {
+        ValidRestriction r = ValidRestriction.of("!Creature.YouCtrl+withFlying");
+        AssertJUnit.assertEquals("!Creature", r.getRawType());
+        AssertJUnit.assertEquals("Creature", r.getType());
+        AssertJUnit.assertTrue(r.isNegated());
+        AssertJUnit.assertEquals(Arrays.asList("YouCtrl", "withFlying"), r.getProperties());
+        AssertJUnit.assertEquals("!Creature.YouCtrl+withFlying", r.toString());
+
+        ValidRestriction plain = ValidRestriction.of("Permanent");
+        AssertJUnit.assertEquals("Permanent", plain.getType());
+        AssertJUnit.assertFalse(plain.isNegated());
+        AssertJUnit.assertTrue(plain.getProperties().isEmpty());
+    }
+
+    @Test
+    public void testSplitListMatchesSplit() {
+        for (String valids : new String[] {"Creature", "Instant,Sorcery", "Card.YouCtrl,Emblem.YouCtrl,", "Creature.powerGE2+YouCtrl,Planeswalker"}) {
+            AssertJUnit.assertEquals(Arrays.asList(valids.split(",")), ValidRestriction.splitList(valids));
+            AssertJUnit.assertSame(ValidRestriction.splitList(valids), ValidRestriction.splitList(valids));
+        }
+    }
+
+    @Test
+    public void testSharedPartsCantBeChanged() {
+        List<String> valids = ValidRestriction.splitList("Instant,Sorcery");
+        try {
+            valids.set(0, "Creature");
+            AssertJUnit.fail("shared list can be changed");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        List<String> properties = ValidRestriction.of("Creature.YouCtrl").getProperties();
+        try {
+            properties.add("withFlying");
+            AssertJUnit.fail("shared properties can be changed");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        AssertJUnit.assertEquals(Arrays.asList("Instant", "Sorcery"), ValidRestriction.splitList("Instant,Sorcery"));
+        AssertJUnit.assertEquals(Arrays.asList("YouCtrl"), ValidRestriction.of("Creature.YouCtrl").getProperties());
+    }
+
+    @Test
+    public void testParsedAgainAfterClear() {
+        ValidRestriction before = ValidRestriction.of("Creature.YouCtrl");
+        ValidRestriction.clearCache();
+        ValidRestriction after = ValidRestriction.of("Creature.YouCtrl");
+        AssertJUnit.assertNotSame(before, after);
+        AssertJUnit.assertEquals(before.toString(), after.toString());
+    }
+}
@@ -0,0 +1,142 @@
+package forge.game.card;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.google.common.collect.Lists;
+
+import forge.card.CardStateName;
+import forge.card.CardType;
+import forge.card.ColorSet;
+import forge.card.MagicColor;
+import forge.card.RemoveType;
+import forge.util.Localizer;
+
+/**
+ * The characteristics Card derives from its current state and layers are cached, these check that every kind of
+ * change is seen right away.
+ */
+public class CardDerivedCharacteristicsTest {
+
+    private static final String CANT_ATTACK = "CARDNAME can't attack.";
+
+    @BeforeClass
+    public void setUp() {
+        // the zone names are looked up when power is worked out, tests run in the module directory
+        Localizer.getInstance().initialize("en-US", "../forge-gui/res/languages/");
+    }
+
+    private static Card createBear() {
+        final Card c = new Card(1, null);
+        c.setType(CardType.parse("Creature Bear", false));
+        c.setColor(MagicColor.GREEN);
+        c.setBasePower(2);
+        c.setBaseToughness(2);
+        return c;
+    }
+
+    @Test
+    public void testTraitChanges() {
+        final Card c = createBear();
+        Assert.assertTrue(c.getType().isCreature());
+        Assert.assertEquals(c.getColor(), ColorSet.fromMask(MagicColor.GREEN));
+        Assert.assertEquals(c.getNetPower(), 2);
+
+        c.setType(CardType.parse("Artifact", false));
+        Assert.assertFalse(c.getType().isCreature());
+        Assert.assertTrue(c.getType().isArtifact());
+
+        c.addType("Creature");
+        Assert.assertTrue(c.getType().isCreature());
+
+        c.setColor(MagicColor.RED);
+        Assert.assertEquals(c.getColor(), ColorSet.fromMask(MagicColor.RED));
+
+        c.setBasePower(5);
+        c.setBaseToughness(6);
+        Assert.assertEquals(c.getNetPower(), 5);
+        Assert.assertEquals(c.getNetToughness(), 6);
+    }
+
+    @Test
+    public void testLayerChanges() {
+        final Card c = createBear();
+        Assert.assertFalse(c.getType().isArtifact());
+        Assert.assertEquals(c.getNetPower(), 2);
+        Assert.assertFalse(c.hasKeyword(CANT_ATTACK));
+
+        c.addChangedCardTypes(CardType.parse("Artifact", false), null, false, EnumSet.noneOf(RemoveType.class), 5, 0, false, false);
+        Assert.assertTrue(c.getType().isArtifact());
+        c.removeChangedCardTypes(5, 0, false);
+        Assert.assertFalse(c.getType().isArtifact());
+
+        c.addColor(ColorSet.fromMask(MagicColor.BLUE), false, 6, 0, false);
+        Assert.assertEquals(c.getColor(), ColorSet.fromMask(MagicColor.BLUE));
+
+        c.addNewPT(4, 3, 7, 0);
+        Assert.assertEquals(c.getNetPower(), 4);
+        Assert.assertEquals(c.getNetToughness(), 3);
+        c.removeNewPT(7, 0);
+        Assert.assertEquals(c.getNetPower(), 2);
+
+        c.addPTBoost(1, 1, 8, 0);
+        Assert.assertEquals(c.getNetPower(), 3);
+        c.removePTBoost(8, 0);
+        Assert.assertEquals(c.getNetPower(), 2);
+
+        final List<String> hidden = Lists.newArrayList(CANT_ATTACK);
+        c.addHiddenExtrinsicKeywords(9, 0, hidden);
+        Assert.assertTrue(c.hasKeyword(CANT_ATTACK));
+        // removed from the list in place, not through the table
+        c.removeHiddenExtrinsicKeyword(CANT_ATTACK);
+        Assert.assertFalse(c.hasKeyword(CANT_ATTACK));
+        c.addHiddenExtrinsicKeywords(10, 0, hidden);
+        Assert.assertTrue(c.hasKeyword(CANT_ATTACK));
+        c.removeHiddenExtrinsicKeywords(10, 0);
+        Assert.assertFalse(c.hasKeyword(CANT_ATTACK));
+    }
+
+    @Test
+    public void testStateChanges() {
+        final Card c = createBear();
+        c.addAlternateState(CardStateName.Transformed, false);
+        final CardState back = c.getState(CardStateName.Transformed);
+        back.setType(CardType.parse("Enchantment", false));
+        back.setColor(MagicColor.RED);
+        back.setBasePower(4);
+        back.setBaseToughness(4);
+
+        Assert.assertTrue(c.getType().isCreature());
+        Assert.assertEquals(c.getNetPower(), 2);
+
+        c.setState(CardStateName.Transformed, false);
+        Assert.assertTrue(c.getType().isEnchantment());
+        Assert.assertFalse(c.getType().isCreature());
+        Assert.assertEquals(c.getColor(), ColorSet.fromMask(MagicColor.RED));
+        Assert.assertEquals(c.getNetPower(), 4);
+
+        c.setState(CardStateName.Original, false);
+        Assert.assertTrue(c.getType().isCreature());
+        Assert.assertEquals(c.getColor(), ColorSet.fromMask(MagicColor.GREEN));
+        Assert.assertEquals(c.getNetPower(), 2);
+    }
+
+    @Test
+    public void testOtherStateNotCached() {
+        final Card c = createBear();
+        c.addAlternateState(CardStateName.Transformed, false);
+        final CardState back = c.getState(CardStateName.Transformed);
+        back.setType(CardType.parse("Enchantment", false));
+
+        // asking about a state that isn't current doesn't go through the cache of the current one
+        Assert.assertTrue(c.getType(back).isEnchantment());
+        Assert.assertTrue(c.getType().isCreature());
+        back.setType(CardType.parse("Artifact", false));
+        Assert.assertTrue(c.getType(back).isArtifact());
+        Assert.assertFalse(c.getType().isArtifact());
+    }
+}
@@ -0,0 +1,185 @@
+package forge.game.card;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.google.common.collect.Table;
+import com.google.common.collect.TreeBasedTable;
+
+public class LayerTableTest {
+
+    /** Everything a caller can see of a table, compared against a tree based table with the same cells. */
+    private static void assertSameAsTree(final LayerTable<String> table, final TreeBasedTable<Long, Long, String> tree) {
+        Assert.assertEquals(table.size(), tree.size());
+        Assert.assertEquals(table.isEmpty(), tree.isEmpty());
+        Assert.assertEquals(new ArrayList<>(table.cellSet()), new ArrayList<>(tree.cellSet()));
+        Assert.assertEquals(new ArrayList<>(table.values()), new ArrayList<>(tree.values()));
+        Assert.assertEquals(new ArrayList<>(table.rowKeySet()), new ArrayList<>(tree.rowKeySet()));
+        Assert.assertEquals(new ArrayList<>(table.columnKeySet()), new ArrayList<>(tree.columnKeySet()));
+        Assert.assertEquals(new ArrayList<>(table.rowMap().entrySet()), new ArrayList<>(tree.rowMap().entrySet()));
+        Assert.assertEquals(table.columnMap(), tree.columnMap());
+        for (final Long row : tree.rowKeySet()) {
+            Assert.assertEquals(new ArrayList<>(table.row(row).entrySet()), new ArrayList<>(tree.row(row).entrySet()));
+        }
+        for (final Long column : tree.columnKeySet()) {
+            Assert.assertEquals(table.column(column), tree.column(column));
+        }
+        Assert.assertTrue(table.equals(tree));
+        Assert.assertTrue(tree.equals(table));
+        Assert.assertEquals(table.hashCode(), tree.hashCode());
+        Assert.assertEquals(table.toString(), tree.toString());
+    }
+
+    @Test
+    public void testPutAndRemove() {
+        final LayerTable<String> table = LayerTable.create();
+        final TreeBasedTable<Long, Long, String> tree = TreeBasedTable.create();
+        final Random random = new Random(21);
+        for (int i = 0; i < 2000; i++) {
+            // few distinct keys, so that puts replace and removes hit
+            final long row = random.nextInt(12);
+            final long column = random.nextInt(4);
+            if (random.nextInt(3) == 0) {
+                Assert.assertEquals(table.remove(row, column), tree.remove(row, column));
+            } else {
+                final String value = "v" + i;
+                Assert.assertEquals(table.put(row, column, value), tree.put(row, column, value));
+            }
+            Assert.assertEquals(table.get(row, column), tree.get(row, column));
+            Assert.assertEquals(table.contains(row, column), tree.contains(row, column));
+            Assert.assertEquals(table.containsRow(row), tree.containsRow(row));
+            Assert.assertEquals(table.containsColumn(column), tree.containsColumn(column));
+            if (i % 50 == 0) {
+                assertSameAsTree(table, tree);
+            }
+        }
+        assertSameAsTree(table, tree);
+        Assert.assertNull(table.get("not a key", 1L));
+        Assert.assertNull(table.remove(1L, null));
+
+        table.clear();
+        tree.clear();
+        assertSameAsTree(table, tree);
+    }
+
+    @Test
+    public void testIterationOrder() {
+        final LayerTable<String> table = LayerTable.create();
+        final TreeBasedTable<Long, Long, String> tree = TreeBasedTable.create();
+        // appended timestamps, then older ones and static ids out of order
+        final long[][] cells = { { 5, 0 }, { 7, 2 }, { 7, 1 }, { 9, 0 }, { 1, 3 }, { 7, 0 }, { 3, 1 }, { 12, 0 }, { 1, 1 } };
+        for (final long[] cell : cells) {
+            final String value = cell[0] + "/" + cell[1];
+            table.put(cell[0], cell[1], value);
+            tree.put(cell[0], cell[1], value);
+            assertSameAsTree(table, tree);
+        }
+
+        final Table<Long, Long, String> copy = LayerTable.create();
+        copy.putAll(tree);
+        Assert.assertEquals(copy, tree);
+    }
+
+    @Test
+    public void testViewRemoval() {
+        final LayerTable<String> table = LayerTable.create();
+        final TreeBasedTable<Long, Long, String> tree = TreeBasedTable.create();
+        for (long row = 1; row <= 6; row++) {
+            for (long column = 0; column < 3; column++) {
+                table.put(row, column, row + "/" + column);
+                tree.put(row, column, row + "/" + column);
+            }
+        }
+
+        Assert.assertEquals(table.row(2L).remove(1L), tree.row(2L).remove(1L));
+        assertSameAsTree(table, tree);
+        Assert.assertEquals(table.column(0L).remove(3L), tree.column(0L).remove(3L));
+        assertSameAsTree(table, tree);
+
+        Assert.assertEquals(table.rowKeySet().remove(4L), tree.rowKeySet().remove(4L));
+        assertSameAsTree(table, tree);
+        Assert.assertEquals(table.columnKeySet().remove(2L), tree.columnKeySet().remove(2L));
+        assertSameAsTree(table, tree);
+
+        Assert.assertEquals(table.cellSet().remove(tree.cellSet().iterator().next()), true);
+        tree.cellSet().remove(tree.cellSet().iterator().next());
+        assertSameAsTree(table, tree);
+
+        removeOdd(table.values().iterator());
+        removeOdd(tree.values().iterator());
+        assertSameAsTree(table, tree);
+
+        removeOdd(table.row(5L).entrySet().iterator());
+        removeOdd(tree.row(5L).entrySet().iterator());
+        assertSameAsTree(table, tree);
+
+        final Iterator<Map.Entry<Long, Map<Long, String>>> rows = table.rowMap().entrySet().iterator();
+        final Iterator<Map.Entry<Long, Map<Long, String>>> treeRows = tree.rowMap().entrySet().iterator();
+        rows.next();
+        rows.remove();
+        treeRows.next();
+        treeRows.remove();
+        assertSameAsTree(table, tree);
+
+        removeOdd(table.rowKeySet().iterator());
+        removeOdd(tree.rowKeySet().iterator());
+        assertSameAsTree(table, tree);
+    }
+
+    private static void removeOdd(final Iterator<?> it) {
+        boolean odd = false;
+        while (it.hasNext()) {
+            it.next();
+            if (odd) {
+                it.remove();
+            }
+            odd = !odd;
+        }
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void testNoPutThroughViews() {
+        final LayerTable<String> table = LayerTable.create();
+        table.row(1L).put(2L, "value");
+    }
+
+    @Test
+    public void testOwnerNotified() {
+        final Card owner = new Card(1, null);
+        final LayerTable<String> table = LayerTable.create(owner);
+        final List<Runnable> changes = new ArrayList<>();
+        changes.add(() -> table.put(3L, 0L, "a"));
+        changes.add(() -> table.put(5L, 0L, "b"));
+        changes.add(() -> table.put(1L, 2L, "c"));
+        // replacing a value is a change too
+        changes.add(() -> table.put(3L, 0L, "d"));
+        changes.add(() -> table.remove(5L, 0L));
+        changes.add(() -> table.row(1L).remove(2L));
+        changes.add(() -> table.put(7L, 1L, "e"));
+        changes.add(() -> table.rowKeySet().remove(7L));
+        changes.add(() -> table.put(8L, 1L, "f"));
+        changes.add(() -> table.cellSet().clear());
+        changes.add(() -> table.put(9L, 1L, "g"));
+        changes.add(() -> table.clear());
+        for (final Runnable change : changes) {
+            final int before = owner.getLayerVersion();
+            change.run();
+            Assert.assertTrue(owner.getLayerVersion() > before);
+        }
+
+        // nothing to remove, no change
+        final int before = owner.getLayerVersion();
+        table.remove(3L, 0L);
+        table.row(4L).remove(1L);
+        table.rowKeySet().remove(4L);
+        table.clear();
+        Assert.assertEquals(owner.getLayerVersion(), before);
+        Assert.assertTrue(table.isEmpty());
+    }
+}
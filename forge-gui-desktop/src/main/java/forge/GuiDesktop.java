@@ -296,6 +296,7 @@ public class GuiDesktop implements IGuiBase {
     @Override
     public void clearImageCache() {
         ImageCache.clear();
+        ImageCache.clearThumbnails();
         ImageKeys.clearMissingCards();
     }
 
@@ -34,10 +34,12 @@ import javax.imageio.ImageIO;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.tuple.Triple;
 
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader.InvalidCacheLoadException;
 import com.google.common.cache.LoadingCache;
+import com.google.common.cache.RemovalNotification;
 import com.mortennobel.imagescaling.ResampleOp;
 
 import forge.card.CardSplitType;
@@ -77,9 +79,23 @@ public class ImageCache {
     // short prefixes to save memory
 
     private static final Set<String> _missingIconKeys = new HashSet<>();
+    // images evicted from _CACHE, kept outside the heap
+    private static final OffHeapImageTier _EVICTED = new OffHeapImageTier(
+            FModel.getPreferences().getPrefInt(FPref.UI_IMAGE_CACHE_OFF_HEAP_MB) * 1024L * 1024L);
+    // scaled images that survive a restart
+    private static final ThumbnailDiskTier _THUMBNAILS = new ThumbnailDiskTier(
+            new File(ForgeConstants.CACHE_DIR, "thumbnails"),
+            FModel.getPreferences().getPrefInt(FPref.UI_IMAGE_CACHE_THUMBNAILS_MB) * 1024L * 1024L);
+    // bounded by the decoded size, a full size picture weighs as much as dozens of thumbnails
     private static final LoadingCache<String, BufferedImage> _CACHE = CacheBuilder.newBuilder()
-            .maximumSize(FModel.getPreferences().getPrefInt((FPref.UI_IMAGE_CACHE_MAXIMUM)))
+            .maximumWeight(FModel.getPreferences().getPrefInt(FPref.UI_IMAGE_CACHE_MAXIMUM_MB) * 1024L * 1024L)
+            .weigher((String key, BufferedImage image) -> OffHeapImageTier.sizeOf(image))
             .expireAfterAccess(15, TimeUnit.MINUTES)
+            .removalListener((RemovalNotification<String, BufferedImage> n) -> {
+                if (n.wasEvicted() && n.getValue() != null) {
+                    _EVICTED.put(n.getKey(), n.getValue());
+                }
+            })
             .build(new ImageLoader());
     private static final BufferedImage _defaultImage;
     static {
@@ -95,10 +111,32 @@ public class ImageCache {
 
     public static void clear() {
         _CACHE.invalidateAll();
+        _EVICTED.clear();
         _missingIconKeys.clear();
         ImageKeys.clearMissingCards();
     }
 
+    /**
+     * Delete the scaled images saved to disk, e.g. after new pictures were downloaded.
+     */
+    public static void clearThumbnails() {
+        _THUMBNAILS.clear();
+    }
+
+    /**
+     * Look up an image in memory, bringing it back from the off-heap tier if it was evicted.
+     */
+    private static BufferedImage getCached(final String key) {
+        BufferedImage image = _CACHE.getIfPresent(key);
+        if (image == null) {
+            image = _EVICTED.take(key);
+            if (image != null) {
+                _CACHE.put(key, image);
+            }
+        }
+        return image;
+    }
+
     /**
      * retrieve an image from the cache.  returns null if the image is not found in the cache
      * and cannot be loaded from disk.  pass -1 for width and/or height to avoid resizing in that dimension.
@@ -159,14 +197,16 @@ public class ImageCache {
     }
 
     public static Pair<BufferedImage, Boolean> getCardOriginalImageInfo(String imageKey, boolean useDefaultIfNotFound) {
-        return getOriginalImageInternal(imageKey, useDefaultIfNotFound, null);
+        Triple<BufferedImage, Boolean, File> info = getOriginalImageInternal(imageKey, useDefaultIfNotFound, null);
+        return Pair.of(info.getLeft(), info.getMiddle());
     }
 
-    // return the pair of image and a flag to indicate if it is a placeholder image.
-    private static Pair<BufferedImage, Boolean> getOriginalImageInternal(String imageKey, boolean useDefaultIfNotFound,
+    // return the image, a flag to indicate if it is a placeholder image and the picture it was read from,
+    // which is null if the image was rendered or is the default image.
+    private static Triple<BufferedImage, Boolean, File> getOriginalImageInternal(String imageKey, boolean useDefaultIfNotFound,
                                                                          CardView cardView) {
         if (null == imageKey) {
-            return Pair.of(null, false);
+            return Triple.of(null, false, null);
         }
 
         IPaperCard ipc = null;
@@ -214,7 +254,7 @@ public class ImageCache {
                     imageKey = ipc.getCardImageKey();
                 }
                 if (StringUtils.isBlank(imageKey))
-                    return Pair.of(_defaultImage, true);
+                    return Triple.of(_defaultImage, true, null);
             }
         }
 
@@ -235,14 +275,14 @@ public class ImageCache {
         BufferedImage original = getImage(imageKey);
 
         if (original == null && !useDefaultIfNotFound) {
-            return Pair.of(null, false);
+            return Triple.of(null, false, null);
         }
 
         // if art crop is exist, check also if the full card image is also cached.
         if (useArtCrop && original != null) {
-            BufferedImage cached = _CACHE.getIfPresent(originalKey);
+            BufferedImage cached = getCached(originalKey);
             if (cached != null)
-                return Pair.of(cached, false);
+                return Triple.of(cached, false, null);
         }
 
         boolean noBorder = !useArtCrop && !isPreferenceEnabled(ForgePreferences.FPref.UI_RENDER_BLACK_BORDERS);
@@ -290,6 +330,8 @@ public class ImageCache {
             }
         }
 
+        File source = original != null && !useArtCrop ? ImageKeys.getImageFile(imageKey) : null;
+
         // No image file exists for the given key so optionally associate with
         // a default "not available" image, however do not add it to the cache,
         // as otherwise it's problematic to update if the real image gets fetched.
@@ -317,7 +359,7 @@ public class ImageCache {
             }
         }
 
-        return Pair.of(original, isPlaceholder);
+        return Triple.of(original, isPlaceholder, source);
     }
 
     private static boolean isWhite(Color color) {
@@ -333,6 +375,17 @@ public class ImageCache {
         return !((3 > width && -1 != width) || (3 > height && -1 != height));
     }
 
+    /**
+     * The key of a saved thumbnail: besides the picture, which the thumbnail tier checks itself, every
+     * preference that changes the image read by getOriginalImageInternal or its scaling.
+     */
+    private static String thumbnailKey(final String resizedKey) {
+        return resizedKey
+                + "#" + FModel.getPreferences().getPref(FPref.UI_CARD_ART_FORMAT)
+                + (isPreferenceEnabled(FPref.UI_RENDER_BLACK_BORDERS) ? "" : "#noborder")
+                + (isPreferenceEnabled(FPref.UI_SCALE_LARGER) ? "#larger" : "");
+    }
+
     // cardView is for Emblem, since there is no paper card for them
     public static BufferedImage scaleImage(String key, final int width, final int height, boolean useDefaultImage, CardView cardView) {
         if (StringUtils.isEmpty(key) || !isSupportedImageSize(width, height)) {
@@ -342,14 +395,25 @@ public class ImageCache {
 
         String resizedKey = String.format("%s#%dx%d", key, width, height);
 
-        final BufferedImage cached = _CACHE.getIfPresent(resizedKey);
+        final BufferedImage cached = getCached(resizedKey);
         if (null != cached) {
             return cached;
         }
 
-        Pair<BufferedImage, Boolean> orgImgs = getOriginalImageInternal(key, useDefaultImage, cardView);
+        final boolean useThumbnails = -1 != width && -1 != height && isPreferenceEnabled(FPref.UI_IMAGE_CACHE_THUMBNAILS)
+                && !isPreferenceEnabled(FPref.UI_DISABLE_CARD_IMAGES);
+        final String thumbnailKey = thumbnailKey(resizedKey);
+        if (useThumbnails) {
+            final BufferedImage thumbnail = _THUMBNAILS.read(thumbnailKey);
+            if (thumbnail != null) {
+                _CACHE.put(resizedKey, thumbnail);
+                return thumbnail;
+            }
+        }
+
+        Triple<BufferedImage, Boolean, File> orgImgs = getOriginalImageInternal(key, useDefaultImage, cardView);
         BufferedImage original = orgImgs.getLeft();
-        boolean isPlaceholder = orgImgs.getRight();
+        boolean isPlaceholder = orgImgs.getMiddle();
         if (original == null) { return null; }
 
         if (original == _defaultImage) {
@@ -358,7 +422,7 @@ public class ImageCache {
             // default image and to remove the need to invalidate the cache when
             // an image gets downloaded.
             resizedKey = String.format("__DEFAULT__#%dx%d", width, height);
-            final BufferedImage cachedDefault = _CACHE.getIfPresent(resizedKey);
+            final BufferedImage cachedDefault = getCached(resizedKey);
             if (null != cachedDefault) {
                 return cachedDefault;
             }
@@ -386,6 +450,9 @@ public class ImageCache {
 
         if (!isPlaceholder) {
             _CACHE.put(resizedKey, result);
+            if (useThumbnails && bestFitScale < 1 && orgImgs.getRight() != null) {
+                _THUMBNAILS.write(thumbnailKey, orgImgs.getRight(), result);
+            }
         }
         return result;
     }
@@ -417,6 +484,11 @@ public class ImageCache {
      */
     private static BufferedImage getImage(final String key) {
         FThreads.assertExecutedByEdt(true);
+        final BufferedImage evicted = _EVICTED.take(key);
+        if (evicted != null) {
+            _CACHE.put(key, evicted);
+            return evicted;
+        }
         try {
             return ImageCache._CACHE.get(key);
         } catch (final ExecutionException ex) {
@@ -0,0 +1,108 @@
+package forge;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.WritableRaster;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the pixels of images evicted from the {@link ImageCache} in direct buffers outside the heap.
+ * Turning them back into an image is a copy, much cheaper than reading and scaling the file again.
+ * The least recently used images are dropped once the budget in bytes is used up.
+ */
+final class OffHeapImageTier {
+    private final long maxBytes;
+    private long bytes;
+    private final Map<String, Stored> images = new LinkedHashMap<>(64, 0.75f, true);
+
+    OffHeapImageTier(final long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * @return the decoded size of an image in bytes, as stored here
+     */
+    static int sizeOf(final BufferedImage image) {
+        return (int) Math.min(Integer.MAX_VALUE, 4L * image.getWidth() * image.getHeight());
+    }
+
+    synchronized void put(final String key, final BufferedImage image) {
+        final long size = sizeOf(image);
+        if (size > maxBytes) {
+            return;
+        }
+        remove(key);
+        final int width = image.getWidth();
+        final int height = image.getHeight();
+        final ByteBuffer buffer = ByteBuffer.allocateDirect((int) size).order(ByteOrder.nativeOrder());
+        final IntBuffer pixels = buffer.asIntBuffer();
+        final int[] row = new int[width];
+        for (int y = 0; y < height; y++) {
+            image.getRGB(0, y, width, 1, row, 0, width);
+            pixels.put(row);
+        }
+        images.put(key, new Stored(width, height, image.getColorModel().hasAlpha(), buffer));
+        bytes += size;
+
+        final Iterator<Stored> it = images.values().iterator();
+        while (bytes > maxBytes && it.hasNext()) {
+            bytes -= it.next().buffer.capacity();
+            it.remove();
+        }
+    }
+
+    /**
+     * Remove an image and return it as a new heap image, or null if it isn't stored.
+     */
+    synchronized BufferedImage take(final String key) {
+        final Stored stored = images.remove(key);
+        if (stored == null) {
+            return null;
+        }
+        bytes -= stored.buffer.capacity();
+        final BufferedImage image = new BufferedImage(stored.width, stored.height,
+                stored.alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        final WritableRaster raster = image.getRaster();
+        final IntBuffer pixels = stored.buffer.asIntBuffer();
+        final int[] row = new int[stored.width];
+        for (int y = 0; y < stored.height; y++) {
+            pixels.get(row);
+            raster.setDataElements(0, y, stored.width, 1, row);
+        }
+        return image;
+    }
+
+    synchronized void remove(final String key) {
+        final Stored stored = images.remove(key);
+        if (stored != null) {
+            bytes -= stored.buffer.capacity();
+        }
+    }
+
+    synchronized void clear() {
+        images.clear();
+        bytes = 0;
+    }
+
+    synchronized long getBytes() {
+        return bytes;
+    }
+
+    private static final class Stored {
+        private final int width;
+        private final int height;
+        private final boolean alpha;
+        private final ByteBuffer buffer;
+
+        private Stored(final int width, final int height, final boolean alpha, final ByteBuffer buffer) {
+            this.width = width;
+            this.height = height;
+            this.alpha = alpha;
+            this.buffer = buffer;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package forge;
+
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import javax.imageio.ImageIO;
+
+import forge.util.ThreadUtil;
+
+/**
+ * Scaled card images saved to disk, so that browsing a large card pool after a restart doesn't decode
+ * and scale every full size picture again.
+ *
+ * Each file starts with the cache key and the path, length and modification time of the picture it was
+ * scaled from, followed by the image as png. A thumbnail is only used while its picture is unchanged.
+ *
+ * Every size a card is shown at gets a file of its own, so the directory is kept below a size limit by
+ * deleting the least recently used thumbnails. Reading a thumbnail touches its file for that.
+ */
+final class ThumbnailDiskTier {
+    private static final String SUFFIX = ".thumb";
+    // the header layout, files of older layouts are ignored
+    private static final int VERSION = 2;
+
+    private final File dir;
+    private final long maxBytes;
+    // the size of all thumbnails, -1 until the directory was looked at
+    private long totalBytes = -1;
+
+    ThumbnailDiskTier(final File dir, final long maxBytes) {
+        this.dir = dir;
+        this.maxBytes = maxBytes;
+    }
+
+    private File fileFor(final String key) {
+        return new File(dir, String.format("%08x", key.hashCode()) + SUFFIX);
+    }
+
+    BufferedImage read(final String key) {
+        final File file = fileFor(key);
+        if (!file.isFile()) {
+            return null;
+        }
+        final BufferedImage image;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != VERSION || !key.equals(in.readUTF())) {
+                return null;
+            }
+            final File source = new File(in.readUTF());
+            if (source.length() != in.readLong() || source.lastModified() != in.readLong()) {
+                return null;
+            }
+            image = ImageIO.read(in);
+        } catch (final IOException e) {
+            return null;
+        }
+        if (image != null) {
+            file.setLastModified(System.currentTimeMillis());
+        }
+        return image;
+    }
+
+    /**
+     * Save the thumbnail in the background.
+     */
+    void write(final String key, final File source, final BufferedImage image) {
+        ThreadUtil.getServicePool().submit(() -> {
+            final File file = fileFor(key);
+            final File temp = new File(dir, file.getName() + ".tmp");
+            try {
+                dir.mkdirs();
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+                    out.writeInt(VERSION);
+                    out.writeUTF(key);
+                    out.writeUTF(source.getAbsolutePath());
+                    out.writeLong(source.length());
+                    out.writeLong(source.lastModified());
+                    ImageIO.write(image, "png", out);
+                }
+                replace(temp, file);
+            } catch (final IOException e) {
+                temp.delete();
+            }
+        });
+    }
+
+    private synchronized void replace(final File temp, final File file) {
+        final long replaced = file.length();
+        if (!temp.renameTo(file)) {
+            file.delete();
+            if (!temp.renameTo(file)) {
+                temp.delete();
+            }
+        }
+        if (totalBytes < 0) {
+            totalBytes = sizeOf(listThumbnails());
+        } else {
+            totalBytes += file.length() - replaced;
+        }
+        if (totalBytes > maxBytes) {
+            evict();
+        }
+    }
+
+    /**
+     * Delete the least recently used thumbnails until a quarter of the limit is free again,
+     * so the next few writes don't have to look at the whole directory.
+     */
+    private void evict() {
+        final File[] files = listThumbnails();
+        // reads touch the files meanwhile, so sort on a snapshot of the times
+        final long[] lastUsed = new long[files.length];
+        for (int i = 0; i < files.length; i++) {
+            lastUsed[i] = files[i].lastModified();
+        }
+        final Integer[] order = new Integer[files.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingLong(i -> lastUsed[i]));
+
+        totalBytes = sizeOf(files);
+        final long target = maxBytes - maxBytes / 4;
+        for (final int i : order) {
+            if (totalBytes <= target) {
+                break;
+            }
+            final long length = files[i].length();
+            if (files[i].delete()) {
+                totalBytes -= length;
+            }
+        }
+    }
+
+    private File[] listThumbnails() {
+        final File[] files = dir.listFiles((d, name) -> name.endsWith(SUFFIX));
+        return files == null ? new File[0] : files;
+    }
+
+    private static long sizeOf(final File[] files) {
+        long size = 0;
+        for (final File file : files) {
+            size += file.length();
+        }
+        return size;
+    }
+
+    synchronized void clear() {
+        final File[] files = dir.listFiles();
+        if (files != null) {
+            for (final File file : files) {
+                file.delete();
+            }
+        }
+        totalBytes = 0;
+    }
+}
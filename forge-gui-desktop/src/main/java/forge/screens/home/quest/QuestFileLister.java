@@ -3,7 +3,6 @@ package forge.screens.home.quest;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.event.MouseEvent;
-import java.io.File;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -16,8 +15,8 @@ import javax.swing.border.Border;
 
 import forge.gamemodes.quest.QuestUtil;
 import forge.gamemodes.quest.data.QuestData;
+import forge.gamemodes.quest.io.QuestDataIO;
 import forge.gui.UiCommand;
-import forge.localinstance.properties.ForgeConstants;
 import forge.localinstance.skin.FSkinProp;
 import forge.model.FModel;
 import forge.toolbox.FLabel;
@@ -383,8 +382,7 @@ public class QuestFileLister extends JPanel {
             return;
         }
 
-        new File(ForgeConstants.QUEST_SAVE_DIR, r0.getQuestData().getName() + ".dat").delete();
-        new File(ForgeConstants.QUEST_SAVE_DIR, r0.getQuestData().getName() + ".dat.bak").delete();
+        QuestDataIO.deleteData(r0.getQuestData().getName());
 
         if (cmdRowDelete != null) { cmdRowDelete.run(); }
 
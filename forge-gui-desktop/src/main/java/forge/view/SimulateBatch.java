@@ -0,0 +1,287 @@
+package forge.view;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import forge.deck.Deck;
+import forge.game.Game;
+import forge.game.GameEndReason;
+import forge.game.GameLogEntry;
+import forge.game.GameLogEntryType;
+import forge.game.GameRules;
+import forge.game.GameType;
+import forge.game.Match;
+import forge.game.player.RegisteredPlayer;
+import forge.localinstance.properties.ForgePreferences.FPref;
+import forge.model.FModel;
+import forge.player.GamePlayerUtil;
+import forge.util.MyRandom;
+import forge.util.TextUtil;
+import forge.util.ThreadUtil;
+
+/**
+ * Runs a number of independent AI vs AI games at once, one game per worker thread.
+ * Every game gets its own {@link Match}, its own players and its own seed, derived from the batch seed,
+ * so a batch can be replayed with the same -s value.
+ *
+ * The games run on the game thread pool of {@link ThreadUtil}. A game that takes longer than the timeout
+ * is interrupted and counted as a draw, and the batch goes on without waiting for its thread.
+ */
+public class SimulateBatch {
+    private static final int GAME_TIMEOUT_MS = 120 * 1000;
+
+    private final GameRules rules;
+    private final List<Deck> decks;
+    private final int nGames;
+    private final int nThreads;
+    private final long seed;
+    private final boolean outputGamelog;
+
+    public SimulateBatch(GameRules rules, List<Deck> decks, int nGames, int nThreads, long seed, boolean outputGamelog) {
+        this.rules = rules;
+        this.decks = decks;
+        this.nGames = nGames;
+        this.nThreads = nThreads > 0 ? nThreads : Runtime.getRuntime().availableProcessors();
+        this.seed = seed;
+        this.outputGamelog = outputGamelog;
+    }
+
+    private static class GameResult {
+        final String winner; // null for a draw
+        final int turns;
+        final long millis;
+        final boolean timedOut;
+
+        GameResult(String winner, int turns, long millis, boolean timedOut) {
+            this.winner = winner;
+            this.turns = turns;
+            this.millis = millis;
+            this.timedOut = timedOut;
+        }
+    }
+
+    public void run() {
+        System.out.println(TextUtil.concatNoSpace("Running ", String.valueOf(nGames), " games on ",
+                String.valueOf(nThreads), " threads, seed ", String.valueOf(seed)));
+
+        // seeds are drawn up front so that game i always gets the same seed, whatever the thread scheduling
+        final Random seeder = new Random(seed);
+        final long[] gameSeeds = new long[nGames];
+        for (int i = 0; i < nGames; i++) {
+            gameSeeds[i] = seeder.nextLong();
+        }
+
+        final ExecutorCompletionService<GameResult> completion = new ExecutorCompletionService<>(ThreadUtil::invokeInGameThread);
+        // in the order they were started, so the first one is the next to time out
+        final Map<Future<GameResult>, BatchGame> running = new LinkedHashMap<>();
+        final List<GameResult> results = new ArrayList<>(nGames);
+        final long start = System.currentTimeMillis();
+        int started = 0;
+        try {
+            while (started < nGames || !running.isEmpty()) {
+                while (started < nGames && running.size() < nThreads) {
+                    final BatchGame game = new BatchGame(started, gameSeeds[started]);
+                    running.put(completion.submit(game::play), game);
+                    started++;
+                }
+                final Map.Entry<Future<GameResult>, BatchGame> oldest = running.entrySet().iterator().next();
+                final long wait = oldest.getValue().deadline - System.currentTimeMillis();
+                final Future<GameResult> done = completion.poll(Math.max(0, wait), TimeUnit.MILLISECONDS);
+                if (done == null) {
+                    // most likely stuck in an AI decision, which doesn't look at the game being over
+                    if (oldest.getKey().cancel(true)) {
+                        running.remove(oldest.getKey());
+                        results.add(oldest.getValue().stop());
+                    }
+                } else if (running.remove(done) != null) { // cancelled games are already counted
+                    try {
+                        results.add(done.get());
+                    } catch (ExecutionException e) {
+                        e.getCause().printStackTrace();
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            for (Future<GameResult> f : running.keySet()) {
+                f.cancel(true);
+            }
+        }
+        final long elapsed = System.currentTimeMillis() - start;
+
+        printSummary(results, elapsed);
+    }
+
+    private List<RegisteredPlayer> createPlayers() {
+        final List<RegisteredPlayer> players = new ArrayList<>();
+        int i = 1;
+        for (Deck d : decks) {
+            String name = TextUtil.concatNoSpace("Ai(", String.valueOf(i), ")-", d.getName());
+            RegisteredPlayer rp = rules.getGameType().equals(GameType.Commander) ? RegisteredPlayer.forCommander(d) : new RegisteredPlayer(d);
+            rp.setPlayer(GamePlayerUtil.createAiPlayer(name, i - 1));
+            players.add(rp);
+            i++;
+        }
+        return players;
+    }
+
+    /**
+     * Ends the game as a draw unless it is over already. Games end themselves with the same synchronized
+     * call, so only one of them gets to set the outcome.
+     */
+    private static boolean endAsDraw(Game game) {
+        synchronized (game) {
+            if (game.isGameOver()) {
+                return false;
+            }
+            game.setGameOver(GameEndReason.Draw);
+            return true;
+        }
+    }
+
+    private class BatchGame {
+        private final int iGame;
+        private final long gameSeed;
+        private final long deadline;
+        private final AtomicBoolean stopped = new AtomicBoolean(false);
+        private volatile Game game;
+        private volatile long gameStart;
+
+        private BatchGame(int iGame, long gameSeed) {
+            this.iGame = iGame;
+            this.gameSeed = gameSeed;
+            this.deadline = System.currentTimeMillis() + GAME_TIMEOUT_MS;
+        }
+
+        private GameResult play() {
+            MyRandom.setThreadRandom(new Random(gameSeed));
+            try {
+                final Match mc = new Match(rules, createPlayers(), "Batch");
+                final Game game = mc.createGame();
+                game.EXPERIMENTAL_INCREMENTAL_STATICS = FModel.getPreferences().getPrefBoolean(FPref.MATCH_EXPERIMENTAL_INCREMENTAL_STATICS);
+                game.CHECK_INCREMENTAL_STATICS = FModel.getPreferences().getPrefBoolean(FPref.DEV_CHECK_INCREMENTAL_STATICS);
+                game.EXPERIMENTAL_REUSE_LKI = FModel.getPreferences().getPrefBoolean(FPref.MATCH_EXPERIMENTAL_REUSE_LKI);
+                game.EXPERIMENTAL_AUTO_YIELD = FModel.getPreferences().getPrefBoolean(FPref.MATCH_EXPERIMENTAL_AUTO_YIELD);
+                gameStart = System.currentTimeMillis();
+                this.game = game;
+
+                try {
+                    mc.startGame(game);
+                } catch (Exception | StackOverflowError e) {
+                    if (!stopped.get()) {
+                        e.printStackTrace();
+                    }
+                } finally {
+                    endAsDraw(game);
+                }
+                if (stopped.get()) {
+                    return null;
+                }
+                final long millis = System.currentTimeMillis() - gameStart;
+
+                final String winner = game.getOutcome().isDraw() ? null : game.getOutcome().getWinningLobbyPlayer().getName();
+                final int turns = game.getPhaseHandler().getTurn();
+                printGame(game, iGame, gameSeed, winner, millis);
+                return new GameResult(winner, turns, millis, false);
+            } finally {
+                MyRandom.setThreadRandom(null);
+            }
+        }
+
+        /**
+         * Called once the game thread was interrupted. The game keeps running until its thread notices,
+         * so only the turn it reached is looked at.
+         */
+        private GameResult stop() {
+            stopped.set(true);
+            final Game game = this.game;
+            int turns = 0;
+            long millis = 0;
+            if (game != null) {
+                endAsDraw(game);
+                turns = game.getPhaseHandler().getTurn();
+                millis = System.currentTimeMillis() - gameStart;
+            }
+            System.out.println(String.format("Game Result: Game %d (seed %d) was stopped as a Draw after %d ms and %d turns.",
+                    1 + iGame, gameSeed, millis, turns));
+            return new GameResult(null, turns, millis, true);
+        }
+    }
+
+    private void printGame(Game game, int iGame, long gameSeed, String winner, long millis) {
+        final StringBuilder sb = new StringBuilder();
+        List<GameLogEntry> log = game.getGameLog().getLogEntries(outputGamelog ? null : GameLogEntryType.MATCH_RESULTS);
+        Collections.reverse(log);
+        for (GameLogEntry l : log) {
+            sb.append(l).append(System.lineSeparator());
+        }
+        if (winner == null) {
+            sb.append(String.format("Game Result: Game %d (seed %d) ended in a Draw! Took %d ms.", 1 + iGame, gameSeed, millis));
+        } else {
+            sb.append(String.format("Game Result: Game %d (seed %d) ended in %d ms. %s has won!", 1 + iGame, gameSeed, millis, winner));
+        }
+        // one call per game, so output of games running in parallel does not interleave
+        System.out.println(sb);
+    }
+
+    private void printSummary(List<GameResult> results, long elapsed) {
+        if (results.isEmpty()) {
+            System.out.println("No games finished.");
+            return;
+        }
+        final int n = results.size();
+        final Map<String, Integer> wins = new TreeMap<>();
+        int draws = 0;
+        int timeouts = 0;
+        final int[] turns = new int[n];
+        final long[] millis = new long[n];
+        for (int i = 0; i < n; i++) {
+            GameResult r = results.get(i);
+            if (r.winner == null) {
+                draws++;
+            } else {
+                wins.merge(r.winner, 1, Integer::sum);
+            }
+            if (r.timedOut) {
+                timeouts++;
+            }
+            turns[i] = r.turns;
+            millis[i] = r.millis;
+        }
+        Arrays.sort(turns);
+        Arrays.sort(millis);
+
+        System.out.println();
+        System.out.println(TextUtil.concatNoSpace("Batch finished: ", String.valueOf(n), " games in ",
+                String.valueOf(elapsed), " ms (", String.format("%.2f", n * 1000.0 / Math.max(1, elapsed)), " games/sec)"));
+        for (Map.Entry<String, Integer> e : wins.entrySet()) {
+            System.out.printf("\t%s: %d wins (%.1f%%)%n", e.getKey(), e.getValue(), 100.0 * e.getValue() / n);
+        }
+        System.out.printf("\tDraws: %d (%.1f%%), of which %d timed out%n", draws, 100.0 * draws / n, timeouts);
+        System.out.printf("\tTurns: p50 %d, p90 %d, p99 %d, max %d%n",
+                turns[percentileIndex(n, 50)], turns[percentileIndex(n, 90)], turns[percentileIndex(n, 99)], turns[n - 1]);
+        System.out.printf("\tGame time (ms): p50 %d, p90 %d, p99 %d, max %d%n",
+                millis[percentileIndex(n, 50)], millis[percentileIndex(n, 90)], millis[percentileIndex(n, 99)], millis[n - 1]);
+        // threads left busy here usually belong to games that ignored being stopped
+        for (Map.Entry<String, String> e : ThreadUtil.getPoolStatistics().entrySet()) {
+            System.out.printf("\tThreads (%s): %s%n", e.getKey(), e.getValue());
+        }
+    }
+
+    private static int percentileIndex(int n, int percentile) {
+        // nearest-rank method
+        int rank = (int) Math.ceil(percentile / 100.0 * n);
+        return Math.max(0, Math.min(n - 1, rank - 1));
+    }
+}
@@ -10,6 +10,7 @@ import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.commons.lang3.time.StopWatch;
 
 import forge.LobbyPlayer;
@@ -31,9 +32,11 @@ import forge.gamemodes.tournament.system.TournamentPlayer;
 import forge.gamemodes.tournament.system.TournamentRoundRobin;
 import forge.gamemodes.tournament.system.TournamentSwiss;
 import forge.localinstance.properties.ForgeConstants;
+import forge.localinstance.properties.ForgePreferences.FPref;
 import forge.model.FModel;
 import forge.player.GamePlayerUtil;
 import forge.util.Lang;
+import forge.util.MyRandom;
 import forge.util.TextUtil;
 import forge.util.WordUtil;
 import forge.util.storage.IStorage;
@@ -104,6 +107,12 @@ public class SimulateMatch {
             return;
         }
 
+        if (params.containsKey("j") && matchSize == 0) {
+            simulateBatch(params, rules, nGames, outputGamelog);
+            System.out.flush();
+            return;
+        }
+
         List<RegisteredPlayer> pp = new ArrayList<>();
         StringBuilder sb = new StringBuilder();
 
@@ -158,7 +167,7 @@ public class SimulateMatch {
     }
 
     private static void argumentHelp() {
-        System.out.println("Syntax: forge.exe sim -d <deck1[.dck]> ... <deckX[.dck]> -D [D] -n [N] -m [M] -t [T] -p [P] -f [F] -q");
+        System.out.println("Syntax: forge.exe sim -d <deck1[.dck]> ... <deckX[.dck]> -D [D] -n [N] -m [M] -t [T] -p [P] -f [F] -j [J] -s [S] -q");
         System.out.println("\tsim - stands for simulation mode");
         System.out.println("\tdeck1 (or deck2,...,X) - constructed deck name or filename (has to be quoted when contains multiple words)");
         System.out.println("\tdeck is treated as file if it ends with a dot followed by three numbers or letters");
@@ -168,6 +177,8 @@ public class SimulateMatch {
         System.out.println("\tT - Type of tournament to run with all provided decks (Bracket, RoundRobin, Swiss)");
         System.out.println("\tP - Amount of players per match (used only with Tournaments, defaults to 2)");
         System.out.println("\tF - format of games, defaults to constructed");
+        System.out.println("\tJ - Play the N games in parallel on J threads (0 = one per core) and print aggregated stats. (Ignored with M or T)");
+        System.out.println("\tS - Seed for parallel games, a positive number each game derives its own seed from. (Optional, random if omitted)");
         System.out.println("\tq - Quiet flag. Output just the game result, not the entire game log.");
     }
 
@@ -176,6 +187,10 @@ public class SimulateMatch {
         sw.start();
 
         final Game g1 = mc.createGame();
+        g1.EXPERIMENTAL_INCREMENTAL_STATICS = FModel.getPreferences().getPrefBoolean(FPref.MATCH_EXPERIMENTAL_INCREMENTAL_STATICS);
+        g1.CHECK_INCREMENTAL_STATICS = FModel.getPreferences().getPrefBoolean(FPref.DEV_CHECK_INCREMENTAL_STATICS);
+        g1.EXPERIMENTAL_REUSE_LKI = FModel.getPreferences().getPrefBoolean(FPref.MATCH_EXPERIMENTAL_REUSE_LKI);
+        g1.EXPERIMENTAL_AUTO_YIELD = FModel.getPreferences().getPrefBoolean(FPref.MATCH_EXPERIMENTAL_AUTO_YIELD);
         // will run match in the same thread
         try {
             TimeLimitedCodeBlock.runWithTimeout(() -> {
@@ -342,6 +357,45 @@ public class SimulateMatch {
         tourney.outputTournamentResults();
     }
 
+    private static void simulateBatch(Map<String, List<String>> params, GameRules rules, int nGames, boolean outputGamelog) {
+        List<Deck> decks = new ArrayList<>();
+        if (params.containsKey("d")) {
+            for (String deck : params.get("d")) {
+                Deck d = deckFromCommandLineParameter(deck, rules.getGameType());
+                if (d == null) {
+                    System.out.println(TextUtil.concatNoSpace("Could not load deck - ", deck, ", match cannot start"));
+                    return;
+                }
+                decks.add(d);
+            }
+        }
+        if (decks.size() < 2) {
+            System.out.println("At least two decks are needed to run games in parallel.");
+            return;
+        }
+
+        List<String> threadParam = params.get("j");
+        int nThreads = threadParam.isEmpty() ? 0 : NumberUtils.toInt(threadParam.get(0), -1);
+        if (nThreads < 0) {
+            System.err.println("The thread count (-j) has to be 0 or a positive number");
+            argumentHelp();
+            return;
+        }
+        // kept positive, so the seed printed for a batch can be passed back with -s
+        long seed = MyRandom.getRandom().nextLong() & Long.MAX_VALUE;
+        if (params.containsKey("s")) {
+            List<String> seedParam = params.get("s");
+            seed = seedParam.isEmpty() ? 0 : NumberUtils.toLong(seedParam.get(0), 0);
+            if (seed <= 0) {
+                System.err.println("The seed (-s) has to be a positive number");
+                argumentHelp();
+                return;
+            }
+        }
+
+        new SimulateBatch(rules, decks, nGames, nThreads, seed, outputGamelog).run();
+    }
+
     public static Match simulateOffthreadGame(List<Deck> decks, GameType format, int games) {
         return null;
     }
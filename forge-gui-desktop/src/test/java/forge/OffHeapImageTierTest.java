@@ -0,0 +1,62 @@
+package forge;
+
+import java.awt.image.BufferedImage;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+@Test(groups = { "UnitTest" })
+public class OffHeapImageTierTest {
+
+    private static BufferedImage image(final int width, final int height, final int type) {
+        final BufferedImage image = new BufferedImage(width, height, type);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, 0x80000000 | (x * 7) << 16 | (y * 13) << 8 | (x ^ y));
+            }
+        }
+        return image;
+    }
+
+    @Test(groups = { "UnitTest", "fast" })
+    public void testRoundTrip() {
+        final OffHeapImageTier tier = new OffHeapImageTier(1 << 20);
+        final BufferedImage argb = image(20, 30, BufferedImage.TYPE_INT_ARGB);
+        final BufferedImage rgb = image(20, 30, BufferedImage.TYPE_3BYTE_BGR);
+        tier.put("argb", argb);
+        tier.put("rgb", rgb);
+        Assert.assertEquals(tier.getBytes(), 2 * 4 * 20 * 30);
+
+        final BufferedImage restored = tier.take("argb");
+        Assert.assertNotNull(restored);
+        Assert.assertTrue(restored.getColorModel().hasAlpha());
+        final BufferedImage restoredRgb = tier.take("rgb");
+        Assert.assertFalse(restoredRgb.getColorModel().hasAlpha());
+        for (int y = 0; y < 30; y++) {
+            for (int x = 0; x < 20; x++) {
+                Assert.assertEquals(restored.getRGB(x, y), argb.getRGB(x, y));
+                Assert.assertEquals(restoredRgb.getRGB(x, y), rgb.getRGB(x, y));
+            }
+        }
+        Assert.assertNull(tier.take("argb"));
+        Assert.assertEquals(tier.getBytes(), 0);
+    }
+
+    @Test(groups = { "UnitTest", "fast" })
+    public void testBudget() {
+        // room for two 10x10 images
+        final OffHeapImageTier tier = new OffHeapImageTier(2 * 4 * 10 * 10);
+        tier.put("a", image(10, 10, BufferedImage.TYPE_INT_ARGB));
+        tier.put("b", image(10, 10, BufferedImage.TYPE_INT_ARGB));
+        tier.take("a");
+        tier.put("a", image(10, 10, BufferedImage.TYPE_INT_ARGB));
+        tier.put("c", image(10, 10, BufferedImage.TYPE_INT_ARGB));
+        // b was used least recently
+        Assert.assertNull(tier.take("b"));
+        Assert.assertNotNull(tier.take("a"));
+        Assert.assertNotNull(tier.take("c"));
+
+        tier.put("big", image(20, 20, BufferedImage.TYPE_INT_ARGB));
+        Assert.assertNull(tier.take("big"));
+    }
+}
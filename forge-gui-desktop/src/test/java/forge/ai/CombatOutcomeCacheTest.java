@@ -0,0 +1,146 @@
+package forge.ai;
+
+import java.util.function.Supplier;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import forge.ai.CombatOutcomeCache.Outcome;
+import forge.ai.simulation.SimulationTest;
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.combat.Combat;
+import forge.game.player.Player;
+
+public class CombatOutcomeCacheTest extends SimulationTest {
+
+    /** Counts how often the outcome was actually computed. */
+    private static final class Counting implements Supplier<Boolean> {
+        private int calls;
+
+        @Override
+        public Boolean get() {
+            calls++;
+            return true;
+        }
+    }
+
+    private static void lookup(Player ai, Card attacker, Card blocker, Combat combat, Counting compute) {
+        CombatOutcomeCache.get(Outcome.DESTROY_ATTACKER, ai, attacker, blocker, combat, false, false, compute);
+    }
+
+    @Test
+    public void testSameInputsHit() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Player opp = game.getPlayers().get(0);
+        Card attacker = addCard("Grizzly Bears", p);
+        Card blocker = addCard("Runeclaw Bear", opp);
+        Combat combat = new Combat(p);
+        combat.addAttacker(attacker, opp);
+        combat.addBlocker(attacker, blocker);
+
+        Counting compute = new Counting();
+        CombatOutcomeCache cache = CombatOutcomeCache.open();
+        AssertJUnit.assertNotNull(cache);
+        try {
+            // planning the attack predicts the blocks with the cache that is already open
+            AssertJUnit.assertNull(CombatOutcomeCache.open());
+            lookup(opp, attacker, blocker, combat, compute);
+            lookup(opp, attacker, blocker, combat, compute);
+            AssertJUnit.assertEquals(1, compute.calls);
+            // another outcome of the same pair isn't the same answer
+            CombatOutcomeCache.get(Outcome.DESTROY_BLOCKER, opp, attacker, blocker, combat, false, false, compute);
+            AssertJUnit.assertEquals(2, compute.calls);
+        } finally {
+            CombatOutcomeCache.close(cache);
+        }
+
+        // closed, everything is computed again
+        lookup(opp, attacker, blocker, combat, compute);
+        lookup(opp, attacker, blocker, combat, compute);
+        AssertJUnit.assertEquals(4, compute.calls);
+    }
+
+    @Test
+    public void testChangedBlockersMiss() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Player opp = game.getPlayers().get(0);
+        Card attacker = addCard("Grizzly Bears", p);
+        Card blocker = addCard("Runeclaw Bear", opp);
+        Card other = addCard("Balduvian Bears", opp);
+        Combat combat = new Combat(p);
+        combat.addAttacker(attacker, opp);
+        combat.addBlocker(attacker, blocker);
+
+        Counting compute = new Counting();
+        CombatOutcomeCache cache = CombatOutcomeCache.open();
+        try {
+            lookup(opp, attacker, blocker, combat, compute);
+            combat.addBlocker(attacker, other);
+            lookup(opp, attacker, blocker, combat, compute);
+            AssertJUnit.assertEquals(2, compute.calls);
+
+            combat.removeBlockAssignment(attacker, other);
+            lookup(opp, attacker, blocker, combat, compute);
+            AssertJUnit.assertEquals(2, compute.calls);
+        } finally {
+            CombatOutcomeCache.close(cache);
+        }
+    }
+
+    @Test
+    public void testDamageMisses() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Player opp = game.getPlayers().get(0);
+        Card attacker = addCard("Grizzly Bears", p);
+        Card blocker = addCard("Runeclaw Bear", opp);
+        Combat combat = new Combat(p);
+        combat.addAttacker(attacker, opp);
+        combat.addBlocker(attacker, blocker);
+
+        Counting compute = new Counting();
+        CombatOutcomeCache cache = CombatOutcomeCache.open();
+        try {
+            lookup(opp, attacker, blocker, combat, compute);
+            attacker.setDamage(1);
+            lookup(opp, attacker, blocker, combat, compute);
+            AssertJUnit.assertEquals(2, compute.calls);
+            blocker.setDamage(1);
+            lookup(opp, attacker, blocker, combat, compute);
+            AssertJUnit.assertEquals(3, compute.calls);
+            lookup(opp, attacker, blocker, combat, compute);
+            AssertJUnit.assertEquals(3, compute.calls);
+        } finally {
+            CombatOutcomeCache.close(cache);
+        }
+    }
+
+    @Test
+    public void testChangedDefenderMisses() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Player opp = game.getPlayers().get(0);
+        Card attacker = addCard("Grizzly Bears", p);
+        Card blocker = addCard("Runeclaw Bear", opp);
+        Card walker = addCard("Liliana of the Veil", opp);
+        Combat combat = new Combat(p);
+        combat.addAttacker(attacker, opp);
+
+        Counting compute = new Counting();
+        CombatOutcomeCache cache = CombatOutcomeCache.open();
+        try {
+            lookup(opp, attacker, blocker, combat, compute);
+            combat.removeFromCombat(attacker);
+            combat.addAttacker(attacker, walker);
+            lookup(opp, attacker, blocker, combat, compute);
+            AssertJUnit.assertEquals(2, compute.calls);
+            lookup(opp, attacker, blocker, combat, compute);
+            AssertJUnit.assertEquals(2, compute.calls);
+        } finally {
+            CombatOutcomeCache.close(cache);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package forge.ai;
+
+import java.util.function.Supplier;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import forge.ai.simulation.SimulationTest;
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.card.CardCollection;
+import forge.game.card.CounterEnumType;
+import forge.game.card.CounterType;
+import forge.game.player.Player;
+import forge.game.zone.ZoneType;
+
+public class ManaPlanTest extends SimulationTest {
+
+    /** Counts how often the mana sources were actually worked out. */
+    private static final class Counting implements Supplier<CardCollection> {
+        private final Player ai;
+        private int calls;
+
+        private Counting(Player ai) {
+            this.ai = ai;
+        }
+
+        @Override
+        public CardCollection get() {
+            calls++;
+            return new CardCollection(ai.getCardsIn(ZoneType.Battlefield));
+        }
+    }
+
+    private static CardCollection lookup(Player ai, Counting compute) {
+        return ManaPlan.getAvailableManaSources(ai, true, compute);
+    }
+
+    @Test
+    public void testSameStateHits() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        addCard("Forest", p);
+        addCard("Mountain", p);
+
+        Counting compute = new Counting(p);
+        ManaPlan plan = ManaPlan.open();
+        AssertJUnit.assertNotNull(plan);
+        try {
+            AssertJUnit.assertNull(ManaPlan.open());
+            CardCollection first = lookup(p, compute);
+            CardCollection second = lookup(p, compute);
+            AssertJUnit.assertEquals(1, compute.calls);
+            AssertJUnit.assertEquals(first, second);
+            // each caller gets a copy it may change
+            second.clear();
+            AssertJUnit.assertEquals(2, lookup(p, compute).size());
+            AssertJUnit.assertEquals(1, compute.calls);
+            // the sources that can be played are another entry
+            ManaPlan.getAvailableManaSources(p, false, compute);
+            AssertJUnit.assertEquals(2, compute.calls);
+        } finally {
+            ManaPlan.close(plan);
+        }
+
+        // closed, everything is worked out again
+        lookup(p, compute);
+        lookup(p, compute);
+        AssertJUnit.assertEquals(4, compute.calls);
+    }
+
+    @Test
+    public void testTappingMisses() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Card forest = addCard("Forest", p);
+
+        Counting compute = new Counting(p);
+        ManaPlan plan = ManaPlan.open();
+        try {
+            lookup(p, compute);
+            forest.tap(false, null, null);
+            lookup(p, compute);
+            AssertJUnit.assertEquals(2, compute.calls);
+            lookup(p, compute);
+            AssertJUnit.assertEquals(2, compute.calls);
+        } finally {
+            ManaPlan.close(plan);
+        }
+    }
+
+    @Test
+    public void testNewCardMisses() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        addCard("Forest", p);
+
+        Counting compute = new Counting(p);
+        ManaPlan plan = ManaPlan.open();
+        try {
+            AssertJUnit.assertEquals(1, lookup(p, compute).size());
+            addCard("Mountain", p);
+            AssertJUnit.assertEquals(2, lookup(p, compute).size());
+            AssertJUnit.assertEquals(2, compute.calls);
+            // a card in hand may be played for mana as well
+            addCardToZone("Lotus Petal", p, ZoneType.Hand);
+            lookup(p, compute);
+            AssertJUnit.assertEquals(3, compute.calls);
+        } finally {
+            ManaPlan.close(plan);
+        }
+    }
+
+    @Test
+    public void testLifeAndEnergyMiss() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        addCard("Forest", p);
+
+        Counting compute = new Counting(p);
+        ManaPlan plan = ManaPlan.open();
+        try {
+            lookup(p, compute);
+            p.setLife(3, null);
+            lookup(p, compute);
+            AssertJUnit.assertEquals(2, compute.calls);
+            p.addCounterInternal(CounterType.get(CounterEnumType.ENERGY), 2, p, false, null, null);
+            lookup(p, compute);
+            AssertJUnit.assertEquals(3, compute.calls);
+        } finally {
+            ManaPlan.close(plan);
+        }
+    }
+
+    @Test
+    public void testOtherPlayerIsOtherEntry() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Player opp = game.getPlayers().get(0);
+        addCard("Forest", p);
+        addCard("Island", opp);
+
+        Counting mine = new Counting(p);
+        Counting theirs = new Counting(opp);
+        ManaPlan plan = ManaPlan.open();
+        try {
+            AssertJUnit.assertEquals("Forest", lookup(p, mine).get(0).getName());
+            AssertJUnit.assertEquals("Island", lookup(opp, theirs).get(0).getName());
+            lookup(p, mine);
+            lookup(opp, theirs);
+            AssertJUnit.assertEquals(1, mine.calls);
+            AssertJUnit.assertEquals(1, theirs.calls);
+        } finally {
+            ManaPlan.close(plan);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package forge.ai.simulation;
+
+import java.lang.management.ManagementFactory;
+
+import org.testng.annotations.Test;
+
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.phase.PhaseType;
+import forge.game.player.Player;
+import forge.game.zone.ZoneType;
+
+/**
+ * Measures how fast a simulation can copy a midgame board, with and without
+ * the snapshot based copy (EXPERIMENTAL_RESTORE_SNAPSHOT).
+ */
+public class GameCopierPerformanceTests extends SimulationTest {
+    private static final int WARMUP = 50;
+    private static final int COPIES = 500;
+
+    private Game createMidgameBoard() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Player opp = game.getPlayers().get(0);
+
+        for (Player pl : game.getPlayers()) {
+            addCards("Plains", 3, pl);
+            addCards("Forest", 3, pl);
+            addCards("Island", 1, pl);
+            for (int i = 0; i < 40; i++) {
+                addCardToZone(i % 2 == 0 ? "Forest" : "Grizzly Bears", pl, ZoneType.Library);
+            }
+            addCardToZone("Shock", pl, ZoneType.Graveyard);
+            addCardToZone("Giant Growth", pl, ZoneType.Graveyard);
+            addCardToZone("Lightning Bolt", pl, ZoneType.Hand);
+            addCardToZone("Serra Angel", pl, ZoneType.Hand);
+            addCardToZone("Counterspell", pl, ZoneType.Hand);
+        }
+
+        Card bear = addCard("Runeclaw Bear", p);
+        bear.setSickness(false);
+        Card cloak = addCard("Whispersilk Cloak", p);
+        cloak.attachToEntity(bear, null);
+        addCard("Glorious Anthem", p);
+        addCard("Herald of Anafenza", p).setSickness(false);
+        addToken("w_1_1_soldier", p);
+        addToken("w_1_1_soldier", p);
+
+        addCard("Serra Angel", opp).setSickness(false);
+        Card knight = addCard("White Knight", opp);
+        knight.setSickness(false);
+        Card aura = addCard("Holy Strength", opp);
+        aura.attachToEntity(knight, null);
+
+        game.getPhaseHandler().devModeSet(PhaseType.MAIN1, p);
+        game.getAction().checkStateEffects(true);
+        return game;
+    }
+
+    private void measure(boolean restoreSnapshot) {
+        Game game = createMidgameBoard();
+        game.EXPERIMENTAL_RESTORE_SNAPSHOT = restoreSnapshot;
+        GameCopier copier = new GameCopier(game);
+
+        for (int i = 0; i < WARMUP; i++) {
+            copier.makeCopy();
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < COPIES; i++) {
+            copier.makeCopy();
+        }
+        long elapsed = System.nanoTime() - start;
+        long bytes = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+        System.out.printf("GameCopier (snapshot=%s): %.1f copies/sec, %d bytes/copy%n",
+                restoreSnapshot, COPIES * 1e9 / elapsed, bytes / COPIES);
+    }
+
+    @Test(enabled = false) // disabled to not run in battery
+    public void testCopyMidgameBoard() {
+        measure(false);
+    }
+
+    @Test(enabled = false) // disabled to not run in battery
+    public void testSnapshotMidgameBoard() {
+        measure(true);
+    }
+}
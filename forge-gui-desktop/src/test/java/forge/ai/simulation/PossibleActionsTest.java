@@ -0,0 +1,88 @@
+package forge.ai.simulation;
+
+import java.util.List;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import forge.ai.PlayerControllerAi;
+import forge.game.Game;
+import forge.game.phase.PhaseType;
+import forge.game.player.Player;
+import forge.game.spellability.SpellAbility;
+import forge.game.zone.ZoneType;
+
+public class PossibleActionsTest extends SimulationTest {
+
+    /**
+     * What the AI decides to play right now, or null if it would pass.
+     */
+    private static SpellAbility aiChoice(Player p) {
+        List<SpellAbility> choice = ((PlayerControllerAi) p.getController()).getAi().chooseSpellAbilityToPlay();
+        return choice == null || choice.isEmpty() ? null : choice.get(0);
+    }
+
+    private static void setPhase(Game game, PhaseType phase, Player turnPlayer) {
+        game.getPhaseHandler().devModeSet(phase, turnPlayer);
+        game.getAction().checkStateEffects(true);
+    }
+
+    @Test
+    public void testOnlyManaAbilities() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        addCards("Forest", 2, p);
+        setPhase(game, PhaseType.MAIN1, p);
+
+        AssertJUnit.assertFalse(p.hasPossibleActions());
+        AssertJUnit.assertNull(aiChoice(p));
+    }
+
+    @Test
+    public void testCardShowingUp() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        addCards("Mountain", 2, p);
+        setPhase(game, PhaseType.MAIN1, p);
+        AssertJUnit.assertFalse(p.hasPossibleActions());
+
+        // a remembered "nothing to do" has to be dropped
+        addCardToZone("Plains", p, ZoneType.Hand);
+        AssertJUnit.assertTrue(p.hasPossibleActions());
+        SpellAbility sa = aiChoice(p);
+        AssertJUnit.assertNotNull(sa);
+        AssertJUnit.assertEquals("Plains", sa.getHostCard().getName());
+    }
+
+    @Test
+    public void testFlashbackOnOpponentsTurn() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Player opp = game.getPlayers().get(0);
+        addCards("Island", 3, p);
+        addCardToZone("Think Twice", p, ZoneType.Graveyard);
+        setPhase(game, PhaseType.MAIN1, opp);
+
+        AssertJUnit.assertTrue(p.hasPossibleActions());
+    }
+
+    @Test
+    public void testLandOnlyInOwnMainPhase() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Player opp = game.getPlayers().get(0);
+        addCardToZone("Plains", p, ZoneType.Hand);
+
+        setPhase(game, PhaseType.MAIN2, opp);
+        AssertJUnit.assertFalse(p.hasPossibleActions());
+        AssertJUnit.assertNull(aiChoice(p));
+
+        setPhase(game, PhaseType.COMBAT_END, p);
+        AssertJUnit.assertFalse(p.hasPossibleActions());
+
+        // same phase, other turn player
+        setPhase(game, PhaseType.MAIN2, p);
+        AssertJUnit.assertTrue(p.hasPossibleActions());
+        AssertJUnit.assertNotNull(aiChoice(p));
+    }
+}
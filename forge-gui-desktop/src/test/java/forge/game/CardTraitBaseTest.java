@@ -0,0 +1,92 @@
+package forge.game;
+
+import java.util.Map;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import forge.ai.simulation.SimulationTest;
+import forge.game.card.Card;
+import forge.game.player.Player;
+import forge.game.spellability.SpellAbility;
+import forge.game.zone.ZoneType;
+
+public class CardTraitBaseTest extends SimulationTest {
+
+    private SpellAbility boltAbility() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Card bolt = addCardToZone("Lightning Bolt", p, ZoneType.Hand);
+        return bolt.getFirstSpellAbility();
+    }
+
+    @Test
+    public void testChangingCopyKeepsOriginal() {
+        SpellAbility sa = boltAbility();
+        SpellAbility copy = sa.copy(sa.getHostCard(), true);
+
+        copy.putParam("NumDmg", "5");
+        copy.putParam("Extra", "True");
+        copy.removeParam("ValidTgts");
+
+        AssertJUnit.assertEquals("3", sa.getParam("NumDmg"));
+        AssertJUnit.assertFalse(sa.hasParam("Extra"));
+        AssertJUnit.assertTrue(sa.hasParam("ValidTgts"));
+        AssertJUnit.assertEquals("3", sa.getMapParams().get("NumDmg"));
+        AssertJUnit.assertFalse(sa.getOriginalMapParams().containsKey("Extra"));
+
+        AssertJUnit.assertEquals("5", copy.getParam("NumDmg"));
+        AssertJUnit.assertEquals("5", copy.getMapParams().get("NumDmg"));
+        AssertJUnit.assertFalse(copy.hasParam("ValidTgts"));
+    }
+
+    @Test
+    public void testChangingOriginalKeepsCopy() {
+        SpellAbility sa = boltAbility();
+        SpellAbility copy = sa.copy(sa.getHostCard(), true);
+
+        sa.putParam("NumDmg", "5");
+        sa.storeParamsAsOriginal();
+
+        AssertJUnit.assertEquals("3", copy.getParam("NumDmg"));
+        AssertJUnit.assertEquals("3", copy.getOriginalParam("NumDmg"));
+        AssertJUnit.assertEquals("5", sa.getOriginalParam("NumDmg"));
+    }
+
+    @Test
+    public void testParamsViewIsReadOnly() {
+        SpellAbility sa = boltAbility();
+        SpellAbility copy = sa.copy(sa.getHostCard(), true);
+
+        for (SpellAbility s : new SpellAbility[] {sa, copy}) {
+            Map<String, String> params = s.getMapParams();
+            AssertJUnit.assertSame(params, s.getMapParams());
+            try {
+                params.put("NumDmg", "5");
+                AssertJUnit.fail("params of " + s + " can be changed through the view");
+            } catch (UnsupportedOperationException e) {
+                // expected
+            }
+            try {
+                s.getOriginalMapParams().remove("NumDmg");
+                AssertJUnit.fail("original params of " + s + " can be changed through the view");
+            } catch (UnsupportedOperationException e) {
+                // expected
+            }
+        }
+        AssertJUnit.assertEquals("3", sa.getParam("NumDmg"));
+    }
+
+    @Test
+    public void testParamsViewFollowsWrites() {
+        SpellAbility sa = boltAbility();
+        SpellAbility copy = sa.copy(sa.getHostCard(), true);
+        Map<String, String> before = copy.getMapParams();
+
+        // the first write takes a private map, the view has to show it
+        copy.putParam("NumDmg", "5");
+
+        AssertJUnit.assertEquals("5", copy.getMapParams().get("NumDmg"));
+        AssertJUnit.assertEquals("3", before.get("NumDmg"));
+    }
+}
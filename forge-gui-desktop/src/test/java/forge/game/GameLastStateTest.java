@@ -0,0 +1,97 @@
+package forge.game;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import forge.ai.simulation.SimulationTest;
+import forge.game.card.Card;
+import forge.game.card.CounterEnumType;
+import forge.game.player.Player;
+
+public class GameLastStateTest extends SimulationTest {
+
+    private Game initGame() {
+        Game game = initAndCreateGame();
+        game.EXPERIMENTAL_REUSE_LKI = true;
+        return game;
+    }
+
+    private static Card lastState(Game game, Card c) {
+        for (Card copy : game.getLastStateBattlefield()) {
+            if (copy.getId() == c.getId()) {
+                return copy;
+            }
+        }
+        AssertJUnit.fail("no last state of " + c);
+        return null;
+    }
+
+    @Test
+    public void testUnchangedCardKeepsCopy() {
+        Game game = initGame();
+        Player p = game.getPlayers().get(1);
+        Card bear = addCard("Grizzly Bears", p);
+
+        game.copyLastState();
+        Card first = lastState(game, bear);
+        game.copyLastState();
+        AssertJUnit.assertSame(first, lastState(game, bear));
+    }
+
+    @Test
+    public void testCounterGivesFreshCopy() {
+        Game game = initGame();
+        Player p = game.getPlayers().get(1);
+        Card bear = addCard("Grizzly Bears", p);
+
+        game.copyLastState();
+        Card first = lastState(game, bear);
+        // only the counter map changes, the view isn't told
+        bear.setCounters(CounterEnumType.P1P1, 1);
+        game.copyLastState();
+        Card second = lastState(game, bear);
+        AssertJUnit.assertNotSame(first, second);
+        AssertJUnit.assertEquals(1, second.getCounters(CounterEnumType.P1P1));
+
+        // the same number of counters again is still a change from the last copy
+        bear.setCounters(CounterEnumType.P1P1, 0);
+        bear.setCounters(CounterEnumType.M1M1, 1);
+        game.copyLastState();
+        Card third = lastState(game, bear);
+        AssertJUnit.assertNotSame(second, third);
+        AssertJUnit.assertEquals(0, third.getCounters(CounterEnumType.P1P1));
+        AssertJUnit.assertEquals(1, third.getCounters(CounterEnumType.M1M1));
+    }
+
+    @Test
+    public void testTapGivesFreshCopy() {
+        Game game = initGame();
+        Player p = game.getPlayers().get(1);
+        Card bear = addCard("Grizzly Bears", p);
+
+        game.copyLastState();
+        Card first = lastState(game, bear);
+        AssertJUnit.assertFalse(first.isTapped());
+        bear.tap(false, null, null);
+        game.copyLastState();
+        Card second = lastState(game, bear);
+        AssertJUnit.assertNotSame(first, second);
+        AssertJUnit.assertTrue(second.isTapped());
+    }
+
+    @Test
+    public void testChangedCopyIsReplaced() {
+        Game game = initGame();
+        Player p = game.getPlayers().get(1);
+        Card bear = addCard("Grizzly Bears", p);
+
+        game.copyLastState();
+        Card first = lastState(game, bear);
+        // whoever read the last state changed the copy
+        first.setCounters(CounterEnumType.P1P1, 2);
+        game.copyLastState();
+        Card second = lastState(game, bear);
+        AssertJUnit.assertNotSame(first, second);
+        AssertJUnit.assertEquals(0, second.getCounters(CounterEnumType.P1P1));
+    }
+}
@@ -0,0 +1,80 @@
+package forge.game;
+
+import java.util.List;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import com.google.common.collect.Lists;
+
+import forge.ai.simulation.SimulationTest;
+import forge.game.card.Card;
+import forge.game.card.CardLists;
+import forge.game.player.Player;
+import forge.game.zone.ZoneType;
+
+public class ValidRestrictionEvaluationTest extends SimulationTest {
+
+    private static final String[] RESTRICTIONS = {
+        "Creature", "!Creature", "Creature.YouCtrl", "Creature.OppCtrl", "Creature.withFlying",
+        "Creature.powerGE3", "Permanent.nonLand+YouCtrl", "Land.Basic", "Card.Red",
+        "Instant,Sorcery", "Creature.YouCtrl,Land.YouCtrl", "Player", "Player.Opponent",
+    };
+
+    private List<Boolean> evaluate(List<GameObject> objects, Player p, Card source, boolean cold) {
+        List<Boolean> result = Lists.newArrayList();
+        for (String valids : RESTRICTIONS) {
+            for (GameObject o : objects) {
+                if (cold) {
+                    ValidRestriction.clearCache();
+                }
+                result.add(o.isValid(valids.split(","), p, source, null));
+                if (cold) {
+                    ValidRestriction.clearCache();
+                }
+                result.add(o.isValid(ValidRestriction.splitList(valids), p, source, null));
+            }
+        }
+        return result;
+    }
+
+    @Test
+    public void testCachedMatchesUncached() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Player opp = game.getPlayers().get(0);
+        Card bear = addCard("Grizzly Bears", p);
+        Card angel = addCard("Serra Angel", opp);
+        Card forest = addCard("Forest", p);
+        Card bolt = addCardToZone("Lightning Bolt", p, ZoneType.Hand);
+        Card divination = addCardToZone("Divination", opp, ZoneType.Hand);
+        List<GameObject> objects = Lists.newArrayList(bear, angel, forest, bolt, divination, p, opp);
+
+        List<Boolean> uncached = evaluate(objects, p, bear, true);
+        AssertJUnit.assertEquals(uncached, evaluate(objects, p, bear, false));
+        // and once more with everything cached
+        AssertJUnit.assertEquals(uncached, evaluate(objects, p, bear, false));
+        // the other side's point of view doesn't get the answers cached for this one
+        AssertJUnit.assertEquals(evaluate(objects, opp, angel, true), evaluate(objects, opp, angel, false));
+    }
+
+    @Test
+    public void testCachedEvaluation() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Player opp = game.getPlayers().get(0);
+        Card bear = addCard("Grizzly Bears", p);
+        Card angel = addCard("Serra Angel", opp);
+        Card forest = addCard("Forest", p);
+        Card bolt = addCardToZone("Lightning Bolt", p, ZoneType.Hand);
+        List<Card> cards = Lists.newArrayList(bear, angel, forest, bolt);
+
+        for (int i = 0; i < 2; i++) {
+            AssertJUnit.assertEquals(Lists.newArrayList(bear), CardLists.getValidCardsAsList(cards, "Creature.YouCtrl", p, bear, null));
+            AssertJUnit.assertEquals(Lists.newArrayList(angel), CardLists.getValidCardsAsList(cards, "Creature.YouCtrl", opp, angel, null));
+            AssertJUnit.assertEquals(Lists.newArrayList(angel), CardLists.getValidCardsAsList(cards, "Creature.withFlying", p, bear, null));
+            AssertJUnit.assertEquals(Lists.newArrayList(forest, bolt), CardLists.getValidCardsAsList(cards, "!Creature", p, bear, null));
+            AssertJUnit.assertEquals(Lists.newArrayList(bear, forest), CardLists.getValidCardsAsList(cards, "Creature.YouCtrl,Land.YouCtrl", p, bear, null));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package forge.game.trigger;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import forge.ai.simulation.SimulationTest;
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.player.Player;
+import forge.game.zone.ZoneType;
+
+public class TriggerHandlerTest extends SimulationTest {
+
+    private static Trigger onlyTrigger(Card c) {
+        AssertJUnit.assertEquals(1, c.getTriggers().size());
+        return c.getTriggers().iterator().next();
+    }
+
+    @Test
+    public void testRegisterOnBuild() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Card warden = addCard("Soul Warden", p);
+        Card bridge = addCardToZone("Bridge from Below", p, ZoneType.Hand);
+
+        game.getTriggerHandler().resetActiveTriggers();
+        AssertJUnit.assertTrue(game.getTriggerHandler().isActiveTrigger(onlyTrigger(warden)));
+        // only works from the graveyard
+        for (Trigger t : bridge.getTriggers()) {
+            AssertJUnit.assertFalse(game.getTriggerHandler().isActiveTrigger(t));
+        }
+
+        // building again doesn't register anything twice
+        game.getTriggerHandler().resetActiveTriggers();
+        AssertJUnit.assertTrue(game.getTriggerHandler().isActiveTrigger(onlyTrigger(warden)));
+    }
+
+    @Test
+    public void testLeavingTriggerZone() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Card warden = addCard("Soul Warden", p);
+        game.getTriggerHandler().resetActiveTriggers();
+        Trigger onBattlefield = onlyTrigger(warden);
+        AssertJUnit.assertTrue(game.getTriggerHandler().isActiveTrigger(onBattlefield));
+
+        Card inGraveyard = game.getAction().moveToGraveyard(warden, null);
+        AssertJUnit.assertFalse(game.getTriggerHandler().isActiveTrigger(onBattlefield));
+        AssertJUnit.assertFalse(game.getTriggerHandler().isActiveTrigger(onlyTrigger(inGraveyard)));
+    }
+
+    @Test
+    public void testEnteringTriggerZone() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Card bridge = addCardToZone("Bridge from Below", p, ZoneType.Hand);
+        Card warden = addCard("Soul Warden", p);
+        game.getTriggerHandler().resetActiveTriggers();
+
+        Card inGraveyard = game.getAction().moveToGraveyard(bridge, null);
+        AssertJUnit.assertEquals(2, inGraveyard.getTriggers().size());
+        for (Trigger t : inGraveyard.getTriggers()) {
+            AssertJUnit.assertTrue(game.getTriggerHandler().isActiveTrigger(t));
+        }
+        // the triggers of the other cards are kept
+        AssertJUnit.assertTrue(game.getTriggerHandler().isActiveTrigger(onlyTrigger(warden)));
+
+        Card exiled = game.getAction().exile(inGraveyard, null, null);
+        for (Trigger t : inGraveyard.getTriggers()) {
+            AssertJUnit.assertFalse(game.getTriggerHandler().isActiveTrigger(t));
+        }
+        for (Trigger t : exiled.getTriggers()) {
+            AssertJUnit.assertFalse(game.getTriggerHandler().isActiveTrigger(t));
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package forge.gamemodes.quest.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import forge.ai.simulation.SimulationTest;
+import forge.deck.Deck;
+import forge.gamemodes.quest.QuestMode;
+import forge.gamemodes.quest.data.DeckConstructionRules;
+import forge.gamemodes.quest.data.QuestData;
+import forge.item.PaperCard;
+import forge.model.FModel;
+
+public class QuestSaveSectionsTest extends SimulationTest {
+
+    private PaperCard card(String name) {
+        return FModel.getMagicDb().getCommonCards().getCard(name);
+    }
+
+    private QuestData newQuest() {
+        // loads the cards and preferences
+        initAndCreateGame();
+        QuestData qd = new QuestData("Test", 0, QuestMode.Classic, null, false, null, DeckConstructionRules.Default);
+        qd.getAssets().getCardPool().add(card("Grizzly Bears"), 3);
+        Deck deck = new Deck("Bears");
+        deck.getMain().add(card("Grizzly Bears"), 4);
+        qd.getAssets().getDeckStorage().add(deck);
+        qd.getAchievements().addWin();
+        return qd;
+    }
+
+    private static File newDatFile() throws IOException {
+        return new File(Files.createTempDirectory("quest").toFile(), "Test.dat");
+    }
+
+    private static List<String> sectionFiles(File datFile) {
+        String[] names = QuestSaveSections.getSectionsDir(datFile).list();
+        Arrays.sort(names);
+        return Arrays.asList(names);
+    }
+
+    private static String fileOf(List<String> files, String section) {
+        for (String file : files) {
+            if (file.startsWith(section + "-")) {
+                return file;
+            }
+        }
+        AssertJUnit.fail("no " + section + " in " + files);
+        return null;
+    }
+
+    private void assertSameQuest(QuestData expected, QuestData actual) {
+        AssertJUnit.assertEquals(expected.getName(), actual.getName());
+        AssertJUnit.assertEquals(expected.getAssets().getCardPool().countAll(), actual.getAssets().getCardPool().countAll());
+        AssertJUnit.assertEquals(expected.getAssets().getCardPool().count(card("Grizzly Bears")),
+                actual.getAssets().getCardPool().count(card("Grizzly Bears")));
+        AssertJUnit.assertEquals(expected.getAssets().getDeckStorage().size(), actual.getAssets().getDeckStorage().size());
+        Deck deck = actual.getAssets().getDeckStorage().get("Bears");
+        AssertJUnit.assertNotNull(deck);
+        AssertJUnit.assertEquals(4, deck.getMain().count(card("Grizzly Bears")));
+        AssertJUnit.assertEquals(expected.getAchievements().getWin(), actual.getAchievements().getWin());
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        QuestData qd = newQuest();
+        File datFile = newDatFile();
+        QuestSaveSections.save(datFile, qd);
+
+        AssertJUnit.assertTrue(QuestSaveSections.isSectioned(datFile));
+        assertSameQuest(qd, QuestSaveSections.load(datFile));
+    }
+
+    @Test
+    public void testOnlyChangedSectionsWritten() throws IOException {
+        QuestData qd = newQuest();
+        File datFile = newDatFile();
+        QuestSaveSections.save(datFile, qd);
+        List<String> first = sectionFiles(datFile);
+        AssertJUnit.assertEquals(3, first.size());
+
+        QuestSaveSections.save(datFile, qd);
+        List<String> second = sectionFiles(datFile);
+        AssertJUnit.assertEquals(fileOf(first, "pool"), fileOf(second, "pool"));
+        AssertJUnit.assertEquals(fileOf(first, "decks"), fileOf(second, "decks"));
+
+        qd.getAssets().getCardPool().add(card("Lightning Bolt"));
+        QuestSaveSections.save(datFile, qd);
+        List<String> third = sectionFiles(datFile);
+        AssertJUnit.assertEquals(3, third.size());
+        AssertJUnit.assertFalse(fileOf(second, "pool").equals(fileOf(third, "pool")));
+        AssertJUnit.assertEquals(fileOf(second, "decks"), fileOf(third, "decks"));
+
+        QuestData loaded = QuestSaveSections.load(datFile);
+        assertSameQuest(qd, loaded);
+        AssertJUnit.assertEquals(1, loaded.getAssets().getCardPool().count(card("Lightning Bolt")));
+    }
+
+    @Test
+    public void testUnfinishedSaveKeepsLastSave() throws IOException {
+        QuestData qd = newQuest();
+        File datFile = newDatFile();
+        QuestSaveSections.save(datFile, qd);
+
+        // a save that died after writing a section, before moving its .dat over the old one
+        File dir = QuestSaveSections.getSectionsDir(datFile);
+        Files.write(new File(dir, "pool-99.xml.gz").toPath(), new byte[] {1, 2, 3});
+        Files.write(new File(datFile.getPath() + ".tmp").toPath(), new byte[] {1, 2, 3});
+        assertSameQuest(qd, QuestSaveSections.load(datFile));
+
+        // the next save doesn't reuse the name and drops the leftover
+        qd.getAssets().getCardPool().add(card("Lightning Bolt"));
+        QuestSaveSections.save(datFile, qd);
+        List<String> files = sectionFiles(datFile);
+        AssertJUnit.assertEquals(3, files.size());
+        AssertJUnit.assertEquals("pool-100.xml.gz", fileOf(files, "pool"));
+        assertSameQuest(qd, QuestSaveSections.load(datFile));
+    }
+
+    @Test
+    public void testBackupLoadsOnItsOwn() throws IOException {
+        QuestData qd = newQuest();
+        File datFile = newDatFile();
+        QuestSaveSections.save(datFile, qd);
+        int bears = qd.getAssets().getCardPool().count(card("Grizzly Bears"));
+
+        QuestSaveSections.backup(datFile);
+        qd.getAssets().getCardPool().add(card("Grizzly Bears"));
+        QuestSaveSections.save(datFile, qd);
+
+        QuestData backup = QuestSaveSections.load(new File(datFile.getPath() + QuestSaveSections.BACKUP_SUFFIX));
+        AssertJUnit.assertEquals(bears, backup.getAssets().getCardPool().count(card("Grizzly Bears")));
+        AssertJUnit.assertEquals(bears + 1, QuestSaveSections.load(datFile).getAssets().getCardPool().count(card("Grizzly Bears")));
+    }
+
+    @Test
+    public void testSingleDocumentSaveMigrates() throws IOException {
+        QuestData qd = newQuest();
+        File datFile = newDatFile();
+        // the format from before the sections
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(datFile.toPath())), StandardCharsets.UTF_8)) {
+            QuestDataIO.getSerializer(false).toXML(qd, writer);
+        }
+        AssertJUnit.assertFalse(QuestSaveSections.isSectioned(datFile));
+        QuestData legacy = QuestDataIO.loadData(datFile);
+        assertSameQuest(qd, legacy);
+
+        QuestSaveSections.save(datFile, legacy);
+        AssertJUnit.assertTrue(QuestSaveSections.isSectioned(datFile));
+        assertSameQuest(qd, QuestDataIO.loadData(datFile));
+    }
+}
@@ -0,0 +1,159 @@
+package forge.trackable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import com.google.common.collect.Lists;
+
+import forge.ai.simulation.SimulationTest;
+import forge.game.Game;
+import forge.game.GameView;
+import forge.game.card.Card;
+import forge.game.card.CardView;
+import forge.game.player.Player;
+import forge.game.player.PlayerView;
+import forge.game.zone.ZoneType;
+
+public class TrackableDeltaTest extends SimulationTest {
+
+    @SuppressWarnings("unchecked")
+    private static <T> T roundTrip(final T o) throws IOException, ClassNotFoundException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(o);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (T) in.readObject();
+        }
+    }
+
+    /** The whole view as a network client gets it, with a tracker of its own. */
+    private static GameView fullCopy(final GameView view) throws IOException, ClassNotFoundException {
+        final GameView copy = roundTrip(view);
+        adopt(copy, new Tracker());
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void adopt(final Object o, final Tracker tracker) {
+        if (o instanceof TrackableObject) {
+            final TrackableObject obj = (TrackableObject) o;
+            if (obj.getTracker() != null) {
+                return;
+            }
+            obj.setTracker(tracker);
+            if (obj instanceof CardView) {
+                tracker.putObj(TrackableTypes.CardViewType, obj.getId(), (CardView) obj);
+            } else if (obj instanceof PlayerView) {
+                tracker.putObj(TrackableTypes.PlayerViewType, obj.getId(), (PlayerView) obj);
+            }
+            for (final Object value : ((Map<TrackableProperty, Object>) obj.getProps()).values()) {
+                adopt(value, tracker);
+            }
+        } else if (o instanceof Iterable) {
+            for (final Object value : (Iterable<Object>) o) {
+                adopt(value, tracker);
+            }
+        } else if (o instanceof Map) {
+            for (final Map.Entry<Object, Object> e : ((Map<Object, Object>) o).entrySet()) {
+                adopt(e.getKey(), tracker);
+                adopt(e.getValue(), tracker);
+            }
+        }
+    }
+
+    private static List<Integer> ids(final Iterable<CardView> cards) {
+        final List<Integer> result = Lists.newArrayList();
+        if (cards != null) {
+            for (final CardView c : cards) {
+                result.add(c.getId());
+            }
+        }
+        return result;
+    }
+
+    private static PlayerView findPlayer(final GameView view, final int id) {
+        for (final PlayerView p : view.getPlayers()) {
+            if (p.getId() == id) {
+                return p;
+            }
+        }
+        AssertJUnit.fail("no player " + id);
+        return null;
+    }
+
+    private static void assertSameView(final GameView expected, final GameView actual) {
+        AssertJUnit.assertEquals(expected.getPlayers().size(), actual.getPlayers().size());
+        for (final PlayerView e : expected.getPlayers()) {
+            final PlayerView a = findPlayer(actual, e.getId());
+            AssertJUnit.assertEquals(e.getLife(), a.getLife());
+            AssertJUnit.assertEquals(ids(e.getHand()), ids(a.getHand()));
+            AssertJUnit.assertEquals(ids(e.getGraveyard()), ids(a.getGraveyard()));
+            AssertJUnit.assertEquals(ids(e.getBattlefield()), ids(a.getBattlefield()));
+            if (e.getBattlefield() == null) {
+                continue;
+            }
+            for (final CardView c : e.getBattlefield()) {
+                final CardView other = a.getTracker().getObj(TrackableTypes.CardViewType, c.getId());
+                AssertJUnit.assertNotNull(other);
+                AssertJUnit.assertEquals(c.isTapped(), other.isTapped());
+                AssertJUnit.assertEquals(c.getZone(), other.getZone());
+            }
+        }
+    }
+
+    @Test
+    public void testApplyMatchesWholeView() throws Exception {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Player opp = game.getPlayers().get(0);
+        Card bear = addCard("Grizzly Bears", p);
+        Card bolt = addCardToZone("Lightning Bolt", p, ZoneType.Hand);
+
+        final GameView view = game.getView();
+        final GameView client = fullCopy(view);
+        final TrackableDelta.Recorder recorder = new TrackableDelta.Recorder();
+        game.getTracker().addRecorder(recorder);
+
+        opp.setLife(17, null);
+        bear.tap(false, null, null);
+        game.getAction().moveToGraveyard(bolt, null);
+        addCardToZone("Shock", p, ZoneType.Hand);
+
+        final TrackableDelta delta = recorder.drain(view);
+        AssertJUnit.assertNotNull(delta);
+        AssertJUnit.assertEquals(1, delta.getSequence());
+        // as it goes over the network
+        roundTrip(delta).apply(client);
+
+        assertSameView(fullCopy(view), client);
+        AssertJUnit.assertEquals(17, findPlayer(client, opp.getId()).getLife());
+    }
+
+    @Test
+    public void testSequenceRestartsWithWholeView() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        final TrackableDelta.Recorder recorder = new TrackableDelta.Recorder();
+        game.getTracker().addRecorder(recorder);
+
+        p.setLife(19, null);
+        AssertJUnit.assertEquals(1, recorder.drain(game.getView()).getSequence());
+        AssertJUnit.assertNull(recorder.drain(game.getView()));
+        p.setLife(18, null);
+        AssertJUnit.assertEquals(2, recorder.drain(game.getView()).getSequence());
+
+        // the whole view was sent
+        recorder.clear();
+        p.setLife(17, null);
+        AssertJUnit.assertEquals(1, recorder.drain(game.getView()).getSequence());
+    }
+}
@@ -253,18 +253,24 @@ public class NewGameScene extends MenuScene {
         if (selectedName.getText().isEmpty()) {
             generateName();
         }
+        //read on the UI thread, the world is generated on a background thread
+        String name = selectedName.getText();
+        boolean male = gender.getCurrentIndex() == 0;
+        int raceIndex = race.getCurrentIndex();
+        int avatar = avatarIndex;
+        ColorSet colorIdentity = colorIds[custom.isEmpty() || !AdventureModes.Custom.equals(modes.get(mode.getCurrentIndex())) ? colorId.getCurrentIndex() : 0];
+        DifficultyData difficultyData = Config.instance().getConfigData().difficulties[difficulty.getCurrentIndex()];
+        AdventureModes adventureMode = modes.get(mode.getCurrentIndex());
+        int customDeckIndex = colorId.getCurrentIndex();
+        CardEdition edition = editionIds[starterEdition.getCurrentIndex()];
+        Runnable generate = () -> {
+            //FModel.getPreferences().setPref(ForgePreferences.FPref.UI_ENABLE_MUSIC, false);
+            WorldSave.generateNewWorld(name, male, raceIndex, avatar, colorIdentity, difficultyData,
+                    adventureMode, customDeckIndex, edition, 0);//maybe replace with enum
+        };
         Runnable runnable = () -> {
             started = false;
-            //FModel.getPreferences().setPref(ForgePreferences.FPref.UI_ENABLE_MUSIC, false);
-            WorldSave.generateNewWorld(selectedName.getText(),
-                    gender.getCurrentIndex() == 0,
-                    race.getCurrentIndex(),
-                    avatarIndex,
-                    colorIds[custom.isEmpty() || !AdventureModes.Custom.equals(modes.get(mode.getCurrentIndex())) ? colorId.getCurrentIndex() : 0],
-                    Config.instance().getConfigData().difficulties[difficulty.getCurrentIndex()],
-                    modes.get(mode.getCurrentIndex()), colorId.getCurrentIndex(),
-                    editionIds[starterEdition.getCurrentIndex()], 0);//maybe replace with enum
-            GamePlayerUtil.getGuiPlayer().setName(selectedName.getText());
+            GamePlayerUtil.getGuiPlayer().setName(name);
             SoundSystem.instance.changeBackgroundTrack();
             WorldStage.getInstance().enterSpawnPOI();
             if (AdventurePlayer.current().getQuests().stream().noneMatch(q -> q.getID() == 28)) {
@@ -272,7 +278,8 @@ public class NewGameScene extends MenuScene {
             }
             Forge.switchScene(GameScene.instance());
         };
-        Forge.setTransitionScreen(new TransitionScreen(runnable, null, false, true, Forge.getLocalizer().getMessage("lblGeneratingWorld")));
+        Forge.setTransitionScreen(new TransitionScreen(generate, WorldSave.getCurrentSave().getWorld()::getGenerationProgress,
+                runnable, Forge.getLocalizer().getMessage("lblGeneratingWorld")));
         return true;
     }
 
@@ -1,7 +1,6 @@
 package forge.adventure.world;
 
 import com.badlogic.gdx.files.FileHandle;
-import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.TextureData;
@@ -22,11 +21,16 @@ import forge.adventure.util.Config;
 import forge.adventure.util.Paths;
 import forge.adventure.util.SaveFileContent;
 import forge.adventure.util.SaveFileData;
+import forge.gui.FThreads;
 import forge.gui.GuiBase;
+import forge.util.ThreadUtil;
 import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 /**
  * Class that will create the world from the configuration
@@ -48,6 +52,7 @@ public class World implements Disposable, SaveFileContent {
     private final Random random = new Random();
     private boolean worldDataLoaded = false;
     private Texture globalTexture = null;
+    private volatile float generationProgress = 0;
 
     public Random getRandom() {
         return random;
@@ -284,18 +289,164 @@ public class World implements Disposable, SaveFileContent {
             }
     }
 
+    /**
+     * How far generateNew got, from 0 to 1. It is updated after every stage, so it can be read from another thread.
+     */
+    public float getGenerationProgress() {
+        return generationProgress;
+    }
+
+    /**
+     * The atlases and the stage need the GL context, generateNew can be run on a worker thread and looks them up through this.
+     */
+    private static <T> T onRenderThread(Supplier<T> supplier) {
+        AtomicReference<T> result = new AtomicReference<>();
+        FThreads.invokeInEdtAndWait(() -> result.set(supplier.get()));
+        return result.get();
+    }
+
     private long measureGenerationTime(String msg, long lastTime) {
         long currentTime = System.currentTimeMillis();
         System.out.println(msg + " :\t\t" + ((currentTime - lastTime) / 1000f) + " s");
         return currentTime;
     }
 
+    /**
+     * Sets the biomes and terrain of the columns fromX (inclusive) to toX (exclusive).
+     * The biomes are applied in the same order for every tile, so the result doesn't depend on how the world is split.
+     */
+    private void generateBiomes(int fromX, int toX, OpenSimplexNoise noise, Map<BiomeStructureData, BiomeStructure> structureDataMap) {
+        float noiseZoom = data.noiseZoomBiome;
+        int biomeIndex = -1;
+        for (BiomeData biome : data.GetBiomes()) {
+
+            biomeIndex++;
+            int biomeXStart = (int) Math.round(biome.startPointX * (double) width);
+            int biomeYStart = (int) Math.round(biome.startPointY * (double) height);
+            int biomeWidth = (int) Math.round(biome.width * (double) width);
+            int biomeHeight = (int) Math.round(biome.height * (double) height);
+
+            int beginX = Math.max(biomeXStart - biomeWidth / 2, 0);
+            int beginY = Math.max(biomeYStart - biomeHeight / 2, 0);
+            int endX = Math.min(biomeXStart + biomeWidth / 2, width);
+            int endY = Math.min(biomeYStart + biomeHeight / 2, height);
+            if (biome.width == 1.0 && biome.height == 1.0) {
+                beginX = 0;
+                beginY = 0;
+                endX = width;
+                endY = height;
+            }
+            beginX = Math.max(beginX, fromX);
+            endX = Math.min(endX, toX);
+            for (int x = beginX; x < endX; x++) {
+                for (int y = beginY; y < endY; y++) {
+                    //value 0-1 based on noise
+                    float noiseValue = ((float) noise.eval(x / (float) width * noiseZoom, y / (float) height * noiseZoom) + 1) / 2f;
+                    noiseValue *= biome.noiseWeight;
+                    //value 0-1 based on dist to origin
+                    float distanceValue = ((float) Math.sqrt((x - biomeXStart) * (x - biomeXStart) + (y - biomeYStart) * (y - biomeYStart))) / (Math.max(biomeWidth, biomeHeight) / 2f);
+                    distanceValue *= biome.distWeight;
+                    if (noiseValue + distanceValue < 1.0 || biome.invertHeight && (1 - noiseValue) + distanceValue < 1.0) {
+                        biomeMap[x][y] |= (1L << biomeIndex);
+                        int terrainCounter = 1;
+                        terrainMap[x][y] = 0;
+                        if (biome.terrain != null) {
+                            for (BiomeTerrainData terrain : biome.terrain) {
+                                float terrainNoise = ((float) noise.eval(x / (float) width * (noiseZoom * terrain.resolution), y / (float) height * (noiseZoom * terrain.resolution)) + 1) / 2;
+                                if (terrainNoise >= terrain.min && terrainNoise <= terrain.max) {
+                                    terrainMap[x][y] = terrainCounter;
+                                }
+                                terrainCounter++;
+                            }
+                        }
+                        if (biome.collision)
+                            terrainMap[x][y] |= collisionBit;
+                        if (biome.structures != null) {
+                            for (BiomeStructureData data : biome.structures) {
+                                BiomeStructure structure = structureDataMap.get(data);
+                                int structureXStart = x - (biomeXStart - biomeWidth / 2) - (int) ((data.x * biomeWidth) - (data.width * biomeWidth / 2));
+                                int structureYStart = y - (biomeYStart - biomeHeight / 2) - (int) ((data.y * biomeHeight) - (data.height * biomeHeight / 2));
+
+                                int structureIndex = structure.objectID(structureXStart, structureYStart);
+                                if (structureIndex >= 0) {
+
+                                    terrainMap[x][y] = terrainCounter + structureIndex;
+                                    if (structure.collision(structureXStart, structureYStart))
+                                        terrainMap[x][y] |= collisionBit;
+                                    terrainMap[x][y] |= isStructureBit;
+
+                                }
+
+                                terrainCounter += structure.structureObjectCount();
+                            }
+                        }
+                    }
+
+                }
+            }
+        }
+    }
+
+    private long miniMapTileKey(int x, int y) {
+        int biome = highestBiome(biomeMap[x][y]);
+        if (biome >= data.GetBiomes().size()) {
+            return -1;
+        }
+        return (long) biome << 32 | (terrainMap[x][y] & ~terrainMask);
+    }
+
+    private List<Pixmap> createMiniMapTile(int x, int y) {
+        List<Pixmap> layers = new ArrayList<>(2);
+        if (highestBiome(biomeMap[x][y]) >= data.GetBiomes().size()) {
+            layers.add(createSmallPixmap(data.roadTileset.tilesetAtlas, data.roadTileset.tilesetName, 0));
+            return layers;
+        }
+        BiomeData biome = data.GetBiomes().get(highestBiome(biomeMap[x][y]));
+        int terrainIndex = terrainMap[x][y] & ~terrainMask;
+        if (terrainIndex > biome.terrain.length) {
+            layers.add(createSmallPixmap(biome.tilesetAtlas, biome.tilesetName, 0));
+
+            terrainIndex -= biome.terrain.length;
+            terrainIndex--;
+            for (BiomeStructureData structData : biome.structures) {
+                if (terrainIndex >= structData.mappingInfo.length) {
+                    terrainIndex -= structData.mappingInfo.length;
+                    continue;
+                }
+                layers.add(createSmallPixmap(structData.structureAtlasPath, structData.mappingInfo[terrainIndex].name, 0));
+                break;
+            }
+        } else {
+            layers.add(createSmallPixmap(biome.tilesetAtlas, biome.tilesetName, terrainIndex));
+        }
+        return layers;
+    }
+
+    /**
+     * Draws the columns fromX (inclusive) to toX (exclusive) of the mini map into a pixmap of their own,
+     * the tiles have to be in miniMapTiles already.
+     */
+    private Pixmap drawMiniMap(int fromX, int toX, Map<Long, List<Pixmap>> miniMapTiles) {
+        Pixmap strip = new Pixmap((toX - fromX) * data.miniMapTileSize, height * data.miniMapTileSize, Pixmap.Format.RGBA8888);
+        strip.setColor(1, 0, 0, 1);
+        strip.fill();
+        for (int x = fromX; x < toX; x++) {
+            for (int y = 0; y < height; y++) {
+                for (Pixmap layer : miniMapTiles.get(miniMapTileKey(x, y))) {
+                    strip.drawPixmap(layer, (x - fromX) * data.miniMapTileSize, y * data.miniMapTileSize);
+                }
+            }
+        }
+        return strip;
+    }
+
     public boolean generateNew(long seed) {
         try {
             if (GuiBase.isAndroid())
                 GuiBase.getInterface().preventSystemSleep(true);
             final long[] currentTime = {System.currentTimeMillis()};
             long startTime = System.currentTimeMillis();
+            generationProgress = 0;
 
             loadWorldData();
 //////////////////
@@ -325,7 +476,8 @@ public class World implements Disposable, SaveFileContent {
 
             final int[] biomeIndex = {-1};
             currentTime[0] = measureGenerationTime("loading data", currentTime[0]);
-            HashMap<BiomeStructureData, BiomeStructure> structureDataMap = new HashMap<>();
+            generationProgress = 0.05f;
+            Map<BiomeStructureData, BiomeStructure> structureDataMap = new ConcurrentHashMap<>();
 
 //////////////////
 ///////// calculation structure position with wavefunctioncollapse
@@ -343,97 +495,33 @@ public class World implements Disposable, SaveFileContent {
                             structure.initialize();
                             structureDataMap.put(data, structure);
                             return measureGenerationTime("wavefunctioncollapse " + data.sourcePath, threadStartTime);
-                        }));
+                        }, ThreadUtil.getComputingPool()));
                     }
                 }
             }
             CompletableFuture<?>[] futuresArray = futures.toArray(new CompletableFuture<?>[0]);
             CompletableFuture.allOf(futuresArray).join();
             futures.clear();
+            generationProgress = 0.3f;
 
 //////////////////
 ///////// calculation each biome position based on noise and radius
 //////////////////
-            for (BiomeData biome : data.GetBiomes()) {
-
-                biomeIndex[0]++;
-                int biomeXStart = (int) Math.round(biome.startPointX * (double) width);
-                int biomeYStart = (int) Math.round(biome.startPointY * (double) height);
-                int biomeWidth = (int) Math.round(biome.width * (double) width);
-                int biomeHeight = (int) Math.round(biome.height * (double) height);
-
-                int beginX = Math.max(biomeXStart - biomeWidth / 2, 0);
-                int beginY = Math.max(biomeYStart - biomeHeight / 2, 0);
-                int endX = Math.min(biomeXStart + biomeWidth / 2, width);
-                int endY = Math.min(biomeYStart + biomeHeight / 2, height);
-                if (biome.width == 1.0 && biome.height == 1.0) {
-                    beginX = 0;
-                    beginY = 0;
-                    endX = width;
-                    endY = height;
-                }
-                for (int x = beginX; x < endX; x++) {
-                    for (int y = beginY; y < endY; y++) {
-                        //value 0-1 based on noise
-                        float noiseValue = ((float) noise.eval(x / (float) width * noiseZoom, y / (float) height * noiseZoom) + 1) / 2f;
-                        noiseValue *= biome.noiseWeight;
-                        //value 0-1 based on dist to origin
-                        float distanceValue = ((float) Math.sqrt((x - biomeXStart) * (x - biomeXStart) + (y - biomeYStart) * (y - biomeYStart))) / (Math.max(biomeWidth, biomeHeight) / 2f);
-                        distanceValue *= biome.distWeight;
-                        if (noiseValue + distanceValue < 1.0 || biome.invertHeight && (1 - noiseValue) + distanceValue < 1.0) {
-                            Color color = biome.GetColor();
-                            float[] hsv = new float[3];
-                            color.toHsv(hsv);
-                            int count = (int) ((noiseValue - 0.5) * 10 / 4);
-                            //hsv[2]+=(count*0.2);
-                            biomeMap[x][y] |= (1L << biomeIndex[0]);
-                            int terrainCounter = 1;
-                            terrainMap[x][y] = 0;
-                            if (biome.terrain != null) {
-                                for (BiomeTerrainData terrain : biome.terrain) {
-                                    float terrainNoise = ((float) noise.eval(x / (float) width * (noiseZoom * terrain.resolution), y / (float) height * (noiseZoom * terrain.resolution)) + 1) / 2;
-                                    if (terrainNoise >= terrain.min && terrainNoise <= terrain.max) {
-                                        terrainMap[x][y] = terrainCounter;
-                                        //pix.fillRectangle(x*data.miniMapTileSize, y*data.miniMapTileSize,data.miniMapTileSize,data.miniMapTileSize);
-                                    }
-                                    terrainCounter++;
-                                }
-                            }
-                            if (biome.collision)
-                                terrainMap[x][y] |= collisionBit;
-                            if (biome.structures != null) {
-                                for (BiomeStructureData data : biome.structures) {
-                                    while (!structureDataMap.containsKey(data)) {
-                                        try {
-                                            Thread.sleep(10);
-                                        } catch (InterruptedException e) {
-                                            throw new RuntimeException(e);
-                                        }
-                                    }
-
-                                    BiomeStructure structure = structureDataMap.get(data);
-                                    int structureXStart = x - (biomeXStart - biomeWidth / 2) - (int) ((data.x * biomeWidth) - (data.width * biomeWidth / 2));
-                                    int structureYStart = y - (biomeYStart - biomeHeight / 2) - (int) ((data.y * biomeHeight) - (data.height * biomeHeight / 2));
-
-                                    int structureIndex = structure.objectID(structureXStart, structureYStart);
-                                    if (structureIndex >= 0) {
-
-                                        terrainMap[x][y] = terrainCounter + structureIndex;
-                                        if (structure.collision(structureXStart, structureYStart))
-                                            terrainMap[x][y] |= collisionBit;
-                                        terrainMap[x][y] |= isStructureBit;
-
-                                    }
-
-                                    terrainCounter += structure.structureObjectCount();
-                                }
-                            }
-                        }
-
-                    }
-                }
+            // every tile only depends on the noise and the structures, so strips of chunks are generated independently
+            int stripWidth = getChunkSize();
+            for (int stripX = 0; stripX < width; stripX += stripWidth) {
+                int fromX = stripX;
+                int toX = Math.min(stripX + stripWidth, width);
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    generateBiomes(fromX, toX, noise, structureDataMap);
+                    return 0L;
+                }, ThreadUtil.getComputingPool()));
             }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+            futures.clear();
+            biomeIndex[0] = data.GetBiomes().size() - 1;
             currentTime[0] = measureGenerationTime("biomes in total", currentTime[0]);
+            generationProgress = 0.5f;
 
 //////////////////
 ///////// set poi placement
@@ -442,11 +530,13 @@ public class World implements Disposable, SaveFileContent {
             List<PointOfInterest> notTowns = new ArrayList<>();
             List<Rectangle> otherPoints = new ArrayList<>();
 
-            TextureAtlas mapMarker = Config.instance().getAtlas(Paths.MAP_MARKER);
-            TextureData texture = mapMarker.getTextures().first().getTextureData();
-            if (!texture.isPrepared())
-                texture.prepare();
-            Pixmap mapMarkerPixmap = texture.consumePixmap();
+            TextureAtlas mapMarker = onRenderThread(() -> Config.instance().getAtlas(Paths.MAP_MARKER));
+            Pixmap mapMarkerPixmap = onRenderThread(() -> {
+                TextureData texture = mapMarker.getTextures().first().getTextureData();
+                if (!texture.isPrepared())
+                    texture.prepare();
+                return texture.consumePixmap();
+            });
             clearTerrain((int) (data.width * data.playerStartPosX), (int) (data.height * data.playerStartPosY), 10);
             //otherPoints.add(new Rectangle(((float) data.width * data.playerStartPosX * (float) data.tileSize) - data.tileSize * 3, ((float) data.height * data.playerStartPosY * data.tileSize) - data.tileSize * 3, data.tileSize * 6, data.tileSize * 6));
             boolean running = true;
@@ -558,6 +648,7 @@ public class World implements Disposable, SaveFileContent {
                 }
             }
             currentTime[0] = measureGenerationTime("poi placement", currentTime[0]);
+            generationProgress = 0.6f;
 
 //////////////////
 ///////// sort towns and build roads in between
@@ -648,7 +739,7 @@ public class World implements Disposable, SaveFileContent {
                         }
                     }
                     return 0l;
-                }));
+                }, ThreadUtil.getComputingPool()));
             }
             futuresArray = futures.toArray(new CompletableFuture<?>[0]);
             CompletableFuture.allOf(futuresArray).join();
@@ -689,53 +780,43 @@ public class World implements Disposable, SaveFileContent {
                         }
                     }
                     return 0l;
-                }));
+                }, ThreadUtil.getComputingPool()));
             }
             futuresArray = futures.toArray(new CompletableFuture<?>[0]);
             CompletableFuture.allOf(futuresArray).join();
             futures.clear();
             currentTime[0] = measureGenerationTime("roads", currentTime[0]);
+            generationProgress = 0.75f;
 
 //////////////////
 ///////// draw mini map
 //////////////////
 
-            Pixmap pix = new Pixmap(width * data.miniMapTileSize, height * data.miniMapTileSize, Pixmap.Format.RGBA8888);
-            pix.setColor(1, 0, 0, 1);
-            pix.fill();
+            // the tiles are looked up in the atlases on the render thread in one go, only drawing them is done on the worker threads
+            Map<Long, int[]> miniMapTilePositions = new HashMap<>();
             for (int x = 0; x < width; x++) {
                 for (int y = 0; y < height; y++) {
-                    if (highestBiome(biomeMap[x][y]) >= data.GetBiomes().size()) {
-                        Pixmap smallPixmap = createSmallPixmap(data.roadTileset.tilesetAtlas, data.roadTileset.tilesetName, 0);
-                        pix.drawPixmap(smallPixmap, x * data.miniMapTileSize, y * data.miniMapTileSize);
-                    } else {
-
-                        BiomeData biome = data.GetBiomes().get(highestBiome(biomeMap[x][y]));
-                        int terrainIndex = terrainMap[x][y] & ~terrainMask;
-                        if (terrainIndex > biome.terrain.length) {
-                            Pixmap smallPixmap = createSmallPixmap(biome.tilesetAtlas, biome.tilesetName, 0);
-                            pix.drawPixmap(smallPixmap, x * data.miniMapTileSize, y * data.miniMapTileSize);
-
-                            terrainIndex -= biome.terrain.length;
-                            terrainIndex--;
-                            for (BiomeStructureData structData : biome.structures) {
-                                if (terrainIndex >= structData.mappingInfo.length) {
-                                    terrainIndex -= structData.mappingInfo.length;
-                                    continue;
-                                }
-                                smallPixmap = createSmallPixmap(structData.structureAtlasPath, structData.mappingInfo[terrainIndex].name, 0);
-                                pix.drawPixmap(smallPixmap, x * data.miniMapTileSize, y * data.miniMapTileSize);
-                                break;
-                            }
-                        } else {
-                            Pixmap smallPixmap = createSmallPixmap(biome.tilesetAtlas, biome.tilesetName, terrainIndex);
-                            pix.drawPixmap(smallPixmap, x * data.miniMapTileSize, y * data.miniMapTileSize);
-                        }
-
-                    }
-
+                    miniMapTilePositions.putIfAbsent(miniMapTileKey(x, y), new int[] {x, y});
                 }
-
+            }
+            Map<Long, List<Pixmap>> miniMapTiles = onRenderThread(() -> {
+                Map<Long, List<Pixmap>> tiles = new HashMap<>();
+                for (Map.Entry<Long, int[]> entry : miniMapTilePositions.entrySet()) {
+                    tiles.put(entry.getKey(), createMiniMapTile(entry.getValue()[0], entry.getValue()[1]));
+                }
+                return tiles;
+            });
+            List<CompletableFuture<Pixmap>> strips = new ArrayList<>();
+            for (int stripX = 0; stripX < width; stripX += stripWidth) {
+                int fromX = stripX;
+                int toX = Math.min(stripX + stripWidth, width);
+                strips.add(CompletableFuture.supplyAsync(() -> drawMiniMap(fromX, toX, miniMapTiles), ThreadUtil.getComputingPool()));
+            }
+            Pixmap pix = new Pixmap(width * data.miniMapTileSize, height * data.miniMapTileSize, Pixmap.Format.RGBA8888);
+            for (int i = 0; i < strips.size(); i++) {
+                Pixmap strip = strips.get(i).join();
+                pix.drawPixmap(strip, i * stripWidth * data.miniMapTileSize, 0);
+                strip.dispose();
             }
             for (Map.Entry<String, Pair<Pixmap, HashMap<String, Pixmap>>> entry : pixmapHash.entrySet()) {
                 try {
@@ -758,6 +839,7 @@ public class World implements Disposable, SaveFileContent {
                 //e.printStackTrace();
             }
             currentTime[0] = measureGenerationTime("mini map", currentTime[0]);
+            generationProgress = 0.9f;
 
 
 //////////////////
@@ -797,7 +879,8 @@ public class World implements Disposable, SaveFileContent {
             biomeImage = pix;
             measureGenerationTime("sprites", currentTime[0]);
             System.out.println("Generating world took :\t\t" + ((System.currentTimeMillis() - startTime) / 1000f) + " s");
-            WorldStage.getInstance().clearCache();
+            FThreads.invokeInEdtAndWait(() -> WorldStage.getInstance().clearCache());
+            generationProgress = 1;
 
             if (GuiBase.isAndroid())
                 GuiBase.getInterface().preventSystemSleep(false);
@@ -12,6 +12,7 @@ import forge.adventure.util.SignalList;
 import forge.card.CardEdition;
 import forge.card.ColorSet;
 import forge.deck.Deck;
+import forge.gui.FThreads;
 import forge.localinstance.properties.ForgeConstants;
 import forge.player.GamePlayerUtil;
 
@@ -127,14 +128,17 @@ public class WorldSave   {
 
     public static WorldSave generateNewWorld(String name, boolean male, int race, int avatarIndex, ColorSet startingColorIdentity, DifficultyData diff, AdventureModes mode, int customDeckIndex, CardEdition starterEdition, long seed) {
         currentSave.world.generateNew(seed);
-        currentSave.pointOfInterestChanges.clear();
-        boolean chaos=mode==AdventureModes.Chaos;
-        boolean custom=mode==AdventureModes.Custom;
-        Deck starterDeck = Config.instance().starterDeck(startingColorIdentity,diff,mode,customDeckIndex,starterEdition);
-        currentSave.player.create(name,  starterDeck, male, race, avatarIndex, chaos, custom, diff);
-        currentSave.player.setWorldPosY((int) (currentSave.world.getData().playerStartPosY * currentSave.world.getData().height * currentSave.world.getTileSize()));
-        currentSave.player.setWorldPosX((int) (currentSave.world.getData().playerStartPosX * currentSave.world.getData().width * currentSave.world.getTileSize()));
-        currentSave.onLoadList.emit();
+        //can be called from a worker thread, the player and the listeners of the save are set up on the render thread
+        FThreads.invokeInEdtAndWait(() -> {
+            currentSave.pointOfInterestChanges.clear();
+            boolean chaos=mode==AdventureModes.Chaos;
+            boolean custom=mode==AdventureModes.Custom;
+            Deck starterDeck = Config.instance().starterDeck(startingColorIdentity,diff,mode,customDeckIndex,starterEdition);
+            currentSave.player.create(name,  starterDeck, male, race, avatarIndex, chaos, custom, diff);
+            currentSave.player.setWorldPosY((int) (currentSave.world.getData().playerStartPosY * currentSave.world.getData().height * currentSave.world.getTileSize()));
+            currentSave.player.setWorldPosX((int) (currentSave.world.getData().playerStartPosX * currentSave.world.getData().width * currentSave.world.getTileSize()));
+            currentSave.onLoadList.emit();
+        });
         return currentSave;
     }
 
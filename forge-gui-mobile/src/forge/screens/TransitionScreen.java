@@ -23,6 +23,8 @@ import forge.toolbox.FContainer;
 import forge.toolbox.FProgressBar;
 import org.apache.commons.lang3.tuple.Pair;
 
+import java.util.function.Supplier;
+
 public class TransitionScreen extends FContainer {
     private BGAnimation bgAnimation;
     private FProgressBar progressBar;
@@ -33,6 +35,8 @@ public class TransitionScreen extends FContainer {
     private String message = "", playerRecord = "", enemyRecord = "";
     boolean matchTransition, isloading, isIntro, isFadeMusic, isArenaScene, isAlternate;
     GlyphLayout layout;
+    Supplier<Float> taskProgress;
+    private volatile boolean taskDone = true;
 
     public TransitionScreen(Runnable proc, TextureRegion screen, boolean enterMatch, boolean loading) {
         this(proc, screen, enterMatch, loading, false, false);
@@ -89,6 +93,25 @@ public class TransitionScreen extends FContainer {
         layout = new GlyphLayout();
     }
 
+    /**
+     * Loading screen that runs task on a background thread and draws the progress it reports (0 to 1),
+     * proc is run on the UI thread once the task is done.
+     */
+    public TransitionScreen(Runnable task, Supplier<Float> progress, Runnable proc, String loadingMessage) {
+        this(proc, null, false, true, loadingMessage);
+        taskProgress = progress;
+        taskDone = false;
+        FThreads.invokeInBackgroundThread(() -> {
+            try {
+                task.run();
+            } finally {
+                taskDone = true;
+                // the animation may have been ended while the task was still running
+                FThreads.invokeInEdtLater(bgAnimation::onTaskDone);
+            }
+        });
+    }
+
     public TransitionScreen() {
     }
 
@@ -153,13 +176,17 @@ public class TransitionScreen extends FContainer {
                     ymod = Forge.getScreenHeight() / 2f + (FSkinImage.LOGO.getHeight() * xmod) / 1.5f;
                     g.drawImage(FSkinImage.LOGO, Forge.getScreenWidth() / 2f - (FSkinImage.LOGO.getWidth() * xmod) / 2, Forge.getScreenHeight() / 2f - (FSkinImage.LOGO.getHeight() * xmod) / 1.5f, FSkinImage.LOGO.getWidth() * xmod, FSkinImage.LOGO.getHeight() * xmod);
                 }
-                //loading progressbar - todo make this accurate when generating world
+                //loading progressbar, follows the background task if there is one
                 if (Forge.isMobileAdventureMode) {
                     float w = Forge.isLandscapeMode() ? Forge.getScreenWidth() / 2f : Forge.getScreenHeight() / 2f;
                     float h = 57f / 450f * (w / 2);
                     float x = (Forge.getScreenWidth() - w) / 2;
                     float y = ymod + 10;
-                    int multi = ((int) (percentage * 100)) < 97 ? (int) (percentage * 100) : 100;
+                    int multi;
+                    if (taskProgress != null)
+                        multi = taskDone ? 100 : Math.min((int) (taskProgress.get() * 100), 99);
+                    else
+                        multi = ((int) (percentage * 100)) < 97 ? (int) (percentage * 100) : 100;
                     progressBar.setBounds(x, Forge.getScreenHeight() - h * 2f, w, h);
                     progressBar.setValue(multi);
                     if (multi == 100 && !message.isEmpty()) {
@@ -262,13 +289,32 @@ public class TransitionScreen extends FContainer {
         @Override
         protected boolean advance(float dt) {
             progress += dt;
-            return progress < DURATION;
+            //keep drawing until the background task is done
+            return progress < DURATION || !taskDone;
         }
 
         final boolean[] run = {false};//clears transition via runnable so this will reset anyway
+        private boolean waitingForTask = false;
+
+        //called on the UI thread once the background task is done
+        void onTaskDone() {
+            if (waitingForTask) {
+                waitingForTask = false;
+                complete();
+            }
+        }
 
         @Override
         protected void onEnd(boolean endingAll) {
+            if (!taskDone) {
+                //onTaskDone finishes it, even if nothing draws the screen again
+                waitingForTask = true;
+                return;
+            }
+            complete();
+        }
+
+        private void complete() {
             if (runnable != null) {
                 if (isMatchTransition()) {
                     Timer.schedule(new Timer.Task() {
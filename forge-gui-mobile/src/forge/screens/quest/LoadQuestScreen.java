@@ -217,8 +217,7 @@ public class LoadQuestScreen extends LaunchScreen {
             }
 
             FThreads.invokeInEdtLater(() -> {
-                new File(ForgeConstants.QUEST_SAVE_DIR, quest.getName() + ".dat").delete();
-                new File(ForgeConstants.QUEST_SAVE_DIR, quest.getName() + ".dat.bak").delete();
+                QuestDataIO.deleteData(quest.getName());
 
                 lstQuests.removeQuest(quest);
                 updateEnabledButtons();
@@ -0,0 +1,186 @@
+package forge.deck;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+
+import forge.util.ThreadUtil;
+
+/**
+ * Sparse matrix of how often two cards were seen together, used by {@link CardRelationMatrixGenerator}.
+ *
+ * Most cards never share a deck, so each row only stores the columns that have a count, in a small
+ * open addressing map of ints. Rows without any count take no memory.
+ */
+final class CardPairCounts {
+    private final Row[] rows;
+
+    CardPairCounts(final int numRows) {
+        rows = new Row[numRows];
+    }
+
+    /**
+     * Count the given items in parallel on the computing pool, each part into its own matrix, and add up the parts.
+     */
+    static <T> CardPairCounts count(final List<T> items, final int numRows, final BiConsumer<T, CardPairCounts> counter) {
+        final int numParts = Math.max(1, Math.min(items.size(), Runtime.getRuntime().availableProcessors()));
+        final List<Callable<CardPairCounts>> tasks = new ArrayList<>(numParts);
+        for (int iPart = 0; iPart < numParts; iPart++) {
+            final int from = items.size() * iPart / numParts;
+            final int till = items.size() * (iPart + 1) / numParts;
+            tasks.add(() -> {
+                final CardPairCounts part = new CardPairCounts(numRows);
+                for (int i = from; i < till; i++) {
+                    counter.accept(items.get(i), part);
+                }
+                return part;
+            });
+        }
+        try {
+            CardPairCounts result = null;
+            for (final Future<CardPairCounts> f : ThreadUtil.getComputingPool().invokeAll(tasks)) {
+                if (result == null) {
+                    result = f.get();
+                } else {
+                    result.addAll(f.get());
+                }
+            }
+            return result;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (final ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    void add(final int row, final int column, final int amount) {
+        Row r = rows[row];
+        if (r == null) {
+            r = new Row();
+            rows[row] = r;
+        }
+        r.add(column, amount);
+    }
+
+    int get(final int row, final int column) {
+        final Row r = rows[row];
+        return r == null ? 0 : r.get(column);
+    }
+
+    boolean isEmpty(final int row) {
+        return rows[row] == null;
+    }
+
+    void addAll(final CardPairCounts other) {
+        for (int row = 0; row < other.rows.length; row++) {
+            final Row r = other.rows[row];
+            if (r == null) {
+                continue;
+            }
+            for (int i = 0; i < r.keys.length; i++) {
+                if (r.keys[i] != 0) {
+                    add(row, r.keys[i] - 1, r.values[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the columns of the row that have a count, in ascending order
+     */
+    int[] getColumns(final int row) {
+        final Row r = rows[row];
+        if (r == null) {
+            return new int[0];
+        }
+        final int[] result = new int[r.size];
+        int n = 0;
+        for (final int key : r.keys) {
+            if (key != 0) {
+                result[n++] = key - 1;
+            }
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * @return the columns of the row that have a count, the highest count first and ties by the higher column,
+     * which is the order the dense matrix used to be read in
+     */
+    int[] getColumnsByCount(final int row) {
+        final Row r = rows[row];
+        if (r == null) {
+            return new int[0];
+        }
+        // sort count and column together as one long, descending
+        final long[] packed = new long[r.size];
+        int n = 0;
+        for (int i = 0; i < r.keys.length; i++) {
+            if (r.keys[i] != 0) {
+                packed[n++] = ((long) r.values[i] << 32) | (r.keys[i] - 1);
+            }
+        }
+        Arrays.sort(packed);
+        final int[] result = new int[n];
+        for (int i = 0; i < n; i++) {
+            result[i] = (int) packed[n - 1 - i];
+        }
+        return result;
+    }
+
+    /** Open addressing map from column to count, the keys are stored plus one so that 0 means empty. */
+    private static final class Row {
+        private int[] keys = new int[8];
+        private int[] values = new int[8];
+        private int size;
+
+        private int slot(final int key, final int[] inKeys) {
+            final int mask = inKeys.length - 1;
+            final int h = key * 0x9E3779B9;
+            int i = (h ^ h >>> 16) & mask;
+            while (inKeys[i] != 0 && inKeys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            return i;
+        }
+
+        private int get(final int column) {
+            final int i = slot(column + 1, keys);
+            return keys[i] == 0 ? 0 : values[i];
+        }
+
+        private void add(final int column, final int amount) {
+            final int key = column + 1;
+            int i = slot(key, keys);
+            if (keys[i] == 0) {
+                if ((size + 1) * 4 > keys.length * 3) {
+                    grow();
+                    i = slot(key, keys);
+                }
+                keys[i] = key;
+                size++;
+            }
+            values[i] += amount;
+        }
+
+        private void grow() {
+            final int[] oldKeys = keys;
+            final int[] oldValues = values;
+            keys = new int[oldKeys.length * 2];
+            values = new int[oldKeys.length * 2];
+            for (int j = 0; j < oldKeys.length; j++) {
+                if (oldKeys[j] != 0) {
+                    final int i = slot(oldKeys[j], keys);
+                    keys[i] = oldKeys[j];
+                    values[i] = oldValues[j];
+                }
+            }
+        }
+    }
+}
@@ -3,15 +3,10 @@ package forge.deck;
 import java.io.File;
 import java.util.AbstractMap;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import org.apache.commons.lang3.ArrayUtils;
-
 import com.google.common.base.Predicates;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
@@ -84,53 +79,37 @@ public final class CardRelationMatrixGenerator {
             integerCardMap.put(i, cardList.get(i));
         }
 
-        int[][] matrix = new int[cardList.size()][cardList.size()];
-
-        for (PaperCard card:cardList){
-            for (Deck deck:decks){
-                if (deck.getMain().contains(card)){
-                    for (PaperCard pairCard:Iterables.filter(deck.getMain().toFlatList(),
-                            Predicates.compose(Predicates.not(CardRulesPredicates.Presets.IS_BASIC_LAND_NOT_WASTES), PaperCard::getRules))){
-                        if (!pairCard.getName().equals(card.getName())){
-                            try {
-                                int old = matrix[cardIntegerMap.get(card.getName())][cardIntegerMap.get(pairCard.getName())];
-                                matrix[cardIntegerMap.get(card.getName())][cardIntegerMap.get(pairCard.getName())] = old + 1;
-                            }catch (NullPointerException ne){
-                                //Todo: Not sure what was failing here
-                            }
-                        }
+        //count each card in a deck against the copies of every other card in it
+        CardPairCounts matrix = CardPairCounts.count(Lists.newArrayList(decks), cardList.size(), (deck, counts) -> {
+            Map<Integer, Integer> copies = countCards(deck, cardIntegerMap);
+            for (Integer card : copies.keySet()) {
+                for (Map.Entry<Integer, Integer> pair : copies.entrySet()) {
+                    if (!pair.getKey().equals(card)) {
+                        counts.add(card, pair.getKey(), pair.getValue());
                     }
                 }
             }
-        }
+        });
         HashMap<String,List<Map.Entry<PaperCard,Integer>>> cardPools = new HashMap<>();
         for (PaperCard card:cardList){
             int col=cardIntegerMap.get(card.getName());
-            int[] distances = matrix[col];
-            int max = Collections.max(Arrays.asList(ArrayUtils.toObject(distances)));
-            if (max>0) {
-                ArrayIndexComparator comparator = new ArrayIndexComparator(ArrayUtils.toObject(distances));
-                Integer[] indices = comparator.createIndexArray();
-                Arrays.sort(indices, comparator);
-                List<Map.Entry<PaperCard,Integer>> deckPool=new ArrayList<>();
-                int k=0;
-                boolean excludeThisCard=false;//if there are too few cards with at least one connection
-                for (int j=0;j<MIN_REQUIRED_CONNECTIONS;++k){
-                    if(distances[indices[cardList.size()-1-k]]==0){
-                        excludeThisCard = true;
-                        break;
-                    }
-                    PaperCard cardToAdd=integerCardMap.get(indices[cardList.size()-1-k]);
-                    if(!cardToAdd.getRules().getMainPart().getType().isLand()){//need x non-land cards
-                        ++j;
-                    }
-                    deckPool.add(new AbstractMap.SimpleEntry<>(cardToAdd, distances[indices[cardList.size() - 1 - k]]));
-                }
-                if(excludeThisCard){
-                    continue;
+            if (matrix.isEmpty(col)) {
+                continue;
+            }
+            int[] neighbours = matrix.getColumnsByCount(col);
+            List<Map.Entry<PaperCard,Integer>> deckPool=new ArrayList<>();
+            int j=0;
+            for (int k=0;k<neighbours.length && j<MIN_REQUIRED_CONNECTIONS;++k){
+                PaperCard cardToAdd=integerCardMap.get(neighbours[k]);
+                if(!cardToAdd.getRules().getMainPart().getType().isLand()){//need x non-land cards
+                    ++j;
                 }
-                cardPools.put(card.getName(), deckPool);
+                deckPool.add(new AbstractMap.SimpleEntry<>(cardToAdd, matrix.get(col, neighbours[k])));
+            }
+            if(j<MIN_REQUIRED_CONNECTIONS){//if there are too few cards with at least one connection
+                continue;
             }
+            cardPools.put(card.getName(), deckPool);
         }
         return cardPools;
     }
@@ -164,31 +143,24 @@ public final class CardRelationMatrixGenerator {
             legendIntegerMap.put(legends.get(i).getName(), i);
             integerLegendMap.put(i, legends.get(i));
         }
-        int[][] matrix = new int[legends.size()][cardList.size()];
-
-        //loop through commanders and decks
-        for (PaperCard legend:legends){
-            for (Deck deck:decks){
-                //if the deck has the commander
-                if (deck.getCommanders().contains(legend)){
-                    //update the matrix by incrementing the connectivity count for each card in the deck
-                    updateLegendMatrix(deck, legend, cardIntegerMap, legendIntegerMap, matrix);
+        //loop through the decks and count the cards of each deck for its commanders
+        CardPairCounts matrix = CardPairCounts.count(Lists.newArrayList(decks), legends.size(), (deck, counts) -> {
+            for (PaperCard legend : deck.getCommanders()) {
+                Integer row = legendIntegerMap.get(legend.getName());
+                if (row != null) {
+                    updateLegendMatrix(deck, legend, row, cardIntegerMap, counts);
                 }
             }
-        }
+        });
 
         //convert the matrix into a map of pools for each commander
         HashMap<String,List<Map.Entry<PaperCard,Integer>>> cardPools = new HashMap<>();
         for (PaperCard card:legends){
             int col=legendIntegerMap.get(card.getName());
-            int[] distances = matrix[col];
-            int max = Collections.max(Arrays.asList(ArrayUtils.toObject(distances)));
-            if (max>0) {
+            if (!matrix.isEmpty(col)) {
                 List<Map.Entry<PaperCard,Integer>> deckPool=new ArrayList<>();
-                for(int k=0;k<cardList.size(); k++){
-                    if(matrix[col][k]>0){
-                        deckPool.add(new AbstractMap.SimpleEntry<>(integerCardMap.get(k), matrix[col][k]));
-                    }
+                for (int k : matrix.getColumns(col)) {
+                    deckPool.add(new AbstractMap.SimpleEntry<>(integerCardMap.get(k), matrix.get(col, k)));
                 }
                 cardPools.put(card.getName(), deckPool);
             }
@@ -196,57 +168,34 @@ public final class CardRelationMatrixGenerator {
         return cardPools;
     }
 
-    //update the matrix by incrementing the connectivity count for each card in the deck
-    public static void updateLegendMatrix(Deck deck, PaperCard legend, Map<String, Integer> cardIntegerMap,
-                             Map<String, Integer> legendIntegerMap, int[][] matrix){
-        for (PaperCard pairCard:Iterables.filter(deck.getMain().toFlatList(),
-                Predicates.compose(Predicates.not(CardRulesPredicates.Presets.IS_BASIC_LAND_NOT_WASTES), PaperCard::getRules))){
-            if (!pairCard.getName().equals(legend.getName())){
-                try {
-                    int old = matrix[legendIntegerMap.get(legend.getName())][cardIntegerMap.get(pairCard.getName())];
-                    matrix[legendIntegerMap.get(legend.getName())][cardIntegerMap.get(pairCard.getName())] = old + 1;
-                }catch (NullPointerException ne){
-                    //Todo: Not sure what was failing here
-                    ne.printStackTrace();
-                }
+    //count the copies of each card in the main deck by matrix column, basic lands and unknown cards are skipped
+    private static Map<Integer, Integer> countCards(Deck deck, Map<String, Integer> cardIntegerMap) {
+        Map<Integer, Integer> copies = new HashMap<>();
+        for (Map.Entry<PaperCard, Integer> entry : deck.getMain()) {
+            Integer column = cardIntegerMap.get(entry.getKey().getName());
+            if (column != null) {
+                copies.merge(column, entry.getValue(), Integer::sum);
             }
+        }
+        return copies;
+    }
 
+    //update the matrix by incrementing the connectivity count for each card in the deck
+    private static void updateLegendMatrix(Deck deck, PaperCard legend, int row, Map<String, Integer> cardIntegerMap,
+                             CardPairCounts matrix){
+        for (Map.Entry<Integer, Integer> pair : countCards(deck, cardIntegerMap).entrySet()) {
+            if (!pair.getKey().equals(cardIntegerMap.get(legend.getName()))) {
+                matrix.add(row, pair.getKey(), pair.getValue());
+            }
         }
         //add partner commanders to matrix
         if(deck.getCommanders().size()>1){
             for(PaperCard partner:deck.getCommanders()){
-                if(!partner.equals(legend)){
-                    int old = matrix[legendIntegerMap.get(legend.getName())][cardIntegerMap.get(partner.getName())];
-                    matrix[legendIntegerMap.get(legend.getName())][cardIntegerMap.get(partner.getName())] = old + 1;
+                Integer column = cardIntegerMap.get(partner.getName());
+                if(!partner.equals(legend) && column != null){
+                    matrix.add(row, column, 1);
                 }
             }
         }
     }
-
-    public static class ArrayIndexComparator implements Comparator<Integer>
-    {
-        private final Integer[] array;
-
-        public ArrayIndexComparator(Integer[] array)
-        {
-            this.array = array;
-        }
-
-        public Integer[] createIndexArray()
-        {
-            Integer[] indexes = new Integer[array.length];
-            for (int i = 0; i < array.length; i++)
-            {
-                indexes[i] = i; // Autoboxing
-            }
-            return indexes;
-        }
-
-        @Override
-        public int compare(Integer index1, Integer index2)
-        {
-            // Autounbox from Integer to int to use as array indexes
-            return array[index1].compareTo(array[index2]);
-        }
-    }
 }
@@ -1,5 +1,6 @@
 package forge.gamemodes.match;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.Collections;
@@ -11,6 +12,7 @@ import java.util.TimerTask;
 
 import forge.gui.control.PlaybackSpeed;
 import forge.trackable.TrackableCollection;
+import forge.trackable.TrackableDelta;
 import org.apache.commons.lang3.StringUtils;
 
 import com.google.common.collect.ImmutableList;
@@ -104,6 +106,9 @@ public abstract class AbstractGuiGame implements IGuiGame, IMayViewCards {
     protected abstract void updateCurrentPlayer(PlayerView player);
 
     private GameView gameView = null;
+    // the last change set applied to the game view, and whether the whole view was asked for instead
+    private int lastDelta = 0;
+    private boolean awaitingGameView = false;
 
     public final GameView getGameView() {
         return gameView;
@@ -111,6 +116,8 @@ public abstract class AbstractGuiGame implements IGuiGame, IMayViewCards {
 
     @Override
     public void setGameView(final GameView gameView0) {
+        lastDelta = 0;
+        awaitingGameView = false;
         if (gameView == null || gameView0 == null) {
             if (gameView0 != null) {
                 gameView0.updateObjLookup();
@@ -124,6 +131,43 @@ public abstract class AbstractGuiGame implements IGuiGame, IMayViewCards {
         gameView.copyChangedProps(gameView0);
     }
 
+    @Override
+    public void applyGameViewDelta(final TrackableDelta delta) {
+        if (gameView == null) {
+            // nothing to apply it to, the server sends the whole view first
+            return;
+        }
+        if (awaitingGameView) {
+            // the whole view is on its way and includes these changes
+            return;
+        }
+        if (delta.getSequence() != lastDelta + 1) {
+            System.err.println("Missed game view changes before " + delta + ", asking for the whole view");
+            requestGameView();
+            return;
+        }
+        try {
+            delta.apply(gameView);
+            lastDelta = delta.getSequence();
+        } catch (final IOException e) {
+            System.err.println("Could not apply " + delta + ", asking for the whole view: " + e.getMessage());
+            requestGameView();
+        }
+    }
+
+    private void requestGameView() {
+        final IGameController controller = getGameController();
+        if (controller != null) {
+            awaitingGameView = true;
+            controller.resendGameView();
+        }
+    }
+
+    @Override
+    public void resendGameView() {
+        // a local view shares the game's objects, there is nothing to resend
+    }
+
     public final IGameController getGameController() {
         return getGameController(getCurrentPlayer());
     }
@@ -155,6 +155,10 @@ public class HostedMatch {
 
         game = match.createGame();
         game.EXPERIMENTAL_RESTORE_SNAPSHOT = FModel.getPreferences().getPrefBoolean(FPref.MATCH_EXPERIMENTAL_RESTORE);
+        game.EXPERIMENTAL_INCREMENTAL_STATICS = FModel.getPreferences().getPrefBoolean(FPref.MATCH_EXPERIMENTAL_INCREMENTAL_STATICS);
+        game.CHECK_INCREMENTAL_STATICS = FModel.getPreferences().getPrefBoolean(FPref.DEV_CHECK_INCREMENTAL_STATICS);
+        game.EXPERIMENTAL_REUSE_LKI = FModel.getPreferences().getPrefBoolean(FPref.MATCH_EXPERIMENTAL_REUSE_LKI);
+        game.EXPERIMENTAL_AUTO_YIELD = FModel.getPreferences().getPrefBoolean(FPref.MATCH_EXPERIMENTAL_AUTO_YIELD);
 
         StaticData.instance().setSourceImageForClone(FModel.getPreferences().getPrefBoolean(FPref.UI_CLONE_MODE_SOURCE));
 
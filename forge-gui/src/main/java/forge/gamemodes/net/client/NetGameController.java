@@ -121,6 +121,11 @@ public class NetGameController implements IGameController {
         send(ProtocolMethod.reorderHand, card, index);
     }
 
+    @Override
+    public void resendGameView() {
+        send(ProtocolMethod.resendGameView);
+    }
+
     private IMacroSystem macros;
     @Override
     public IMacroSystem macros() {
@@ -43,6 +43,8 @@ public final class FServerManager {
     private EventLoopGroup workerGroup = new NioEventLoopGroup();
     private UpnpService upnpService = null;
     private final Map<Channel, RemoteClient> clients = Maps.newTreeMap();
+    // the games of remote players by their name, so that a player who connects again gets their game back
+    private final Map<String, NetGuiGame> remoteGuis = Maps.newConcurrentMap();
     private ServerGameLobby localLobby;
     private ILobbyListener lobbyListener;
     private final Thread shutdownHook = new Thread(() -> {
@@ -127,6 +129,7 @@ public final class FServerManager {
             Runtime.getRuntime().removeShutdownHook(shutdownHook);
         }
         isHosting = false;
+        remoteGuis.clear();
         // create new EventLoopGroups for potential restart
         bossGroup = new NioEventLoopGroup(1);
         workerGroup = new NioEventLoopGroup();
@@ -197,7 +200,11 @@ public final class FServerManager {
         } else if (type == LobbySlotType.REMOTE) {
             for (final RemoteClient client : clients.values()) {
                 if (client.getIndex() == index) {
-                    return new NetGuiGame(client);
+                    final NetGuiGame gui = new NetGuiGame(client);
+                    if (client.getUsername() != null) {
+                        remoteGuis.put(client.getUsername(), gui);
+                    }
+                    return gui;
                 }
             }
         }
@@ -326,6 +333,14 @@ public final class FServerManager {
                     client.setIndex(index);
                     broadcast(event);
                     updateLobbyState();
+                    final NetGuiGame gui = remoteGuis.get(event.getUsername());
+                    if (gui != null) {
+                        if (gui.getGameView() != null && !gui.getGameView().isGameOver()) {
+                            gui.reconnect(client);
+                        } else {
+                            remoteGuis.remove(event.getUsername());
+                        }
+                    }
                 }
             } else if (msg instanceof UpdateLobbyPlayerEvent) {
                 updateSlot(client.getIndex(), (UpdateLobbyPlayerEvent) msg);
@@ -342,6 +357,12 @@ public final class FServerManager {
         public void channelInactive(final ChannelHandlerContext ctx) throws Exception {
             final RemoteClient client = clients.remove(ctx.channel());
             final String username = client.getUsername();
+            if (username != null) {
+                final NetGuiGame gui = remoteGuis.get(username);
+                if (gui != null) {
+                    gui.disconnect();
+                }
+            }
             localLobby.disconnectPlayer(client.getIndex());
             broadcast(new MessageEvent(String.format("%s left the room", username)));
             broadcast(new LogoutEvent(username));
@@ -1,5 +1,6 @@
 package forge.gamemodes.net.server;
 
+import java.io.UncheckedIOException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -22,17 +23,30 @@ import forge.gamemodes.match.AbstractGuiGame;
 import forge.gamemodes.net.GameProtocolSender;
 import forge.gamemodes.net.ProtocolMethod;
 import forge.item.PaperCard;
+import forge.localinstance.properties.ForgePreferences.FPref;
 import forge.localinstance.skin.FSkinProp;
+import forge.model.FModel;
 import forge.player.PlayerZoneUpdate;
 import forge.player.PlayerZoneUpdates;
 import forge.trackable.TrackableCollection;
+import forge.trackable.TrackableDelta;
+import forge.trackable.Tracker;
 import forge.util.ITriggerEvent;
 
 public class NetGuiGame extends AbstractGuiGame {
 
-    private final GameProtocolSender sender;
+    private GameProtocolSender sender;
+    // when delta sync is on, only the properties changed since the last update are sent
+    private final boolean deltaSync;
+    private final TrackableDelta.Recorder recorder = new TrackableDelta.Recorder();
+    private Tracker recordedTracker;
+    private boolean needsFullSync = true;
+    // nothing is recorded while the client is away, it gets the whole view when it comes back
+    private boolean connected = true;
+
     public NetGuiGame(final IToClient client) {
         this.sender = new GameProtocolSender(client);
+        this.deltaSync = FModel.getPreferences().getPrefBoolean(FPref.UI_NETPLAY_DELTA_SYNC);
     }
 
     private void send(final ProtocolMethod method, final Object... args) {
@@ -43,20 +57,92 @@ public class NetGuiGame extends AbstractGuiGame {
         return sender.sendAndWait(method, args);
     }
 
-    public void updateGameView() {
-        send(ProtocolMethod.setGameView, getGameView());
+    public synchronized void updateGameView() {
+        final GameView gameView = getGameView();
+        if (deltaSync && !connected) {
+            return;
+        }
+        if (!deltaSync || gameView == null) {
+            send(ProtocolMethod.setGameView, gameView);
+            return;
+        }
+
+        final Tracker tracker = gameView.getTracker();
+        if (tracker != recordedTracker) {
+            if (recordedTracker != null) {
+                recordedTracker.removeRecorder(recorder);
+            }
+            recordedTracker = tracker;
+            if (tracker != null) {
+                tracker.addRecorder(recorder);
+            }
+            needsFullSync = true;
+        }
+
+        if (!needsFullSync) {
+            try {
+                final TrackableDelta delta = recorder.drain(gameView);
+                if (delta != null) {
+                    send(ProtocolMethod.applyGameViewDelta, delta);
+                }
+                return;
+            } catch (final UncheckedIOException e) {
+                System.err.println("Could not send game view changes, sending the whole view instead: " + e.getMessage());
+            }
+        }
+
+        // anything recorded until now is part of the whole view
+        recorder.clear();
+        needsFullSync = false;
+        send(ProtocolMethod.setGameView, gameView);
+    }
+
+    /**
+     * Send the whole game view with the next update, e.g. after the client (re)connected.
+     */
+    public synchronized void resync() {
+        needsFullSync = true;
+        updateGameView();
+    }
+
+    /**
+     * The client went away, stop recording changes for it.
+     */
+    public synchronized void disconnect() {
+        connected = false;
+        if (recordedTracker != null) {
+            recordedTracker.removeRecorder(recorder);
+            recordedTracker = null;
+        }
+        recorder.clear();
+    }
+
+    /**
+     * Carry on with a new connection of the same player, starting from the whole view.
+     */
+    public synchronized void reconnect(final IToClient client) {
+        sender = new GameProtocolSender(client);
+        connected = true;
+        resync();
+    }
+
+    @Override
+    public void resendGameView() {
+        resync();
     }
 
     @Override
     public void setGameView(final GameView gameView) {
         super.setGameView(gameView);
+        needsFullSync = true;
         updateGameView();
     }
 
     @Override
     public void openView(final TrackableCollection<PlayerView> myPlayers) {
         send(ProtocolMethod.openView, myPlayers);
-        updateGameView();
+        // the client builds a new view for each game, so start from the whole view
+        resync();
     }
 
     @Override
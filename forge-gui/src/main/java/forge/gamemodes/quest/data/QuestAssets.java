@@ -39,16 +39,16 @@ import forge.util.ItemPool;
 public class QuestAssets {
 
     // Cards associated with quest
-    /** The card pool. */
-    private final ItemPool<PaperCard> cardPool = new ItemPool<>(PaperCard.class); // player's
+    /** The card pool. Not final, the sectioned save reads it on its own. */
+    private ItemPool<PaperCard> cardPool = new ItemPool<>(PaperCard.class); // player's
     /** The credits. */
     private long credits; // this money is good for all modes
     // game
     // with
 
     // Decks collected by player
-    /** The my decks. */
-    private final HashMap<String, Deck> myDecks = new HashMap<>();
+    /** The my decks. Not final, the sectioned save reads them on their own. */
+    private HashMap<String, Deck> myDecks = new HashMap<>();
     // current
     // shop
     // list
@@ -256,6 +256,28 @@ public class QuestAssets {
         return this.cardPool;
     }
 
+    /**
+     * Replace the card pool, for a save that keeps it apart from the assets.
+     */
+    public void setCardPool(final ItemPool<PaperCard> cardPool) {
+        this.cardPool = cardPool;
+    }
+
+    /**
+     * The decks by name as they are saved, for a save that keeps them apart from the assets.
+     * Use {@link #getDeckStorage()} to change them.
+     */
+    public Map<String, Deck> getSavedDecks() {
+        return this.myDecks;
+    }
+
+    /**
+     * Replace the decks, for a save that keeps them apart from the assets.
+     */
+    public void setSavedDecks(final Map<String, Deck> decks) {
+        this.myDecks = new HashMap<>(decks);
+    }
+
     /**
      * Subtract credits.
      * 
@@ -188,6 +188,14 @@ public class QuestData {
         oldpath = new File(ForgeConstants.QUEST_SAVE_DIR, this.name + ".dat.bak");
         oldpath.renameTo(newpath);
 
+        newpath = new File(ForgeConstants.QUEST_SAVE_DIR, newName + ".sections");
+        oldpath = new File(ForgeConstants.QUEST_SAVE_DIR, this.name + ".sections");
+        oldpath.renameTo(newpath);
+
+        newpath = new File(ForgeConstants.QUEST_SAVE_DIR, newName + ".sections.bak");
+        oldpath = new File(ForgeConstants.QUEST_SAVE_DIR, this.name + ".sections.bak");
+        oldpath.renameTo(newpath);
+
         this.name = newName;
         QuestDataIO.saveData(this);
     }
@@ -204,6 +212,13 @@ public class QuestData {
         return achievements;
     }
 
+    /**
+     * Replace the achievements, for a save that keeps them apart from the quest.
+     */
+    public void setAchievements(final QuestAchievements achievements) {
+        this.achievements = achievements;
+    }
+
     public String getWorldId() {
         return worldId;
     }
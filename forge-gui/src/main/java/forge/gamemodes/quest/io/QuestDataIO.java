@@ -60,7 +60,6 @@ import java.nio.file.Paths;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
 
 /**
  * <p>
@@ -128,6 +127,21 @@ public class QuestDataIO {
      * @return {@link forge.gamemodes.quest.data.QuestData}
      */
     public static QuestData loadData(final File xmlSaveFile) throws IOException {
+        if (QuestSaveSections.isSectioned(xmlSaveFile)) {
+            final QuestData data = QuestSaveSections.load(xmlSaveFile);
+            if (data.getVersionNumber() != QuestData.CURRENT_VERSION_NUMBER) {
+                try {
+                    QuestDataIO.updateSaveFile(data, QuestDataIO.getSerializer(false).toXML(data),
+                            xmlSaveFile.getName().replace(".dat", ""));
+                }
+                catch (final Exception e) {
+                    throw new IOException(e);
+                }
+            }
+            return data;
+        }
+
+        // saves from before the sections, they are written in the new format on the next save
         QuestData data;
         final StringBuilder xml = new StringBuilder();
 
@@ -410,13 +424,11 @@ public class QuestDataIO {
      */
     public static synchronized void saveData(final QuestData qd) {
         try {
-            final XStream xStream = QuestDataIO.getSerializer(false);
-
             final File f = new File(ForgeConstants.QUEST_SAVE_DIR, qd.getName());
-            //Copy the save file in case the save fails
-            FileUtil.copyFile(f + ".dat", f + ".dat.bak");
-            QuestDataIO.savePacked(f + ".dat", xStream, qd);
-            //QuestDataIO.saveUnpacked(f + ".xml", xStream, qd);
+            //Copy the save file and its sections in case the save fails
+            QuestSaveSections.backup(new File(f + ".dat"));
+            QuestSaveSections.save(new File(f + ".dat"), qd);
+            //QuestDataIO.saveUnpacked(f + ".xml", QuestDataIO.getSerializer(false), qd);
         }
         catch (final Exception ex) {
             //BugReporter.reportException(ex, "Error saving Quest Data.");
@@ -424,13 +436,15 @@ public class QuestDataIO {
         }
     }
 
-    private static void savePacked(final String f, final XStream xStream, final QuestData qd) throws IOException {
-        try(
-            final BufferedOutputStream bout = new BufferedOutputStream(Files.newOutputStream(Paths.get(f)));
-            final GZIPOutputStream zout = new GZIPOutputStream(bout)) {
-            xStream.toXML(qd, zout);
-            zout.flush();
-        }
+    /**
+     * Delete the save of a quest with its backup and sections.
+     */
+    public static synchronized void deleteData(final String questName) {
+        final File f = new File(ForgeConstants.QUEST_SAVE_DIR, questName);
+        new File(f + ".dat").delete();
+        new File(f + ".dat.bak").delete();
+        FileUtil.deleteDirectory(new File(f + QuestSaveSections.SECTIONS_SUFFIX));
+        FileUtil.deleteDirectory(new File(f + QuestSaveSections.SECTIONS_SUFFIX + QuestSaveSections.BACKUP_SUFFIX));
     }
 
     @SuppressWarnings("unused") // used only for debug purposes
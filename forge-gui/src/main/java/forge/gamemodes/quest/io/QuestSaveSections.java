@@ -0,0 +1,325 @@
+package forge.gamemodes.quest.io;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.WeakHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.thoughtworks.xstream.XStream;
+
+import forge.deck.CardPool;
+import forge.deck.Deck;
+import forge.deck.DeckSection;
+import forge.gamemodes.quest.data.QuestAchievements;
+import forge.gamemodes.quest.data.QuestAssets;
+import forge.gamemodes.quest.data.QuestData;
+import forge.item.InventoryItem;
+import forge.item.PaperCard;
+import forge.util.FileUtil;
+import forge.util.ItemPool;
+
+/**
+ * The quest save split into sections, so that a save only rewrites what changed.
+ *
+ * The .dat file keeps the quest without its card pool, decks and achievements and starts with
+ * {@link #MARKER}, which tells it apart from the old single document saves, and the names of its
+ * section files. The sections are in their own files in the directory next to it. All files are
+ * gzipped XStream xml like before and are read straight from the stream.
+ *
+ * A section is never written into an existing file. Each save writes the sections that changed to
+ * new files named after the save, then moves the new .dat over the old one. Until that move the old
+ * .dat and all the sections it names are untouched, so a save that fails halfway leaves the last
+ * complete save. Section files no .dat names any more are deleted afterwards.
+ *
+ * Each save remembers a fingerprint of the pool and the decks it wrote, and skips them next time
+ * if the fingerprint is still the same.
+ */
+final class QuestSaveSections {
+    static final String MARKER = "<!-- quest sections -->\n";
+    static final String SECTIONS_SUFFIX = ".sections";
+    static final String BACKUP_SUFFIX = ".bak";
+
+    private static final String POOL = "pool";
+    private static final String DECKS = "decks";
+    private static final String ACHIEVEMENTS = "achievements";
+    // in the order they are listed in the .dat
+    private static final String[] SECTIONS = { POOL, DECKS, ACHIEVEMENTS };
+    private static final String EXTENSION = ".xml.gz";
+
+    // the section files last written or read for each quest
+    private static final Map<QuestData, Written> written = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static final class Written {
+        private final Map<String, String> files = new HashMap<>();
+        private final Map<String, Long> fingerprints = new HashMap<>();
+    }
+
+    private QuestSaveSections() {
+    }
+
+    /**
+     * @return the sections of a .dat file, or of a .dat.bak file the sections backed up with it
+     */
+    static File getSectionsDir(final File datFile) {
+        String path = datFile.getPath();
+        String suffix = "";
+        if (path.endsWith(BACKUP_SUFFIX)) {
+            path = path.substring(0, path.length() - BACKUP_SUFFIX.length());
+            suffix = BACKUP_SUFFIX;
+        }
+        return new File(path.substring(0, path.length() - ".dat".length()) + SECTIONS_SUFFIX + suffix);
+    }
+
+    /**
+     * Keep the current save as .dat.bak, together with its sections in .sections.bak, so that the backup can be
+     * loaded on its own after the sections were rewritten.
+     *
+     * The sections are hard linked where the file system allows it. Saving never writes into an existing
+     * section file, so a link keeps the old content.
+     */
+    static void backup(final File datFile) throws IOException {
+        if (!datFile.exists()) {
+            return;
+        }
+        final File datBackup = new File(datFile.getPath() + BACKUP_SUFFIX);
+        final File dir = getSectionsDir(datFile);
+        final File dirBackup = getSectionsDir(datBackup);
+        // the old .dat.bak goes first, so it never sits next to sections of another save
+        Files.deleteIfExists(datBackup.toPath());
+        FileUtil.deleteDirectory(dirBackup);
+        final File[] sections = dir.listFiles();
+        if (sections != null) {
+            FileUtil.ensureDirectoryExists(dirBackup);
+            for (final File section : sections) {
+                final File target = new File(dirBackup, section.getName());
+                try {
+                    Files.createLink(target.toPath(), section.toPath());
+                } catch (final IOException | UnsupportedOperationException e) {
+                    Files.copy(section.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        }
+        Files.copy(datFile.toPath(), datBackup.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * @return whether the file is in this format, false for the old single document saves
+     */
+    static boolean isSectioned(final File datFile) throws IOException {
+        final byte[] marker = MARKER.getBytes(StandardCharsets.UTF_8);
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(datFile.toPath()))) {
+            final byte[] start = new byte[marker.length];
+            int read = 0;
+            while (read < start.length) {
+                final int len = in.read(start, read, start.length - read);
+                if (len < 0) {
+                    return false;
+                }
+                read += len;
+            }
+            return Arrays.equals(start, marker);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static QuestData load(final File datFile) throws IOException {
+        final XStream xStream = getSerializer(true);
+        final File dir = getSectionsDir(datFile);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(new BufferedInputStream(Files.newInputStream(datFile.toPath()))), StandardCharsets.UTF_8))) {
+            reader.readLine(); // the marker
+            final String[] files = parseSectionList(reader.readLine());
+            final QuestData data = (QuestData) xStream.fromXML(reader);
+            final ItemPool<PaperCard> pool = (ItemPool<PaperCard>) read(xStream, new File(dir, files[0]));
+            final Map<String, Deck> decks = (Map<String, Deck>) read(xStream, new File(dir, files[1]));
+            final QuestAchievements achievements = (QuestAchievements) read(xStream, new File(dir, files[2]));
+
+            data.getAssets().setCardPool(pool);
+            data.getAssets().setSavedDecks(decks);
+            data.setAchievements(achievements);
+
+            final Written loaded = new Written();
+            for (int i = 0; i < SECTIONS.length; i++) {
+                loaded.files.put(SECTIONS[i], files[i]);
+            }
+            loaded.fingerprints.put(POOL, fingerprint(pool));
+            loaded.fingerprints.put(DECKS, fingerprint(decks));
+            written.put(data, loaded);
+            return data;
+        } catch (final IOException e) {
+            throw e;
+        } catch (final Exception e) {
+            throw new IOException(e);
+        }
+    }
+
+    static void save(final File datFile, final QuestData qd) throws IOException {
+        final XStream xStream = getSerializer(false);
+        final File dir = getSectionsDir(datFile);
+        FileUtil.ensureDirectoryExists(dir);
+        final Written last = written.get(qd);
+        final Written now = new Written();
+        final int generation = nextGeneration(dir);
+
+        final QuestAssets assets = qd.getAssets();
+        saveIfChanged(xStream, dir, POOL, assets.getCardPool(), fingerprint(assets.getCardPool()), generation, last, now);
+        saveIfChanged(xStream, dir, DECKS, assets.getSavedDecks(), fingerprint(assets.getSavedDecks()), generation, last, now);
+        saveIfChanged(xStream, dir, ACHIEVEMENTS, qd.getAchievements(), null, generation, last, now);
+
+        // the quest itself last, moving it over the old one is what switches to the new sections
+        final StringBuilder sectionList = new StringBuilder("<!--");
+        for (final String section : SECTIONS) {
+            sectionList.append(' ').append(now.files.get(section));
+        }
+        sectionList.append(" -->\n");
+        final File temp = new File(datFile.getPath() + ".tmp");
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(temp.toPath()))),
+                StandardCharsets.UTF_8)) {
+            writer.write(MARKER);
+            writer.write(sectionList.toString());
+            xStream.toXML(qd, writer);
+        }
+        Files.move(temp.toPath(), datFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        written.put(qd, now);
+
+        // sections of earlier saves, or of a save that failed before its .dat was moved
+        final File[] files = dir.listFiles();
+        if (files != null) {
+            for (final File file : files) {
+                if (!now.files.containsValue(file.getName())) {
+                    file.delete();
+                }
+            }
+        }
+    }
+
+    /**
+     * Keep the file of the last save if the section has the same fingerprint, otherwise write it to a new file.
+     * Sections without a fingerprint are always written.
+     */
+    private static void saveIfChanged(final XStream xStream, final File dir, final String section, final Object content,
+            final Long fingerprint, final int generation, final Written last, final Written now) throws IOException {
+        if (fingerprint != null && last != null && fingerprint.equals(last.fingerprints.get(section))) {
+            final String lastFile = last.files.get(section);
+            if (lastFile != null && new File(dir, lastFile).exists()) {
+                now.files.put(section, lastFile);
+                now.fingerprints.put(section, fingerprint);
+                return;
+            }
+        }
+        final String file = section + "-" + generation + EXTENSION;
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(new File(dir, file).toPath()))), StandardCharsets.UTF_8)) {
+            xStream.toXML(content, writer);
+        }
+        now.files.put(section, file);
+        if (fingerprint != null) {
+            now.fingerprints.put(section, fingerprint);
+        }
+    }
+
+    /**
+     * @return a number no section file in the directory was named after yet
+     */
+    private static int nextGeneration(final File dir) {
+        int max = 0;
+        final File[] files = dir.listFiles();
+        if (files != null) {
+            for (final File file : files) {
+                final String name = file.getName();
+                final int dash = name.lastIndexOf('-');
+                if (dash < 0 || !name.endsWith(EXTENSION)) {
+                    continue;
+                }
+                try {
+                    max = Math.max(max, Integer.parseInt(name.substring(dash + 1, name.length() - EXTENSION.length())));
+                } catch (final NumberFormatException e) {
+                    // not one of ours
+                }
+            }
+        }
+        return max + 1;
+    }
+
+    private static String[] parseSectionList(final String line) throws IOException {
+        if (line == null || !line.startsWith("<!-- ") || !line.endsWith(" -->")) {
+            throw new IOException("Missing list of quest save sections");
+        }
+        final String[] files = line.substring(5, line.length() - 4).split(" ");
+        if (files.length != SECTIONS.length) {
+            throw new IOException("Unexpected list of quest save sections: " + line);
+        }
+        return files;
+    }
+
+    private static XStream getSerializer(final boolean isIgnoring) {
+        final XStream xStream = QuestDataIO.getSerializer(isIgnoring);
+        // the pool is a document of its own here rather than a field of the assets
+        xStream.allowTypes(new Class[] { ItemPool.class });
+        xStream.omitField(QuestAssets.class, "cardPool");
+        xStream.omitField(QuestAssets.class, "myDecks");
+        xStream.omitField(QuestData.class, "achievements");
+        return xStream;
+    }
+
+    private static Object read(final XStream xStream, final File file) throws IOException {
+        if (!file.exists()) {
+            throw new IOException("Missing quest save section " + file);
+        }
+        try (Reader reader = new InputStreamReader(new GZIPInputStream(new BufferedInputStream(Files.newInputStream(file.toPath()))),
+                StandardCharsets.UTF_8)) {
+            return xStream.fromXML(reader);
+        }
+    }
+
+    /**
+     * A hash of the entries of a pool, regardless of their order.
+     */
+    static long fingerprint(final ItemPool<? extends InventoryItem> pool) {
+        long result = pool.countDistinct();
+        for (final Entry<? extends InventoryItem, Integer> e : pool) {
+            result += mix(e.getKey().hashCode() * 31L + e.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * A hash of the decks as {@link QuestDataIO.DeckToXml} writes them, their names and cards.
+     */
+    static long fingerprint(final Map<String, Deck> decks) {
+        long result = decks.size();
+        for (final Entry<String, Deck> e : decks.entrySet()) {
+            long deck = e.getKey().hashCode() * 31L + e.getValue().getName().hashCode();
+            for (final Entry<DeckSection, CardPool> section : e.getValue()) {
+                deck += mix(section.getKey().ordinal() * 0x100000001L + fingerprint(section.getValue()));
+            }
+            result += mix(deck);
+        }
+        return result;
+    }
+
+    // spread the bits, so that a sum of entries doesn't cancel out
+    private static long mix(long h) {
+        h *= 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        h *= 0xC2B2AE3D27D4EB4FL;
+        return h ^ h >>> 29;
+    }
+}
@@ -28,11 +28,22 @@ import forge.localinstance.skin.FSkinProp;
 import forge.player.PlayerZoneUpdate;
 import forge.player.PlayerZoneUpdates;
 import forge.trackable.TrackableCollection;
+import forge.trackable.TrackableDelta;
 import forge.util.ITriggerEvent;
 
 public interface IGuiGame {
     void setGameView(GameView gameView);
 
+    /**
+     * Update the current game view with the properties changed on the server since the last update.
+     */
+    void applyGameViewDelta(TrackableDelta delta);
+
+    /**
+     * Send the whole game view again with the next update, because the remote copy couldn't apply the changes.
+     */
+    void resendGameView();
+
     GameView getGameView();
 
     void setOriginalGameController(PlayerView view, IGameController gameController);
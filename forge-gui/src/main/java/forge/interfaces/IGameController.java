@@ -45,4 +45,7 @@ public interface IGameController {
     String getActivateDescription(CardView card);
 
     void reorderHand(CardView card, int index);
+
+    /** Ask for the whole game view, because the changes sent since the last one couldn't be applied. */
+    void resendGameView();
 }
@@ -12,7 +12,7 @@ import com.google.common.base.Predicates;
 import forge.StaticData;
 import forge.card.CardEdition;
 import forge.card.CardRules;
-import forge.card.CardRulesPredicates;
+import forge.card.CardSearchIndex;
 import forge.card.ColorSet;
 import forge.card.MagicColor;
 import forge.deck.DeckProxy;
@@ -25,7 +25,6 @@ import forge.itemmanager.SItemManagerUtil.StatTypes;
 import forge.localinstance.properties.ForgePreferences;
 import forge.model.FModel;
 import forge.util.BinaryUtil;
-import forge.util.PredicateString.StringOp;
 
 /** 
  * Static factory; holds blocks of form elements and predicates
@@ -62,15 +61,10 @@ public class SFilterUtil {
 
         List<String> splitText = getSplitText(text);
         List<Predicate<CardRules>> terms = new ArrayList<>();
+        //the index only checks the cards that have the words of the term, with the same predicates as before
+        CardSearchIndex index = StaticData.instance().getCommonCards().getSearchIndex();
         for (String s : splitText) {
-            List<Predicate<CardRules>> subands = new ArrayList<>();
-
-            if (inName) { subands.add(CardRulesPredicates.name(StringOp.CONTAINS_IC, s));       }
-            if (inType) { subands.add(CardRulesPredicates.joinedType(StringOp.CONTAINS_IC, s)); }
-            if (inText) { subands.add(CardRulesPredicates.rules(StringOp.CONTAINS_IC, s));      }
-            if (inCost) { subands.add(CardRulesPredicates.cost(StringOp.CONTAINS_IC, s));       }
-
-            terms.add(Predicates.or(subands));
+            terms.add(index.containsText(s, inName, inType, inText, inCost));
         }
         Predicate<CardRules> textFilter = invert ? Predicates.not(Predicates.or(terms)) : Predicates.and(terms);
 
@@ -240,14 +234,17 @@ public class SFilterUtil {
         final byte colors = colors0;
         final boolean wantColorless = buttonMap.get(StatTypes.COLORLESS).isSelected();
         final boolean wantMulticolor = buttonMap.get(StatTypes.MULTICOLOR).isSelected();
+        final boolean landsByColorIdentity = FModel.getPreferences().getPrefBoolean(ForgePreferences.FPref.UI_FILTER_LANDS_BY_COLOR_IDENTITY);
 
-        return card -> {
+        //the result only depends on the rules, so it's remembered for each card across filter changes
+        final String key = "color:" + colors + ":" + wantColorless + ":" + wantMulticolor + ":" + landsByColorIdentity;
+        return StaticData.instance().getCommonCards().getSearchIndex().cached(key, PaperCard::getRules, card -> {
             CardRules rules = card.getRules();
             ColorSet color = rules.getColor();
             boolean allColorsFilteredOut = colors == 0;
 
             //use color identity for lands, which allows filtering to just lands that can be played in your deck
-            boolean useColorIdentity = rules.getType().isLand() && !allColorsFilteredOut && FModel.getPreferences().getPrefBoolean(ForgePreferences.FPref.UI_FILTER_LANDS_BY_COLOR_IDENTITY);
+            boolean useColorIdentity = rules.getType().isLand() && !allColorsFilteredOut && landsByColorIdentity;
             if (useColorIdentity) {
                 color = rules.getColorIdentity();
             }
@@ -282,7 +279,7 @@ public class SFilterUtil {
                 result = result && !color.isColorless();
             }
             return result;
-        };
+        });
     }
 
     public static Predicate<DeckProxy> buildDeckColorFilter(final Map<StatTypes, ? extends IButton> buttonMap) {
@@ -377,8 +374,14 @@ public class SFilterUtil {
 
     public static Predicate<PaperCard> buildFormatFilter(Set<GameFormat> formats, boolean allowReprints) {
         List<Predicate<PaperCard>> predicates = new ArrayList<>();
+        CardSearchIndex index = StaticData.instance().getCommonCards().getSearchIndex();
         for (GameFormat f : formats) {
-            predicates.add(allowReprints ? f.getFilterRules() : f.getFilterPrinted());
+            if (allowReprints) {
+                //whether any printing is legal only depends on the card name, so remember it for each card
+                predicates.add(index.cached(f, PaperCard::getRules, f.getFilterRules()));
+            } else {
+                predicates.add(f.getFilterPrinted());
+            }
         }
         return Predicates.or(predicates);
     }
@@ -88,7 +88,10 @@ public class ForgePreferences extends PreferencesStore<ForgePreferences.FPref> {
         UI_SMART_CARD_ART("false"),
         UI_AUTO_AIDECK_SELECTION("true"),
         UI_DISABLE_CARD_IMAGES ("false"),
-        UI_IMAGE_CACHE_MAXIMUM("400"),
+        UI_IMAGE_CACHE_MAXIMUM_MB("256"),
+        UI_IMAGE_CACHE_OFF_HEAP_MB("256"),
+        UI_IMAGE_CACHE_THUMBNAILS("true"),
+        UI_IMAGE_CACHE_THUMBNAILS_MB("512"),
         UI_OVERLAY_FOIL_EFFECT ("true"),
         UI_HIDE_REMINDER_TEXT ("false"),
         UI_CARD_IMAGE_RENDER_USE_SANS_SERIF_FONT ("true"),
@@ -165,6 +168,7 @@ public class ForgePreferences extends PreferencesStore<ForgePreferences.FPref> {
         UI_ENABLE_MAGNIFIER("true"),
         UI_SHOW_FPS("false"),
         UI_NETPLAY_COMPAT("false"),
+        UI_NETPLAY_DELTA_SYNC("false"),
         UI_ENABLE_DISPOSE_TEXTURES("false"),
         UI_LOAD_UNKNOWN_CARDS("true"),
         UI_LOAD_NONLEGAL_CARDS("true"),
@@ -205,6 +209,9 @@ public class ForgePreferences extends PreferencesStore<ForgePreferences.FPref> {
 
         MATCH_AI_SIDEBOARDING_MODE("Human For AI"),
         MATCH_EXPERIMENTAL_RESTORE("false"),
+        MATCH_EXPERIMENTAL_INCREMENTAL_STATICS("false"),
+        MATCH_EXPERIMENTAL_REUSE_LKI("false"),
+        MATCH_EXPERIMENTAL_AUTO_YIELD("false"),
         ENFORCE_DECK_LEGALITY ("true"),
         PERFORMANCE_MODE ("false"),
         FILTERED_HANDS ("false"),
@@ -213,6 +220,7 @@ public class ForgePreferences extends PreferencesStore<ForgePreferences.FPref> {
         DEV_MODE_ENABLED ("false"),
         DEV_WORKSHOP_SYNTAX ("false"),
         DEV_LOG_ENTRY_TYPE (GameLogEntryType.DAMAGE.toString()),
+        DEV_CHECK_INCREMENTAL_STATICS ("false"),
 
         LOAD_CARD_SCRIPTS_LAZILY ("false"),
         LOAD_ARCHIVED_FORMATS ("false"),
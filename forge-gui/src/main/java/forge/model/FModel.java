@@ -164,6 +164,8 @@ public final class FModel {
                 false);
         final CardStorageReader tokenReader = new CardStorageReader(ForgeConstants.TOKEN_DATA_DIR, progressBarBridge,
                 false);
+        reader.setCacheFile(new File(ForgeConstants.DB_DIR, "cardscripts.bin"));
+        tokenReader.setCacheFile(new File(ForgeConstants.DB_DIR, "tokenscripts.bin"));
         CardStorageReader customReader;
         try {
            customReader  = new CardStorageReader(ForgeConstants.USER_CUSTOM_CARDS_DIR, progressBarBridge, false);
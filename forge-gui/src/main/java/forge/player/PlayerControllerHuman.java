@@ -3230,6 +3230,11 @@ public class PlayerControllerHuman extends PlayerController implements IGameCont
         player.updateZoneForView(hand);
     }
 
+    @Override
+    public void resendGameView() {
+        getGui().resendGameView();
+    }
+
     @Override
     public String chooseCardName(SpellAbility sa, List<ICardFace> faces, String message) {
         ICardFace face = chooseSingleCardFace(sa, faces, message);
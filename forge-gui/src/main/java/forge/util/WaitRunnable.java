@@ -7,18 +7,26 @@ public abstract class WaitRunnable implements Runnable {
     }
 
     private final Lock lock = new Lock();
+    private boolean done;
 
     public final void invokeAndWait() {
         FThreads.assertExecutedByEdt(false); //not supported if on UI thread
         FThreads.invokeInEdtLater(() -> {
-            WaitRunnable.this.run();
-            synchronized(lock) {
-                lock.notify();
+            try {
+                WaitRunnable.this.run();
+            } finally {
+                synchronized(lock) {
+                    //the UI thread can get here before the caller waits
+                    done = true;
+                    lock.notify();
+                }
             }
         });
         try {
             synchronized(lock) {
-                lock.wait();
+                while (!done) {
+                    lock.wait();
+                }
             }
         }
         catch (InterruptedException e) {
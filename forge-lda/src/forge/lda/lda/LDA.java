@@ -63,6 +63,14 @@ public class LDA {
         properties.setNumIteration(100);
     }
 
+    /**
+     * Let a parallel inference method split the documents into this many shards, call before {@link #run()}.
+     * Faster on large datasets, but more than one shard only approximates the exact sampler.
+     */
+    public void setNumShards(final int numShards) {
+        properties.setNumShards(numShards);
+    }
+
     /**
      * Get the vocabulary from its ID.
      * @param vocabID
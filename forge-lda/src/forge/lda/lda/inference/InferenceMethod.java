@@ -17,9 +17,11 @@
 package forge.lda.lda.inference;
 
 import forge.lda.lda.inference.internal.CollapsedGibbsSampler;
+import forge.lda.lda.inference.internal.ParallelGibbsSampler;
 
 public enum InferenceMethod {
     CGS(CollapsedGibbsSampler.class.getName()),
+    PCGS(ParallelGibbsSampler.class.getName()),
     // more
     ;
 
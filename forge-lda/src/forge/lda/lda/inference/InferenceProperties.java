@@ -39,6 +39,13 @@ public class InferenceProperties {
     public void setNumIteration(Integer numIteration){
         properties.setProperty("numIteration",numIteration.toString());
     }
+
+    /**
+     * How many shards a parallel sampler may split the documents into. More than one only approximates the sampler.
+     */
+    public void setNumShards(Integer numShards){
+        properties.setProperty("numShards",numShards.toString());
+    }
     
     /**
      * Load properties.
@@ -60,6 +67,14 @@ public class InferenceProperties {
     public Integer numIteration() {
         return Integer.parseInt(properties.getProperty("numIteration"));
     }
+
+    /**
+     * @return the shard count, or null if not set
+     */
+    public Integer numShards() {
+        final String numShards = properties.getProperty("numShards");
+        return numShards == null ? null : Integer.parseInt(numShards);
+    }
 }
 
 class PropertiesLoader {
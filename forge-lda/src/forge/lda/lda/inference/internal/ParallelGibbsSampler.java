@@ -0,0 +1,339 @@
+/*
+ * Forge: Play Magic: the Gathering.
+ * Copyright (C) 2011  Forge Team
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package forge.lda.lda.inference.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+
+import forge.lda.dataset.BagOfWords;
+import forge.lda.lda.LDA;
+import forge.lda.lda.inference.Inference;
+import forge.lda.lda.inference.InferenceProperties;
+import forge.util.ThreadUtil;
+
+/**
+ * Collapsed Gibbs sampler working on flat int arrays, the same model as {@link CollapsedGibbsSampler}.
+ *
+ * The documents are split into shards which are sampled in parallel, each against its own copy of the
+ * topic-vocabulary counts. After every iteration the changes of all shards are merged into the global
+ * counts and copied back to the shards (approximate distributed LDA, Newman et al. 2009).
+ *
+ * By default there is a single shard, which is the exact sequential sampler. More shards are faster on
+ * large corpora but only approximate it, see {@link #setNumShards} and {@link InferenceProperties#setNumShards}.
+ */
+public class ParallelGibbsSampler implements Inference {
+    private static final long DEFAULT_SEED = 0L;
+    private static final int DEFAULT_NUM_ITERATION = 100;
+    // more shards only approximate the sampler, so that has to be asked for
+    private static final int DEFAULT_NUM_SHARDS = 1;
+
+    private LDA lda;
+    private int numIteration;
+    private int numShards = DEFAULT_NUM_SHARDS;
+
+    private int numTopics;
+    private int numVocabs;
+    private int numDocs;
+    private double[] alpha;
+    private double sumAlpha;
+    private double beta;
+
+    // all tokens of all documents, document d is words[docStart[d]] .. words[docStart[d + 1] - 1]
+    private int[] words;
+    private int[] docStart;
+    // the topic of each token
+    private int[] assignment;
+    // docTopic[d * numTopics + t]
+    private int[] docTopic;
+    // topicVocab[v * numTopics + t], so the topics of one vocabulary are next to each other
+    private int[] topicVocab;
+    private int[] topicSum;
+
+    private Shard[] shards;
+    // the global counts as of the last merge, which every shard started the iteration from
+    private int[] mergedTopicVocab;
+    private int[] mergedTopicSum;
+    private boolean ready;
+
+    @Override
+    public void setUp(LDA lda, InferenceProperties properties) {
+        if (properties == null) {
+            setUp(lda);
+            return;
+        }
+        if (properties.numShards() != null) {
+            setNumShards(properties.numShards());
+        }
+        initialize(lda, properties.seed() != null ? properties.seed() : DEFAULT_SEED);
+        this.numIteration = properties.numIteration() != null ? properties.numIteration() : DEFAULT_NUM_ITERATION;
+    }
+
+    @Override
+    public void setUp(LDA lda) {
+        if (lda == null) throw new NullPointerException();
+        initialize(lda, DEFAULT_SEED);
+        this.numIteration = DEFAULT_NUM_ITERATION;
+    }
+
+    public int getNumIteration() {
+        return numIteration;
+    }
+
+    public void setNumIteration(final int numIteration) {
+        this.numIteration = numIteration;
+    }
+
+    /**
+     * Set how many shards are sampled in parallel, call before {@link #setUp}.
+     */
+    public void setNumShards(final int numShards) {
+        if (numShards <= 0) throw new IllegalArgumentException();
+        this.numShards = numShards;
+    }
+
+    /**
+     * Use one shard per available processor, call before {@link #setUp}.
+     * Faster on large machines, but the model then differs between machines for the same seed.
+     */
+    public void setNumShardsToAvailableProcessors() {
+        setNumShards(Math.max(1, Runtime.getRuntime().availableProcessors()));
+    }
+
+    private void initialize(final LDA lda, final long seed) {
+        this.lda = lda;
+        final BagOfWords bow = lda.getBow();
+        final double[] alpha = new double[lda.getNumTopics()];
+        for (int t = 0; t < alpha.length; ++t) {
+            alpha[t] = lda.getAlpha(t);
+        }
+        final int[][] docs = new int[bow.getNumDocs()][];
+        for (int d = 0; d < docs.length; ++d) {
+            final List<Integer> docWords = bow.getWords(d);
+            docs[d] = new int[docWords.size()];
+            for (int i = 0; i < docs[d].length; ++i) {
+                docs[d][i] = docWords.get(i);
+            }
+        }
+        initialize(docs, bow.getNumVocabs(), alpha, lda.getBeta(), seed);
+    }
+
+    /**
+     * Set up for the given documents, each an array of vocabulary ids.
+     */
+    void initialize(final int[][] docs, final int numVocabs, final double[] alpha, final double beta, final long seed) {
+        this.numTopics = alpha.length;
+        this.numVocabs = numVocabs;
+        this.numDocs = docs.length;
+        this.alpha = alpha;
+        this.sumAlpha = Arrays.stream(alpha).sum();
+        this.beta = beta;
+
+        docStart = new int[numDocs + 1];
+        for (int d = 0; d < numDocs; ++d) {
+            docStart[d + 1] = docStart[d] + docs[d].length;
+        }
+        words = new int[docStart[numDocs]];
+        for (int d = 0; d < numDocs; ++d) {
+            System.arraycopy(docs[d], 0, words, docStart[d], docs[d].length);
+        }
+
+        assignment = new int[words.length];
+        docTopic = new int[numDocs * numTopics];
+        topicVocab = new int[numVocabs * numTopics];
+        topicSum = new int[numTopics];
+        final Random random = new Random(seed);
+        for (int d = 0; d < numDocs; ++d) {
+            for (int i = docStart[d]; i < docStart[d + 1]; ++i) {
+                final int t = random.nextInt(numTopics);
+                assignment[i] = t;
+                docTopic[d * numTopics + t]++;
+                topicVocab[words[i] * numTopics + t]++;
+                topicSum[t]++;
+            }
+        }
+
+        mergedTopicVocab = topicVocab.clone();
+        mergedTopicSum = topicSum.clone();
+        final int shardCount = Math.min(numShards, Math.max(1, numDocs));
+        shards = new Shard[shardCount];
+        for (int s = 0; s < shardCount; ++s) {
+            shards[s] = new Shard(numDocs * s / shardCount, numDocs * (s + 1) / shardCount, seed + s + 1);
+        }
+        ready = true;
+    }
+
+    @Override
+    public void run() {
+        if (!ready) {
+            throw new IllegalStateException("instance has not set up yet");
+        }
+        for (int i = 1; i <= numIteration; ++i) {
+            System.out.println("Iteration " + i + ".");
+            runSampling();
+        }
+    }
+
+    /**
+     * One sweep over all tokens, the shards in parallel, then merge their counts.
+     */
+    void runSampling() {
+        if (shards.length == 1) {
+            shards[0].sample();
+        } else {
+            final List<Future<?>> futures = new ArrayList<>(shards.length);
+            for (final Shard shard : shards) {
+                futures.add(ThreadUtil.getComputingPool().submit(shard::sample));
+            }
+            try {
+                for (final Future<?> f : futures) {
+                    f.get();
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } catch (final ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+        for (final Shard shard : shards) {
+            shard.mergeInto(topicVocab, topicSum);
+        }
+        System.arraycopy(topicVocab, 0, mergedTopicVocab, 0, topicVocab.length);
+        System.arraycopy(topicSum, 0, mergedTopicSum, 0, topicSum.length);
+        for (final Shard shard : shards) {
+            shard.reset();
+        }
+    }
+
+    /**
+     * A range of documents with its own view of the topic-vocabulary counts.
+     */
+    private final class Shard {
+        private final int firstDoc;
+        private final int endDoc;
+        private final Random random;
+        private final int[] localTopicVocab;
+        private final int[] localTopicSum;
+        // reused for every token
+        private final double[] cumulative = new double[numTopics];
+
+        private Shard(final int firstDoc, final int endDoc, final long seed) {
+            this.firstDoc = firstDoc;
+            this.endDoc = endDoc;
+            this.random = new Random(seed);
+            this.localTopicVocab = mergedTopicVocab.clone();
+            this.localTopicSum = mergedTopicSum.clone();
+        }
+
+        private void sample() {
+            final double vBeta = numVocabs * beta;
+            for (int d = firstDoc; d < endDoc; ++d) {
+                final int docOffset = d * numTopics;
+                for (int i = docStart[d]; i < docStart[d + 1]; ++i) {
+                    final int vocabOffset = words[i] * numTopics;
+                    int t = assignment[i];
+                    docTopic[docOffset + t]--;
+                    localTopicVocab[vocabOffset + t]--;
+                    localTopicSum[t]--;
+
+                    // theta * phi without the denominator of theta, which is the same for all topics
+                    double sum = 0.0;
+                    for (int k = 0; k < numTopics; ++k) {
+                        sum += (docTopic[docOffset + k] + alpha[k])
+                                * (localTopicVocab[vocabOffset + k] + beta) / (localTopicSum[k] + vBeta);
+                        cumulative[k] = sum;
+                    }
+                    final double u = random.nextDouble() * sum;
+                    t = 0;
+                    while (t < numTopics - 1 && cumulative[t] <= u) {
+                        ++t;
+                    }
+
+                    assignment[i] = t;
+                    docTopic[docOffset + t]++;
+                    localTopicVocab[vocabOffset + t]++;
+                    localTopicSum[t]++;
+                }
+            }
+        }
+
+        /**
+         * Add what this shard changed since the last merge to the global counts.
+         */
+        private void mergeInto(final int[] globalTopicVocab, final int[] globalTopicSum) {
+            for (int i = 0; i < globalTopicVocab.length; ++i) {
+                globalTopicVocab[i] += localTopicVocab[i] - mergedTopicVocab[i];
+            }
+            for (int t = 0; t < globalTopicSum.length; ++t) {
+                globalTopicSum[t] += localTopicSum[t] - mergedTopicSum[t];
+            }
+        }
+
+        /**
+         * Continue from the merged global counts.
+         */
+        private void reset() {
+            System.arraycopy(mergedTopicVocab, 0, localTopicVocab, 0, localTopicVocab.length);
+            System.arraycopy(mergedTopicSum, 0, localTopicSum, 0, localTopicSum.length);
+        }
+    }
+
+    @Override
+    public double getTheta(final int docID, final int topicID) {
+        if (!ready) throw new IllegalStateException();
+        if (docID < 0 || numDocs <= docID || topicID < 0 || numTopics <= topicID) {
+            throw new IllegalArgumentException();
+        }
+        final int docLength = docStart[docID + 1] - docStart[docID];
+        return (docTopic[docID * numTopics + topicID] + alpha[topicID]) / (docLength + sumAlpha);
+    }
+
+    @Override
+    public double getPhi(final int topicID, final int vocabID) {
+        if (!ready) throw new IllegalStateException();
+        if (topicID < 0 || numTopics <= topicID || vocabID < 0 || numVocabs <= vocabID) {
+            throw new IllegalArgumentException();
+        }
+        return (topicVocab[vocabID * numTopics + topicID] + beta) / (topicSum[topicID] + beta * numVocabs);
+    }
+
+    @Override
+    public List<Pair<String, Double>> getVocabsSortedByPhi(final int topicID) {
+        final List<Pair<String, Double>> vocabProbPairs = lda.getVocabularies().getVocabularyList()
+                .stream()
+                .map(v -> new ImmutablePair<String, Double>(v.toString(), getPhi(topicID, v.id())))
+                .sorted((p1, p2) -> Double.compare(p2.getRight(), p1.getRight()))
+                .collect(Collectors.toList());
+        return Collections.unmodifiableList(vocabProbPairs);
+    }
+
+    @Override
+    public String toString() {
+        return "ParallelGibbsSampler (" + numDocs + " docs, " + words.length + " tokens, "
+                + numTopics + " topics, " + shards.length + " shards) " + Arrays.toString(topicSum);
+    }
+}
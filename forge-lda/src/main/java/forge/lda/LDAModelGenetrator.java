@@ -28,7 +28,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import java.io.File;
 import java.util.*;
 
-import static forge.lda.lda.inference.InferenceMethod.CGS;
+import static forge.lda.lda.inference.InferenceMethod.PCGS;
 
 /**
  * Created by maustin on 09/05/2017.
@@ -165,7 +165,7 @@ public final class LDAModelGenetrator {
         //estimate number of topics to attempt to find using power law
         final int numTopics = Float.valueOf(347f*dataset.getNumDocs()/(2892f + dataset.getNumDocs())).intValue();
         System.out.println("Num Topics = " + numTopics);
-        LDA lda = new LDA(0.1, 0.1, numTopics, dataset, CGS);
+        LDA lda = new LDA(0.1, 0.1, numTopics, dataset, PCGS);
         lda.run();
         System.out.println(lda.computePerplexity(dataset));
 
@@ -0,0 +1,94 @@
+package forge.lda.lda.inference.internal;
+
+import java.util.Random;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+public class ParallelGibbsSamplerTest {
+    private static final int NUM_VOCABS = 20;
+    private static final double[] ALPHA = {0.1, 0.1};
+    private static final double BETA = 0.1;
+
+    /**
+     * Two topics that don't share words: the first half of the documents only uses vocabularies 0..9,
+     * the second half only 10..19.
+     */
+    private static int[][] corpus() {
+        final Random random = new Random(42);
+        final int[][] docs = new int[60][40];
+        for (int d = 0; d < docs.length; ++d) {
+            final int first = d < docs.length / 2 ? 0 : NUM_VOCABS / 2;
+            for (int i = 0; i < docs[d].length; ++i) {
+                docs[d][i] = first + random.nextInt(NUM_VOCABS / 2);
+            }
+        }
+        return docs;
+    }
+
+    private static ParallelGibbsSampler sampler(final int[][] docs, final Integer numShards) {
+        final ParallelGibbsSampler sampler = new ParallelGibbsSampler();
+        if (numShards != null) {
+            sampler.setNumShards(numShards);
+        }
+        sampler.initialize(docs, NUM_VOCABS, ALPHA.clone(), BETA, 1L);
+        return sampler;
+    }
+
+    private static double perplexity(final ParallelGibbsSampler sampler, final int[][] docs) {
+        double loglikelihood = 0.0;
+        int numWords = 0;
+        for (int d = 0; d < docs.length; ++d) {
+            for (final int w : docs[d]) {
+                double sum = 0.0;
+                for (int t = 0; t < ALPHA.length; ++t) {
+                    sum += sampler.getTheta(d, t) * sampler.getPhi(t, w);
+                }
+                loglikelihood += Math.log(sum);
+                numWords++;
+            }
+        }
+        return Math.exp(-loglikelihood / numWords);
+    }
+
+    private static double train(final ParallelGibbsSampler sampler, final int[][] docs) {
+        for (int i = 0; i < 50; ++i) {
+            sampler.runSampling();
+        }
+        return perplexity(sampler, docs);
+    }
+
+    @Test
+    public void testExactSamplerConverges() {
+        final int[][] docs = corpus();
+        final ParallelGibbsSampler sampler = sampler(docs, null);
+        final double before = perplexity(sampler, docs);
+        final double after = train(sampler, docs);
+
+        // random assignments are about as good as picking from all 20 words, the topics from 10
+        AssertJUnit.assertTrue("perplexity " + before + " -> " + after, after < before * 0.75);
+        AssertJUnit.assertTrue("perplexity " + after, after < 11.0);
+    }
+
+    @Test
+    public void testDefaultIsExact() {
+        final int[][] docs = corpus();
+        final ParallelGibbsSampler byDefault = sampler(docs, null);
+        final ParallelGibbsSampler exact = sampler(docs, 1);
+        train(byDefault, docs);
+        train(exact, docs);
+        for (int d = 0; d < docs.length; ++d) {
+            for (int t = 0; t < ALPHA.length; ++t) {
+                AssertJUnit.assertEquals(exact.getTheta(d, t), byDefault.getTheta(d, t), 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void testShardsStayCloseToExact() {
+        final int[][] docs = corpus();
+        final double exact = train(sampler(docs, 1), docs);
+        final double sharded = train(sampler(docs, 4), docs);
+        AssertJUnit.assertEquals(exact, sharded, exact * 0.05);
+    }
+}